@@ -0,0 +1,86 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.dto.AnalyticsDimension;
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.service.impl.BookingFactStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class BookingFactStoreBenchmark {
+
+    private static final String[] CITIES = {
+            "Istanbul", "Ankara", "Izmir", "Antalya", "Berlin", "Paris", "London", "Rome", "Madrid", "Vienna",
+            "Amsterdam", "Zurich", "Athens", "Dubai", "Doha", "New York", "Tokyo", "Seoul", "Baku", "Tbilisi"
+    };
+    private static final String[] AIRLINES = {"Turkish Airlines", "Pegasus", "SunExpress", "AJet", "Lufthansa"};
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+    @Param({"10000000"})
+    private int bookings;
+
+    @Param({"0"})
+    private int parallelism;
+
+    private BookingFactStore store;
+    private BookingFactStore.Filter all;
+    private BookingFactStore.Filter confirmedFromIstanbul;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new BookingFactStore(null, null, null, true, 65_536, 10_000, parallelism);
+        SplittableRandom random = new SplittableRandom(47);
+        BookingStatus[] statuses = BookingStatus.values();
+        FareClass[] fareClasses = FareClass.values();
+        BookingFactDTO fact = new BookingFactDTO();
+        for (long id = 1; id <= bookings; id++) {
+            int origin = random.nextInt(CITIES.length);
+            fact.setBookingId(id);
+            fact.setFlightId((long) random.nextInt(50_000));
+            fact.setPrice(BigDecimal.valueOf(random.nextInt(20_000, 200_000), 2));
+            fact.setBookingStatus(statuses[random.nextInt(10) < 8 ? 0 : 1 + random.nextInt(2)]);
+            fact.setFareClass(fareClasses[random.nextInt(fareClasses.length)]);
+            fact.setOrigin(CITIES[origin]);
+            fact.setDestination(CITIES[(origin + 1 + random.nextInt(CITIES.length - 1)) % CITIES.length]);
+            fact.setAirline(AIRLINES[random.nextInt(AIRLINES.length)]);
+            fact.setDepartureDate(FIRST_DAY.plusDays(random.nextInt(3 * 365)));
+            store.upsert(fact);
+        }
+        all = new BookingFactStore.Filter(null, null, null, null, null, null, null);
+        confirmedFromIstanbul = new BookingFactStore.Filter(FIRST_DAY.plusMonths(6), FIRST_DAY.plusMonths(18),
+                List.of(BookingStatus.CONFIRMED), null, List.of("Istanbul", "Ankara"), null, null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.shutdown();
+    }
+
+    @Benchmark
+    public BookingFactStore.Aggregation revenueByOrigin() {
+        return store.aggregate(all, List.of(AnalyticsDimension.ORIGIN));
+    }
+
+    @Benchmark
+    public BookingFactStore.Aggregation revenueByStatusAndWeek() {
+        return store.aggregate(all, List.of(AnalyticsDimension.STATUS, AnalyticsDimension.WEEK));
+    }
+
+    @Benchmark
+    public BookingFactStore.Aggregation filteredRevenueByRouteAndMonth() {
+        return store.aggregate(confirmedFromIstanbul,
+                List.of(AnalyticsDimension.ORIGIN, AnalyticsDimension.DESTINATION, AnalyticsDimension.MONTH));
+    }
+}
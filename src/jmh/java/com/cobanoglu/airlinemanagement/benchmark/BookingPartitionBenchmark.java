@@ -0,0 +1,205 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingPartitionBenchmark {
+
+    private static final String SCHEMA = """
+            CREATE TABLE passengers (id bigint PRIMARY KEY, email varchar(100) NOT NULL);
+            CREATE TABLE flights (
+                id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                airline_id bigint NOT NULL,
+                departure_time timestamp(6) NOT NULL
+            );
+            CREATE TABLE bookings (
+                id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                flight_id bigint NOT NULL REFERENCES flights (id),
+                passenger_id bigint NOT NULL REFERENCES passengers (id),
+                seat_number varchar(5) NOT NULL,
+                booking_status varchar(20) NOT NULL CHECK (booking_status IN ('CONFIRMED', 'CANCELLED', 'WAITLISTED')),
+                price numeric(10,2) NOT NULL,
+                fare_class varchar(20),
+                create_date timestamp(6) NOT NULL,
+                departure_date date,
+                CONSTRAINT uk_booking_flight_seat UNIQUE (flight_id, seat_number, departure_date),
+                CONSTRAINT uk_booking_flight_passenger UNIQUE (flight_id, passenger_id, departure_date)
+            );
+            """;
+
+    private static final String SWEEP_SQL = """
+            SELECT b.id FROM bookings b JOIN flights f ON f.id = b.flight_id
+            WHERE b.booking_status = 'WAITLISTED' AND b.departure_date BETWEEN ? AND ? AND f.departure_time < ?""";
+
+    private static final String SEAT_CHECK_SQL = """
+            SELECT b.id FROM bookings b
+            WHERE b.flight_id = ? AND b.departure_date = ? AND upper(b.seat_number) = upper(?) LIMIT 1""";
+
+    private static final String FLIGHT_BOOKINGS_SQL = """
+            SELECT b.id, b.booking_status, b.create_date FROM bookings b WHERE b.flight_id = ? AND b.departure_date = ?""";
+
+    private static final String PASSENGER_HISTORY_SQL = "SELECT b.id, b.flight_id FROM bookings b WHERE b.passenger_id = ?";
+
+    private static final int PASSENGERS = 200_000;
+
+    @Param({"flat", "partitioned"})
+    private String layout;
+
+    @Param({"5"})
+    private int years;
+
+    @Param({"60"})
+    private int flightsPerDay;
+
+    @Param({"25"})
+    private int bookingsPerFlight;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    private EmbeddedPostgres embedded;
+    private Connection connection;
+    private PreparedStatement sweep;
+    private PreparedStatement seatCheck;
+    private PreparedStatement flightBookings;
+    private PreparedStatement passengerHistory;
+    private long firstUpcomingFlight;
+    private long lastFlight;
+    private LocalDate start;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String url = System.getenv("BENCHMARK_JDBC_URL");
+        if (url == null || url.isBlank()) {
+            embedded = EmbeddedPostgres.builder()
+                    .setServerConfig("fsync", "off")
+                    .setServerConfig("synchronous_commit", "off")
+                    .setServerConfig("max_wal_size", "4GB")
+                    .start();
+            connection = embedded.getPostgresDatabase().getConnection();
+        } else {
+            connection = DriverManager.getConnection(url,
+                    System.getenv().getOrDefault("BENCHMARK_JDBC_USER", "postgres"),
+                    System.getenv().getOrDefault("BENCHMARK_JDBC_PASSWORD", ""));
+        }
+
+        String schema = "bench_" + layout;
+        execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE; CREATE SCHEMA " + schema + "; SET search_path TO " + schema);
+        load();
+        if ("partitioned".equals(layout)) {
+            execute(new String(new ClassPathResource("db/postgresql/partition-bookings.sql").getInputStream().readAllBytes(),
+                    StandardCharsets.UTF_8));
+            execute("DROP TABLE bookings_legacy");
+        } else {
+            execute("""
+                    CREATE INDEX idx_bookings_passenger_departure ON bookings (passenger_id, departure_date);
+                    CREATE INDEX idx_bookings_status_departure ON bookings (booking_status, departure_date);
+                    ANALYZE bookings""");
+        }
+
+        try (Statement st = connection.createStatement();
+             ResultSet rs = st.executeQuery("SELECT min(id) FILTER (WHERE departure_time > now()), max(id) FROM flights")) {
+            rs.next();
+            firstUpcomingFlight = rs.getLong(1);
+            lastFlight = rs.getLong(2);
+        }
+
+        sweep = connection.prepareStatement(SWEEP_SQL);
+        seatCheck = connection.prepareStatement(SEAT_CHECK_SQL);
+        flightBookings = connection.prepareStatement(FLIGHT_BOOKINGS_SQL);
+        passengerHistory = connection.prepareStatement(PASSENGER_HISTORY_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        execute("DROP SCHEMA IF EXISTS bench_" + layout + " CASCADE");
+        connection.close();
+        if (embedded != null) embedded.close();
+    }
+
+    @Benchmark
+    public int waitlistSweep() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        sweep.setObject(1, now.toLocalDate().minusDays(31));
+        sweep.setObject(2, now.toLocalDate());
+        sweep.setObject(3, now);
+        return count(sweep);
+    }
+
+    @Benchmark
+    public int seatCheck() throws SQLException {
+        long flightId = random.nextLong(firstUpcomingFlight, lastFlight + 1);
+        seatCheck.setLong(1, flightId);
+        seatCheck.setObject(2, departureDateOf(flightId));
+        seatCheck.setString(3, "S" + random.nextInt(1, bookingsPerFlight * 2));
+        return count(seatCheck);
+    }
+
+    @Benchmark
+    public int flightBookings() throws SQLException {
+        long flightId = random.nextLong(firstUpcomingFlight, lastFlight + 1);
+        flightBookings.setLong(1, flightId);
+        flightBookings.setObject(2, departureDateOf(flightId));
+        return count(flightBookings);
+    }
+
+    @Benchmark
+    public int passengerHistory() throws SQLException {
+        passengerHistory.setLong(1, random.nextInt(1, PASSENGERS + 1));
+        return count(passengerHistory);
+    }
+
+    private void load() throws SQLException {
+        start = LocalDate.now().minusYears(years - 1L).withDayOfMonth(1);
+        int days = (int) (start.plusYears(years).toEpochDay() - start.toEpochDay());
+
+        execute(SCHEMA);
+        execute("INSERT INTO passengers SELECT g, 'passenger' || g || '@example.com' FROM generate_series(1, " + PASSENGERS + ") g");
+        execute("INSERT INTO flights (airline_id, departure_time) "
+                + "SELECT g % 20, DATE '" + start + "' + (g / " + flightsPerDay + ") * interval '1 day' "
+                + "+ (g % " + flightsPerDay + ") * interval '20 minutes' "
+                + "FROM generate_series(0, " + ((long) days * flightsPerDay - 1) + ") g");
+        execute("""
+                INSERT INTO bookings (flight_id, passenger_id, seat_number, booking_status, price, fare_class, create_date, departure_date)
+                SELECT f.id, (f.id * 7919 + s) %% %d + 1, 'S' || s,
+                       CASE WHEN s %% 10 <> 0 THEN 'CONFIRMED'
+                            WHEN f.departure_time > now() - interval '31 days' THEN 'WAITLISTED'
+                            ELSE 'CANCELLED' END,
+                       100, 'ECONOMY', f.departure_time - interval '30 days', f.departure_time::date
+                FROM flights f CROSS JOIN generate_series(1, %d) s
+                """.formatted(PASSENGERS, bookingsPerFlight));
+        execute("ANALYZE");
+    }
+
+    private LocalDate departureDateOf(long flightId) {
+        return start.plusDays((flightId - 1) / flightsPerDay);
+    }
+
+    private int count(PreparedStatement statement) throws SQLException {
+        int rows = 0;
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) rows++;
+        }
+        return rows;
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute(sql);
+        }
+    }
+}
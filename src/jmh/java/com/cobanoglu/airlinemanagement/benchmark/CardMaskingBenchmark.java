@@ -0,0 +1,97 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.dto.BankDTO;
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.util.CardMasker;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardMaskingBenchmark {
+
+    private final CardMasker cardMasker = new CardMasker();
+
+    @Param({"Ada Lovelace", "Maria Jose Garcia Lopez"})
+    private String cardHolderName;
+
+    private final String pan = "4111111111111111";
+
+    private Payment payment;
+
+    @Setup
+    public void setUp() {
+        payment = new Payment();
+        payment.setCurrencyAmount(BigDecimal.valueOf(1250));
+        payment.setCurrency(Currency.EURO);
+        payment.setOrderId("order-1");
+        payment.setOrderDescription("Flight TK100");
+        payment.setStatus(Status.Pending);
+    }
+
+    @Benchmark
+    public String maskNameLegacy() {
+        return legacyMaskName(cardHolderName);
+    }
+
+    @Benchmark
+    public String maskName() {
+        return cardMasker.maskName(cardHolderName);
+    }
+
+    @Benchmark
+    public String maskPanLegacy() {
+        return legacyMaskPan(pan);
+    }
+
+    @Benchmark
+    public String maskPan() {
+        return cardMasker.maskPan(pan);
+    }
+
+    @Benchmark
+    public BankDTO paymentLegacy() {
+        return toBankDTO(legacyMaskName(cardHolderName), legacyMaskPan(pan));
+    }
+
+    @Benchmark
+    public BankDTO payment() {
+        return toBankDTO(cardMasker.maskName(cardHolderName), cardMasker.maskPan(pan));
+    }
+
+    private BankDTO toBankDTO(String maskedName, String maskedPan) {
+        payment.setCardHolderName(maskedName);
+        payment.setPan(maskedPan);
+
+        BankDTO bank = new BankDTO();
+        bank.setCardOfBrand(CardOfBrand.VISA);
+        bank.setCardHolderName(cardHolderName);
+        bank.setPan(pan);
+        bank.setExpiry("12/30");
+        bank.setCvv(999);
+        bank.setNumberOfInstallments(1);
+        bank.setSecureType(SecureType.SECURE);
+        bank.setCurrencyAmount(payment.getCurrencyAmount());
+        bank.setCurrency(payment.getCurrency());
+        bank.setOrderId(payment.getOrderId());
+        bank.setOrderDescription(payment.getOrderDescription());
+        bank.setOrderItems(payment.getOrderItem());
+        bank.setStatus(payment.getStatus());
+        return bank;
+    }
+
+    private static String legacyMaskName(String name) {
+        String[] part = name.split(" ");
+        return part[0].substring(0,2) + "*** " + part[1].substring(0,2) + "**";
+    }
+
+    private static String legacyMaskPan(String pan) {
+        return pan.substring(0,4) + " **** **** " + pan.substring(pan.length() - 4);
+    }
+}
@@ -0,0 +1,60 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.util.FareTable;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FareQuoteBenchmark {
+
+    @Param({"5000"})
+    private int flights;
+
+    private int[] bookedSeats;
+    private FareTable[] tables;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        PricingRules rules = PricingBenchmark.productionLikeRules();
+        LocalDateTime departure = LocalDateTime.now().plusDays(30);
+        now = FareTable.toEpochSecond(LocalDateTime.now());
+        SplittableRandom random = new SplittableRandom(42);
+        bookedSeats = new int[flights];
+        tables = new FareTable[flights];
+        for (int i = 0; i < flights; i++) {
+            BigDecimal basePrice = BigDecimal.valueOf(random.nextInt(5_000, 500_000), 2);
+            int capacity = random.nextInt(50, 401);
+            bookedSeats[i] = random.nextInt(0, capacity + 1);
+            tables[i] = rules.fareTable(basePrice, capacity, "IST", "BER", departure);
+        }
+    }
+
+    @Benchmark
+    public void quoteBatchFareTable(Blackhole bh) {
+        for (int i = 0; i < flights; i++) {
+            bh.consume(tables[i].price(bookedSeats[i], 0, FareClass.ECONOMY, now));
+        }
+    }
+
+    @Benchmark
+    public long quoteBatchFareTableCents() {
+        long total = 0;
+        for (int i = 0; i < flights; i++) {
+            total += tables[i].priceCents(bookedSeats[i], 0, FareClass.ECONOMY, now);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,82 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.dto.FlightDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO;
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
+import com.cobanoglu.airlinemanagement.mapper.FlightMapperImpl;
+import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapper;
+import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"50"})
+    private int historySize;
+
+    private final FlightMapper flightMapper = new FlightMapperImpl();
+    private final PassengerBookingMapper passengerBookingMapper = new PassengerBookingMapperImpl();
+
+    private Flight flight;
+    private FlightDTO flightDTO;
+    private List<Booking> bookings;
+
+    @Setup
+    public void setUp() {
+        Airline airline = Airline.builder().id(1L).name("Turkish Airlines").codeIATA("TK").codeICAO("THY").build();
+        flight = Flight.builder()
+                .id(1L)
+                .airline(airline)
+                .flightNumber("TK1923")
+                .origin("Istanbul")
+                .destination("Ankara")
+                .departureTime(LocalDateTime.now().plusDays(3))
+                .arrivalTime(LocalDateTime.now().plusDays(3).plusHours(1))
+                .basePrice(new BigDecimal("1249.90"))
+                .capacity(180)
+                .bookedSeats(120)
+                .build();
+        flightDTO = flightMapper.toDto(flight);
+
+        Passenger passenger = Passenger.builder().id(1L).name("Ada").surname("Lovelace").email("ada@example.com").build();
+        bookings = new ArrayList<>(historySize);
+        for (int i = 0; i < historySize; i++) {
+            bookings.add(Booking.builder()
+                    .id((long) i)
+                    .flight(flight)
+                    .passenger(passenger)
+                    .seatNumber(i + "A")
+                    .bookingStatus(BookingStatus.CONFIRMED)
+                    .price(new BigDecimal("1499.88"))
+                    .createDate(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public FlightDTO flightToDto() {
+        return flightMapper.toDto(flight);
+    }
+
+    @Benchmark
+    public Flight flightToEntity() {
+        return flightMapper.toEntity(flightDTO);
+    }
+
+    @Benchmark
+    public List<PassengerBookingDTO> passengerBookingHistory() {
+        return passengerBookingMapper.toDtoList(bookings);
+    }
+}
@@ -0,0 +1,57 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.service.impl.PassengerSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class PassengerSearchBenchmark {
+
+    private static final char[] LETTERS = "abcdefghijklmnoprstuvyz".toCharArray();
+    private static final String[] DOMAINS = {"example.com", "mail.com", "airline.com.tr", "post.de"};
+
+    @Param({"2000000"})
+    private int passengers;
+
+    @Param({"ay", "mehm", "mehmet yil", "mehmte"})
+    private String query;
+
+    private PassengerSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new PassengerSearchIndex(null, true, 10_000);
+        SplittableRandom random = new SplittableRandom(48);
+        String[] firstNames = names(random, 5_000, "mehmet", "ayse", "fatma", "mustafa", "emine", "ahmet");
+        String[] lastNames = names(random, 20_000, "yilmaz", "kaya", "demir", "sahin", "celik", "yildiz");
+        for (long id = 1; id <= passengers; id++) {
+            String name = firstNames[(int) Math.min(firstNames.length - 1, Math.abs(random.nextGaussian()) * firstNames.length / 4)];
+            String surname = lastNames[random.nextInt(lastNames.length)];
+            index.index(id, name, surname, name + "." + surname + id + "@" + DOMAINS[random.nextInt(DOMAINS.length)]);
+        }
+    }
+
+    private static String[] names(SplittableRandom random, int count, String... common) {
+        String[] names = new String[count];
+        System.arraycopy(common, 0, names, 0, common.length);
+        for (int i = common.length; i < count; i++) {
+            char[] name = new char[4 + random.nextInt(6)];
+            for (int c = 0; c < name.length; c++) name[c] = LETTERS[random.nextInt(LETTERS.length)];
+            names[i] = new String(name);
+        }
+        return names;
+    }
+
+    @Benchmark
+    public List<Long> search() {
+        return index.search(query, 20);
+    }
+}
@@ -0,0 +1,101 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.util.FareTable;
+import com.cobanoglu.airlinemanagement.util.PricingRuleSet;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    @Param({"0.3", "0.6", "0.9"})
+    private double occupancyRate;
+
+    @Param({"200", "1500"})
+    private int loyaltyPoints;
+
+    private final BigDecimal basePrice = new BigDecimal("1249.90");
+
+    private PricingRules rules;
+    private FareTable fareTable;
+    private int bookedSeats;
+    private long now;
+
+    @Setup
+    public void setUp() {
+        rules = productionLikeRules();
+        LocalDateTime departure = LocalDateTime.now().plusDays(10);
+        fareTable = rules.fareTable(basePrice, 180, "IST", "BER", departure);
+        bookedSeats = (int) (occupancyRate * 180);
+        now = FareTable.toEpochSecond(LocalDateTime.now());
+    }
+
+    static PricingRules productionLikeRules() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        ruleSet.getOccupancyTiers().add(occupancyTier(0.5, false, 1.2));
+        ruleSet.getOccupancyTiers().add(occupancyTier(0.8, true, 1.5));
+        ruleSet.getOccupancyTiers().add(occupancyTier(0.95, true, 1.8));
+        ruleSet.getFareClassMultipliers().put(FareClass.PREMIUM_ECONOMY, 1.4);
+        ruleSet.getFareClassMultipliers().put(FareClass.BUSINESS, 2.5);
+        for (String origin : new String[]{"IST", "SAW", "ESB", "ADB"}) {
+            for (String destination : new String[]{"BER", "LHR", "CDG", "AMS", "FRA"}) {
+                PricingRuleSet.RouteRule route = new PricingRuleSet.RouteRule();
+                route.setOrigin(origin);
+                route.setDestination(destination);
+                route.setMultiplier(1.05);
+                ruleSet.getRoutes().add(route);
+            }
+        }
+        int[][] windows = {{0, 2}, {3, 6}, {7, 13}, {14, 29}, {60, Integer.MAX_VALUE}};
+        double[] multipliers = {1.4, 1.25, 1.1, 1.0, 0.9};
+        for (int i = 0; i < windows.length; i++) {
+            PricingRuleSet.DepartureWindow window = new PricingRuleSet.DepartureWindow();
+            window.setMinDays(windows[i][0]);
+            window.setMaxDays(windows[i][1]);
+            window.setMultiplier(multipliers[i]);
+            ruleSet.getDepartureWindows().add(window);
+        }
+        int[] points = {1001, 5000, 20000};
+        double[] discounts = {0.10, 0.15, 0.20};
+        for (int i = 0; i < points.length; i++) {
+            PricingRuleSet.LoyaltyTier tier = new PricingRuleSet.LoyaltyTier();
+            tier.setMinPoints(points[i]);
+            tier.setDiscount(discounts[i]);
+            ruleSet.getLoyaltyTiers().add(tier);
+        }
+        return PricingRules.compile(ruleSet);
+    }
+
+    private static PricingRuleSet.OccupancyTier occupancyTier(double from, boolean inclusive, double multiplier) {
+        PricingRuleSet.OccupancyTier tier = new PricingRuleSet.OccupancyTier();
+        tier.setFrom(from);
+        tier.setInclusive(inclusive);
+        tier.setMultiplier(multiplier);
+        return tier;
+    }
+
+    @Benchmark
+    public long compiledRulesQuoteCents() {
+        return fareTable.priceCents(bookedSeats, loyaltyPoints, FareClass.BUSINESS, now);
+    }
+
+    @Benchmark
+    public BigDecimal compiledRulesQuote() {
+        return fareTable.price(bookedSeats, loyaltyPoints, FareClass.BUSINESS, now);
+    }
+
+    @Benchmark
+    public FareTable compileFareTable() {
+        return fareTable.recompile(rules);
+    }
+}
@@ -0,0 +1,67 @@
+package com.cobanoglu.airlinemanagement.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    private String mode;
+
+    @Param({"1000"})
+    private int concurrentRequests;
+
+    @Param({"5"})
+    private int blockingMillis;
+
+    @Param({"200"})
+    private int platformPoolSize;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(platformPoolSize);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long ioBoundBurst() throws Exception {
+        List<Future<Long>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            futures.add(executor.submit(this::simulatedRequest));
+        }
+        long sum = 0;
+        for (Future<Long> f : futures) {
+            sum += f.get();
+        }
+        return sum;
+    }
+
+    private long simulatedRequest() throws InterruptedException {
+        Thread.sleep(blockingMillis);
+        long acc = 0;
+        for (int i = 0; i < 1_000; i++) {
+            acc += i * 31L;
+        }
+        return acc;
+    }
+}
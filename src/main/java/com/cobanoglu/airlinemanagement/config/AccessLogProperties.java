@@ -0,0 +1,30 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = true;
+
+    private int queueCapacity = 8192;
+
+    private int batchSize = 256;
+
+    private double defaultSampleRate = 1.0;
+
+    private List<RouteSampling> sampling = new ArrayList<>();
+
+    @Data
+    public static class RouteSampling {
+        private String route;
+        private double rate = 1.0;
+    }
+}
@@ -1,9 +1,118 @@
 package com.cobanoglu.airlinemanagement.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${async.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${async.max-pool-size:32}")
+    private int maxPoolSize;
+
+    @Value("${async.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Value("${async.virtual-concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    @Value("${booking-events.pool-size:4}")
+    private int bookingEventPoolSize;
+
+    @Value("${booking-events.queue-capacity:1024}")
+    private int bookingEventQueueCapacity;
+
+    @Value("${bank.authorization.concurrency:16}")
+    private int bankConcurrency;
+
+    @Value("${bank.authorization.max-in-flight:256}")
+    private int bankMaxInFlight;
+
+    @Bean(name = "applicationTaskExecutor")
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("async-");
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(name = "bookingEventExecutor")
+    public AsyncTaskExecutor bookingEventExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("booking-event-vt-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(bookingEventPoolSize);
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("booking-event-");
+        executor.setCorePoolSize(bookingEventPoolSize);
+        executor.setMaxPoolSize(bookingEventPoolSize);
+        executor.setQueueCapacity(bookingEventQueueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean(name = "bankAuthorizationExecutor")
+    public AsyncTaskExecutor bankAuthorizationExecutor() {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bank-auth-vt-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(10_000);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("bank-auth-");
+        executor.setCorePoolSize(bankConcurrency);
+        executor.setMaxPoolSize(bankConcurrency);
+        executor.setQueueCapacity(bankMaxInFlight * 2);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+
+    @Override
+    public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
+        return (ex, method, params) -> log.error("Async method {} failed", method.getName(), ex);
+    }
 }
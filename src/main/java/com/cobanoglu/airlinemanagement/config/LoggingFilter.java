@@ -1,27 +1,117 @@
 package com.cobanoglu.airlinemanagement.config;
 
-import jakarta.servlet.*;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
-@Slf4j
 @Component
-public class LoggingFilter implements Filter {
+public class LoggingFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final AccessLogWriter accessLogWriter;
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final Map<String, Double> routeSampleRates = new HashMap<>();
+
+    public LoggingFilter(AccessLogWriter accessLogWriter, AccessLogProperties properties) {
+        this.accessLogWriter = accessLogWriter;
+        this.enabled = properties.isEnabled();
+        this.defaultSampleRate = properties.getDefaultSampleRate();
+        properties.getSampling().forEach(s -> routeSampleRates.put(s.getRoute().trim(), s.getRate()));
+    }
 
     @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
 
-        HttpServletRequest req = (HttpServletRequest) request;
-        log.info("➡️ Request: {} {}", req.getMethod(), req.getRequestURI());
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
 
-        chain.doFilter(request, response);
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            long latencyMicros = (System.nanoTime() - start) / 1_000;
+            String route = resolveRoute(request);
+            int status = response.getStatus();
+
+            if (isSampled(request.getMethod(), route, status)) {
+                accessLogWriter.offer(toJson(request.getMethod(), route, status, latencyMicros, resolveUser()));
+            }
+        }
+    }
+
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+
+    private String resolveUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken) ? auth.getName() : null;
+    }
+
+    private boolean isSampled(String method, String route, int status) {
+        if (status >= 400) return true;
+
+        double rate = routeSampleRates.getOrDefault(method + " " + route, defaultSampleRate);
+        if (rate >= 1.0) return true;
+        if (rate <= 0.0) return false;
+        return ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private String toJson(String method, String route, int status, long latencyMicros, String user) {
+        StringBuilder sb = new StringBuilder(160);
+        sb.append("{\"ts\":\"").append(Instant.now()).append('"');
+        sb.append(",\"method\":\"").append(method).append('"');
+        sb.append(",\"route\":");
+        appendString(sb, route);
+        sb.append(",\"status\":").append(status);
+        sb.append(",\"latencyUs\":").append(latencyMicros);
+        sb.append(",\"user\":");
+        appendString(sb, user);
+        return sb.append('}').toString();
+    }
 
-        HttpServletResponse res = (HttpServletResponse) response;
-        log.info("⬅️ Response: {} {}", res.getStatus(), req.getRequestURI());
+    private void appendString(StringBuilder sb, String value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
     }
 }
@@ -0,0 +1,18 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.util.PricingRuleSet;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "pricing")
+public class PricingProperties {
+
+    private String rulesFile;
+
+    private long reloadIntervalMs = 10_000;
+
+    private PricingRuleSet rules = new PricingRuleSet();
+}
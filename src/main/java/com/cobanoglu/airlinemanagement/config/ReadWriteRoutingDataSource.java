@@ -0,0 +1,48 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.metrics.DataSourceRoutingMetrics;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DataSourceRoutingMetrics metrics;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor,
+                                      ReadYourWritesTracker readYourWritesTracker,
+                                      DataSourceRoutingMetrics metrics) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.metrics = metrics;
+    }
+
+    @Override
+    protected Route determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Route.PRIMARY;
+        }
+        if (!lagMonitor.isUsable()) {
+            metrics.recordRoute(Route.PRIMARY, DataSourceRoutingMetrics.REASON_REPLICA_UNAVAILABLE);
+            return Route.PRIMARY;
+        }
+        if (readYourWritesTracker.isPinned(currentUser())) {
+            metrics.recordRoute(Route.PRIMARY, DataSourceRoutingMetrics.REASON_READ_YOUR_WRITES);
+            return Route.PRIMARY;
+        }
+        metrics.recordRoute(Route.REPLICA, DataSourceRoutingMetrics.REASON_READ_ONLY);
+        return Route.REPLICA;
+    }
+
+    private String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken) ? auth.getName() : null;
+    }
+}
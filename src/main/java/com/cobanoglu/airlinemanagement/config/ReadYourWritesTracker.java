@@ -0,0 +1,56 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ReadYourWritesTracker {
+
+    private final long windowNanos;
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(DataSourceRoutingProperties properties) {
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.getReadYourWritesWindowMs(), 0));
+    }
+
+    public void recordWrite(String username) {
+        if (username == null || windowNanos == 0) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            pin(username);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pin(username);
+            }
+        });
+    }
+
+    public boolean isPinned(String username) {
+        if (username == null) return false;
+        Long until = pinnedUntil.get(username);
+        return until != null && System.nanoTime() - until < 0;
+    }
+
+    public int pinnedCount() {
+        return pinnedUntil.size();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.read-your-writes-purge-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    private void pin(String username) {
+        pinnedUntil.put(username, System.nanoTime() + windowNanos);
+    }
+}
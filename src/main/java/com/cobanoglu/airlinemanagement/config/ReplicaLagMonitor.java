@@ -0,0 +1,62 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.metrics.DataSourceRoutingMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMs;
+
+    private volatile long lagMs = -1;
+    private volatile boolean usable;
+
+    public ReplicaLagMonitor(DataSource replica, DataSourceRoutingProperties properties, DataSourceRoutingMetrics metrics) {
+        this.jdbcTemplate = new JdbcTemplate(replica);
+        this.jdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        this.lagQuery = properties.getLagQuery();
+        this.maxLagMs = properties.getMaxLagMs();
+        metrics.bindReplicaLag(() -> lagMs);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource-routing.lag-check-interval-ms:2000}")
+    public void probe() {
+        boolean wasUsable = usable;
+        try {
+            Number lag = jdbcTemplate.queryForObject(lagQuery, Number.class);
+            lagMs = lag != null ? lag.longValue() : 0;
+            usable = lagMs <= maxLagMs;
+        } catch (RuntimeException e) {
+            lagMs = -1;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Replica lag probe failed, routing reads to primary: {}", e.getMessage());
+            } else {
+                log.debug("Replica lag probe failed: {}", e.getMessage());
+            }
+            return;
+        }
+
+        if (wasUsable && !usable) {
+            log.warn("Replica lag {} ms exceeds {} ms, routing reads to primary", lagMs, maxLagMs);
+        } else if (!wasUsable && usable) {
+            log.info("Replica available (lag {} ms), routing read-only transactions to replica", lagMs);
+        }
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    public long getLagMs() {
+        return lagMs;
+    }
+}
@@ -0,0 +1,78 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.util.SqlRedactor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Component
+public class SqlExecutionListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger SLOW_QUERY_LOG = LoggerFactory.getLogger("SLOW_QUERY");
+    private static final String START_NANOS = "startNanos";
+
+    private final long slowQueryNanos;
+    private final Counter slowQueries;
+
+    public SqlExecutionListener(SqlInstrumentationProperties properties, MeterRegistry registry) {
+        this.slowQueryNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(properties.getSlowQueryThresholdMs(), 0));
+        this.slowQueries = registry.counter("sql.slow.queries");
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long nanos = start != null ? System.nanoTime() - start : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+        String sql = queryInfoList.stream()
+                .map(q -> SqlRedactor.redact(q.getQuery()))
+                .collect(Collectors.joining("; "));
+
+        boolean slow = nanos >= slowQueryNanos;
+        if (slow) {
+            slowQueries.increment();
+            SLOW_QUERY_LOG.warn("{} ms{}{} {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    execInfo.isBatch() ? " batch=" + execInfo.getBatchSize() : "",
+                    execInfo.isSuccess() ? "" : " failed",
+                    sql);
+        }
+
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.recordStatement(sql, nanos, slow);
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())
+                && "next".equals(executionContext.getMethod().getName())) {
+            SqlRequestContext context = SqlRequestContext.current();
+            if (context != null) {
+                context.recordRow();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.metrics.SqlRouteStatistics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class SqlInstrumentationFilter extends OncePerRequestFilter {
+
+    private static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final SqlRouteStatistics statistics;
+    private final boolean enabled;
+    private final int repeatedStatementThreshold;
+
+    public SqlInstrumentationFilter(SqlRouteStatistics statistics, SqlInstrumentationProperties properties) {
+        this.statistics = statistics;
+        this.enabled = properties.isEnabled();
+        this.repeatedStatementThreshold = Math.max(properties.getRepeatedStatementThreshold(), 2);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        if (!enabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        SqlRequestContext context = SqlRequestContext.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlRequestContext.end();
+            String route = request.getMethod() + " " + resolveRoute(request);
+            Map<String, Integer> repeated = context.repeatedStatements(repeatedStatementThreshold);
+            repeated.forEach((sql, count) ->
+                    log.warn("Possible N+1 on {}: statement ran {} times in one request: {}", route, count, sql));
+            statistics.record(route, context, repeated);
+        }
+    }
+
+    private String resolveRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ROUTE;
+    }
+}
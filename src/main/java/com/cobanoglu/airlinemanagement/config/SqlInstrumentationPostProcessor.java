@@ -0,0 +1,39 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@RequiredArgsConstructor
+public class SqlInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    private final ObjectProvider<SqlInstrumentationProperties> properties;
+    private final ObjectProvider<SqlExecutionListener> listener;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        SqlInstrumentationProperties config = properties.getObject();
+        if (!config.isEnabled()) return bean;
+
+        return wrap(dataSource, listener.getObject(), config.isCountRows());
+    }
+
+    static DataSource wrap(DataSource dataSource, SqlExecutionListener listener, boolean countRows) {
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(DATA_SOURCE_BEAN, dataSource).listener(listener);
+        if (countRows) {
+            builder.proxyResultSet().methodListener(listener);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "sql-instrumentation")
+public class SqlInstrumentationProperties {
+
+    private boolean enabled = true;
+
+    private boolean countRows = true;
+
+    private long slowQueryThresholdMs = 200;
+
+    private int repeatedStatementThreshold = 5;
+
+    private int maxSuspectsPerRoute = 10;
+}
@@ -13,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/airlines")
@@ -61,22 +62,23 @@ public class AirlineController {
     @GetMapping
     @Operation(
             summary = "List all airlines with pagination (Admin & User)",
-            description = "Retrieves all airlines in a paginated format. Accessible by ADMIN and USER roles."
+            description = "Retrieves all airlines in a paginated format. Accessible by ADMIN and USER roles. Send the returned ETag as If-None-Match to get 304 Not Modified while the page is unchanged."
     )
     public ResponseEntity<Page<AirlineDTO>> listAirlines(
-            @Parameter(description = "Pagination parameters: page, size, sort") Pageable pageable) {
-        Page<AirlineDTO> result = airlineService.listAirlines(pageable);
-        return ResponseEntity.ok(result);
+            @Parameter(description = "Pagination parameters: page, size, sort") Pageable pageable,
+            WebRequest request) {
+        String eTag = airlineService.listAirlinesETag(pageable);
+        return ConditionalResponses.ok(request, eTag, () -> airlineService.listAirlines(pageable));
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @GetMapping("/{id}")
     @Operation(
             summary = "Get airline by ID (Admin & User)",
-            description = "Retrieves detailed information about a specific airline by its ID. Accessible by ADMIN and USER roles."
+            description = "Retrieves detailed information about a specific airline by its ID. Accessible by ADMIN and USER roles. Supports If-None-Match."
     )
-    public ResponseEntity<AirlineDTO> getAirlineById(@PathVariable Long id) {
-        AirlineDTO dto = airlineService.getAirlineById(id);
-        return ResponseEntity.ok(dto);
+    public ResponseEntity<AirlineDTO> getAirlineById(@PathVariable Long id, WebRequest request) {
+        String eTag = airlineService.getAirlineETag(id);
+        return ConditionalResponses.ok(request, eTag, () -> airlineService.getAirlineById(id));
     }
 }
@@ -0,0 +1,28 @@
+package com.cobanoglu.airlinemanagement.controller;
+
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsQuery;
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsResultDTO;
+import com.cobanoglu.airlinemanagement.service.BookingAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Booking Analytics", description = "Ad-hoc group-by queries over the in-memory booking fact store (Admin)")
+public class BookingAnalyticsController {
+
+    private final BookingAnalyticsService bookingAnalyticsService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/bookings")
+    @Operation(summary = "Aggregate bookings", description = "Counts bookings and sums revenue grouped by up to three of ORIGIN, DESTINATION, AIRLINE, STATUS, FARE_CLASS, DAY, WEEK and MONTH (departure date), after optional filters. Live and archived bookings are included.")
+    public ResponseEntity<BookingAnalyticsResultDTO> query(@Valid @RequestBody BookingAnalyticsQuery query) {
+        return ResponseEntity.ok(bookingAnalyticsService.query(query));
+    }
+}
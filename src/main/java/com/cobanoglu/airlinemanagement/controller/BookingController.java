@@ -62,4 +62,14 @@ public class BookingController {
     public ResponseEntity<List<PassengerBookingDTO>> getMyBookings() {
         return ResponseEntity.ok(bookingService.getCurrentUserBookings());
     }
+
+    @PreAuthorize("hasRole('USER')")
+    @GetMapping("/me/history")
+    @Operation(summary = "Get my booking history page", description = "Returns one page of the logged-in passenger's bookings ordered by departure. Pass nextCursor back as cursor for the following page.")
+    public ResponseEntity<BookingHistoryPageDTO> getMyBookingHistory(
+            @RequestParam(defaultValue = "ALL") BookingHistoryScope scope,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookingService.getCurrentUserBookingHistoryPage(scope, cursor, size));
+    }
 }
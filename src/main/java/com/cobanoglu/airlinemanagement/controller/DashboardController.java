@@ -0,0 +1,40 @@
+package com.cobanoglu.airlinemanagement.controller;
+
+import com.cobanoglu.airlinemanagement.dto.DashboardDTO;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/dashboard")
+@RequiredArgsConstructor
+@Tag(name = "Dashboard", description = "Revenue, seats sold and occupancy rollups (Admin)")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "Admin dashboard", description = "Revenue and seats sold per day, route and airline for flights departing between from and to (default: 30 days either side of today), plus the fullest upcoming flights. Reads only the rollup tables.")
+    public ResponseEntity<DashboardDTO> getDashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "5") int top) {
+        return ResponseEntity.ok(dashboardService.getDashboard(from, to, top));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/rebuild")
+    @Operation(summary = "Rebuild dashboard rollups", description = "Recomputes the rollup tables from live and archived bookings. Use it to backfill, or to repair drift.")
+    public ResponseEntity<Map<String, Integer>> rebuildRollups() {
+        return ResponseEntity.ok(Map.of("flights", dashboardService.rebuildRollups()));
+    }
+}
@@ -1,6 +1,8 @@
 package com.cobanoglu.airlinemanagement.controller;
 
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
 import com.cobanoglu.airlinemanagement.dto.FlightDTO;
+import com.cobanoglu.airlinemanagement.service.FlightAvailabilityService;
 import com.cobanoglu.airlinemanagement.service.FlightService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,9 +15,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/flights")
@@ -24,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class FlightController {
 
     private final FlightService flightService;
+    private final FlightAvailabilityService flightAvailabilityService;
 
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping
@@ -64,23 +72,44 @@ public class FlightController {
     @GetMapping
     @Operation(
             summary = "List all flights (Admin & User)",
-            description = "Retrieves all flights in paginated format. Accessible by ADMIN and USER roles."
+            description = "Retrieves all flights in paginated format. Accessible by ADMIN and USER roles. Send the returned ETag as If-None-Match to get 304 Not Modified while the page is unchanged."
     )
     public ResponseEntity<Page<FlightDTO>> listFlights(
-            @Parameter(description = "Pagination parameters: page, size, sort") Pageable pageable) {
-        Page<FlightDTO> flights = flightService.listFlights(pageable);
-        return ResponseEntity.ok(flights);
+            @Parameter(description = "Pagination parameters: page, size, sort") Pageable pageable,
+            WebRequest request) {
+        String eTag = flightService.listFlightsETag(pageable);
+        return ConditionalResponses.ok(request, eTag, () -> flightService.listFlights(pageable));
     }
 
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @GetMapping("/{id}")
     @Operation(
             summary = "Get flight by ID (Admin & User)",
-            description = "Retrieves detailed information about a specific flight by its ID."
+            description = "Retrieves detailed information about a specific flight by its ID. Supports If-None-Match."
     )
-    public ResponseEntity<FlightDTO> getFlightById(@PathVariable Long id) {
-        FlightDTO flight = flightService.getFlightById(id);
-        return ResponseEntity.ok(flight);
+    public ResponseEntity<FlightDTO> getFlightById(@PathVariable Long id, WebRequest request) {
+        String eTag = flightService.getFlightETag(id);
+        return ConditionalResponses.ok(request, eTag, () -> flightService.getFlightById(id));
+    }
+
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @PostMapping("/quotes")
+    @Operation(
+            summary = "Quote current fares for many flights (Admin & User)",
+            description = "Returns the current price and remaining seats for up to 5000 flight IDs in one call. Unknown IDs are skipped."
+    )
+    public ResponseEntity<List<FareQuoteDTO>> quoteFares(@RequestBody List<Long> flightIds) {
+        return ResponseEntity.ok(flightService.quoteFares(flightIds));
     }
-}
 
+    @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+    @GetMapping(value = "/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+            summary = "Stream seat availability (Admin & User)",
+            description = "Opens a Server-Sent Events stream for the given flights. Sends a 'snapshot' event first, then coalesced 'availability' events whenever seats are booked or released."
+    )
+    public SseEmitter streamAvailability(
+            @Parameter(description = "Flight IDs to watch") @RequestParam List<Long> flightIds) {
+        return flightAvailabilityService.subscribe(flightIds);
+    }
+}
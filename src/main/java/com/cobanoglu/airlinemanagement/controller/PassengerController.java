@@ -1,5 +1,7 @@
 package com.cobanoglu.airlinemanagement.controller;
 
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryPageDTO;
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryScope;
 import com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO;
 import com.cobanoglu.airlinemanagement.dto.PassengerDTO;
 import com.cobanoglu.airlinemanagement.service.BookingService;
@@ -14,6 +16,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -52,12 +55,25 @@ public class PassengerController {
 
     @Operation(
             summary = "List all passengers",
-            description = "Returns a paginated list of all passengers. Admin access only."
+            description = "Returns a paginated list of all passengers. Admin access only. Send the returned ETag as If-None-Match to get 304 Not Modified while the page is unchanged."
     )
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping
-    public ResponseEntity<Page<PassengerDTO>> listPassengers(Pageable pageable) {
-        return ResponseEntity.ok(passengerService.listPassengers(pageable));
+    public ResponseEntity<Page<PassengerDTO>> listPassengers(Pageable pageable, WebRequest request) {
+        String eTag = passengerService.listPassengersETag(pageable);
+        return ConditionalResponses.ok(request, eTag, () -> passengerService.listPassengers(pageable));
+    }
+
+    @Operation(
+            summary = "Search passengers",
+            description = "Finds passengers whose first name, last name or email starts with each word of q, falling back to near matches (one or two typos) when there are few prefix matches. Exact and prefix matches rank first. Admin access only."
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/search")
+    public ResponseEntity<List<PassengerDTO>> searchPassengers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(passengerService.searchPassengers(q, limit));
     }
 
     @Operation(
@@ -73,12 +89,13 @@ public class PassengerController {
 
     @Operation(
             summary = "Get passenger by ID",
-            description = "Retrieves passenger details by passenger ID. Admin access only."
+            description = "Retrieves passenger details by passenger ID. Admin access only. Supports If-None-Match."
     )
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/{id:\\d+}")
-    public ResponseEntity<PassengerDTO> getPassengerById(@PathVariable Long id) {
-        return ResponseEntity.ok(passengerService.getPassengerById(id));
+    public ResponseEntity<PassengerDTO> getPassengerById(@PathVariable Long id, WebRequest request) {
+        String eTag = passengerService.getPassengerETag(id);
+        return ConditionalResponses.ok(request, eTag, () -> passengerService.getPassengerById(id));
     }
 
     @Operation(
@@ -101,4 +118,18 @@ public class PassengerController {
     public ResponseEntity<List<PassengerBookingDTO>> getPassengerBookingHistory(@PathVariable Long id) {
         return ResponseEntity.ok(bookingService.getBookingHistoryByPassenger(id));
     }
+
+    @Operation(
+            summary = "Get passenger booking history page",
+            description = "Returns one page of a passenger's bookings ordered by departure (PAST is newest first). Pass nextCursor back as cursor for the following page."
+    )
+    @PreAuthorize("hasAnyRole('ADMIN','USER')")
+    @GetMapping("/{id}/bookings/history")
+    public ResponseEntity<BookingHistoryPageDTO> getPassengerBookingHistoryPage(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "ALL") BookingHistoryScope scope,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(bookingService.getBookingHistoryPage(id, scope, cursor, size));
+    }
 }
@@ -0,0 +1,36 @@
+package com.cobanoglu.airlinemanagement.controller;
+
+import com.cobanoglu.airlinemanagement.dto.SqlRouteStatsDTO;
+import com.cobanoglu.airlinemanagement.metrics.SqlRouteStatistics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/sql-stats")
+@RequiredArgsConstructor
+@Tag(name = "SQL statistics", description = "Per-endpoint SQL statement counts and N+1 suspects (Admin)")
+public class SqlStatsController {
+
+    private final SqlRouteStatistics sqlRouteStatistics;
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @Operation(summary = "SQL statistics per endpoint", description = "Statement counts, DB time, rows fetched and repeated statements per route, slowest first.")
+    public ResponseEntity<List<SqlRouteStatsDTO>> getSqlStats() {
+        return ResponseEntity.ok(sqlRouteStatistics.snapshot());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping
+    @Operation(summary = "Reset SQL statistics", description = "Clears the collected per-endpoint SQL statistics.")
+    public ResponseEntity<Void> resetSqlStats() {
+        sqlRouteStatistics.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+public enum AnalyticsDimension {
+    ORIGIN,
+    DESTINATION,
+    AIRLINE,
+    STATUS,
+    FARE_CLASS,
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,7 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+public enum AnalyticsSort {
+    REVENUE,
+    BOOKINGS,
+    KEY
+}
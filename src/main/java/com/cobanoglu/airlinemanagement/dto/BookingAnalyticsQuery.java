@@ -0,0 +1,38 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BookingAnalyticsQuery {
+
+    @Size(max = 3, message = "At most 3 group-by dimensions are supported")
+    private List<AnalyticsDimension> groupBy;
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<BookingStatus> statuses;
+
+    private List<FareClass> fareClasses;
+
+    private List<String> origins;
+
+    private List<String> destinations;
+
+    private List<String> airlines;
+
+    private AnalyticsSort sort;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    @Max(value = 10000, message = "Limit cannot exceed 10000")
+    private Integer limit;
+}
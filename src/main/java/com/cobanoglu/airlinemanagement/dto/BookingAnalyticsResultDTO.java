@@ -0,0 +1,23 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingAnalyticsResultDTO {
+
+    private List<AnalyticsDimension> groupBy;
+    private List<BookingAnalyticsRowDTO> rows;
+    private int totalGroups;
+    private long totalBookings;
+    private BigDecimal totalRevenue;
+    private long scannedRows;
+    private double elapsedMs;
+    private boolean complete;
+}
@@ -0,0 +1,19 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingAnalyticsRowDTO {
+
+    private List<String> keys;
+    private long bookings;
+    private BigDecimal revenue;
+    private BigDecimal averagePrice;
+}
@@ -1,5 +1,6 @@
 package com.cobanoglu.airlinemanagement.dto;
 
+import com.cobanoglu.airlinemanagement.entity.FareClass;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -14,4 +15,6 @@ public class BookingCreateRequest {
 
     @NotBlank(message = "Seat number cannot be blank")
     private String seatNumber;
+
+    private FareClass fareClass;
 }
@@ -0,0 +1,26 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingFactDTO {
+
+    private Long bookingId;
+    private Long flightId;
+    private BigDecimal price;
+    private BookingStatus bookingStatus;
+    private FareClass fareClass;
+    private String origin;
+    private String destination;
+    private String airline;
+    private LocalDate departureDate;
+}
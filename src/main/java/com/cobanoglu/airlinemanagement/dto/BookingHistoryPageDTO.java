@@ -0,0 +1,17 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingHistoryPageDTO {
+
+    private List<PassengerBookingDTO> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,7 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+public enum BookingHistoryScope {
+    ALL,
+    UPCOMING,
+    PAST
+}
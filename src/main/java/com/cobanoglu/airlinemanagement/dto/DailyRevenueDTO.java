@@ -0,0 +1,18 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRevenueDTO {
+
+    private LocalDate date;
+    private long seatsSold;
+    private BigDecimal revenue;
+}
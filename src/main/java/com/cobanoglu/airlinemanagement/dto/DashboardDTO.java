@@ -0,0 +1,24 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private long seatsSold;
+    private BigDecimal revenue;
+    private List<DailyRevenueDTO> revenueByDay;
+    private List<RouteRevenueDTO> topRoutes;
+    private List<AirlineRevenueDTO> airlines;
+    private List<FlightOccupancyDTO> fullestUpcomingFlights;
+}
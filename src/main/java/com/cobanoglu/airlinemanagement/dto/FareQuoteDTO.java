@@ -0,0 +1,17 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FareQuoteDTO {
+
+    private Long flightId;
+    private BigDecimal currentPrice;
+    private int remainingSeats;
+}
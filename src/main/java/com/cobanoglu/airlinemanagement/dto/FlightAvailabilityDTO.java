@@ -0,0 +1,16 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightAvailabilityDTO {
+
+    private Long flightId;
+    private int capacity;
+    private int bookedSeats;
+    private int remainingSeats;
+}
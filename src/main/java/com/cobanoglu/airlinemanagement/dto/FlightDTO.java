@@ -49,4 +49,6 @@ public class FlightDTO {
     private Long airlineId;
 
     private String airlineName;
+
+    private BigDecimal currentPrice;
 }
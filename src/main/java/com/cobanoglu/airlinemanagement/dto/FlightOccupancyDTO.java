@@ -0,0 +1,28 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightOccupancyDTO {
+
+    private Long flightId;
+    private Long airlineId;
+    private String flightNumber;
+    private String origin;
+    private String destination;
+    private LocalDateTime departureTime;
+    private int capacity;
+    private long seatsSold;
+    private BigDecimal revenue;
+
+    public double getLoadFactor() {
+        return capacity > 0 ? (double) seatsSold / capacity : 0.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightSeatsDTO {
+
+    private Long id;
+    private long version;
+    private int bookedSeats;
+}
@@ -0,0 +1,19 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlightVersionDTO {
+
+    private Long id;
+    private Long version;
+    private Long airlineId;
+    private Long airlineVersion;
+    private LocalDateTime departureTime;
+}
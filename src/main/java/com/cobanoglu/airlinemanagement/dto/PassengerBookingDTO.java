@@ -1,12 +1,16 @@
 package com.cobanoglu.airlinemanagement.dto;
 
 import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class PassengerBookingDTO {
     private Long bookingId;
     private String flightNumber;
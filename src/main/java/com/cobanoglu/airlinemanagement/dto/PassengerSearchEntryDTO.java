@@ -0,0 +1,16 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PassengerSearchEntryDTO {
+
+    private Long id;
+    private String name;
+    private String surname;
+    private String email;
+}
@@ -0,0 +1,15 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RepeatedStatementDTO {
+
+    private String sql;
+    private long requests;
+    private int maxRepeatsPerRequest;
+}
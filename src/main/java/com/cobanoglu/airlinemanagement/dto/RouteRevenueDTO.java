@@ -0,0 +1,18 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteRevenueDTO {
+
+    private String origin;
+    private String destination;
+    private long seatsSold;
+    private BigDecimal revenue;
+}
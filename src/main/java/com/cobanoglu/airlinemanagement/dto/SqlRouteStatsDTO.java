@@ -0,0 +1,25 @@
+package com.cobanoglu.airlinemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SqlRouteStatsDTO {
+
+    private String route;
+    private long requests;
+    private long statements;
+    private double statementsPerRequest;
+    private int maxStatementsPerRequest;
+    private double dbTimeMs;
+    private double dbTimePerRequestMs;
+    private long rowsFetched;
+    private long slowStatements;
+    private long requestsWithRepeats;
+    private List<RepeatedStatementDTO> repeatedStatements;
+}
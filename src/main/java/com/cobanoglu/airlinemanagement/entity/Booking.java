@@ -6,6 +6,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -17,8 +18,11 @@ import java.time.LocalDateTime;
 @Table(
         name = "bookings",
         uniqueConstraints = {
-                @UniqueConstraint(name = "uk_booking_flight_seat", columnNames = {"flight_id", "seatNumber"}),
-                @UniqueConstraint(name = "uk_booking_flight_passenger", columnNames = {"flight_id", "passenger_id"})
+                @UniqueConstraint(name = "uk_booking_flight_seat", columnNames = {"flight_id", "seatNumber", "departure_date"}),
+                @UniqueConstraint(name = "uk_booking_flight_passenger", columnNames = {"flight_id", "passenger_id", "departure_date"})
+        },
+        indexes = {
+                @Index(name = "idx_bookings_passenger_departure", columnList = "passenger_id, departure_date")
         }
 )
 public class Booking {
@@ -45,11 +49,21 @@ public class Booking {
     @Column(nullable = false, precision = 10, scale = 2)
     private BigDecimal price;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "fare_class", length = 20)
+    private FareClass fareClass;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createDate;
 
+    @Column(name = "departure_date")
+    private LocalDate departureDate;
+
     @PrePersist
     protected void onCreate() {
         this.createDate = LocalDateTime.now();
+        if (departureDate == null && flight != null && flight.getDepartureTime() != null) {
+            this.departureDate = flight.getDepartureTime().toLocalDate();
+        }
     }
 }
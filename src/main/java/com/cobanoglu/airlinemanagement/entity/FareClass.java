@@ -0,0 +1,7 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+public enum FareClass {
+    ECONOMY,
+    PREMIUM_ECONOMY,
+    BUSINESS
+}
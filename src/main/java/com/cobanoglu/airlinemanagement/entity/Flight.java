@@ -2,6 +2,7 @@ package com.cobanoglu.airlinemanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,6 +53,15 @@ public class Flight {
     @Column(name = "booked_seats", nullable = false)
     private int bookedSeats = 0;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(mappedBy = "flight", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Booking> bookings;
+
+    @PreUpdate
+    void incrementVersion() {
+        version++;
+    }
 }
@@ -0,0 +1,50 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "flight_occupancy_rollups",
+        indexes = {
+                @Index(name = "idx_flight_occupancy_departure", columnList = "departure_time")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightOccupancyRollup {
+
+    @Id
+    @Column(name = "flight_id")
+    private Long flightId;
+
+    @Column(name = "airline_id", nullable = false)
+    private Long airlineId;
+
+    @Column(name = "flight_number", nullable = false, length = 10)
+    private String flightNumber;
+
+    @Column(nullable = false, length = 60)
+    private String origin;
+
+    @Column(nullable = false, length = 60)
+    private String destination;
+
+    @Column(name = "departure_time", nullable = false)
+    private LocalDateTime departureTime;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(name = "seats_sold", nullable = false)
+    private int seatsSold;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
@@ -20,7 +20,8 @@ public class Item {
 
     private String value;
 
-    @OneToMany
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "payment_id")
     private Payment payment;
 
 }
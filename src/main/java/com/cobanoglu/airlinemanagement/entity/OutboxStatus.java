@@ -0,0 +1,7 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
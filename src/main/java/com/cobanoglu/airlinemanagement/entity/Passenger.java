@@ -2,6 +2,7 @@ package com.cobanoglu.airlinemanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -31,10 +32,19 @@ public class Passenger {
     @Column(name = "loyalty_points", nullable = false)
     private int loyaltyPoints = 0;
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @OneToMany(
             mappedBy = "passenger",
             cascade = {CascadeType.PERSIST, CascadeType.MERGE},
             orphanRemoval = false
     )
     private List<Booking> bookings = new ArrayList<>();
+
+    @PreUpdate
+    void incrementVersion() {
+        version++;
+    }
 }
@@ -14,7 +14,15 @@ import java.util.HashMap;
 import java.util.List;
 
 @Entity
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        indexes = {
+                @Index(name = "idx_payments_session", columnList = "session", unique = true),
+                @Index(name = "idx_payments_order_id", columnList = "orderId", unique = true),
+                @Index(name = "idx_payments_status_session_expires", columnList = "status, sessionExpiresAt"),
+                @Index(name = "idx_payments_settlement", columnList = "status, settlementBatchId, processedAt")
+        }
+)
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -44,7 +52,6 @@ public class Payment {
     @Column(nullable = false)
     private String pan;
 
-    @Column(nullable = false)
     private String expiry;
 
     @Column(nullable = false)
@@ -53,7 +60,7 @@ public class Payment {
     @Column(nullable = false)
     private String cardHolderName;
 
-    @Column(unique=true,nullable = false)
+    @Column(nullable = false)
     private String orderId;
 
     @Column(nullable = false)
@@ -81,4 +88,8 @@ public class Payment {
 
     @Column(nullable = false)
     private LocalDateTime sessionExpiresAt;
+
+    private LocalDateTime processedAt;
+
+    private Long settlementBatchId;
 }
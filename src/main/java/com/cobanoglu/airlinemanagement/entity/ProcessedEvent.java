@@ -0,0 +1,37 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+        name = "processed_events",
+        indexes = {
+                @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedEvent {
+
+    @Id
+    @Column(length = 120)
+    private String id;
+
+    @Column(nullable = false, length = 60)
+    private String handler;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 40)
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+}
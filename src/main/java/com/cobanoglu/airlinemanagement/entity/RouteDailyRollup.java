@@ -0,0 +1,44 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(
+        name = "route_daily_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_route_daily_rollup", columnNames = {"departure_date", "airline_id", "origin", "destination"})
+        }
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RouteDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "departure_date", nullable = false)
+    private LocalDate departureDate;
+
+    @Column(name = "airline_id", nullable = false)
+    private Long airlineId;
+
+    @Column(nullable = false, length = 60)
+    private String origin;
+
+    @Column(nullable = false, length = 60)
+    private String destination;
+
+    @Column(name = "seats_sold", nullable = false)
+    private int seatsSold;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+}
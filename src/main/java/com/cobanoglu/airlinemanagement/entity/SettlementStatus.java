@@ -0,0 +1,6 @@
+package com.cobanoglu.airlinemanagement.entity;
+
+public enum SettlementStatus {
+    OPEN,
+    COMPLETED
+}
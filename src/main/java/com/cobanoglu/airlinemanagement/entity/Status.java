@@ -2,6 +2,8 @@ package com.cobanoglu.airlinemanagement.entity;
 
 public enum Status {
     Waiting,
+    Pending,
     Success,
-    Unsuccessful
+    Unsuccessful,
+    Expired
 }
@@ -0,0 +1,28 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingCancelled(
+        UUID eventId,
+        Long bookingId,
+        Long flightId,
+        Long passengerId,
+        BookingStatus previousStatus,
+        BigDecimal price,
+        LocalDateTime occurredAt
+) implements BookingEvent {
+
+    public static BookingCancelled of(Booking booking, BookingStatus previousStatus) {
+        return new BookingCancelled(UUID.randomUUID(), booking.getId(), booking.getFlight().getId(),
+                booking.getPassenger().getId(), previousStatus, booking.getPrice(), LocalDateTime.now());
+    }
+
+    public boolean releasedSeat() {
+        return previousStatus == BookingStatus.CONFIRMED;
+    }
+}
@@ -0,0 +1,22 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingConfirmed(
+        UUID eventId,
+        Long bookingId,
+        Long flightId,
+        Long passengerId,
+        BigDecimal price,
+        LocalDateTime occurredAt
+) implements BookingEvent {
+
+    public static BookingConfirmed of(Booking booking) {
+        return new BookingConfirmed(UUID.randomUUID(), booking.getId(), booking.getFlight().getId(),
+                booking.getPassenger().getId(), booking.getPrice(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,24 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record BookingCreated(
+        UUID eventId,
+        Long bookingId,
+        Long flightId,
+        Long passengerId,
+        BookingStatus status,
+        BigDecimal price,
+        LocalDateTime occurredAt
+) implements BookingEvent {
+
+    public static BookingCreated of(Booking booking) {
+        return new BookingCreated(UUID.randomUUID(), booking.getId(), booking.getFlight().getId(),
+                booking.getPassenger().getId(), booking.getBookingStatus(), booking.getPrice(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,13 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public sealed interface BookingEvent permits BookingCreated, BookingConfirmed, BookingCancelled, WaitlistPromoted {
+
+    UUID eventId();
+
+    Long bookingId();
+
+    LocalDateTime occurredAt();
+}
@@ -0,0 +1,177 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.ProcessedEvent;
+import com.cobanoglu.airlinemanagement.metrics.BookingEventMetrics;
+import com.cobanoglu.airlinemanagement.repository.ProcessedEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+@Slf4j
+@Component
+public class BookingEventBus {
+
+    private final ObjectProvider<BookingEventHandler> handlerProvider;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final ProcessedEventRepository processedEventRepository;
+    private final BookingEventMetrics metrics;
+    private final int maxAttempts;
+    private final int receiptRetentionDays;
+    private final BlockingQueue<Deferred> deferred;
+
+    private volatile List<BookingEventHandler> handlers;
+
+    public BookingEventBus(
+            ObjectProvider<BookingEventHandler> handlerProvider,
+            @Qualifier("bookingEventExecutor") AsyncTaskExecutor executor,
+            PlatformTransactionManager transactionManager,
+            ProcessedEventRepository processedEventRepository,
+            BookingEventMetrics metrics,
+            @Value("${booking-events.max-attempts:3}") int maxAttempts,
+            @Value("${booking-events.receipt-retention-days:7}") int receiptRetentionDays,
+            @Value("${booking-events.deferred-capacity:10000}") int deferredCapacity) {
+        this.handlerProvider = handlerProvider;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.processedEventRepository = processedEventRepository;
+        this.metrics = metrics;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.receiptRetentionDays = Math.max(receiptRetentionDays, 1);
+        this.deferred = new LinkedBlockingQueue<>(Math.max(deferredCapacity, 1));
+    }
+
+    public void publish(BookingEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    @Scheduled(cron = "${booking-events.receipt-purge-cron:0 30 3 * * ?}")
+    public void purgeReceipts() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(receiptRetentionDays);
+        Integer removed = transactionTemplate.execute(status -> processedEventRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed booking event receipts older than {}", removed, cutoff);
+    }
+
+    void dispatch(BookingEvent event) {
+        for (BookingEventHandler handler : handlers()) {
+            if (!handler.supports(event)) continue;
+            try {
+                executor.execute(() -> deliver(handler, event));
+            } catch (TaskRejectedException e) {
+                defer(handler, event);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking-events.redelivery-interval-ms:1000}")
+    public void redeliverDeferred() {
+        Deferred next;
+        while ((next = deferred.peek()) != null) {
+            Deferred task = next;
+            try {
+                executor.execute(() -> deliver(task.handler(), task.event()));
+            } catch (TaskRejectedException e) {
+                return;
+            }
+            deferred.remove(task);
+        }
+    }
+
+    int deferredCount() {
+        return deferred.size();
+    }
+
+    private void defer(BookingEventHandler handler, BookingEvent event) {
+        if (deferred.offer(new Deferred(handler, event))) {
+            metrics.recordHandled(handler.name(), event, BookingEventMetrics.OUTCOME_DEFERRED, System.nanoTime());
+            log.warn("Booking event executor is saturated, deferred {} for handler {}", event, handler.name());
+            return;
+        }
+        metrics.recordHandled(handler.name(), event, BookingEventMetrics.OUTCOME_REJECTED, System.nanoTime());
+        log.error("Booking event {} dropped for handler {}: deferred queue is full", event, handler.name());
+    }
+
+    void deliver(BookingEventHandler handler, BookingEvent event) {
+        metrics.recordLag(handler.name(), event);
+        long start = System.nanoTime();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Boolean applied = handler.requiresReceipt()
+                        ? transactionTemplate.execute(status -> apply(handler, event))
+                        : applyWithoutReceipt(handler, event);
+                metrics.recordHandled(handler.name(), event, Boolean.TRUE.equals(applied)
+                        ? BookingEventMetrics.OUTCOME_APPLIED
+                        : BookingEventMetrics.OUTCOME_DUPLICATE, start);
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    metrics.recordHandled(handler.name(), event, BookingEventMetrics.OUTCOME_FAILED, start);
+                    log.error("Handler {} failed for {} after {} attempts", handler.name(), event, attempt, e);
+                    return;
+                }
+                log.warn("Handler {} failed for {} (attempt {}): {}", handler.name(), event, attempt, e.getMessage());
+            }
+        }
+    }
+
+    private boolean apply(BookingEventHandler handler, BookingEvent event) {
+        String receiptId = handler.name() + ":" + event.eventId();
+        if (processedEventRepository.existsById(receiptId)) {
+            return false;
+        }
+
+        processedEventRepository.save(ProcessedEvent.builder()
+                .id(receiptId)
+                .handler(handler.name())
+                .eventId(event.eventId().toString())
+                .eventType(event.getClass().getSimpleName())
+                .processedAt(LocalDateTime.now())
+                .build());
+
+        handler.handle(event);
+        return true;
+    }
+
+    private boolean applyWithoutReceipt(BookingEventHandler handler, BookingEvent event) {
+        handler.handle(event);
+        return true;
+    }
+
+    private List<BookingEventHandler> handlers() {
+        List<BookingEventHandler> resolved = handlers;
+        if (resolved == null) {
+            resolved = handlerProvider.orderedStream().toList();
+            handlers = resolved;
+        }
+        return resolved;
+    }
+
+    private record Deferred(BookingEventHandler handler, BookingEvent event) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.cobanoglu.airlinemanagement.event;
+
+public interface BookingEventHandler {
+
+    String name();
+
+    boolean supports(BookingEvent event);
+
+    void handle(BookingEvent event);
+
+    default boolean requiresReceipt() {
+        return true;
+    }
+}
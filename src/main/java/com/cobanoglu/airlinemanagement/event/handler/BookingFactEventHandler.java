@@ -0,0 +1,33 @@
+package com.cobanoglu.airlinemanagement.event.handler;
+
+import com.cobanoglu.airlinemanagement.event.*;
+import com.cobanoglu.airlinemanagement.service.impl.BookingFactStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BookingFactEventHandler implements BookingEventHandler {
+
+    private final BookingFactStore bookingFactStore;
+
+    @Override
+    public String name() {
+        return "booking-facts";
+    }
+
+    @Override
+    public boolean supports(BookingEvent event) {
+        return bookingFactStore.isEnabled();
+    }
+
+    @Override
+    public boolean requiresReceipt() {
+        return false;
+    }
+
+    @Override
+    public void handle(BookingEvent event) {
+        bookingFactStore.reload(event.bookingId());
+    }
+}
@@ -0,0 +1,35 @@
+package com.cobanoglu.airlinemanagement.event.handler;
+
+import com.cobanoglu.airlinemanagement.event.*;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class DashboardRollupEventHandler implements BookingEventHandler {
+
+    private final DashboardService dashboardService;
+
+    @Override
+    public String name() {
+        return "dashboard-rollup";
+    }
+
+    @Override
+    public boolean supports(BookingEvent event) {
+        return event instanceof BookingConfirmed
+                || event instanceof WaitlistPromoted
+                || (event instanceof BookingCancelled cancelled && cancelled.releasedSeat());
+    }
+
+    @Override
+    public void handle(BookingEvent event) {
+        switch (event) {
+            case BookingConfirmed e -> dashboardService.recordSales(e.flightId(), 1, e.price());
+            case WaitlistPromoted e -> dashboardService.recordSales(e.flightId(), 1, e.price());
+            case BookingCancelled e -> dashboardService.recordSales(e.flightId(), -1, e.price().negate());
+            case BookingCreated e -> { }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.cobanoglu.airlinemanagement.event.handler;
+
+import com.cobanoglu.airlinemanagement.event.BookingCancelled;
+import com.cobanoglu.airlinemanagement.event.BookingEvent;
+import com.cobanoglu.airlinemanagement.event.BookingEventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Slf4j
+@Component
+public class RefundEventHandler implements BookingEventHandler {
+
+    private static final BigDecimal REFUND_RATE = BigDecimal.valueOf(0.8);
+
+    @Override
+    public String name() {
+        return "refund";
+    }
+
+    @Override
+    public boolean supports(BookingEvent event) {
+        return event instanceof BookingCancelled cancelled && cancelled.releasedSeat();
+    }
+
+    @Override
+    public void handle(BookingEvent event) {
+        BookingCancelled cancelled = (BookingCancelled) event;
+        BigDecimal refund = cancelled.price().multiply(REFUND_RATE);
+        log.info("Refunded 80% of booking {}: {}", cancelled.bookingId(), refund);
+    }
+}
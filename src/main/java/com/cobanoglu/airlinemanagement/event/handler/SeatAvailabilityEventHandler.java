@@ -0,0 +1,49 @@
+package com.cobanoglu.airlinemanagement.event.handler;
+
+import com.cobanoglu.airlinemanagement.event.*;
+import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.FlightAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityEventHandler implements BookingEventHandler {
+
+    private final FlightRepository flightRepository;
+    private final FlightMapper flightMapper;
+    private final FlightAvailabilityService flightAvailabilityService;
+
+    @Override
+    public String name() {
+        return "seat-availability";
+    }
+
+    @Override
+    public boolean supports(BookingEvent event) {
+        return event instanceof BookingConfirmed
+                || event instanceof WaitlistPromoted
+                || (event instanceof BookingCancelled cancelled && cancelled.releasedSeat());
+    }
+
+    @Override
+    public boolean requiresReceipt() {
+        return false;
+    }
+
+    @Override
+    public void handle(BookingEvent event) {
+        Long flightId = switch (event) {
+            case BookingConfirmed e -> e.flightId();
+            case WaitlistPromoted e -> e.flightId();
+            case BookingCancelled e -> e.flightId();
+            case BookingCreated e -> null;
+        };
+        if (flightId == null || flightAvailabilityService.subscriberCount() == 0) return;
+
+        flightRepository.findById(flightId)
+                .map(flightMapper::toAvailabilityDto)
+                .ifPresent(flightAvailabilityService::publish);
+    }
+}
@@ -3,7 +3,9 @@ package com.cobanoglu.airlinemanagement.exception;
 import com.cobanoglu.airlinemanagement.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -117,6 +119,14 @@ public class GlobalExceptionHandler {
                 .body(buildResponse(HttpStatus.CONFLICT, ex.getMessage(), req.getRequestURI()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex, HttpServletRequest req) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        if (isEventStreamRequest(req)) return response.build();
+        return response.body(buildResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), req.getRequestURI()));
+    }
+
     @ExceptionHandler(AccessDeniedException.class)
     public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest req) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -144,6 +154,11 @@ public class GlobalExceptionHandler {
                 .body(buildResponse(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", req.getRequestURI()));
     }
 
+    private boolean isEventStreamRequest(HttpServletRequest req) {
+        String accept = req.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+
     private boolean isSwaggerRequest(HttpServletRequest req) {
         String path = req.getRequestURI();
         return path.contains("/swagger") || path.contains("/api-docs");
@@ -17,6 +17,7 @@ public interface AirlineMapper {
     )
     AirlineDTO toDto(Airline airline);
 
+    @Mapping(target = "version", ignore = true)
     Airline toEntity(AirlineDTO dto);
 
     List<AirlineDTO> toDtoList(List<Airline> airlines);
@@ -1,6 +1,7 @@
 package com.cobanoglu.airlinemanagement.mapper;
 
 import com.cobanoglu.airlinemanagement.dto.BookingDTO;
+import com.cobanoglu.airlinemanagement.entity.ArchivedBooking;
 import com.cobanoglu.airlinemanagement.entity.Booking;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -15,9 +16,13 @@ public interface BookingMapper {
     @Mapping(source = "passenger.id", target = "passengerId")
     BookingDTO toDto(Booking booking);
 
+    BookingDTO toArchivedDto(ArchivedBooking archivedBooking);
+
     @Mapping(source = "id", target = "id")
     @Mapping(source = "flightId", target = "flight.id")
     @Mapping(source = "passengerId", target = "passenger.id")
+    @Mapping(target = "fareClass", ignore = true)
+    @Mapping(target = "departureDate", ignore = true)
     Booking toEntity(BookingDTO dto);
 
     List<BookingDTO> toDtoList(List<Booking> bookings);
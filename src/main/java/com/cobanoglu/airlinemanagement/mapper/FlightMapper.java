@@ -1,5 +1,6 @@
 package com.cobanoglu.airlinemanagement.mapper;
 
+import com.cobanoglu.airlinemanagement.dto.FlightAvailabilityDTO;
 import com.cobanoglu.airlinemanagement.dto.FlightDTO;
 import com.cobanoglu.airlinemanagement.entity.Flight;
 import org.mapstruct.Mapper;
@@ -13,11 +14,17 @@ public interface FlightMapper {
     @Mapping(source = "id", target = "id")
     @Mapping(source = "airline.id", target = "airlineId")
     @Mapping(source = "airline.name", target = "airlineName")
+    @Mapping(target = "currentPrice", ignore = true)
     FlightDTO toDto(Flight flight);
 
     @Mapping(source = "id", target = "id")
     @Mapping(source = "airlineId", target = "airline.id")
+    @Mapping(target = "version", ignore = true)
     Flight toEntity(FlightDTO flightDTO);
 
     List<FlightDTO> toDtoList(List<Flight> flights);
+
+    @Mapping(source = "id", target = "flightId")
+    @Mapping(target = "remainingSeats", expression = "java(Math.max(flight.getCapacity() - flight.getBookedSeats(), 0))")
+    FlightAvailabilityDTO toAvailabilityDto(Flight flight);
 }
@@ -26,7 +26,11 @@ public interface PassengerBookingMapper {
     List<PassengerBookingDTO> toDtoList(List<Booking> bookings);
 
     default int calculateLoyalty(Booking booking) {
-        if (booking.getPrice() == null) return 0;
-        return booking.getPrice().multiply(BigDecimal.valueOf(0.10)).intValue();
+        return calculateLoyalty(booking.getPrice());
+    }
+
+    default int calculateLoyalty(BigDecimal price) {
+        if (price == null) return 0;
+        return price.multiply(BigDecimal.valueOf(0.10)).intValue();
     }
 }
@@ -14,6 +14,7 @@ public interface PassengerMapper {
     PassengerDTO toDto(Passenger passenger);
 
     @Mapping(source = "id", target = "id")
+    @Mapping(target = "version", ignore = true)
     Passenger toEntity(PassengerDTO passengerDTO);
 
     List<PassengerDTO> toDtoList(List<Passenger> passengers);
@@ -0,0 +1,26 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import com.cobanoglu.airlinemanagement.config.AccessLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AccessLogMetrics implements MeterBinder {
+
+    private final AccessLogWriter accessLogWriter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("access.log.written", accessLogWriter, AccessLogWriter::getWrittenCount)
+                .register(registry);
+        FunctionCounter.builder("access.log.dropped", accessLogWriter, AccessLogWriter::getDroppedCount)
+                .register(registry);
+        Gauge.builder("access.log.queue.depth", accessLogWriter, AccessLogWriter::getQueueDepth)
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class AuthMetrics {
+
+    public static final String OUTCOME_SKIPPED = "SKIPPED";
+    public static final String OUTCOME_ANONYMOUS = "ANONYMOUS";
+    public static final String OUTCOME_AUTHENTICATED = "AUTHENTICATED";
+    public static final String OUTCOME_INVALID = "INVALID";
+    public static final String OUTCOME_ERROR = "ERROR";
+
+    private final MeterRegistry registry;
+
+    public void recordJwtFilter(String outcome, long startNanos) {
+        registry.timer("auth.jwt.filter", "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,35 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import com.cobanoglu.airlinemanagement.event.BookingEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class BookingEventMetrics {
+
+    public static final String OUTCOME_APPLIED = "APPLIED";
+    public static final String OUTCOME_DUPLICATE = "DUPLICATE";
+    public static final String OUTCOME_FAILED = "FAILED";
+    public static final String OUTCOME_DEFERRED = "DEFERRED";
+    public static final String OUTCOME_REJECTED = "REJECTED";
+
+    private final MeterRegistry registry;
+
+    public void recordLag(String handler, BookingEvent event) {
+        Duration lag = Duration.between(event.occurredAt(), LocalDateTime.now());
+        registry.timer("booking.event.lag", "handler", handler, "event", event.getClass().getSimpleName())
+                .record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+
+    public void recordHandled(String handler, BookingEvent event, String outcome, long startNanos) {
+        registry.timer("booking.event.handler",
+                        "handler", handler, "event", event.getClass().getSimpleName(), "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,44 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class BookingMetrics {
+
+    public static final String OUTCOME_OVERBOOKED = "OVERBOOKED";
+    public static final String OUTCOME_REJECTED = "REJECTED";
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String OUTCOME_CANCELLED = "CANCELLED";
+    public static final String OUTCOME_PROMOTED = "PROMOTED";
+    public static final String OUTCOME_NO_CANDIDATE = "NO_CANDIDATE";
+    public static final String OUTCOME_LIMIT_REACHED = "LIMIT_REACHED";
+
+    private final MeterRegistry registry;
+
+    public void recordCreate(String outcome, long startNanos) {
+        record("booking.create", outcome, startNanos);
+    }
+
+    public void recordCancel(String outcome, long startNanos) {
+        record("booking.cancel", outcome, startNanos);
+    }
+
+    public void recordWaitlistPromotion(String outcome, long startNanos) {
+        record("booking.waitlist.promotion", outcome, startNanos);
+    }
+
+    public void recordArchived(int bookings, long startNanos) {
+        registry.counter("booking.archive.rows").increment(bookings);
+        registry.timer("booking.archive.run").record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void record(String name, String outcome, long startNanos) {
+        registry.timer(name, "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,31 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import com.cobanoglu.airlinemanagement.config.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+@Component
+@RequiredArgsConstructor
+public class DataSourceRoutingMetrics {
+
+    public static final String REASON_READ_ONLY = "READ_ONLY";
+    public static final String REASON_REPLICA_UNAVAILABLE = "REPLICA_UNAVAILABLE";
+    public static final String REASON_READ_YOUR_WRITES = "READ_YOUR_WRITES";
+
+    private final MeterRegistry registry;
+
+    public void bindReplicaLag(LongSupplier lagMs) {
+        Gauge.builder("datasource.replica.lag", lagMs, LongSupplier::getAsLong)
+                .baseUnit("milliseconds")
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void recordRoute(ReadWriteRoutingDataSource.Route route, String reason) {
+        registry.counter("datasource.routing", "target", route.name(), "reason", reason).increment();
+    }
+}
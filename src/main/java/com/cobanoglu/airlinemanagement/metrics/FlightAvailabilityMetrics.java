@@ -0,0 +1,33 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class FlightAvailabilityMetrics {
+
+    private final MeterRegistry registry;
+
+    public void bindSubscribers(Supplier<Number> subscribers) {
+        Gauge.builder("flight.availability.subscribers", subscribers, s -> s.get().doubleValue())
+                .strongReference(true)
+                .register(registry);
+    }
+
+    public void recordDelivered(int updates) {
+        registry.counter("flight.availability.updates", "outcome", "DELIVERED").increment(updates);
+    }
+
+    public void recordCoalesced() {
+        registry.counter("flight.availability.updates", "outcome", "COALESCED").increment();
+    }
+
+    public void recordDisconnected(String reason) {
+        registry.counter("flight.availability.disconnects", "reason", reason).increment();
+    }
+}
@@ -0,0 +1,31 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationMetrics {
+
+    private final MeterRegistry registry;
+
+    public void recordSent(LocalDateTime createdAt) {
+        registry.counter("notification.outbox.dispatched", "outcome", "SENT").increment();
+        if (createdAt != null) {
+            registry.timer("notification.outbox.delivery.lag")
+                    .record(Duration.between(createdAt, LocalDateTime.now()));
+        }
+    }
+
+    public void recordRetry() {
+        registry.counter("notification.outbox.dispatched", "outcome", "RETRY").increment();
+    }
+
+    public void recordFailed() {
+        registry.counter("notification.outbox.dispatched", "outcome", "FAILED").increment();
+    }
+}
@@ -0,0 +1,34 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class PaymentMetrics {
+
+    public static final String OUTCOME_ERROR = "ERROR";
+    public static final String OUTCOME_TIMEOUT = "TIMEOUT";
+    public static final String OUTCOME_LATE = "LATE";
+    public static final String OUTCOME_REJECTED = "REJECTED";
+    public static final String OUTCOME_CIRCUIT_OPEN = "CIRCUIT_OPEN";
+
+    private final MeterRegistry registry;
+
+    public void recordProcess(String outcome, long startNanos) {
+        registry.timer("payment.process", "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordAuthorization(String outcome, long startNanos) {
+        registry.timer("payment.authorization", "outcome", outcome)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSessionsExpired(int count) {
+        registry.counter("payment.session.expired").increment(count);
+    }
+}
@@ -0,0 +1,36 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import com.cobanoglu.airlinemanagement.entity.SettlementBatch;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+public class SettlementMetrics {
+
+    private final MeterRegistry registry;
+
+    public void recordChunk(SettlementBatch batch, int payments) {
+        registry.counter("settlement.payments", "currency", batch.getCurrency().name()).increment(payments);
+    }
+
+    public void recordBatch(SettlementBatch batch, long payments, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        String currency = batch.getCurrency().name();
+
+        registry.timer("settlement.batch.duration", "currency", currency)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (elapsedNanos > 0) {
+            DistributionSummary.builder("settlement.batch.throughput")
+                    .baseUnit("payments_per_second")
+                    .tag("currency", currency)
+                    .register(registry)
+                    .record(payments * 1_000_000_000.0 / elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.cobanoglu.airlinemanagement.metrics;
+
+import com.cobanoglu.airlinemanagement.config.SqlInstrumentationProperties;
+import com.cobanoglu.airlinemanagement.config.SqlRequestContext;
+import com.cobanoglu.airlinemanagement.dto.RepeatedStatementDTO;
+import com.cobanoglu.airlinemanagement.dto.SqlRouteStatsDTO;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class SqlRouteStatistics {
+
+    private final MeterRegistry registry;
+    private final int maxSuspectsPerRoute;
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+
+    public SqlRouteStatistics(MeterRegistry registry, SqlInstrumentationProperties properties) {
+        this.registry = registry;
+        this.maxSuspectsPerRoute = Math.max(properties.getMaxSuspectsPerRoute(), 1);
+    }
+
+    public void record(String route, SqlRequestContext context, Map<String, Integer> repeated) {
+        RouteStats stats = routes.computeIfAbsent(route, RouteStats::new);
+        stats.requests.increment();
+        stats.statements.add(context.getStatements());
+        stats.dbNanos.add(context.getDbNanos());
+        stats.rows.add(context.getRows());
+        stats.slowStatements.add(context.getSlowStatements());
+        stats.maxStatements.accumulateAndGet(context.getStatements(), Math::max);
+
+        if (!repeated.isEmpty()) {
+            stats.requestsWithRepeats.increment();
+            repeated.forEach((sql, count) -> {
+                RepeatedStatement suspect = stats.suspects.get(sql);
+                if (suspect == null) {
+                    if (stats.suspects.size() >= maxSuspectsPerRoute) return;
+                    suspect = stats.suspects.computeIfAbsent(sql, s -> new RepeatedStatement());
+                }
+                suspect.requests.increment();
+                suspect.maxRepeats.accumulateAndGet(count, Math::max);
+            });
+        }
+
+        DistributionSummary.builder("sql.statements.per.request")
+                .tag("route", route)
+                .register(registry)
+                .record(context.getStatements());
+    }
+
+    public List<SqlRouteStatsDTO> snapshot() {
+        return routes.values().stream()
+                .map(RouteStats::toDto)
+                .sorted(Comparator.comparingDouble(SqlRouteStatsDTO::getDbTimeMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    private static final class RouteStats {
+        private final String route;
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder slowStatements = new LongAdder();
+        private final LongAdder requestsWithRepeats = new LongAdder();
+        private final AtomicInteger maxStatements = new AtomicInteger();
+        private final Map<String, RepeatedStatement> suspects = new ConcurrentHashMap<>();
+
+        private RouteStats(String route) {
+            this.route = route;
+        }
+
+        private SqlRouteStatsDTO toDto() {
+            long requestCount = Math.max(requests.sum(), 1);
+            long statementCount = statements.sum();
+            double dbMs = dbNanos.sum() / 1_000_000.0;
+            List<RepeatedStatementDTO> repeated = suspects.entrySet().stream()
+                    .map(e -> new RepeatedStatementDTO(e.getKey(), e.getValue().requests.sum(), e.getValue().maxRepeats.get()))
+                    .sorted(Comparator.comparingLong(RepeatedStatementDTO::getRequests).reversed())
+                    .toList();
+            return new SqlRouteStatsDTO(route, requests.sum(), statementCount, (double) statementCount / requestCount,
+                    maxStatements.get(), dbMs, dbMs / requestCount, rows.sum(), slowStatements.sum(),
+                    requestsWithRepeats.sum(), repeated);
+        }
+    }
+
+    private static final class RepeatedStatement {
+        private final LongAdder requests = new LongAdder();
+        private final AtomicInteger maxRepeats = new AtomicInteger();
+    }
+}
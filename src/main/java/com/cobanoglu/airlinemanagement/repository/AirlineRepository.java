@@ -1,13 +1,35 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Airline;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface AirlineRepository extends JpaRepository<Airline, Long> {
     boolean existsByCodeIATA(String codeIATA);
     boolean existsByCodeICAO(String codeICAO);
     boolean existsByCodeIATAAndIdNot(String codeIATA, Long id);
     boolean existsByCodeICAOAndIdNot(String codeICAO, Long id);
+
+    @Query("select a.version from Airline a where a.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(value = """
+            select new com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO(a.id, a.version)
+            from Airline a
+            """,
+            countQuery = "select count(a) from Airline a")
+    Page<ResourceVersionDTO> findVersions(Pageable pageable);
+
+    @Modifying
+    @Query("update Airline a set a.version = a.version + 1 where a.id = :id")
+    int incrementVersion(@Param("id") Long id);
 }
@@ -0,0 +1,82 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO;
+import com.cobanoglu.airlinemanagement.entity.ArchivedBooking;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO(
+                a.id, a.flightNumber, a.origin, a.destination, a.departureTime, a.arrivalTime,
+                a.bookingStatus, a.seatNumber, a.price, 0)
+            from ArchivedBooking a
+            where a.passengerId = :passengerId
+              and (a.departureTime > :afterTime or (a.departureTime = :afterTime and a.id > :afterId))
+            order by a.departureTime, a.id
+            """)
+    List<PassengerBookingDTO> findHistoryAfter(@Param("passengerId") Long passengerId,
+                                               @Param("afterTime") LocalDateTime afterTime,
+                                               @Param("afterId") long afterId,
+                                               Limit limit);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO(
+                a.id, a.flightNumber, a.origin, a.destination, a.departureTime, a.arrivalTime,
+                a.bookingStatus, a.seatNumber, a.price, 0)
+            from ArchivedBooking a
+            where a.passengerId = :passengerId
+              and (a.departureTime < :beforeTime or (a.departureTime = :beforeTime and a.id < :beforeId))
+            order by a.departureTime desc, a.id desc
+            """)
+    List<PassengerBookingDTO> findHistoryBefore(@Param("passengerId") Long passengerId,
+                                                @Param("beforeTime") LocalDateTime beforeTime,
+                                                @Param("beforeId") long beforeId,
+                                                Limit limit);
+
+    @Modifying
+    @Query("""
+            insert into ArchivedBooking (id, passengerId, flightId, flightNumber, origin, destination,
+                                         departureTime, arrivalTime, departureDate, seatNumber, bookingStatus,
+                                         price, fareClass, createDate, archivedAt)
+            select b.id, b.passenger.id, f.id, f.flightNumber, f.origin, f.destination,
+                   f.departureTime, f.arrivalTime, b.departureDate, b.seatNumber, b.bookingStatus,
+                   b.price, b.fareClass, b.createDate, :archivedAt
+            from Booking b join b.flight f
+            where b.id in :ids
+            """)
+    int copyFromBookings(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO(
+                f.id, f.airline.id, f.flightNumber, f.origin, f.destination, f.departureTime,
+                f.capacity, count(a), sum(a.price))
+            from ArchivedBooking a join Flight f on f.id = a.flightId
+            where a.bookingStatus = :status
+            group by f.id, f.airline.id, f.flightNumber, f.origin, f.destination, f.departureTime, f.capacity
+            """)
+    List<FlightOccupancyDTO> sumByFlight(@Param("status") BookingStatus status);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.BookingFactDTO(
+                a.id, a.flightId, a.price, a.bookingStatus, a.fareClass, a.origin, a.destination, al.name,
+                a.departureDate)
+            from ArchivedBooking a join Flight f on f.id = a.flightId join f.airline al
+            where a.id > :afterId
+            order by a.id
+            """)
+    List<BookingFactDTO> findFactsAfter(@Param("afterId") long afterId, Limit limit);
+}
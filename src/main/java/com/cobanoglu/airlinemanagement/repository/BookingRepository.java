@@ -1,30 +1,117 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO;
 import com.cobanoglu.airlinemanagement.entity.Booking;
 import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    List<Booking> findByFlight_Id(Long flightId);
+    List<Booking> findByFlight_IdAndDepartureDate(Long flightId, LocalDate departureDate);
 
-    boolean existsByFlight_Id(Long flightId);
+    boolean existsByFlight_IdAndDepartureDate(Long flightId, LocalDate departureDate);
 
-    boolean existsByFlight_IdAndPassenger_Id(Long flightId, Long passengerId);
+    boolean existsByFlight_IdAndDepartureDateAndPassenger_Id(Long flightId, LocalDate departureDate, Long passengerId);
 
-    boolean existsByFlight_IdAndSeatNumberIgnoreCase(Long flightId, String seatNumber);
+    boolean existsByFlight_IdAndDepartureDateAndSeatNumberIgnoreCase(Long flightId, LocalDate departureDate, String seatNumber);
 
-    boolean existsByFlight_Airline_Id(Long airlineId);
+    boolean existsByFlight_IdInAndDepartureDateIn(Collection<Long> flightIds, Collection<LocalDate> departureDates);
 
-    List<Booking> findByPassenger_Id(Long passengerId);
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO(
+                b.id, f.flightNumber, f.origin, f.destination, f.departureTime, f.arrivalTime,
+                b.bookingStatus, b.seatNumber, b.price, 0)
+            from Booking b join b.flight f
+            where b.passenger.id = :passengerId
+              and b.departureDate >= :afterDate
+              and (f.departureTime > :afterTime or (f.departureTime = :afterTime and b.id > :afterId))
+            order by f.departureTime, b.id
+            """)
+    List<PassengerBookingDTO> findHistoryAfter(@Param("passengerId") Long passengerId,
+                                               @Param("afterDate") LocalDate afterDate,
+                                               @Param("afterTime") LocalDateTime afterTime,
+                                               @Param("afterId") long afterId,
+                                               Limit limit);
 
-    List<Booking> findAllByBookingStatusAndFlight_DepartureTimeBefore(
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO(
+                b.id, f.flightNumber, f.origin, f.destination, f.departureTime, f.arrivalTime,
+                b.bookingStatus, b.seatNumber, b.price, 0)
+            from Booking b join b.flight f
+            where b.passenger.id = :passengerId
+              and b.departureDate <= :beforeDate
+              and (f.departureTime < :beforeTime or (f.departureTime = :beforeTime and b.id < :beforeId))
+            order by f.departureTime desc, b.id desc
+            """)
+    List<PassengerBookingDTO> findHistoryBefore(@Param("passengerId") Long passengerId,
+                                                @Param("beforeDate") LocalDate beforeDate,
+                                                @Param("beforeTime") LocalDateTime beforeTime,
+                                                @Param("beforeId") long beforeId,
+                                                Limit limit);
+
+    List<Booking> findAllByBookingStatusAndDepartureDateBetweenAndFlight_DepartureTimeBefore(
             BookingStatus bookingStatus,
+            LocalDate fromDate,
+            LocalDate toDate,
             LocalDateTime beforeTime
     );
+
+    @Query("select b.id from Booking b where b.departureDate < :before order by b.id")
+    List<Long> findIdsDepartedBefore(@Param("before") LocalDate before, Pageable pageable);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO(
+                f.id, f.airline.id, f.flightNumber, f.origin, f.destination, f.departureTime,
+                f.capacity, count(b), sum(b.price))
+            from Booking b join b.flight f
+            where b.bookingStatus = :status
+            group by f.id, f.airline.id, f.flightNumber, f.origin, f.destination, f.departureTime, f.capacity
+            """)
+    List<FlightOccupancyDTO> sumByFlight(@Param("status") BookingStatus status);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.BookingFactDTO(
+                b.id, f.id, b.price, b.bookingStatus, b.fareClass, f.origin, f.destination, a.name,
+                cast(f.departureTime as LocalDate))
+            from Booking b join b.flight f join f.airline a
+            where b.id > :afterId
+            order by b.id
+            """)
+    List<BookingFactDTO> findFactsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.BookingFactDTO(
+                b.id, f.id, b.price, b.bookingStatus, b.fareClass, f.origin, f.destination, a.name,
+                cast(f.departureTime as LocalDate))
+            from Booking b join b.flight f join f.airline a
+            where b.id = :id
+            """)
+    Optional<BookingFactDTO> findFactById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Booking b set b.departureDate = :departureDate where b.flight.id = :flightId")
+    int updateDepartureDate(@Param("flightId") Long flightId, @Param("departureDate") LocalDate departureDate);
+
+    @Modifying
+    @Query("""
+            update Booking b set b.departureDate =
+                (select cast(f.departureTime as LocalDate) from Flight f where f.id = b.flight.id)
+            where b.departureDate is null
+            """)
+    int backfillDepartureDates();
 }
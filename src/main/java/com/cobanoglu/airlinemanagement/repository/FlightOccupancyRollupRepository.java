@@ -0,0 +1,65 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.entity.FlightOccupancyRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface FlightOccupancyRollupRepository extends JpaRepository<FlightOccupancyRollup, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into flight_occupancy_rollups
+                (flight_id, airline_id, flight_number, origin, destination, departure_time, capacity, seats_sold, revenue)
+            values (:flightId, :airlineId, :flightNumber, :origin, :destination, :departureTime, :capacity, 0, 0)
+            on conflict do nothing
+            """)
+    int insertIfAbsent(@Param("flightId") Long flightId,
+                       @Param("airlineId") Long airlineId,
+                       @Param("flightNumber") String flightNumber,
+                       @Param("origin") String origin,
+                       @Param("destination") String destination,
+                       @Param("departureTime") LocalDateTime departureTime,
+                       @Param("capacity") int capacity);
+
+    @Modifying
+    @Query("""
+            update FlightOccupancyRollup o
+            set o.seatsSold = o.seatsSold + :seats, o.revenue = o.revenue + :revenue, o.capacity = :capacity
+            where o.flightId = :flightId
+            """)
+    int increment(@Param("flightId") Long flightId,
+                  @Param("seats") int seats,
+                  @Param("revenue") BigDecimal revenue,
+                  @Param("capacity") int capacity);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from FlightOccupancyRollup o where o.flightId = :flightId")
+    Optional<FlightOccupancyRollup> findByIdForUpdate(@Param("flightId") Long flightId);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO(
+                o.flightId, o.airlineId, o.flightNumber, o.origin, o.destination, o.departureTime,
+                o.capacity, o.seatsSold, o.revenue)
+            from FlightOccupancyRollup o
+            where o.departureTime between :from and :to and o.capacity > 0
+            order by o.seatsSold * 1.0 / o.capacity desc, o.departureTime, o.flightId
+            """)
+    List<FlightOccupancyDTO> findFullest(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to, Limit limit);
+
+    @Modifying
+    @Query("delete from FlightOccupancyRollup o")
+    int deleteAllRollups();
+}
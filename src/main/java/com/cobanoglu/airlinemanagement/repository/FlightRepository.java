@@ -1,17 +1,56 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.dto.FlightSeatsDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Flight;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FlightRepository extends JpaRepository<Flight, Long> {
 
     List<Flight> findByAirlineId(Long airlineId);
 
+    @Query("select f.id from Flight f where f.airline.id = :airlineId")
+    List<Long> findIdsByAirlineId(@Param("airlineId") Long airlineId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from Flight f where f.id = :id")
+    Optional<Flight> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.FlightVersionDTO(
+                f.id, f.version, f.airline.id, f.airline.version, f.departureTime)
+            from Flight f
+            where f.id = :id
+            """)
+    Optional<FlightVersionDTO> findVersionById(@Param("id") Long id);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.FlightSeatsDTO(f.id, f.version, f.bookedSeats)
+            from Flight f
+            where f.id = :id
+            """)
+    Optional<FlightSeatsDTO> findSeatsById(@Param("id") Long id);
+
+    @Query(value = """
+            select new com.cobanoglu.airlinemanagement.dto.FlightVersionDTO(
+                f.id, f.version, f.airline.id, f.airline.version, f.departureTime)
+            from Flight f
+            """,
+            countQuery = "select count(f) from Flight f")
+    Page<FlightVersionDTO> findVersions(Pageable pageable);
+
     boolean existsByFlightNumberAndAirlineIdAndOriginAndDepartureTimeBetween(
             String flightNumber,
             Long airlineId,
@@ -0,0 +1,28 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.entity.NotificationOutbox;
+import com.cobanoglu.airlinemanagement.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<NotificationOutbox> findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+            OutboxStatus status,
+            LocalDateTime now,
+            Pageable pageable
+    );
+
+    long countByStatus(OutboxStatus status);
+}
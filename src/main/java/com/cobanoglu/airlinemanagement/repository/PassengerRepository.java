@@ -1,9 +1,19 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.dto.EmailEntryDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerSearchEntryDTO;
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Passenger;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +22,48 @@ public interface PassengerRepository extends JpaRepository<Passenger, Long> {
     boolean existsByEmail(String email);
 
     Optional<Passenger> findByEmail(String email);
+
+    @Modifying
+    @Query("""
+            update Passenger p
+            set p.loyaltyPoints = case when p.loyaltyPoints + :delta < 0 then 0 else p.loyaltyPoints + :delta end,
+                p.version = p.version + 1
+            where p.id = :id
+            """)
+    int addLoyaltyPoints(@Param("id") Long id, @Param("delta") int delta);
+
+    @Query("select p.version from Passenger p where p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query(value = """
+            select new com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO(p.id, p.version)
+            from Passenger p
+            """,
+            countQuery = "select count(p) from Passenger p")
+    Page<ResourceVersionDTO> findVersions(Pageable pageable);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.PassengerSearchEntryDTO(p.id, p.name, p.surname, p.email)
+            from Passenger p
+            where p.id > :afterId
+            order by p.id
+            """)
+    List<PassengerSearchEntryDTO> findSearchEntriesAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.EmailEntryDTO(p.id, p.email)
+            from Passenger p
+            where p.id > :afterId
+            order by p.id
+            """)
+    List<EmailEntryDTO> findEmailsAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("""
+            select p from Passenger p
+            where lower(p.name) like :prefix escape '\\'
+               or lower(p.surname) like :prefix escape '\\'
+               or lower(p.email) like :prefix escape '\\'
+            order by p.surname, p.name, p.id
+            """)
+    List<Passenger> findByPrefix(@Param("prefix") String prefix, Limit limit);
 }
@@ -1,9 +1,24 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.entity.Currency;
 import com.cobanoglu.airlinemanagement.entity.Payment;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +26,56 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findBySession(String session);
     Optional<Payment> findByOrderId(String orderId);
+
+    @Modifying
+    @Query("update Payment p set p.status = :to where p.id in :ids and p.status = :from")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("from") Status from, @Param("to") Status to);
+
+    @Modifying
+    @Query("update Payment p set p.status = :to where p.status = :from and p.sessionExpiresAt < :now")
+    int updateStatusBySessionExpiredBefore(@Param("now") LocalDateTime now, @Param("from") Status from, @Param("to") Status to);
+
+    @Transactional
+    @Modifying
+    @Query("update Payment p set p.status = :to, p.processedAt = :processedAt where p.id = :id and p.status = :from")
+    int completeAuthorization(@Param("id") Long id, @Param("from") Status from, @Param("to") Status to,
+                              @Param("processedAt") LocalDateTime processedAt);
+
+    interface SettlementRow {
+        Long getId();
+        BigDecimal getAmount();
+    }
+
+    @Query("""
+            select min(p.processedAt) from Payment p
+            where p.status = :status and p.settlementBatchId is null and p.processedAt < :cutoff
+            """)
+    LocalDateTime findEarliestUnsettled(@Param("status") Status status, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("""
+            select distinct p.currency from Payment p
+            where p.status = :status and p.settlementBatchId is null
+              and p.processedAt >= :from and p.processedAt < :to
+            """)
+    List<Currency> findUnsettledCurrencies(@Param("status") Status status,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select p.id as id, p.currencyAmount as amount from Payment p
+            where p.status = :status and p.settlementBatchId is null and p.currency = :currency
+              and p.processedAt >= :from and p.processedAt < :to
+            order by p.id
+            """)
+    List<SettlementRow> findUnsettledChunk(@Param("status") Status status,
+                                           @Param("currency") Currency currency,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("update Payment p set p.settlementBatchId = :batchId where p.id in :ids and p.settlementBatchId is null")
+    int assignSettlementBatch(@Param("batchId") Long batchId, @Param("ids") Collection<Long> ids);
 }
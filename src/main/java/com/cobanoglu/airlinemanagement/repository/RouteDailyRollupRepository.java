@@ -0,0 +1,76 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.AirlineRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.DailyRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.RouteRevenueDTO;
+import com.cobanoglu.airlinemanagement.entity.RouteDailyRollup;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RouteDailyRollupRepository extends JpaRepository<RouteDailyRollup, Long> {
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into route_daily_rollups (departure_date, airline_id, origin, destination, seats_sold, revenue)
+            values (:departureDate, :airlineId, :origin, :destination, 0, 0)
+            on conflict do nothing
+            """)
+    int insertIfAbsent(@Param("departureDate") LocalDate departureDate,
+                       @Param("airlineId") Long airlineId,
+                       @Param("origin") String origin,
+                       @Param("destination") String destination);
+
+    @Modifying
+    @Query("""
+            update RouteDailyRollup r
+            set r.seatsSold = r.seatsSold + :seats, r.revenue = r.revenue + :revenue
+            where r.departureDate = :departureDate and r.airlineId = :airlineId
+              and r.origin = :origin and r.destination = :destination
+            """)
+    int increment(@Param("departureDate") LocalDate departureDate,
+                  @Param("airlineId") Long airlineId,
+                  @Param("origin") String origin,
+                  @Param("destination") String destination,
+                  @Param("seats") int seats,
+                  @Param("revenue") BigDecimal revenue);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.DailyRevenueDTO(r.departureDate, sum(r.seatsSold), sum(r.revenue))
+            from RouteDailyRollup r
+            where r.departureDate between :from and :to
+            group by r.departureDate
+            order by r.departureDate
+            """)
+    List<DailyRevenueDTO> sumByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.RouteRevenueDTO(r.origin, r.destination, sum(r.seatsSold), sum(r.revenue))
+            from RouteDailyRollup r
+            where r.departureDate between :from and :to
+            group by r.origin, r.destination
+            order by sum(r.revenue) desc, r.origin, r.destination
+            """)
+    List<RouteRevenueDTO> sumByRoute(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.AirlineRevenueDTO(a.id, a.name, sum(r.seatsSold), sum(r.revenue))
+            from RouteDailyRollup r join Airline a on a.id = r.airlineId
+            where r.departureDate between :from and :to
+            group by a.id, a.name
+            order by sum(r.revenue) desc, a.name
+            """)
+    List<AirlineRevenueDTO> sumByAirline(@Param("from") LocalDate from, @Param("to") LocalDate to, Limit limit);
+
+    @Modifying
+    @Query("delete from RouteDailyRollup r")
+    int deleteAllRollups();
+}
@@ -0,0 +1,38 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.entity.Currency;
+import com.cobanoglu.airlinemanagement.entity.SettlementBatch;
+import com.cobanoglu.airlinemanagement.entity.SettlementStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface SettlementBatchRepository extends JpaRepository<SettlementBatch, Long> {
+
+    Optional<SettlementBatch> findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency currency, LocalDateTime windowStart);
+
+    @Modifying
+    @Query("""
+            update SettlementBatch b
+            set b.paymentCount = b.paymentCount + :payments, b.totalAmount = b.totalAmount + :amount
+            where b.id = :id and b.status = :status
+            """)
+    int addToBatch(@Param("id") Long id,
+                   @Param("status") SettlementStatus status,
+                   @Param("payments") long payments,
+                   @Param("amount") BigDecimal amount);
+
+    @Modifying
+    @Query("update SettlementBatch b set b.status = :to, b.completedAt = :completedAt where b.id = :id and b.status = :from")
+    int completeBatch(@Param("id") Long id,
+                      @Param("from") SettlementStatus from,
+                      @Param("to") SettlementStatus to,
+                      @Param("completedAt") LocalDateTime completedAt);
+}
@@ -1,10 +1,25 @@
 package com.cobanoglu.airlinemanagement.repository;
 
+import com.cobanoglu.airlinemanagement.dto.EmailEntryDTO;
 import com.cobanoglu.airlinemanagement.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    boolean existsByEmail(String email);
+
+    @Query("""
+            select new com.cobanoglu.airlinemanagement.dto.EmailEntryDTO(u.id, u.email)
+            from User u
+            where u.id > :afterId
+            order by u.id
+            """)
+    List<EmailEntryDTO> findEmailsAfter(@Param("afterId") long afterId, Limit limit);
 }
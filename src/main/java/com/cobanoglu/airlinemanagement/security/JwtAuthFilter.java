@@ -1,5 +1,6 @@
 package com.cobanoglu.airlinemanagement.security;
 
+import com.cobanoglu.airlinemanagement.metrics.AuthMetrics;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,6 +22,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AuthMetrics authMetrics;
 
     @Override
     protected void doFilterInternal(
@@ -29,14 +31,24 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        String outcome = AuthMetrics.OUTCOME_ERROR;
+        try {
+            outcome = authenticate(request);
+        } finally {
+            authMetrics.recordJwtFilter(outcome, start);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
         String path = request.getRequestURI();
 
         if (path.contains("/swagger") ||
                 path.contains("/api-docs") ||
                 path.contains("/webjars") ||
                 path.contains("/api/auth")) {
-            filterChain.doFilter(request, response);
-            return;
+            return AuthMetrics.OUTCOME_SKIPPED;
         }
 
         final String authHeader = request.getHeader("Authorization");
@@ -44,8 +56,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            filterChain.doFilter(request, response);
-            return;
+            return AuthMetrics.OUTCOME_ANONYMOUS;
         }
 
         jwt = authHeader.substring(7);
@@ -54,16 +65,18 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
 
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null,
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (!jwtService.isTokenValid(jwt, userDetails)) {
+                return AuthMetrics.OUTCOME_INVALID;
             }
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
-        filterChain.doFilter(request, response);
+        return AuthMetrics.OUTCOME_AUTHENTICATED;
     }
 }
@@ -15,4 +15,8 @@ public interface AirlineService {
     Page<AirlineDTO> listAirlines(Pageable pageable);
 
     AirlineDTO getAirlineById(Long id);
+
+    String getAirlineETag(Long id);
+
+    String listAirlinesETag(Pageable pageable);
 }
@@ -0,0 +1,9 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsQuery;
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsResultDTO;
+
+public interface BookingAnalyticsService {
+
+    BookingAnalyticsResultDTO query(BookingAnalyticsQuery query);
+}
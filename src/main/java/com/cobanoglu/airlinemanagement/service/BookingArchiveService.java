@@ -0,0 +1,6 @@
+package com.cobanoglu.airlinemanagement.service;
+
+public interface BookingArchiveService {
+
+    int archiveDepartedBookings();
+}
@@ -0,0 +1,10 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import java.time.LocalDate;
+
+public interface BookingPartitionService {
+
+    int maintainPartitions();
+
+    void ensurePartition(LocalDate departureDate);
+}
@@ -23,4 +23,8 @@ public interface BookingService {
     Page<BookingAdminDTO> listAllBookings(Pageable pageable);
 
     List<PassengerBookingDTO> getCurrentUserBookings();
+
+    BookingHistoryPageDTO getBookingHistoryPage(Long passengerId, BookingHistoryScope scope, String cursor, int size);
+
+    BookingHistoryPageDTO getCurrentUserBookingHistoryPage(BookingHistoryScope scope, String cursor, int size);
 }
@@ -0,0 +1,18 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import com.cobanoglu.airlinemanagement.dto.DashboardDTO;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface DashboardService {
+
+    DashboardDTO getDashboard(LocalDate from, LocalDate to, int top);
+
+    void recordSales(Long flightId, int seats, BigDecimal revenue);
+
+    void refreshFlight(Flight flight);
+
+    int rebuildRollups();
+}
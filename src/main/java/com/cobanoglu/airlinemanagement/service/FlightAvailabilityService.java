@@ -0,0 +1,13 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import com.cobanoglu.airlinemanagement.dto.FlightAvailabilityDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+
+public interface FlightAvailabilityService {
+
+    SseEmitter subscribe(Collection<Long> flightIds);
+    void publish(FlightAvailabilityDTO availability);
+    int subscriberCount();
+}
@@ -1,9 +1,12 @@
 package com.cobanoglu.airlinemanagement.service;
 
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
 import com.cobanoglu.airlinemanagement.dto.FlightDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface FlightService {
 
     FlightDTO createFlight(FlightDTO flightDTO);
@@ -16,4 +19,10 @@ public interface FlightService {
 
     FlightDTO getFlightById(Long id);
 
+    String getFlightETag(Long id);
+
+    String listFlightsETag(Pageable pageable);
+
+    List<FareQuoteDTO> quoteFares(List<Long> flightIds);
+
 }
@@ -0,0 +1,10 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+
+public interface NotificationOutboxService {
+
+    void enqueueBookingCreated(Booking booking);
+
+    int dispatchBatch();
+}
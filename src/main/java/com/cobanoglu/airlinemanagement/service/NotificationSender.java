@@ -0,0 +1,8 @@
+package com.cobanoglu.airlinemanagement.service;
+
+import com.cobanoglu.airlinemanagement.entity.NotificationOutbox;
+
+public interface NotificationSender {
+
+    void send(NotificationOutbox message) throws Exception;
+}
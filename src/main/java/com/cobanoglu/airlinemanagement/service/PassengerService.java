@@ -4,6 +4,8 @@ import com.cobanoglu.airlinemanagement.dto.PassengerDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface PassengerService {
 
     PassengerDTO createPassenger(PassengerDTO passengerDTO);
@@ -14,6 +16,12 @@ public interface PassengerService {
 
     Page<PassengerDTO> listPassengers(Pageable pageable);
 
+    String getPassengerETag(Long id);
+
+    String listPassengersETag(Pageable pageable);
+
+    List<PassengerDTO> searchPassengers(String query, int limit);
+
     boolean findByEmailUnique(String email);
 
     void updateLoyaltyPoints(Long passengerId, int delta);
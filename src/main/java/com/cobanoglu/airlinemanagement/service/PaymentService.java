@@ -6,4 +6,5 @@ import com.cobanoglu.airlinemanagement.entity.Payment;
 public interface PaymentService {
 
     Payment processPayment(CardInfoDTO dto);
+    Payment getPaymentByOrderId(String orderId);
 }
@@ -6,4 +6,6 @@ public interface PaymentSessionService {
 
     Payment createSession(Payment payment);
     Payment validateSession(String session);
+    void closeSession(String session);
+    int expireSessions();
 }
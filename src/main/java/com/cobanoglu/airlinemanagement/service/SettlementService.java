@@ -0,0 +1,6 @@
+package com.cobanoglu.airlinemanagement.service;
+
+public interface SettlementService {
+
+    int runSettlement();
+}
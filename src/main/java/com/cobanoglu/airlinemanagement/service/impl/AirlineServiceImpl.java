@@ -1,7 +1,9 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
 import com.cobanoglu.airlinemanagement.dto.AirlineDTO;
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Airline;
+import com.cobanoglu.airlinemanagement.entity.Flight;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
 import com.cobanoglu.airlinemanagement.exception.NotFoundException;
 import com.cobanoglu.airlinemanagement.mapper.AirlineMapper;
@@ -9,21 +11,30 @@ import com.cobanoglu.airlinemanagement.repository.AirlineRepository;
 import com.cobanoglu.airlinemanagement.repository.BookingRepository;
 import com.cobanoglu.airlinemanagement.repository.FlightRepository;
 import com.cobanoglu.airlinemanagement.service.AirlineService;
+import com.cobanoglu.airlinemanagement.util.EntityTag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class AirlineServiceImpl implements AirlineService {
 
+    private static final int BOOKING_CHECK_BATCH = 500;
+
     private final AirlineRepository airlineRepository;
     private final FlightRepository flightRepository;
     private final BookingRepository bookingRepository;
     private final AirlineMapper airlineMapper;
+    private final BookingFactStore bookingFactStore;
 
     @Override
     public AirlineDTO createAirline(AirlineDTO dto) {
@@ -46,27 +57,39 @@ public class AirlineServiceImpl implements AirlineService {
             throw new BadRequestException("No changes detected. Update operation skipped.");
         }
 
+        boolean renamed = !existing.getName().equals(dto.getName());
         updateExistingAirline(existing, dto);
         Airline updated = airlineRepository.save(existing);
+        if (renamed) bookingFactStore.refreshAirline(updated.getName(), flightRepository.findIdsByAirlineId(id));
         return airlineMapper.toDto(updated);
     }
 
     @Override
     public void deleteAirline(Long id) {
         Airline airline = getAirlineOrThrow(id);
+        List<Flight> flights = flightRepository.findByAirlineId(id);
 
-        if (bookingRepository.existsByFlight_Airline_Id(id)) {
+        if (hasBookings(flights)) {
             throw new BadRequestException("Airline cannot be deleted: There are passengers booked on its flights.");
         }
 
-        flightRepository.deleteAll(flightRepository.findByAirlineId(id));
+        flightRepository.deleteAll(flights);
         airlineRepository.delete(airline);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AirlineDTO> listAirlines(Pageable pageable) {
-        return airlineRepository.findAll(pageable).map(airlineMapper::toDto);
+        return airlineRepository.findAll(EntityTag.stableOrder(pageable)).map(airlineMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String listAirlinesETag(Pageable pageable) {
+        Page<ResourceVersionDTO> versions = airlineRepository.findVersions(EntityTag.stableOrder(pageable));
+        EntityTag tag = EntityTag.of("airlines").add(versions.getTotalElements());
+        for (ResourceVersionDTO version : versions) tag.add(version.getId()).add(version.getVersion());
+        return tag.weak();
     }
 
     @Override
@@ -76,11 +99,33 @@ public class AirlineServiceImpl implements AirlineService {
         return airlineMapper.toDto(airline);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public String getAirlineETag(Long id) {
+        return airlineRepository.findVersionById(id)
+                .map(version -> EntityTag.of("airline").add(id).add(version).weak())
+                .orElse(null);
+    }
+
     private Airline getAirlineOrThrow(Long id) {
         return airlineRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Airline not found with id: " + id));
     }
 
+    private boolean hasBookings(List<Flight> flights) {
+        for (int from = 0; from < flights.size(); from += BOOKING_CHECK_BATCH) {
+            List<Flight> batch = flights.subList(from, Math.min(from + BOOKING_CHECK_BATCH, flights.size()));
+            Set<Long> flightIds = new HashSet<>();
+            Set<LocalDate> departureDates = new HashSet<>();
+            for (Flight flight : batch) {
+                flightIds.add(flight.getId());
+                departureDates.add(flight.getDepartureTime().toLocalDate());
+            }
+            if (bookingRepository.existsByFlight_IdInAndDepartureDateIn(flightIds, departureDates)) return true;
+        }
+        return false;
+    }
+
     private void normalizeCodes(AirlineDTO dto) {
         dto.setCodeIATA(dto.getCodeIATA().trim().toUpperCase());
         dto.setCodeICAO(dto.getCodeICAO().trim().toUpperCase());
@@ -11,6 +11,7 @@ import com.cobanoglu.airlinemanagement.repository.RoleRepository;
 import com.cobanoglu.airlinemanagement.repository.UserRepository;
 import com.cobanoglu.airlinemanagement.security.JwtService;
 import com.cobanoglu.airlinemanagement.service.AuthService;
+import com.cobanoglu.airlinemanagement.service.impl.EmailExistenceFilter.Owner;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -30,19 +31,25 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final PassengerSearchIndex passengerSearchIndex;
+    private final EmailExistenceFilter emailExistenceFilter;
 
     @Override
     public String register(UserRegisterRequest request) {
-        if (userRepository.findByEmail(request.getEmail()).isPresent()) {
+        String email = EmailExistenceFilter.normalize(request.getEmail());
+        if (emailExistenceFilter.exists(Owner.USER, email, () -> userRepository.existsByEmail(email))) {
             throw new BadRequestException("Email already exists");
         }
 
         Role userRole = getRoleByName("USER");
         User user = buildUserFromRequest(request, userRole);
         userRepository.save(user);
+        emailExistenceFilter.add(Owner.USER, user.getEmail());
 
         Passenger passenger = buildPassengerFromUser(user);
         passengerRepository.save(passenger);
+        passengerSearchIndex.put(passenger);
+        emailExistenceFilter.add(Owner.PASSENGER, passenger.getEmail());
 
         return "User registered successfully (Passenger created)";
     }
@@ -76,7 +83,7 @@ public class AuthServiceImpl implements AuthService {
         return User.builder()
                 .firstName(request.getFirstName().trim())
                 .lastName(request.getLastName().trim())
-                .email(request.getEmail().trim().toLowerCase())
+                .email(EmailExistenceFilter.normalize(request.getEmail()))
                 .password(passwordEncoder.encode(request.getPassword()))
                 .role(role)
                 .active(true)
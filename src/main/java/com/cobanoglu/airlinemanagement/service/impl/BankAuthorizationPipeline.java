@@ -0,0 +1,149 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.BankDTO;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.metrics.PaymentMetrics;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
+import com.cobanoglu.airlinemanagement.service.BankService;
+import com.cobanoglu.airlinemanagement.util.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class BankAuthorizationPipeline {
+
+    private final BankService bankService;
+    private final PaymentRepository paymentRepository;
+    private final PaymentMetrics paymentMetrics;
+    private final AsyncTaskExecutor executor;
+    private final AsyncTaskExecutor completionExecutor;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final long timeoutMs;
+    private final CircuitBreaker circuitBreaker;
+
+    public BankAuthorizationPipeline(
+            BankService bankService,
+            PaymentRepository paymentRepository,
+            PaymentMetrics paymentMetrics,
+            @Qualifier("bankAuthorizationExecutor") AsyncTaskExecutor executor,
+            @Qualifier("applicationTaskExecutor") AsyncTaskExecutor completionExecutor,
+            @Value("${bank.authorization.max-in-flight:256}") int maxInFlight,
+            @Value("${bank.authorization.timeout-ms:5000}") long timeoutMs,
+            @Value("${bank.authorization.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${bank.authorization.circuit-breaker.open-duration-ms:30000}") long openDurationMs) {
+        this.bankService = bankService;
+        this.paymentRepository = paymentRepository;
+        this.paymentMetrics = paymentMetrics;
+        this.executor = executor;
+        this.completionExecutor = completionExecutor;
+        this.maxInFlight = Math.max(maxInFlight, 1);
+        this.inFlight = new Semaphore(this.maxInFlight);
+        this.timeoutMs = Math.max(timeoutMs, 1);
+        this.circuitBreaker = new CircuitBreaker(failureThreshold, openDurationMs);
+    }
+
+    public Status submit(Long paymentId, BankDTO request) {
+        long start = System.nanoTime();
+
+        if (!circuitBreaker.tryAcquire()) {
+            return reject(paymentId, PaymentMetrics.OUTCOME_CIRCUIT_OPEN, start);
+        }
+        if (!inFlight.tryAcquire()) {
+            return reject(paymentId, PaymentMetrics.OUTCOME_REJECTED, start);
+        }
+
+        CompletableFuture<BankDTO> call = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    call.complete(bankService.process(request));
+                } catch (Throwable t) {
+                    call.completeExceptionally(t);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            return reject(paymentId, PaymentMetrics.OUTCOME_REJECTED, start);
+        }
+
+        AtomicBoolean settled = new AtomicBoolean();
+        call.whenCompleteAsync((response, error) -> complete(paymentId, response, error, settled, start), completionExecutor);
+        call.copy().orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((response, error) -> {
+                    if (unwrap(error) instanceof TimeoutException) timedOut(paymentId, settled, start);
+                });
+
+        return Status.Pending;
+    }
+
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    private void complete(Long paymentId, BankDTO response, Throwable error, AtomicBoolean settled, long start) {
+        Throwable cause = unwrap(error);
+        boolean approved = cause == null && response != null && response.getStatus() != null;
+        Status result = approved ? response.getStatus() : Status.Unsuccessful;
+        persist(paymentId, result);
+
+        if (!settled.compareAndSet(false, true)) {
+            paymentMetrics.recordAuthorization(PaymentMetrics.OUTCOME_LATE, start);
+            log.warn("Bank answered {} for payment {} after the {} ms timeout", result, paymentId, timeoutMs, cause);
+            return;
+        }
+        if (approved) {
+            circuitBreaker.onSuccess();
+            paymentMetrics.recordAuthorization(result.name(), start);
+        } else {
+            circuitBreaker.onFailure();
+            paymentMetrics.recordAuthorization(PaymentMetrics.OUTCOME_ERROR, start);
+            log.warn("Bank authorization for payment {} failed", paymentId, cause);
+        }
+    }
+
+    private void timedOut(Long paymentId, AtomicBoolean settled, long start) {
+        if (!settled.compareAndSet(false, true)) return;
+        circuitBreaker.onFailure();
+        paymentMetrics.recordAuthorization(PaymentMetrics.OUTCOME_TIMEOUT, start);
+        log.warn("Bank authorization for payment {} timed out after {} ms, leaving it pending", paymentId, timeoutMs);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private Status reject(Long paymentId, String outcome, long start) {
+        persist(paymentId, Status.Unsuccessful);
+        paymentMetrics.recordAuthorization(outcome, start);
+        log.warn("Bank authorization for payment {} not attempted: {}", paymentId, outcome);
+        return Status.Unsuccessful;
+    }
+
+    private void persist(Long paymentId, Status result) {
+        try {
+            paymentRepository.completeAuthorization(paymentId, Status.Pending, result, LocalDateTime.now());
+        } catch (RuntimeException e) {
+            log.error("Could not store authorization result {} for payment {}", result, paymentId, e);
+        }
+    }
+}
@@ -3,12 +3,24 @@ package com.cobanoglu.airlinemanagement.service.impl;
 import com.cobanoglu.airlinemanagement.dto.BankDTO;
 import com.cobanoglu.airlinemanagement.entity.Status;
 import com.cobanoglu.airlinemanagement.service.BankService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 @Service
 public class BankServiceImpl implements BankService {
+
+    @Value("${bank.stub.latency-ms:0}")
+    private long latencyMs;
+
+    @Value("${bank.stub.latency-jitter-ms:0}")
+    private long latencyJitterMs;
+
     @Override
     public BankDTO process(BankDTO bankDTO) {
+        simulateLatency();
+
         if(bankDTO.getCvv()==999){
             bankDTO.setStatus(Status.Success);
         }else {
@@ -17,4 +29,15 @@ public class BankServiceImpl implements BankService {
 
         return bankDTO;
     }
+
+    private void simulateLatency() {
+        long delay = latencyMs + (latencyJitterMs > 0 ? ThreadLocalRandom.current().nextLong(latencyJitterMs + 1) : 0);
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Bank call interrupted", e);
+        }
+    }
 }
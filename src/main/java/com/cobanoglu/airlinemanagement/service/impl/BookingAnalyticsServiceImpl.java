@@ -0,0 +1,85 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.AnalyticsDimension;
+import com.cobanoglu.airlinemanagement.dto.AnalyticsSort;
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsQuery;
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsResultDTO;
+import com.cobanoglu.airlinemanagement.dto.BookingAnalyticsRowDTO;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.service.BookingAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BookingAnalyticsServiceImpl implements BookingAnalyticsService {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final BookingFactStore bookingFactStore;
+
+    @Override
+    public BookingAnalyticsResultDTO query(BookingAnalyticsQuery query) {
+        if (!bookingFactStore.isEnabled()) {
+            throw new BadRequestException("Booking analytics is disabled.");
+        }
+        if (query.getFrom() != null && query.getTo() != null && query.getTo().isBefore(query.getFrom())) {
+            throw new BadRequestException("Analytics 'to' date must not be before 'from' date.");
+        }
+        List<AnalyticsDimension> groupBy = query.getGroupBy() == null
+                ? List.of()
+                : query.getGroupBy().stream().distinct().toList();
+
+        long start = System.nanoTime();
+        BookingFactStore.Aggregation aggregation = bookingFactStore.aggregate(new BookingFactStore.Filter(
+                query.getFrom(), query.getTo(), query.getStatuses(), query.getFareClasses(),
+                query.getOrigins(), query.getDestinations(), query.getAirlines()), groupBy);
+
+        long totalBookings = 0;
+        long totalCents = 0;
+        List<BookingAnalyticsRowDTO> rows = new ArrayList<>(aggregation.groups().size());
+        for (BookingFactStore.Group group : aggregation.groups()) {
+            totalBookings += group.bookings();
+            totalCents += group.revenueCents();
+            List<String> keys = new ArrayList<>(groupBy.size());
+            for (int d = 0; d < groupBy.size(); d++) {
+                keys.add(bookingFactStore.label(groupBy.get(d), group.codes()[d]));
+            }
+            BigDecimal revenue = BigDecimal.valueOf(group.revenueCents(), 2);
+            rows.add(new BookingAnalyticsRowDTO(keys, group.bookings(), revenue,
+                    revenue.divide(BigDecimal.valueOf(group.bookings()), 2, RoundingMode.HALF_UP)));
+        }
+
+        int limit = query.getLimit() != null ? query.getLimit() : DEFAULT_LIMIT;
+        List<BookingAnalyticsRowDTO> page = rows.stream()
+                .sorted(comparator(query.getSort()))
+                .limit(limit)
+                .toList();
+
+        return new BookingAnalyticsResultDTO(groupBy, page, rows.size(), totalBookings,
+                BigDecimal.valueOf(totalCents, 2), aggregation.scannedRows(),
+                (System.nanoTime() - start) / 1_000_000.0, aggregation.complete());
+    }
+
+    private static Comparator<BookingAnalyticsRowDTO> comparator(AnalyticsSort sort) {
+        Comparator<BookingAnalyticsRowDTO> byKeys = (a, b) -> {
+            for (int i = 0; i < a.getKeys().size(); i++) {
+                int c = a.getKeys().get(i).compareTo(b.getKeys().get(i));
+                if (c != 0) return c;
+            }
+            return 0;
+        };
+        if (sort == null) sort = AnalyticsSort.REVENUE;
+        return switch (sort) {
+            case REVENUE -> Comparator.comparing(BookingAnalyticsRowDTO::getRevenue).reversed().thenComparing(byKeys);
+            case BOOKINGS -> Comparator.comparingLong(BookingAnalyticsRowDTO::getBookings).reversed().thenComparing(byKeys);
+            case KEY -> byKeys;
+        };
+    }
+}
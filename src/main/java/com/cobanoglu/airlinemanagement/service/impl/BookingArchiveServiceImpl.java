@@ -0,0 +1,87 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.service.BookingArchiveService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+public class BookingArchiveServiceImpl implements BookingArchiveService {
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final BookingMetrics bookingMetrics;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final boolean enabled;
+    private final int afterMonths;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+
+    public BookingArchiveServiceImpl(
+            BookingRepository bookingRepository,
+            ArchivedBookingRepository archivedBookingRepository,
+            BookingMetrics bookingMetrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking-archive.enabled:true}") boolean enabled,
+            @Value("${booking-archive.after-months:12}") int afterMonths,
+            @Value("${booking-archive.chunk-size:500}") int chunkSize,
+            @Value("${booking-archive.max-chunks-per-run:200}") int maxChunksPerRun) {
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.bookingMetrics = bookingMetrics;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.afterMonths = Math.max(afterMonths, 1);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.maxChunksPerRun = Math.max(maxChunksPerRun, 1);
+    }
+
+    @Override
+    @Scheduled(cron = "${booking-archive.cron:0 30 0 * * ?}")
+    public int archiveDepartedBookings() {
+        if (!enabled) return 0;
+        return archiveDepartedBefore(LocalDate.now().minusMonths(afterMonths));
+    }
+
+    int archiveDepartedBefore(LocalDate cutoff) {
+        long start = System.nanoTime();
+        int archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer moved = chunkTransactionTemplate.execute(status -> archiveChunk(cutoff));
+            if (moved == null || moved == 0) break;
+            archived += moved;
+            if (moved < chunkSize) break;
+        }
+        bookingMetrics.recordArchived(archived, start);
+        if (archived > 0) {
+            log.info("Archived {} bookings departed before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private int archiveChunk(LocalDate cutoff) {
+        List<Long> ids = bookingRepository.findIdsDepartedBefore(cutoff, PageRequest.ofSize(chunkSize));
+        if (ids.isEmpty()) return 0;
+
+        int copied = archivedBookingRepository.copyFromBookings(ids, LocalDateTime.now());
+        if (copied != ids.size()) {
+            throw new IllegalStateException("Archived " + copied + " of " + ids.size() + " bookings, rolling back chunk");
+        }
+        bookingRepository.deleteAllByIdInBatch(ids);
+        return ids.size();
+    }
+}
@@ -0,0 +1,586 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.AnalyticsDimension;
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.util.EpochDays;
+import com.cobanoglu.airlinemanagement.util.LongIntHashMap;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.IntPredicate;
+
+@Slf4j
+@Component
+public class BookingFactStore {
+
+    static final int CODE_BITS = 21;
+    static final int MAX_GROUP_BY = 3;
+
+    private static final int MAX_CODE = (1 << CODE_BITS) - 1;
+    private static final BookingStatus[] STATUSES = BookingStatus.values();
+    private static final FareClass[] FARE_CLASSES = FareClass.values();
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int chunkShift;
+    private final int chunkSize;
+    private final int loadBatchSize;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final LongIntHashMap rowsByBookingId = new LongIntHashMap(1 << 16);
+    private final LongIntHashMap flightCodes = new LongIntHashMap(1 << 10);
+    private final Dictionary cities = new Dictionary();
+    private final Dictionary airlines = new Dictionary();
+
+    private volatile Chunk[] chunks = new Chunk[0];
+    private volatile int size;
+    private volatile long version;
+    private volatile boolean loaded;
+
+    public BookingFactStore(
+            BookingRepository bookingRepository,
+            ArchivedBookingRepository archivedBookingRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking-analytics.enabled:true}") boolean enabled,
+            @Value("${booking-analytics.chunk-size:65536}") int chunkSize,
+            @Value("${booking-analytics.load-batch-size:10000}") int loadBatchSize,
+            @Value("${booking-analytics.parallelism:0}") int parallelism) {
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.chunkShift = 31 - Integer.numberOfLeadingZeros(Math.max(chunkSize, 1024));
+        this.chunkSize = 1 << chunkShift;
+        this.loadBatchSize = Math.max(loadBatchSize, 1);
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (enabled) load();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    int load() {
+        long start = System.nanoTime();
+        int added = loadFrom(bookingRepository::findFactsAfter) + loadFrom(archivedBookingRepository::findFactsAfter);
+        loaded = true;
+        log.info("Loaded {} booking facts ({} rows, {} chunks) in {} ms",
+                added, size, chunks.length, (System.nanoTime() - start) / 1_000_000);
+        return added;
+    }
+
+    public void reload(Long bookingId) {
+        if (!enabled || bookingId == null) return;
+        transactionTemplate.execute(status -> bookingRepository.findFactById(bookingId)).ifPresent(this::upsert);
+    }
+
+    public void upsert(BookingFactDTO fact) {
+        writeLock.lock();
+        try {
+            write(fact, true);
+            version++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void refreshFlight(Flight flight) {
+        if (!enabled) return;
+        Long flightId = flight.getId();
+        String origin = flight.getOrigin();
+        String destination = flight.getDestination();
+        int day = (int) flight.getDepartureTime().toLocalDate().toEpochDay();
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                int flightCode = flightCodes.get(flightId);
+                if (flightCode == LongIntHashMap.MISSING) return;
+                int originCode = cities.encode(origin);
+                int destinationCode = cities.encode(destination);
+                forEachRow(code -> code == flightCode, (chunk, i) -> {
+                    chunk.origin[i] = originCode;
+                    chunk.destination[i] = destinationCode;
+                    chunk.departureDay[i] = day;
+                });
+                version++;
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public void refreshAirline(String name, Collection<Long> flightIds) {
+        if (!enabled || flightIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(flightIds);
+        afterCommit(() -> {
+            writeLock.lock();
+            try {
+                boolean[] affected = new boolean[flightCodes.size()];
+                boolean any = false;
+                for (Long flightId : ids) {
+                    int flightCode = flightCodes.get(flightId);
+                    if (flightCode == LongIntHashMap.MISSING) continue;
+                    affected[flightCode] = true;
+                    any = true;
+                }
+                if (!any) return;
+                int airlineCode = airlines.encode(name);
+                forEachRow(code -> affected[code], (chunk, i) -> chunk.airline[i] = airlineCode);
+                version++;
+            } finally {
+                writeLock.unlock();
+            }
+        });
+    }
+
+    public Aggregation aggregate(Filter filter, List<AnalyticsDimension> groupBy) {
+        if (groupBy.size() > MAX_GROUP_BY) {
+            throw new IllegalArgumentException("At most " + MAX_GROUP_BY + " group-by dimensions are supported");
+        }
+
+        long observedVersion = version;
+        int rows = size;
+        Chunk[] snapshot = chunks;
+        CompiledFilter compiled = compile(filter);
+        AnalyticsDimension[] dimensions = groupBy.toArray(AnalyticsDimension[]::new);
+
+        GroupAggregator result;
+        int chunkCount = (rows + chunkSize - 1) >>> chunkShift;
+        if (compiled == null || chunkCount == 0) {
+            result = new GroupAggregator(16);
+        } else if (chunkCount == 1 || parallelism == 1) {
+            result = new GroupAggregator(256);
+            Scratch scratch = new Scratch(chunkSize);
+            for (int c = 0; c < chunkCount; c++) {
+                scan(snapshot[c], rowsIn(c, rows), compiled, dimensions, result, scratch);
+            }
+        } else {
+            int tasks = Math.min(parallelism, chunkCount);
+            List<Callable<GroupAggregator>> work = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                int first = t;
+                work.add(() -> {
+                    GroupAggregator partial = new GroupAggregator(256);
+                    Scratch scratch = new Scratch(chunkSize);
+                    for (int c = first; c < chunkCount; c += tasks) {
+                        scan(snapshot[c], rowsIn(c, rows), compiled, dimensions, partial, scratch);
+                    }
+                    return partial;
+                });
+            }
+            result = new GroupAggregator(256);
+            for (Future<GroupAggregator> partial : pool.invokeAll(work)) {
+                result.addAll(join(partial));
+            }
+        }
+
+        return new Aggregation(result.toGroups(dimensions.length), rows, observedVersion, loaded);
+    }
+
+    public String label(AnalyticsDimension dimension, int code) {
+        return switch (dimension) {
+            case ORIGIN, DESTINATION -> cities.decode(code);
+            case AIRLINE -> airlines.decode(code);
+            case STATUS -> STATUSES[code].name();
+            case FARE_CLASS -> code == 0 ? "UNSPECIFIED" : FARE_CLASSES[code - 1].name();
+            case DAY -> LocalDate.ofEpochDay(code).toString();
+            case WEEK -> EpochDays.weekStart(code).toString();
+            case MONTH -> EpochDays.month(code).toString();
+        };
+    }
+
+    private int loadFrom(BiFunction<Long, Limit, List<BookingFactDTO>> source) {
+        long afterId = 0;
+        int added = 0;
+        while (true) {
+            List<BookingFactDTO> batch = source.apply(afterId, Limit.of(loadBatchSize));
+            if (batch.isEmpty()) return added;
+
+            writeLock.lock();
+            try {
+                for (BookingFactDTO fact : batch) {
+                    if (write(fact, false)) added++;
+                }
+                version++;
+            } finally {
+                writeLock.unlock();
+            }
+
+            afterId = batch.get(batch.size() - 1).getBookingId();
+            if (batch.size() < loadBatchSize) return added;
+        }
+    }
+
+    private boolean write(BookingFactDTO fact, boolean overwrite) {
+        int row = rowsByBookingId.get(fact.getBookingId());
+        if (row != LongIntHashMap.MISSING && !overwrite) return false;
+
+        boolean append = row == LongIntHashMap.MISSING;
+        if (append) {
+            row = size;
+            if ((row >>> chunkShift) == chunks.length) {
+                Chunk[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+                grown[chunks.length] = new Chunk(chunkSize);
+                chunks = grown;
+            }
+        }
+
+        Chunk chunk = chunks[row >>> chunkShift];
+        int i = row & (chunkSize - 1);
+        chunk.priceCents[i] = fact.getPrice().movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+        chunk.status[i] = (byte) fact.getBookingStatus().ordinal();
+        chunk.fareClass[i] = (byte) (fact.getFareClass() == null ? 0 : fact.getFareClass().ordinal() + 1);
+        chunk.flight[i] = flightCode(fact.getFlightId());
+        chunk.origin[i] = cities.encode(fact.getOrigin());
+        chunk.destination[i] = cities.encode(fact.getDestination());
+        chunk.airline[i] = airlines.encode(fact.getAirline());
+        chunk.departureDay[i] = (int) fact.getDepartureDate().toEpochDay();
+
+        if (append) {
+            rowsByBookingId.put(fact.getBookingId(), row);
+            size = row + 1;
+        }
+        return true;
+    }
+
+    private void forEachRow(IntPredicate flight, RowUpdate update) {
+        Chunk[] current = chunks;
+        int rows = size;
+        for (int c = 0; c * chunkSize < rows; c++) {
+            Chunk chunk = current[c];
+            int limit = rowsIn(c, rows);
+            for (int i = 0; i < limit; i++) {
+                if (flight.test(chunk.flight[i])) update.apply(chunk, i);
+            }
+        }
+    }
+
+    private int flightCode(Long flightId) {
+        int code = flightCodes.get(flightId);
+        if (code == LongIntHashMap.MISSING) {
+            code = flightCodes.size();
+            flightCodes.put(flightId, code);
+        }
+        return code;
+    }
+
+    private int rowsIn(int chunk, int rows) {
+        return Math.min(chunkSize, rows - chunk * chunkSize);
+    }
+
+    private CompiledFilter compile(Filter filter) {
+        boolean[] statusMask = enumMask(filter.statuses(), STATUSES.length, 0);
+        boolean[] fareMask = enumMask(filter.fareClasses(), FARE_CLASSES.length + 1, 1);
+        boolean[] originMask = cities.mask(filter.origins());
+        boolean[] destinationMask = cities.mask(filter.destinations());
+        boolean[] airlineMask = airlines.mask(filter.airlines());
+        if (isEmpty(originMask) || isEmpty(destinationMask) || isEmpty(airlineMask)) return null;
+
+        int fromDay = filter.from() != null ? (int) filter.from().toEpochDay() : Integer.MIN_VALUE;
+        int toDay = filter.to() != null ? (int) filter.to().toEpochDay() : Integer.MAX_VALUE;
+        return new CompiledFilter(fromDay, toDay, statusMask, fareMask, originMask, destinationMask, airlineMask);
+    }
+
+    private static boolean[] enumMask(Collection<? extends Enum<?>> values, int length, int offset) {
+        if (values == null || values.isEmpty()) return null;
+        boolean[] mask = new boolean[length];
+        for (Enum<?> value : values) mask[value.ordinal() + offset] = true;
+        return mask;
+    }
+
+    private static boolean isEmpty(boolean[] mask) {
+        if (mask == null) return false;
+        for (boolean b : mask) if (b) return false;
+        return true;
+    }
+
+    private static void scan(Chunk c, int rows, CompiledFilter f, AnalyticsDimension[] dimensions,
+                             GroupAggregator out, Scratch scratch) {
+        int[] selected = scratch.selected;
+        int n = 0;
+        for (int i = 0; i < rows; i++) {
+            int day = c.departureDay[i];
+            if (day < f.fromDay || day > f.toDay) continue;
+            if (f.statusMask != null && !f.statusMask[c.status[i]]) continue;
+            if (f.fareMask != null && !f.fareMask[c.fareClass[i]]) continue;
+            if (f.originMask != null && !matches(f.originMask, c.origin[i])) continue;
+            if (f.destinationMask != null && !matches(f.destinationMask, c.destination[i])) continue;
+            if (f.airlineMask != null && !matches(f.airlineMask, c.airline[i])) continue;
+            selected[n++] = i;
+        }
+        if (n == 0) return;
+
+        if (dimensions.length == 0) {
+            long sum = 0;
+            for (int j = 0; j < n; j++) sum += c.priceCents[selected[j]];
+            out.add(0L, n, sum);
+            return;
+        }
+
+        long[] keys = scratch.keys;
+        Arrays.fill(keys, 0, n, 0L);
+        for (AnalyticsDimension dimension : dimensions) {
+            switch (dimension) {
+                case ORIGIN -> appendCodes(keys, selected, n, c.origin);
+                case DESTINATION -> appendCodes(keys, selected, n, c.destination);
+                case AIRLINE -> appendCodes(keys, selected, n, c.airline);
+                case DAY -> appendCodes(keys, selected, n, c.departureDay);
+                case STATUS -> {
+                    for (int j = 0; j < n; j++) keys[j] = (keys[j] << CODE_BITS) | c.status[selected[j]];
+                }
+                case FARE_CLASS -> {
+                    for (int j = 0; j < n; j++) keys[j] = (keys[j] << CODE_BITS) | c.fareClass[selected[j]];
+                }
+                case WEEK -> {
+                    for (int j = 0; j < n; j++) {
+                        keys[j] = (keys[j] << CODE_BITS) | EpochDays.weekIndex(c.departureDay[selected[j]]);
+                    }
+                }
+                case MONTH -> {
+                    for (int j = 0; j < n; j++) {
+                        keys[j] = (keys[j] << CODE_BITS) | EpochDays.monthIndex(c.departureDay[selected[j]]);
+                    }
+                }
+            }
+        }
+        for (int j = 0; j < n; j++) out.add(keys[j], 1, c.priceCents[selected[j]]);
+    }
+
+    private static void appendCodes(long[] keys, int[] selected, int n, int[] column) {
+        for (int j = 0; j < n; j++) keys[j] = (keys[j] << CODE_BITS) | column[selected[j]];
+    }
+
+    private static boolean matches(boolean[] mask, int code) {
+        return code < mask.length && mask[code];
+    }
+
+    private static GroupAggregator join(Future<GroupAggregator> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Booking analytics query interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Booking analytics query failed", e.getCause());
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    public record Filter(LocalDate from, LocalDate to, Collection<BookingStatus> statuses,
+                         Collection<FareClass> fareClasses, Collection<String> origins,
+                         Collection<String> destinations, Collection<String> airlines) {
+    }
+
+    public record Group(int[] codes, long bookings, long revenueCents) {
+    }
+
+    public record Aggregation(List<Group> groups, int scannedRows, long version, boolean complete) {
+    }
+
+    private record CompiledFilter(int fromDay, int toDay, boolean[] statusMask, boolean[] fareMask,
+                                  boolean[] originMask, boolean[] destinationMask, boolean[] airlineMask) {
+    }
+
+    @FunctionalInterface
+    private interface RowUpdate {
+        void apply(Chunk chunk, int row);
+    }
+
+    private static final class Scratch {
+        private final int[] selected;
+        private final long[] keys;
+
+        private Scratch(int capacity) {
+            selected = new int[capacity];
+            keys = new long[capacity];
+        }
+    }
+
+    private static final class Chunk {
+        private final long[] priceCents;
+        private final byte[] status;
+        private final byte[] fareClass;
+        private final int[] flight;
+        private final int[] origin;
+        private final int[] destination;
+        private final int[] airline;
+        private final int[] departureDay;
+
+        private Chunk(int capacity) {
+            priceCents = new long[capacity];
+            status = new byte[capacity];
+            fareClass = new byte[capacity];
+            flight = new int[capacity];
+            origin = new int[capacity];
+            destination = new int[capacity];
+            airline = new int[capacity];
+            departureDay = new int[capacity];
+        }
+    }
+
+    private static final class Dictionary {
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+        private volatile String[] values = new String[64];
+        private int next;
+
+        private int encode(String value) {
+            Integer code = codes.get(value);
+            if (code != null) return code;
+            if (next > MAX_CODE) throw new IllegalStateException("Dictionary is full");
+
+            String[] current = values;
+            if (next == current.length) current = Arrays.copyOf(current, current.length * 2);
+            current[next] = value;
+            values = current;
+            codes.put(value, next);
+            return next++;
+        }
+
+        private String decode(int code) {
+            return values[code];
+        }
+
+        private boolean[] mask(Collection<String> wanted) {
+            if (wanted == null || wanted.isEmpty()) return null;
+            boolean[] mask = new boolean[values.length];
+            for (String value : wanted) {
+                Integer code = codes.get(value);
+                if (code != null && code < mask.length) mask[code] = true;
+            }
+            return mask;
+        }
+    }
+
+    private static final class GroupAggregator {
+        private static final long EMPTY = -1L;
+
+        private long[] keys;
+        private long[] counts;
+        private long[] sums;
+        private int size;
+
+        private GroupAggregator(int capacity) {
+            allocate(capacity);
+        }
+
+        private void add(long key, long count, long sum) {
+            int mask = keys.length - 1;
+            long h = key * 0x9E37_79B9_7F4A_7C15L;
+            for (int slot = (int) (h ^ (h >>> 32)) & mask; ; slot = (slot + 1) & mask) {
+                long existing = keys[slot];
+                if (existing == key) {
+                    counts[slot] += count;
+                    sums[slot] += sum;
+                    return;
+                }
+                if (existing == EMPTY) {
+                    keys[slot] = key;
+                    counts[slot] = count;
+                    sums[slot] = sum;
+                    if (++size * 2 > keys.length) grow();
+                    return;
+                }
+            }
+        }
+
+        private void addAll(GroupAggregator other) {
+            for (int slot = 0; slot < other.keys.length; slot++) {
+                if (other.keys[slot] != EMPTY) add(other.keys[slot], other.counts[slot], other.sums[slot]);
+            }
+        }
+
+        private List<Group> toGroups(int dimensions) {
+            List<Group> groups = new ArrayList<>(size);
+            for (int slot = 0; slot < keys.length; slot++) {
+                long key = keys[slot];
+                if (key == EMPTY) continue;
+                int[] codes = new int[dimensions];
+                for (int d = dimensions - 1; d >= 0; d--) {
+                    codes[d] = (int) (key & MAX_CODE);
+                    key >>>= CODE_BITS;
+                }
+                groups.add(new Group(codes, counts[slot], sums[slot]));
+            }
+            return groups;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            long[] oldSums = sums;
+            allocate(oldKeys.length * 2);
+            size = 0;
+            for (int slot = 0; slot < oldKeys.length; slot++) {
+                if (oldKeys[slot] != EMPTY) add(oldKeys[slot], oldCounts[slot], oldSums[slot]);
+            }
+        }
+
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            counts = new long[capacity];
+            sums = new long[capacity];
+        }
+    }
+}
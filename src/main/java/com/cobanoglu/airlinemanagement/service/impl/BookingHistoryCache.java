@@ -0,0 +1,92 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryPageDTO;
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class BookingHistoryCache {
+
+    private final long ttlNanos;
+    private final int maxPassengers;
+    private final Map<Long, Map<Key, Entry>> pagesByPassenger = new ConcurrentHashMap<>();
+    private final Map<Long, Long> generations = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long baseGeneration;
+
+    public BookingHistoryCache(@Value("${booking-history.first-page-ttl-seconds:60}") long ttlSeconds,
+                               @Value("${booking-history.cache-max-passengers:10000}") int maxPassengers) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(Math.max(ttlSeconds, 0));
+        this.maxPassengers = Math.max(maxPassengers, 1);
+    }
+
+    public BookingHistoryPageDTO get(Long passengerId, BookingHistoryScope scope, int size) {
+        Map<Key, Entry> pages = pagesByPassenger.get(passengerId);
+        if (pages == null) return null;
+
+        Entry entry = pages.get(new Key(scope, size));
+        if (entry == null) return null;
+        if (System.nanoTime() - entry.cachedAt >= ttlNanos) {
+            pages.remove(new Key(scope, size), entry);
+            return null;
+        }
+        return entry.page;
+    }
+
+    public long generation(Long passengerId) {
+        Long generation = generations.get(passengerId);
+        return generation != null ? generation : baseGeneration;
+    }
+
+    public void put(Long passengerId, long generation, BookingHistoryScope scope, int size, BookingHistoryPageDTO page) {
+        if (ttlNanos == 0 || generation(passengerId) != generation) return;
+        if (pagesByPassenger.size() >= maxPassengers && !pagesByPassenger.containsKey(passengerId)) {
+            pagesByPassenger.clear();
+        }
+        Key key = new Key(scope, size);
+        Entry entry = new Entry(page, System.nanoTime());
+        Map<Key, Entry> pages = pagesByPassenger.computeIfAbsent(passengerId, id -> new ConcurrentHashMap<>());
+        pages.put(key, entry);
+        if (generation(passengerId) != generation) pages.remove(key, entry);
+    }
+
+    public void evict(Long passengerId) {
+        if (passengerId == null) return;
+        if (generations.size() >= maxPassengers) {
+            baseGeneration = clock.incrementAndGet();
+            generations.clear();
+        }
+        generations.put(passengerId, clock.incrementAndGet());
+        pagesByPassenger.remove(passengerId);
+    }
+
+    public void evictAfterCommit(Long passengerId) {
+        evict(passengerId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(passengerId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return pagesByPassenger.size();
+    }
+
+    private record Key(BookingHistoryScope scope, int size) {
+    }
+
+    private record Entry(BookingHistoryPageDTO page, long cachedAt) {
+    }
+}
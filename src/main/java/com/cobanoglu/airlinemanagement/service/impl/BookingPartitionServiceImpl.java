@@ -0,0 +1,163 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.service.BookingPartitionService;
+import com.cobanoglu.airlinemanagement.util.MonthlyPartitions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class BookingPartitionServiceImpl implements BookingPartitionService {
+
+    static final String TABLE = "bookings";
+
+    private static final String IS_PARTITIONED_SQL = """
+            select exists (select 1 from pg_partitioned_table pt join pg_class c on c.oid = pt.partrelid
+                           where c.relname = ? and pg_table_is_visible(c.oid))""";
+
+    private static final String PARTITIONS_SQL = """
+            select c.relname from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            join pg_class p on p.oid = i.inhparent
+            where p.relname = ? and pg_table_is_visible(p.oid)""";
+
+    private static final String LATEST_DEPARTURE_SQL = "select max(departure_time) from flights";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BookingRepository bookingRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate ddlTransactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean partitioned;
+
+    public BookingPartitionServiceImpl(
+            JdbcTemplate jdbcTemplate,
+            BookingRepository bookingRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking-partitions.enabled:true}") boolean enabled,
+            @Value("${booking-partitions.months-ahead:3}") int monthsAhead,
+            @Value("${booking-partitions.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.bookingRepository = bookingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ddlTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.ddlTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.enabled = enabled;
+        this.monthsAhead = Math.max(monthsAhead, 0);
+        this.retentionMonths = Math.max(retentionMonths, 0);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        Integer backfilled = transactionTemplate.execute(status -> bookingRepository.backfillDepartureDates());
+        if (backfilled != null && backfilled > 0) {
+            log.info("Backfilled departure_date on {} bookings", backfilled);
+        }
+        maintainPartitions();
+    }
+
+    @Override
+    @Scheduled(cron = "${booking-partitions.cron:0 15 0 * * ?}")
+    public int maintainPartitions() {
+        if (!enabled) return 0;
+        return maintain(YearMonth.now());
+    }
+
+    @Override
+    public void ensurePartition(LocalDate departureDate) {
+        if (!partitioned || departureDate == null) return;
+
+        YearMonth month = YearMonth.from(departureDate);
+        if (knownMonths.contains(month)) return;
+
+        ddlTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(MonthlyPartitions.createSql(TABLE, month)));
+        knownMonths.add(month);
+        log.info("Created booking partition {}", MonthlyPartitions.name(TABLE, month));
+    }
+
+    int maintain(YearMonth currentMonth) {
+        partitioned = isPartitioned();
+        if (!partitioned) return 0;
+
+        Map<YearMonth, String> attached = attachedPartitions();
+        knownMonths.retainAll(attached.keySet());
+        knownMonths.addAll(attached.keySet());
+
+        YearMonth last = currentMonth.plusMonths(monthsAhead);
+        LocalDateTime latestDeparture = jdbcTemplate.queryForObject(LATEST_DEPARTURE_SQL, LocalDateTime.class);
+        if (latestDeparture != null && YearMonth.from(latestDeparture).isAfter(last)) {
+            last = YearMonth.from(latestDeparture);
+        }
+
+        int changed = 0;
+        for (YearMonth month = currentMonth; !month.isAfter(last); month = month.plusMonths(1)) {
+            if (knownMonths.contains(month)) continue;
+            try {
+                ensurePartition(month.atDay(1));
+                changed++;
+            } catch (DataAccessException e) {
+                log.error("Could not create booking partition {}", MonthlyPartitions.name(TABLE, month), e);
+            }
+        }
+
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = currentMonth.minusMonths(retentionMonths);
+            for (Map.Entry<YearMonth, String> partition : attached.entrySet()) {
+                if (!partition.getKey().isBefore(oldestKept)) break;
+                if (detach(partition.getKey(), partition.getValue())) changed++;
+            }
+        }
+        return changed;
+    }
+
+    private boolean detach(YearMonth month, String partition) {
+        try {
+            ddlTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute(MonthlyPartitions.detachSql(TABLE, partition)));
+            knownMonths.remove(month);
+            log.info("Detached booking partition {} (older than {} months)", partition, retentionMonths);
+            return true;
+        } catch (DataAccessException e) {
+            log.error("Could not detach booking partition {}", partition, e);
+            return false;
+        }
+    }
+
+    private boolean isPartitioned() {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class, TABLE));
+        } catch (DataAccessException e) {
+            if (partitioned) log.warn("Could not inspect booking partitions: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Map<YearMonth, String> attachedPartitions() {
+        Map<YearMonth, String> partitions = new TreeMap<>();
+        for (String name : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, TABLE)) {
+            MonthlyPartitions.monthOf(TABLE, name).ifPresent(month -> partitions.put(month, name));
+        }
+        return partitions;
+    }
+}
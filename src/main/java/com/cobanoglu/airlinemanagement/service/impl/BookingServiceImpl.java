@@ -1,18 +1,21 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
+import com.cobanoglu.airlinemanagement.config.ReadYourWritesTracker;
 import com.cobanoglu.airlinemanagement.dto.*;
 import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.event.*;
 import com.cobanoglu.airlinemanagement.exception.*;
 import com.cobanoglu.airlinemanagement.mapper.BookingMapper;
 import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapper;
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
 import com.cobanoglu.airlinemanagement.repository.*;
 import com.cobanoglu.airlinemanagement.service.*;
 import com.cobanoglu.airlinemanagement.util.DateUtils;
-import com.cobanoglu.airlinemanagement.util.PriceCalculator;
+import com.cobanoglu.airlinemanagement.util.HistoryCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -21,9 +24,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Service
 @RequiredArgsConstructor
@@ -31,80 +36,66 @@ import java.util.Comparator;
 @Transactional
 public class BookingServiceImpl implements BookingService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final Comparator<PassengerBookingDTO> HISTORY_ORDER = Comparator
+            .comparing(PassengerBookingDTO::getDepartureTime)
+            .thenComparing(PassengerBookingDTO::getBookingId);
+
     private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
     private final FlightRepository flightRepository;
     private final PassengerRepository passengerRepository;
     private final UserRepository userRepository;
-    private final PassengerService passengerService;
     private final BookingMapper bookingMapper;
     private final PassengerBookingMapper passengerBookingMapper;
-    private final PriceCalculator priceCalculator;
+    private final FareQuoteEngine fareQuoteEngine;
     private final DateUtils dateUtils;
+    private final BookingMetrics bookingMetrics;
+    private final NotificationOutboxService notificationOutboxService;
+    private final BookingEventBus bookingEventBus;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final BookingHistoryCache bookingHistoryCache;
+    private final PassengerService passengerService;
+    private final WaitlistPromoter waitlistPromoter;
+    private final AtomicBoolean waitlistSweepCaughtUp = new AtomicBoolean();
+
+    @Value("${booking-archive.after-months:12}")
+    private int archiveAfterMonths;
 
     @Override
     public BookingResponse createBooking(BookingCreateRequest request) {
-        Flight flight = getFlightOrThrow(request.getFlightId());
-        String email = getUserEmail();
-        User user = getUserOrThrow(email);
-        Passenger passenger = resolvePassengerForBooking(request, user, email);
-
-        validateBookingRules(flight, passenger, request);
-
-        double occupancyRate = (double) flight.getBookedSeats() / flight.getCapacity();
-        BigDecimal dynamicPrice = calculateDynamicPrice(flight, passenger, occupancyRate);
-
-        int overbookingLimit = (int) Math.round(flight.getCapacity() * 1.10);
-        if (flight.getBookedSeats() >= overbookingLimit) {
-            throw new OverbookingException("Overbooking limit reached for flight " + flight.getFlightNumber());
+        long start = System.nanoTime();
+        String outcome = BookingMetrics.OUTCOME_ERROR;
+        try {
+            BookingResponse response = placeBooking(request);
+            outcome = response.getStatus().name();
+            return response;
+        } catch (OverbookingException e) {
+            outcome = BookingMetrics.OUTCOME_OVERBOOKED;
+            throw e;
+        } catch (BadRequestException | NotFoundException | AccessDeniedException e) {
+            outcome = BookingMetrics.OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            bookingMetrics.recordCreate(outcome, start);
         }
-
-        BookingStatus status = flight.getBookedSeats() < flight.getCapacity()
-                ? BookingStatus.CONFIRMED : BookingStatus.WAITLISTED;
-
-        Booking booking = Booking.builder()
-                .flight(flight)
-                .passenger(passenger)
-                .seatNumber(request.getSeatNumber().trim().toUpperCase())
-                .bookingStatus(status)
-                .price(dynamicPrice)
-                .createDate(LocalDateTime.now())
-                .build();
-
-        bookingRepository.save(booking);
-
-        if (status == BookingStatus.CONFIRMED) handleConfirmedBooking(flight, passenger, dynamicPrice);
-
-        sendBookingEmailAsync(passenger.getEmail(), booking.getBookingStatus());
-
-        return new BookingResponse(
-                booking.getId(),
-                booking.getBookingStatus(),
-                dynamicPrice,
-                "Booking created successfully with status: " + booking.getBookingStatus()
-        );
     }
 
     @Override
     public void cancelBooking(Long bookingId) {
-        Authentication auth = getAuth();
-        String username = auth.getName();
-        boolean isUser = hasRole(auth, "ROLE_USER");
-
-        Booking booking = getBookingOrThrow(bookingId);
-
-        if (isUser && !booking.getPassenger().getEmail().equals(username)) {
-            throw new AccessDeniedException("You are not authorized to cancel this booking");
+        long start = System.nanoTime();
+        String outcome = BookingMetrics.OUTCOME_ERROR;
+        try {
+            revokeBooking(bookingId);
+            outcome = BookingMetrics.OUTCOME_CANCELLED;
+        } catch (BadRequestException | NotFoundException | AccessDeniedException e) {
+            outcome = BookingMetrics.OUTCOME_REJECTED;
+            throw e;
+        } finally {
+            bookingMetrics.recordCancel(outcome, start);
         }
-
-        if (booking.getBookingStatus() == BookingStatus.CANCELLED) {
-            throw new BadRequestException("Booking already cancelled");
-        }
-
-        BookingStatus originalStatus = booking.getBookingStatus();
-        booking.setBookingStatus(BookingStatus.CANCELLED);
-        bookingRepository.save(booking);
-
-        if (originalStatus == BookingStatus.CONFIRMED) handleConfirmedCancellation(booking);
     }
 
     @Override
@@ -120,26 +111,40 @@ public class BookingServiceImpl implements BookingService {
         String username = auth.getName();
         boolean isUser = hasRole(auth, "ROLE_USER");
 
-        Booking booking = getBookingOrThrow(id);
+        Optional<Booking> hot = bookingRepository.findById(id);
+        if (hot.isPresent()) {
+            if (isUser && !hot.get().getPassenger().getEmail().equals(username)) {
+                throw new AccessDeniedException("You are not authorized to view this booking");
+            }
+            return bookingMapper.toDto(hot.get());
+        }
 
-        if (isUser && !booking.getPassenger().getEmail().equals(username)) {
+        ArchivedBooking archived = archivedBookingRepository.findById(id)
+                .orElseThrow(() -> new NotFoundException("Booking not found with id: " + id));
+        if (isUser && !getPassengerOrThrow(username).getId().equals(archived.getPassengerId())) {
             throw new AccessDeniedException("You are not authorized to view this booking");
         }
-
-        return bookingMapper.toDto(booking);
+        return bookingMapper.toArchivedDto(archived);
     }
 
     @Override
     @Scheduled(cron = "0 0 0 * * ?")
     public void scheduledCancelOldWaitlisted() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate from = waitlistSweepCaughtUp.get()
+                ? now.toLocalDate().minusMonths(archiveAfterMonths)
+                : HISTORY_START.toLocalDate();
         bookingRepository
-                .findAllByBookingStatusAndFlight_DepartureTimeBefore(
-                        BookingStatus.WAITLISTED, LocalDateTime.now())
+                .findAllByBookingStatusAndDepartureDateBetweenAndFlight_DepartureTimeBefore(
+                        BookingStatus.WAITLISTED, from, now.toLocalDate(), now)
                 .forEach(b -> {
                     b.setBookingStatus(BookingStatus.CANCELLED);
                     bookingRepository.save(b);
+                    bookingHistoryCache.evictAfterCommit(b.getPassenger().getId());
+                    bookingEventBus.publish(BookingCancelled.of(b, BookingStatus.WAITLISTED));
                     log.info("Auto-cancelled WAITLISTED booking {} (flight departed)", b.getId());
                 });
+        waitlistSweepCaughtUp.set(true);
     }
 
     @Override
@@ -156,12 +161,23 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
-        List<Booking> bookings = bookingRepository.findByPassenger_Id(passengerId)
-                .stream()
-                .sorted(Comparator.comparing(b -> b.getFlight().getDepartureTime()))
-                .toList();
+        return bookingHistory(passengerId);
+    }
 
-        return passengerBookingMapper.toDtoList(bookings);
+    @Override
+    @Transactional(readOnly = true)
+    public BookingHistoryPageDTO getBookingHistoryPage(Long passengerId, BookingHistoryScope scope, String cursor, int size) {
+        Authentication auth = getAuth();
+        if (hasRole(auth, "ROLE_USER") && !getPassengerOrThrow(auth.getName()).getId().equals(passengerId)) {
+            throw new AccessDeniedException("You are not authorized to view another passenger's bookings");
+        }
+        return historyPage(passengerId, scope, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BookingHistoryPageDTO getCurrentUserBookingHistoryPage(BookingHistoryScope scope, String cursor, int size) {
+        return historyPage(getPassengerOrThrow(getUserEmail()).getId(), scope, cursor, size);
     }
 
     @Override
@@ -175,17 +191,176 @@ public class BookingServiceImpl implements BookingService {
         String username = getUserEmail();
         Passenger passenger = getPassengerOrThrow(username);
 
-        List<Booking> bookings = bookingRepository.findByPassenger_Id(passenger.getId())
-                .stream()
-                .sorted(Comparator.comparing(b -> b.getFlight().getDepartureTime()))
-                .toList();
+        return bookingHistory(passenger.getId());
+    }
+
+    private List<PassengerBookingDTO> bookingHistory(Long passengerId) {
+        return withLoyalty(mergeAscending(
+                bookingRepository.findHistoryAfter(passengerId, HISTORY_START.toLocalDate(), HISTORY_START, 0L, Limit.unlimited()),
+                archivedBookingRepository.findHistoryAfter(passengerId, HISTORY_START, 0L, Limit.unlimited()),
+                Integer.MAX_VALUE));
+    }
+
+    private BookingHistoryPageDTO historyPage(Long passengerId, BookingHistoryScope scope, String cursor, int size) {
+        BookingHistoryScope resolvedScope = scope != null ? scope : BookingHistoryScope.ALL;
+        int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+        boolean firstPage = cursor == null || cursor.isBlank();
+
+        long generation = bookingHistoryCache.generation(passengerId);
+        if (firstPage) {
+            BookingHistoryPageDTO cached = bookingHistoryCache.get(passengerId, resolvedScope, pageSize);
+            if (cached != null) return cached;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        HistoryCursor from = !firstPage ? HistoryCursor.decode(cursor)
+                : resolvedScope == BookingHistoryScope.ALL ? new HistoryCursor(HISTORY_START, 0L)
+                : resolvedScope == BookingHistoryScope.UPCOMING ? new HistoryCursor(now, 0L)
+                : new HistoryCursor(now, Long.MAX_VALUE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<PassengerBookingDTO> rows = switch (resolvedScope) {
+            case ALL -> mergeAscending(
+                    bookingRepository.findHistoryAfter(passengerId, from.departureTime().toLocalDate(),
+                            from.departureTime(), from.bookingId(), limit),
+                    archivedBookingRepository.findHistoryAfter(passengerId, from.departureTime(), from.bookingId(), limit),
+                    pageSize + 1);
+            case UPCOMING -> bookingRepository.findHistoryAfter(passengerId, from.departureTime().toLocalDate(),
+                    from.departureTime(), from.bookingId(), limit);
+            case PAST -> mergeDescending(
+                    bookingRepository.findHistoryBefore(passengerId, from.departureTime().toLocalDate(),
+                            from.departureTime(), from.bookingId(), limit),
+                    archivedBookingRepository.findHistoryBefore(passengerId, from.departureTime(), from.bookingId(), limit),
+                    pageSize + 1);
+        };
+
+        boolean hasMore = rows.size() > pageSize;
+        List<PassengerBookingDTO> items = withLoyalty(hasMore ? rows.subList(0, pageSize) : rows);
+        PassengerBookingDTO last = hasMore ? items.get(items.size() - 1) : null;
+        BookingHistoryPageDTO page = new BookingHistoryPageDTO(items,
+                last != null ? new HistoryCursor(last.getDepartureTime(), last.getBookingId()).encode() : null, hasMore);
+
+        if (firstPage) bookingHistoryCache.put(passengerId, generation, resolvedScope, pageSize, page);
+        return page;
+    }
+
+    private List<PassengerBookingDTO> mergeAscending(List<PassengerBookingDTO> hot, List<PassengerBookingDTO> archived, int max) {
+        return merge(hot, archived, HISTORY_ORDER, max);
+    }
+
+    private List<PassengerBookingDTO> mergeDescending(List<PassengerBookingDTO> hot, List<PassengerBookingDTO> archived, int max) {
+        return merge(hot, archived, HISTORY_ORDER.reversed(), max);
+    }
+
+    private List<PassengerBookingDTO> merge(List<PassengerBookingDTO> a, List<PassengerBookingDTO> b,
+                                            Comparator<PassengerBookingDTO> order, int max) {
+        if (b.isEmpty()) return a.size() > max ? a.subList(0, max) : a;
+        if (a.isEmpty()) return b.size() > max ? b.subList(0, max) : b;
+
+        List<PassengerBookingDTO> merged = new ArrayList<>(Math.min(a.size() + b.size(), max));
+        int i = 0;
+        int j = 0;
+        while (merged.size() < max && (i < a.size() || j < b.size())) {
+            if (j == b.size() || (i < a.size() && order.compare(a.get(i), b.get(j)) <= 0)) {
+                merged.add(a.get(i++));
+            } else {
+                merged.add(b.get(j++));
+            }
+        }
+        return merged;
+    }
+
+    private List<PassengerBookingDTO> withLoyalty(List<PassengerBookingDTO> history) {
+        for (PassengerBookingDTO dto : history) {
+            dto.setLoyaltyEarned(passengerBookingMapper.calculateLoyalty(dto.getPrice()));
+        }
+        return history;
+    }
+
+    private BookingResponse placeBooking(BookingCreateRequest request) {
+        Flight flight = getFlightForUpdateOrThrow(request.getFlightId());
+        String email = getUserEmail();
+        User user = getUserOrThrow(email);
+        Passenger passenger = resolvePassengerForBooking(request, user, email);
+
+        validateBookingRules(flight, passenger, request);
+
+        FareClass fareClass = request.getFareClass() != null ? request.getFareClass() : FareClass.ECONOMY;
+        BigDecimal dynamicPrice = fareQuoteEngine.quote(flight, passenger.getLoyaltyPoints(), fareClass);
+
+        int overbookingLimit = (int) Math.round(flight.getCapacity() * 1.10);
+        if (flight.getBookedSeats() >= overbookingLimit) {
+            throw new OverbookingException("Overbooking limit reached for flight " + flight.getFlightNumber());
+        }
+
+        BookingStatus status = flight.getBookedSeats() < flight.getCapacity()
+                ? BookingStatus.CONFIRMED : BookingStatus.WAITLISTED;
 
-        return passengerBookingMapper.toDtoList(bookings);
+        Booking booking = Booking.builder()
+                .flight(flight)
+                .passenger(passenger)
+                .seatNumber(request.getSeatNumber().trim().toUpperCase())
+                .bookingStatus(status)
+                .price(dynamicPrice)
+                .fareClass(fareClass)
+                .createDate(LocalDateTime.now())
+                .build();
+
+        bookingRepository.save(booking);
+
+        if (status == BookingStatus.CONFIRMED) {
+            flight.setBookedSeats(flight.getBookedSeats() + 1);
+            flightRepository.save(flight);
+            fareQuoteEngine.refresh(flight);
+            passengerService.updateLoyaltyPoints(passenger.getId(), passengerBookingMapper.calculateLoyalty(dynamicPrice));
+        }
+
+        notificationOutboxService.enqueueBookingCreated(booking);
+
+        bookingEventBus.publish(BookingCreated.of(booking));
+        readYourWritesTracker.recordWrite(email);
+        bookingHistoryCache.evictAfterCommit(passenger.getId());
+        if (status == BookingStatus.CONFIRMED) bookingEventBus.publish(BookingConfirmed.of(booking));
+
+        return new BookingResponse(
+                booking.getId(),
+                booking.getBookingStatus(),
+                dynamicPrice,
+                "Booking created successfully with status: " + booking.getBookingStatus()
+        );
     }
 
-    @Async
-    protected void sendBookingEmailAsync(String email, BookingStatus status) {
-        log.info("Sending confirmation email to {} for booking status: {}", email, status);
+    private void revokeBooking(Long bookingId) {
+        Authentication auth = getAuth();
+        String username = auth.getName();
+        boolean isUser = hasRole(auth, "ROLE_USER");
+
+        Booking booking = getBookingOrThrow(bookingId);
+
+        if (isUser && !booking.getPassenger().getEmail().equals(username)) {
+            throw new AccessDeniedException("You are not authorized to cancel this booking");
+        }
+
+        if (booking.getBookingStatus() == BookingStatus.CANCELLED) {
+            throw new BadRequestException("Booking already cancelled");
+        }
+
+        BookingStatus originalStatus = booking.getBookingStatus();
+        booking.setBookingStatus(BookingStatus.CANCELLED);
+        bookingRepository.save(booking);
+
+        Flight flight = null;
+        if (originalStatus == BookingStatus.CONFIRMED) {
+            flight = getFlightForUpdateOrThrow(booking.getFlight().getId());
+            releaseSeat(flight);
+            passengerService.updateLoyaltyPoints(booking.getPassenger().getId(),
+                    -passengerBookingMapper.calculateLoyalty(booking));
+        }
+
+        bookingEventBus.publish(BookingCancelled.of(booking, originalStatus));
+        if (flight != null) waitlistPromoter.promoteNext(flight);
+        readYourWritesTracker.recordWrite(username);
+        bookingHistoryCache.evictAfterCommit(booking.getPassenger().getId());
     }
 
     private Authentication getAuth() {
@@ -200,8 +375,8 @@ public class BookingServiceImpl implements BookingService {
         return auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals(role));
     }
 
-    private Flight getFlightOrThrow(Long flightId) {
-        return flightRepository.findById(flightId)
+    private Flight getFlightForUpdateOrThrow(Long flightId) {
+        return flightRepository.findByIdForUpdate(flightId)
                 .orElseThrow(() -> new NotFoundException("Flight not found with id: " + flightId));
     }
 
@@ -233,43 +408,22 @@ public class BookingServiceImpl implements BookingService {
         if (dateUtils.isFlightExpired(flight.getDepartureTime())) {
             throw new BadRequestException("Cannot book a flight that has already departed");
         }
-        if (bookingRepository.existsByFlight_IdAndPassenger_Id(flight.getId(), passenger.getId())) {
+        LocalDate departureDate = flight.getDepartureTime().toLocalDate();
+        if (bookingRepository.existsByFlight_IdAndDepartureDateAndPassenger_Id(flight.getId(), departureDate, passenger.getId())) {
             throw new BadRequestException("Passenger already has a booking for this flight");
         }
         String seat = req.getSeatNumber().trim().toUpperCase();
-        if (bookingRepository.existsByFlight_IdAndSeatNumberIgnoreCase(flight.getId(), seat)) {
+        if (bookingRepository.existsByFlight_IdAndDepartureDateAndSeatNumberIgnoreCase(flight.getId(), departureDate, seat)) {
             throw new BadRequestException("This seat is already taken");
         }
     }
 
-    private BigDecimal calculateDynamicPrice(Flight flight, Passenger passenger, double occupancyRate) {
-        BigDecimal price = priceCalculator.calculatePrice(flight.getBasePrice(), occupancyRate);
-        return passenger.getLoyaltyPoints() > 1000
-                ? price.multiply(BigDecimal.valueOf(0.9))
-                : price;
-    }
-
-    private void handleConfirmedBooking(Flight flight, Passenger passenger, BigDecimal price) {
-        flight.setBookedSeats(flight.getBookedSeats() + 1);
-        flightRepository.save(flight);
-        int loyaltyGain = price.multiply(BigDecimal.valueOf(0.10)).intValue();
-        passengerService.updateLoyaltyPoints(passenger.getId(), loyaltyGain);
-    }
-
-    private void handleConfirmedCancellation(Booking booking) {
-        BigDecimal refund = booking.getPrice().multiply(BigDecimal.valueOf(0.8));
-        log.info("Refunded 80% of booking {}: {}", booking.getId(), refund);
-
-        int lostPoints = booking.getPrice().multiply(BigDecimal.valueOf(0.10)).intValue();
-        passengerService.updateLoyaltyPoints(booking.getPassenger().getId(), -lostPoints);
-
-        Flight flight = booking.getFlight();
+    private void releaseSeat(Flight flight) {
         if (flight.getBookedSeats() > 0) {
             flight.setBookedSeats(flight.getBookedSeats() - 1);
             flightRepository.save(flight);
+            fareQuoteEngine.refresh(flight);
         }
-
-        promoteWaitlistedToConfirmed(flight);
     }
 
     private BookingAdminDTO mapToAdminDTO(Booking booking) {
@@ -286,27 +440,4 @@ public class BookingServiceImpl implements BookingService {
                 .price(booking.getPrice())
                 .build();
     }
-
-    private void promoteWaitlistedToConfirmed(Flight flight) {
-        List<Booking> waitlisted = bookingRepository.findByFlight_Id(flight.getId()).stream()
-                .filter(b -> b.getBookingStatus() == BookingStatus.WAITLISTED)
-                .sorted(Comparator.comparing(Booking::getCreateDate))
-                .toList();
-
-        int overbookingLimit = (int) Math.round(flight.getCapacity() * 1.10);
-
-        if (!waitlisted.isEmpty() && flight.getBookedSeats() < overbookingLimit) {
-            Booking next = waitlisted.get(0);
-            next.setBookingStatus(BookingStatus.CONFIRMED);
-            bookingRepository.save(next);
-
-            flight.setBookedSeats(flight.getBookedSeats() + 1);
-            flightRepository.save(flight);
-
-            int loyaltyGain = next.getPrice().multiply(BigDecimal.valueOf(0.10)).intValue();
-            passengerService.updateLoyaltyPoints(next.getPassenger().getId(), loyaltyGain);
-
-            log.info("Promoted WAITLISTED booking {} to CONFIRMED", next.getId());
-        }
-    }
 }
@@ -0,0 +1,182 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.DailyRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.DashboardDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.entity.FlightOccupancyRollup;
+import com.cobanoglu.airlinemanagement.entity.RouteDailyRollup;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.repository.FlightOccupancyRollupRepository;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.repository.RouteDailyRollupRepository;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DashboardServiceImpl implements DashboardService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_TOP = 50;
+
+    private final RouteDailyRollupRepository routeDailyRollupRepository;
+    private final FlightOccupancyRollupRepository flightOccupancyRollupRepository;
+    private final FlightRepository flightRepository;
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public DashboardDTO getDashboard(LocalDate from, LocalDate to, int top) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today.minusDays(DEFAULT_RANGE_DAYS);
+        LocalDate end = to != null ? to : today.plusDays(DEFAULT_RANGE_DAYS);
+        if (end.isBefore(start)) {
+            throw new BadRequestException("Dashboard 'to' date must not be before 'from' date.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Dashboard range cannot exceed " + MAX_RANGE_DAYS + " days.");
+        }
+        if (top < 1 || top > MAX_TOP) {
+            throw new BadRequestException("Dashboard top must be between 1 and " + MAX_TOP + ".");
+        }
+
+        List<DailyRevenueDTO> byDay = routeDailyRollupRepository.sumByDay(start, end);
+        long seatsSold = byDay.stream().mapToLong(DailyRevenueDTO::getSeatsSold).sum();
+        BigDecimal revenue = byDay.stream().map(DailyRevenueDTO::getRevenue).reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        LocalDateTime upcomingFrom = LocalDateTime.now().isAfter(start.atStartOfDay()) ? LocalDateTime.now() : start.atStartOfDay();
+        LocalDateTime upcomingTo = end.atTime(LocalTime.MAX);
+        List<FlightOccupancyDTO> fullest = upcomingFrom.isAfter(upcomingTo)
+                ? List.of()
+                : flightOccupancyRollupRepository.findFullest(upcomingFrom, upcomingTo, Limit.of(top));
+
+        return new DashboardDTO(start, end, seatsSold, revenue, byDay,
+                routeDailyRollupRepository.sumByRoute(start, end, Limit.of(top)),
+                routeDailyRollupRepository.sumByAirline(start, end, Limit.of(top)),
+                fullest);
+    }
+
+    @Override
+    public void recordSales(Long flightId, int seats, BigDecimal revenue) {
+        Flight flight = flightRepository.findById(flightId).orElse(null);
+        if (flight == null) {
+            log.warn("Skipping dashboard rollup for missing flight {}", flightId);
+            return;
+        }
+
+        addToRoute(flight.getDepartureTime().toLocalDate(), flight.getAirline().getId(),
+                flight.getOrigin(), flight.getDestination(), seats, revenue);
+
+        flightOccupancyRollupRepository.insertIfAbsent(flightId, flight.getAirline().getId(), flight.getFlightNumber(),
+                flight.getOrigin(), flight.getDestination(), flight.getDepartureTime(), flight.getCapacity());
+        flightOccupancyRollupRepository.increment(flightId, seats, revenue, flight.getCapacity());
+    }
+
+    @Override
+    public void refreshFlight(Flight flight) {
+        flightOccupancyRollupRepository.findByIdForUpdate(flight.getId()).ifPresent(row -> {
+            LocalDate previousDay = row.getDepartureTime().toLocalDate();
+            LocalDate day = flight.getDepartureTime().toLocalDate();
+            Long airlineId = flight.getAirline().getId();
+
+            boolean moved = !previousDay.equals(day)
+                    || !Objects.equals(row.getAirlineId(), airlineId)
+                    || !row.getOrigin().equals(flight.getOrigin())
+                    || !row.getDestination().equals(flight.getDestination());
+            if (moved) {
+                addToRoute(previousDay, row.getAirlineId(), row.getOrigin(), row.getDestination(),
+                        -row.getSeatsSold(), row.getRevenue().negate());
+                addToRoute(day, airlineId, flight.getOrigin(), flight.getDestination(),
+                        row.getSeatsSold(), row.getRevenue());
+            }
+
+            row.setAirlineId(airlineId);
+            row.setFlightNumber(flight.getFlightNumber());
+            row.setOrigin(flight.getOrigin());
+            row.setDestination(flight.getDestination());
+            row.setDepartureTime(flight.getDepartureTime());
+            row.setCapacity(flight.getCapacity());
+        });
+    }
+
+    @Override
+    public int rebuildRollups() {
+        Map<Long, FlightOccupancyDTO> byFlight = new HashMap<>();
+        Stream.concat(bookingRepository.sumByFlight(BookingStatus.CONFIRMED).stream(),
+                        archivedBookingRepository.sumByFlight(BookingStatus.CONFIRMED).stream())
+                .forEach(sales -> byFlight.merge(sales.getFlightId(), sales, (a, b) -> new FlightOccupancyDTO(
+                        a.getFlightId(), a.getAirlineId(), a.getFlightNumber(), a.getOrigin(), a.getDestination(),
+                        a.getDepartureTime(), a.getCapacity(), a.getSeatsSold() + b.getSeatsSold(),
+                        a.getRevenue().add(b.getRevenue()))));
+
+        routeDailyRollupRepository.deleteAllRollups();
+        flightOccupancyRollupRepository.deleteAllRollups();
+
+        List<FlightOccupancyRollup> flights = new ArrayList<>(byFlight.size());
+        Map<RouteDay, RouteDailyRollup> routes = new HashMap<>();
+        for (FlightOccupancyDTO sales : byFlight.values()) {
+            flights.add(FlightOccupancyRollup.builder()
+                    .flightId(sales.getFlightId())
+                    .airlineId(sales.getAirlineId())
+                    .flightNumber(sales.getFlightNumber())
+                    .origin(sales.getOrigin())
+                    .destination(sales.getDestination())
+                    .departureTime(sales.getDepartureTime())
+                    .capacity(sales.getCapacity())
+                    .seatsSold((int) sales.getSeatsSold())
+                    .revenue(sales.getRevenue())
+                    .build());
+
+            LocalDate day = sales.getDepartureTime().toLocalDate();
+            RouteDailyRollup route = routes.computeIfAbsent(
+                    new RouteDay(day, sales.getAirlineId(), sales.getOrigin(), sales.getDestination()),
+                    key -> RouteDailyRollup.builder()
+                            .departureDate(day)
+                            .airlineId(sales.getAirlineId())
+                            .origin(sales.getOrigin())
+                            .destination(sales.getDestination())
+                            .seatsSold(0)
+                            .revenue(BigDecimal.ZERO)
+                            .build());
+            route.setSeatsSold(route.getSeatsSold() + (int) sales.getSeatsSold());
+            route.setRevenue(route.getRevenue().add(sales.getRevenue()));
+        }
+
+        flightOccupancyRollupRepository.saveAll(flights);
+        routeDailyRollupRepository.saveAll(routes.values());
+        log.info("Rebuilt dashboard rollups for {} flights and {} route days", flights.size(), routes.size());
+        return flights.size();
+    }
+
+    private void addToRoute(LocalDate day, Long airlineId, String origin, String destination, int seats, BigDecimal revenue) {
+        routeDailyRollupRepository.insertIfAbsent(day, airlineId, origin, destination);
+        routeDailyRollupRepository.increment(day, airlineId, origin, destination, seats, revenue);
+    }
+
+    private record RouteDay(LocalDate day, Long airlineId, String origin, String destination) {
+    }
+}
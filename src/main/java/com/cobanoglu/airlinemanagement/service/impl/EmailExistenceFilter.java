@@ -0,0 +1,191 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.EmailEntryDTO;
+import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
+import com.cobanoglu.airlinemanagement.repository.UserRepository;
+import com.cobanoglu.airlinemanagement.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+@Slf4j
+@Component
+public class EmailExistenceFilter {
+
+    static final long REPLAY_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    public enum Owner { USER, PASSENGER }
+
+    private final UserRepository userRepository;
+    private final PassengerRepository passengerRepository;
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final int loadBatchSize;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ConcurrentLinkedQueue<RecentAdd> recentAdds = new ConcurrentLinkedQueue<>();
+    private final Map<Owner, Checks> checks = new EnumMap<>(Owner.class);
+
+    private volatile Map<Owner, BloomFilter> filters;
+
+    public EmailExistenceFilter(UserRepository userRepository,
+                                PassengerRepository passengerRepository,
+                                MeterRegistry registry,
+                                @Value("${email-filter.enabled:true}") boolean enabled,
+                                @Value("${email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${email-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${email-filter.load-batch-size:10000}") int loadBatchSize) {
+        this.userRepository = userRepository;
+        this.passengerRepository = passengerRepository;
+        this.registry = registry;
+        this.enabled = enabled;
+        this.expectedInsertions = Math.max(expectedInsertions, 1);
+        this.falsePositiveRate = falsePositiveRate;
+        this.loadBatchSize = Math.max(loadBatchSize, 1);
+        for (Owner owner : Owner.values()) checks.put(owner, new Checks(owner));
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (enabled) rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${email-filter.rebuild-interval-ms:21600000}",
+            initialDelayString = "${email-filter.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        if (enabled && filters != null) rebuild();
+    }
+
+    public boolean exists(Owner owner, String email, BooleanSupplier query) {
+        Map<Owner, BloomFilter> current = filters;
+        Checks counters = checks.get(owner);
+        if (current == null || email == null) {
+            counters.bypassed.increment();
+            return query.getAsBoolean();
+        }
+        if (!current.get(owner).mightContain(normalize(email))) {
+            counters.negative.increment();
+            return false;
+        }
+        boolean exists = query.getAsBoolean();
+        (exists ? counters.confirmed : counters.falsePositive).increment();
+        return exists;
+    }
+
+    public void add(Owner owner, String email) {
+        if (!enabled || email == null) return;
+        String key = normalize(email);
+        long now = System.nanoTime();
+        recentAdds.add(new RecentAdd(owner, key, now));
+        Map<Owner, BloomFilter> current = filters;
+        if (current != null) current.get(owner).put(key);
+
+        RecentAdd head;
+        while ((head = recentAdds.peek()) != null && now - head.addedAt() > REPLAY_WINDOW_NANOS) {
+            recentAdds.remove(head);
+        }
+    }
+
+    public boolean isReady() {
+        return filters != null;
+    }
+
+    public double observedFalsePositiveRate(Owner owner) {
+        Checks counters = checks.get(owner);
+        double falsePositives = counters.falsePositive.count();
+        double absent = falsePositives + counters.negative.count();
+        return absent == 0 ? 0 : falsePositives / absent;
+    }
+
+    void rebuild() {
+        if (!rebuildLock.tryLock()) return;
+        try {
+            long start = System.nanoTime();
+            Map<Owner, BloomFilter> rebuilt = new EnumMap<>(Owner.class);
+            rebuilt.put(Owner.USER, load(userRepository.count(), userRepository::findEmailsAfter));
+            rebuilt.put(Owner.PASSENGER, load(passengerRepository.count(), passengerRepository::findEmailsAfter));
+            filters = rebuilt;
+            for (RecentAdd recent : recentAdds) rebuilt.get(recent.owner()).put(recent.email());
+
+            registry.timer("email.filter.rebuild").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.info("Loaded {} user and {} passenger emails into existence filters in {} ms",
+                    rebuilt.get(Owner.USER).insertions(), rebuilt.get(Owner.PASSENGER).insertions(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private BloomFilter load(long rows, EmailPage page) {
+        BloomFilter filter = BloomFilter.create(Math.max(expectedInsertions, rows * 2), falsePositiveRate);
+        long afterId = 0;
+        while (true) {
+            List<EmailEntryDTO> batch = page.after(afterId, Limit.of(loadBatchSize));
+            for (EmailEntryDTO entry : batch) {
+                if (entry.getEmail() != null) filter.put(normalize(entry.getEmail()));
+                afterId = entry.getId();
+            }
+            if (batch.size() < loadBatchSize) return filter;
+        }
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface EmailPage {
+        List<EmailEntryDTO> after(long afterId, Limit limit);
+    }
+
+    private record RecentAdd(Owner owner, String email, long addedAt) {
+    }
+
+    private final class Checks {
+
+        private final Counter negative;
+        private final Counter confirmed;
+        private final Counter falsePositive;
+        private final Counter bypassed;
+
+        private Checks(Owner owner) {
+            String name = owner.name().toLowerCase(Locale.ROOT);
+            negative = registry.counter("email.filter.checks", "filter", name, "result", "negative");
+            confirmed = registry.counter("email.filter.checks", "filter", name, "result", "confirmed");
+            falsePositive = registry.counter("email.filter.checks", "filter", name, "result", "false_positive");
+            bypassed = registry.counter("email.filter.checks", "filter", name, "result", "bypassed");
+            Gauge.builder("email.filter.false.positive.rate", EmailExistenceFilter.this,
+                            filter -> filter.observedFalsePositiveRate(owner))
+                    .tag("filter", name)
+                    .register(registry);
+            Gauge.builder("email.filter.expected.false.positive.rate", EmailExistenceFilter.this,
+                            filter -> filter.isReady() ? filter.filters.get(owner).expectedFalsePositiveRate() : 0)
+                    .tag("filter", name)
+                    .register(registry);
+            Gauge.builder("email.filter.entries", EmailExistenceFilter.this,
+                            filter -> filter.isReady() ? filter.filters.get(owner).insertions() : 0)
+                    .tag("filter", name)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.util.FareTable;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@RequiredArgsConstructor
+public class FareQuoteEngine {
+
+    private final FlightRepository flightRepository;
+    private final PricingRuleRegistry pricingRuleRegistry;
+
+    private final Map<Long, FlightFare> fares = new ConcurrentHashMap<>();
+
+    public BigDecimal quote(Flight flight, int loyaltyPoints) {
+        return quote(flight, loyaltyPoints, FareClass.ECONOMY);
+    }
+
+    public BigDecimal quote(Flight flight, int loyaltyPoints, FareClass fareClass) {
+        return tableFor(flight, pricingRuleRegistry.current())
+                .price(flight.getBookedSeats(), loyaltyPoints, fareClass, FareTable.toEpochSecond(LocalDateTime.now()));
+    }
+
+    public List<FareQuoteDTO> quoteAll(Collection<Long> flightIds) {
+        PricingRules rules = pricingRuleRegistry.current();
+        List<Long> missing = new ArrayList<>();
+        for (Long flightId : flightIds) {
+            if (flightId != null && !fares.containsKey(flightId)) missing.add(flightId);
+        }
+        if (!missing.isEmpty()) {
+            for (Flight flight : flightRepository.findAllById(missing)) {
+                fares.putIfAbsent(flight.getId(), new FlightFare(rules.fareTable(flight), Seats.of(flight)));
+            }
+        }
+
+        long now = FareTable.toEpochSecond(LocalDateTime.now());
+        List<FareQuoteDTO> quotes = new ArrayList<>(flightIds.size());
+        for (Long flightId : flightIds) {
+            FlightFare fare = flightId != null ? fares.get(flightId) : null;
+            if (fare == null) continue;
+            fare = upgrade(flightId, fare, rules);
+            int booked = fare.seats.get().booked();
+            quotes.add(new FareQuoteDTO(flightId, fare.table.price(booked, 0, FareClass.ECONOMY, now),
+                    Math.max(fare.table.capacity() - booked, 0)));
+        }
+        return quotes;
+    }
+
+    public long pricingFingerprint() {
+        return pricingRuleRegistry.fingerprint();
+    }
+
+    public void refresh(Flight flight) {
+        Long flightId = flight.getId();
+        PricingRules rules = pricingRuleRegistry.current();
+        FlightFare current = fares.get(flightId);
+        FareTable table = current != null && current.table.matches(rules, flight)
+                ? current.table
+                : rules.fareTable(flight);
+        afterCommit(() -> flightRepository.findSeatsById(flightId).ifPresent(committed -> {
+            Seats seats = new Seats(committed.getVersion(), committed.getBookedSeats());
+            fares.compute(flightId, (id, fare) -> {
+                if (fare == null) return new FlightFare(table, seats);
+                if (fare.table != table) return new FlightFare(table, fare.seats.get().newer(seats));
+                fare.seats.accumulateAndGet(seats, Seats::newer);
+                return fare;
+            });
+        }));
+    }
+
+    public void evict(Long flightId) {
+        afterCommit(() -> fares.remove(flightId));
+    }
+
+    int cachedFlights() {
+        return fares.size();
+    }
+
+    private FareTable tableFor(Flight flight, PricingRules rules) {
+        Long flightId = flight.getId();
+        FlightFare fare = flightId != null ? fares.get(flightId) : null;
+        if (fare != null) {
+            fare = upgrade(flightId, fare, rules);
+            return fare.table.matches(rules, flight) ? fare.table : rules.fareTable(flight);
+        }
+        FareTable table = rules.fareTable(flight);
+        if (flightId != null) {
+            fares.putIfAbsent(flightId, new FlightFare(table, Seats.of(flight)));
+        }
+        return table;
+    }
+
+    private FlightFare upgrade(Long flightId, FlightFare fare, PricingRules rules) {
+        if (fare.table.compiledWith(rules)) return fare;
+        FlightFare upgraded = new FlightFare(fare.table.recompile(rules), fare.seats);
+        return fares.replace(flightId, fare, upgraded) ? upgraded : fares.getOrDefault(flightId, upgraded);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record Seats(long version, int booked) {
+
+        private static Seats of(Flight flight) {
+            return new Seats(flight.getVersion(), flight.getBookedSeats());
+        }
+
+        private Seats newer(Seats other) {
+            return other.version >= version ? other : this;
+        }
+    }
+
+    private static final class FlightFare {
+        private final FareTable table;
+        private final AtomicReference<Seats> seats;
+
+        private FlightFare(FareTable table, Seats seats) {
+            this(table, new AtomicReference<>(seats));
+        }
+
+        private FlightFare(FareTable table, AtomicReference<Seats> seats) {
+            this.table = table;
+            this.seats = seats;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.FlightAvailabilityDTO;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.exception.ServiceUnavailableException;
+import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
+import com.cobanoglu.airlinemanagement.metrics.FlightAvailabilityMetrics;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.FlightAvailabilityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+public class FlightAvailabilityServiceImpl implements FlightAvailabilityService {
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_AVAILABILITY = "availability";
+
+    private final FlightRepository flightRepository;
+    private final FlightMapper flightMapper;
+    private final TaskScheduler taskScheduler;
+    private final FlightAvailabilityMetrics metrics;
+    private final Duration coalesceWindow;
+    private final long emitterTimeoutMs;
+    private final int maxSubscribers;
+    private final int maxFlightsPerSubscription;
+    private final long retryAfterSeconds;
+
+    private final Map<Long, Set<Subscriber>> subscribersByFlight = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    public FlightAvailabilityServiceImpl(
+            FlightRepository flightRepository,
+            FlightMapper flightMapper,
+            TaskScheduler taskScheduler,
+            FlightAvailabilityMetrics metrics,
+            @Value("${flight-availability.stream.coalesce-ms:250}") long coalesceMs,
+            @Value("${flight-availability.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+            @Value("${flight-availability.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${flight-availability.stream.max-flights-per-subscription:50}") int maxFlightsPerSubscription,
+            @Value("${flight-availability.stream.retry-after-seconds:30}") long retryAfterSeconds) {
+        this.flightRepository = flightRepository;
+        this.flightMapper = flightMapper;
+        this.taskScheduler = taskScheduler;
+        this.metrics = metrics;
+        this.coalesceWindow = Duration.ofMillis(Math.max(coalesceMs, 0));
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.maxSubscribers = Math.max(maxSubscribers, 1);
+        this.maxFlightsPerSubscription = Math.max(maxFlightsPerSubscription, 1);
+        this.retryAfterSeconds = Math.max(retryAfterSeconds, 1);
+        metrics.bindSubscribers(subscriberCount::get);
+    }
+
+    @Override
+    public SseEmitter subscribe(Collection<Long> flightIds) {
+        Set<Long> ids = flightIds == null ? Set.of() : new HashSet<>(flightIds);
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            throw new BadRequestException("At least one flight id is required");
+        }
+        if (ids.size() > maxFlightsPerSubscription) {
+            throw new BadRequestException("A subscription can watch at most " + maxFlightsPerSubscription + " flights");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many availability subscribers, try again later", retryAfterSeconds);
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMs), Set.copyOf(ids));
+        subscribers.add(subscriber);
+        for (Long flightId : subscriber.flightIds) {
+            subscribersByFlight.compute(flightId, (id, watching) -> {
+                Set<Subscriber> updated = watching != null ? watching : ConcurrentHashMap.newKeySet();
+                updated.add(subscriber);
+                return updated;
+            });
+        }
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber, "COMPLETED"));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber, "TIMEOUT"));
+        subscriber.emitter.onError(e -> unsubscribe(subscriber, "ERROR"));
+
+        List<FlightAvailabilityDTO> snapshot = new ArrayList<>(ids.size());
+        for (Flight flight : flightRepository.findAllById(ids)) {
+            snapshot.add(flightMapper.toAvailabilityDto(flight));
+        }
+        send(subscriber, SseEmitter.event().name(EVENT_SNAPSHOT).data(snapshot, MediaType.APPLICATION_JSON));
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void publish(FlightAvailabilityDTO availability) {
+        Set<Subscriber> watching = subscribersByFlight.get(availability.getFlightId());
+        if (watching == null) return;
+
+        for (Subscriber subscriber : watching) {
+            if (subscriber.pending.put(availability.getFlightId(), availability) != null) {
+                metrics.recordCoalesced();
+            }
+            if (subscriber.flushScheduled.compareAndSet(false, true)) {
+                taskScheduler.schedule(() -> flush(subscriber), Instant.now().plus(coalesceWindow));
+            }
+        }
+    }
+
+    @Override
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${flight-availability.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            send(subscriber, SseEmitter.event().comment("keep-alive"));
+        }
+    }
+
+    void flush(Subscriber subscriber) {
+        subscriber.flushScheduled.set(false);
+        if (subscriber.closed.get() || subscriber.pending.isEmpty()) return;
+
+        List<FlightAvailabilityDTO> batch = new ArrayList<>(subscriber.pending.size());
+        for (Long flightId : subscriber.pending.keySet()) {
+            FlightAvailabilityDTO latest = subscriber.pending.remove(flightId);
+            if (latest != null) batch.add(latest);
+        }
+        if (batch.isEmpty()) return;
+
+        if (send(subscriber, SseEmitter.event().name(EVENT_AVAILABILITY).data(batch, MediaType.APPLICATION_JSON))) {
+            metrics.recordDelivered(batch.size());
+        }
+    }
+
+    private boolean send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) return false;
+        try {
+            subscriber.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping availability subscriber: {}", e.getMessage());
+            unsubscribe(subscriber, "SEND_FAILED");
+            subscriber.emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber, String reason) {
+        if (!subscriber.closed.compareAndSet(false, true)) return;
+
+        subscribers.remove(subscriber);
+        for (Long flightId : subscriber.flightIds) {
+            subscribersByFlight.computeIfPresent(flightId, (id, watching) -> {
+                watching.remove(subscriber);
+                return watching.isEmpty() ? null : watching;
+            });
+        }
+        subscriber.pending.clear();
+        subscriberCount.decrementAndGet();
+        metrics.recordDisconnected(reason);
+    }
+
+    static final class Subscriber {
+        final SseEmitter emitter;
+        final Set<Long> flightIds;
+        final Map<Long, FlightAvailabilityDTO> pending = new ConcurrentHashMap<>();
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Set<Long> flightIds) {
+            this.emitter = emitter;
+            this.flightIds = flightIds;
+        }
+    }
+}
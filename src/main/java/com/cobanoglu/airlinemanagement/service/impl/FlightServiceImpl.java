@@ -1,6 +1,8 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
 import com.cobanoglu.airlinemanagement.dto.FlightDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Airline;
 import com.cobanoglu.airlinemanagement.entity.Flight;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
@@ -10,7 +12,11 @@ import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
 import com.cobanoglu.airlinemanagement.repository.AirlineRepository;
 import com.cobanoglu.airlinemanagement.repository.BookingRepository;
 import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.BookingPartitionService;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
 import com.cobanoglu.airlinemanagement.service.FlightService;
+import com.cobanoglu.airlinemanagement.util.EntityTag;
+import com.cobanoglu.airlinemanagement.util.FareTable;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
 @Service
@@ -26,10 +33,16 @@ import java.util.Objects;
 @Transactional
 public class FlightServiceImpl implements FlightService {
 
+    private static final int MAX_QUOTE_BATCH = 5000;
+
     private final FlightRepository flightRepository;
     private final AirlineRepository airlineRepository;
     private final BookingRepository bookingRepository;
     private final FlightMapper flightMapper;
+    private final FareQuoteEngine fareQuoteEngine;
+    private final BookingPartitionService bookingPartitionService;
+    private final DashboardService dashboardService;
+    private final BookingFactStore bookingFactStore;
 
     @Override
     public FlightDTO createFlight(FlightDTO dto) {
@@ -49,7 +62,10 @@ public class FlightServiceImpl implements FlightService {
         flight.setBookedSeats(Math.max(dto.getBookedSeats(), 0));
 
         Flight saved = flightRepository.save(flight);
-        return flightMapper.toDto(saved);
+        airlineRepository.incrementVersion(airline.getId());
+        bookingPartitionService.ensurePartition(saved.getDepartureTime().toLocalDate());
+        fareQuoteEngine.refresh(saved);
+        return toDtoWithPrice(saved);
     }
 
     @Override
@@ -65,34 +81,99 @@ public class FlightServiceImpl implements FlightService {
             throw new BadRequestException("No changes detected. Update operation skipped.");
         }
 
+        LocalDate previousDepartureDate = existing.getDepartureTime().toLocalDate();
+        Long previousAirlineId = existing.getAirline().getId();
         updateFlightFields(existing, dto);
 
         Flight updated = flightRepository.save(existing);
-        return flightMapper.toDto(updated);
+        if (!previousAirlineId.equals(updated.getAirline().getId())) {
+            airlineRepository.incrementVersion(previousAirlineId);
+            airlineRepository.incrementVersion(updated.getAirline().getId());
+        }
+        LocalDate departureDate = updated.getDepartureTime().toLocalDate();
+        if (!departureDate.equals(previousDepartureDate)) {
+            bookingPartitionService.ensurePartition(departureDate);
+            bookingRepository.updateDepartureDate(id, departureDate);
+        }
+        dashboardService.refreshFlight(updated);
+        bookingFactStore.refreshFlight(updated);
+        fareQuoteEngine.refresh(updated);
+        return toDtoWithPrice(updated);
     }
 
     @Override
     public void deleteFlight(Long id) {
         Flight flight = getFlightOrThrow(id);
 
-        if (bookingRepository.existsByFlight_Id(id)) {
+        if (bookingRepository.existsByFlight_IdAndDepartureDate(id, flight.getDepartureTime().toLocalDate())) {
             throw new BadRequestException("Cannot delete flight with existing bookings.");
         }
 
         flightRepository.delete(flight);
+        airlineRepository.incrementVersion(flight.getAirline().getId());
+        fareQuoteEngine.evict(id);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<FlightDTO> listFlights(Pageable pageable) {
-        return flightRepository.findAll(pageable).map(flightMapper::toDto);
+        return flightRepository.findAll(EntityTag.stableOrder(pageable)).map(this::toDtoWithPrice);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String listFlightsETag(Pageable pageable) {
+        Page<FlightVersionDTO> versions = flightRepository.findVersions(EntityTag.stableOrder(pageable));
+        long now = FareTable.toEpochSecond(LocalDateTime.now());
+        EntityTag tag = EntityTag.of("flights")
+                .add(fareQuoteEngine.pricingFingerprint())
+                .add(versions.getTotalElements());
+        for (FlightVersionDTO version : versions) addFlightVersion(tag, version, now);
+        return tag.weak();
     }
 
     @Override
     @Transactional(readOnly = true)
     public FlightDTO getFlightById(Long id) {
         Flight flight = getFlightOrThrow(id);
-        return flightMapper.toDto(flight);
+        return toDtoWithPrice(flight);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getFlightETag(Long id) {
+        long now = FareTable.toEpochSecond(LocalDateTime.now());
+        long pricing = fareQuoteEngine.pricingFingerprint();
+        return flightRepository.findVersionById(id)
+                .map(version -> addFlightVersion(EntityTag.of("flight").add(pricing), version, now).weak())
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<FareQuoteDTO> quoteFares(List<Long> flightIds) {
+        if (flightIds == null || flightIds.isEmpty()) {
+            throw new BadRequestException("At least one flight id is required");
+        }
+        if (flightIds.size() > MAX_QUOTE_BATCH) {
+            throw new BadRequestException("At most " + MAX_QUOTE_BATCH + " flights can be quoted at once");
+        }
+        return fareQuoteEngine.quoteAll(flightIds);
+    }
+
+    private FlightDTO toDtoWithPrice(Flight flight) {
+        FlightDTO dto = flightMapper.toDto(flight);
+        dto.setCurrentPrice(fareQuoteEngine.quote(flight, 0));
+        return dto;
+    }
+
+    private EntityTag addFlightVersion(EntityTag tag, FlightVersionDTO version, long now) {
+        long departure = FareTable.toEpochSecond(version.getDepartureTime());
+        return tag.add(version.getId())
+                .add(version.getVersion())
+                .add(version.getAirlineId())
+                .add(version.getAirlineVersion())
+                .add(FareTable.daysToDeparture(departure, now));
     }
 
     private Airline getAirlineOrThrow(Long airlineId) {
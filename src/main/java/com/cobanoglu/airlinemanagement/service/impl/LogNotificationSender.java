@@ -0,0 +1,19 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.NotificationOutbox;
+import com.cobanoglu.airlinemanagement.service.NotificationSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LogNotificationSender implements NotificationSender {
+
+    private static final Logger SINK = LoggerFactory.getLogger("NOTIFICATION_SINK");
+
+    @Override
+    public void send(NotificationOutbox message) {
+        SINK.info("id={} to={} subject=\"{}\" body=\"{}\"",
+                message.getId(), message.getRecipient(), message.getSubject(), message.getBody());
+    }
+}
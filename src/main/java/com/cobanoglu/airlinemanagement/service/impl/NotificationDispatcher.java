@@ -0,0 +1,38 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.service.NotificationOutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class NotificationDispatcher {
+
+    private final NotificationOutboxService outboxService;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public NotificationDispatcher(
+            NotificationOutboxService outboxService,
+            @Value("${notification.outbox.batch-size:50}") int batchSize,
+            @Value("${notification.outbox.max-batches-per-run:20}") int maxBatchesPerRun) {
+        this.outboxService = outboxService;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxBatchesPerRun = Math.max(maxBatchesPerRun, 1);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${notification.outbox.poll-interval-ms:1000}",
+            initialDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void dispatchPending() {
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (outboxService.dispatchBatch() < batchSize) return;
+            }
+        } catch (RuntimeException e) {
+            log.error("Notification outbox dispatch failed", e);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+import com.cobanoglu.airlinemanagement.entity.NotificationOutbox;
+import com.cobanoglu.airlinemanagement.entity.OutboxStatus;
+import com.cobanoglu.airlinemanagement.metrics.NotificationMetrics;
+import com.cobanoglu.airlinemanagement.repository.NotificationOutboxRepository;
+import com.cobanoglu.airlinemanagement.service.NotificationOutboxService;
+import com.cobanoglu.airlinemanagement.service.NotificationSender;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+public class NotificationOutboxServiceImpl implements NotificationOutboxService {
+
+    static final String TYPE_BOOKING_CREATED = "BOOKING_CREATED";
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationSender notificationSender;
+    private final NotificationMetrics notificationMetrics;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    public NotificationOutboxServiceImpl(
+            NotificationOutboxRepository outboxRepository,
+            NotificationSender notificationSender,
+            NotificationMetrics notificationMetrics,
+            @Value("${notification.outbox.batch-size:50}") int batchSize,
+            @Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${notification.outbox.base-backoff-ms:2000}") long baseBackoffMs,
+            @Value("${notification.outbox.max-backoff-ms:600000}") long maxBackoffMs) {
+        this.outboxRepository = outboxRepository;
+        this.notificationSender = notificationSender;
+        this.notificationMetrics = notificationMetrics;
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.baseBackoffMs = Math.max(baseBackoffMs, 1);
+        this.maxBackoffMs = Math.max(maxBackoffMs, this.baseBackoffMs);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueueBookingCreated(Booking booking) {
+        String flightNumber = booking.getFlight().getFlightNumber();
+        NotificationOutbox message = NotificationOutbox.builder()
+                .type(TYPE_BOOKING_CREATED)
+                .aggregateId(booking.getId())
+                .recipient(booking.getPassenger().getEmail())
+                .subject("Booking " + booking.getId() + " for flight " + flightNumber)
+                .body("Your booking for flight " + flightNumber + ", seat " + booking.getSeatNumber()
+                        + " has status " + booking.getBookingStatus() + ". Price: " + booking.getPrice())
+                .status(OutboxStatus.PENDING)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+
+        outboxRepository.save(message);
+    }
+
+    @Override
+    @Transactional
+    public int dispatchBatch() {
+        List<NotificationOutbox> batch = outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+
+        for (NotificationOutbox message : batch) {
+            try {
+                notificationSender.send(message);
+                message.setStatus(OutboxStatus.SENT);
+                message.setSentAt(LocalDateTime.now());
+                message.setLastError(null);
+                notificationMetrics.recordSent(message.getCreateDate());
+            } catch (Exception e) {
+                scheduleRetry(message, e);
+            }
+        }
+
+        outboxRepository.saveAll(batch);
+        return batch.size();
+    }
+
+    private void scheduleRetry(NotificationOutbox message, Exception e) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(truncate(e.getClass().getSimpleName() + ": " + e.getMessage()));
+
+        if (attempts >= maxAttempts) {
+            message.setStatus(OutboxStatus.FAILED);
+            notificationMetrics.recordFailed();
+            log.error("Notification {} to {} failed permanently after {} attempts",
+                    message.getId(), message.getRecipient(), attempts, e);
+            return;
+        }
+
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMillis(attempts) * 1_000_000L));
+        notificationMetrics.recordRetry();
+        log.warn("Notification {} to {} failed (attempt {}), retrying later: {}",
+                message.getId(), message.getRecipient(), attempts, e.getMessage());
+    }
+
+    long backoffMillis(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        long delay = baseBackoffMs << shift;
+        return delay <= 0 || delay > maxBackoffMs ? maxBackoffMs : delay;
+    }
+
+    private String truncate(String value) {
+        return value.length() <= 500 ? value : value.substring(0, 500);
+    }
+}
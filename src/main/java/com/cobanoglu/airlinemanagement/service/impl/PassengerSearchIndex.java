@@ -0,0 +1,444 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.PassengerSearchEntryDTO;
+import com.cobanoglu.airlinemanagement.entity.Passenger;
+import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
+import com.cobanoglu.airlinemanagement.util.LongIntHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+public class PassengerSearchIndex {
+
+    static final int INDEXED_PREFIX = 8;
+
+    private static final Pattern NAME_SEPARATORS = Pattern.compile("[\\s'-]+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char SEPARATOR = '\u0001';
+    private static final int EXACT = 4;
+    private static final int PREFIX = 3;
+    private static final int FUZZY = 1;
+
+    private final PassengerRepository passengerRepository;
+    private final boolean enabled;
+    private final int loadBatchSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongIntHashMap rowsByPassengerId = new LongIntHashMap(1 << 16);
+    private final LongIntHashMap postingsByGram = new LongIntHashMap(1 << 12);
+    private final List<Postings> postings = new ArrayList<>();
+    private long[] passengerIds = new long[1024];
+    private String[] documents = new String[1024];
+    private int size;
+    private int removed;
+
+    private volatile boolean loaded;
+
+    public PassengerSearchIndex(PassengerRepository passengerRepository,
+                                @Value("${passenger-search.enabled:true}") boolean enabled,
+                                @Value("${passenger-search.load-batch-size:10000}") int loadBatchSize) {
+        this.passengerRepository = passengerRepository;
+        this.enabled = enabled;
+        this.loadBatchSize = Math.max(loadBatchSize, 1);
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (enabled) load();
+    }
+
+    int load() {
+        long start = System.nanoTime();
+        long afterId = 0;
+        int loadedRows = 0;
+        while (true) {
+            List<PassengerSearchEntryDTO> batch = passengerRepository.findSearchEntriesAfter(afterId, Limit.of(loadBatchSize));
+            lock.writeLock().lock();
+            try {
+                for (PassengerSearchEntryDTO entry : batch) {
+                    if (rowsByPassengerId.get(entry.getId()) != LongIntHashMap.MISSING) continue;
+                    write(entry.getId(), entry.getName(), entry.getSurname(), entry.getEmail());
+                    loadedRows++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (batch.size() < loadBatchSize) break;
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        loaded = true;
+        log.info("Indexed {} passengers for search in {} ms", loadedRows, (System.nanoTime() - start) / 1_000_000);
+        return loadedRows;
+    }
+
+    public boolean isReady() {
+        return enabled && loaded;
+    }
+
+    public int size() {
+        return size - removed;
+    }
+
+    public void put(Passenger passenger) {
+        if (!enabled || passenger.getId() == null) return;
+        Long id = passenger.getId();
+        String name = passenger.getName();
+        String surname = passenger.getSurname();
+        String email = passenger.getEmail();
+        afterCommit(() -> index(id, name, surname, email));
+    }
+
+    public void remove(Long id) {
+        if (!enabled || id == null) return;
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                int row = rowsByPassengerId.get(id);
+                if (row == LongIntHashMap.MISSING || documents[row] == null) return;
+                unpost(row);
+                documents[row] = null;
+                removed++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void index(Long id, String name, String surname, String email) {
+        lock.writeLock().lock();
+        try {
+            write(id, name, surname, email);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, int limit) {
+        String[] terms = terms(query);
+        if (terms.length == 0) return List.of();
+        String[] prefixes = new String[terms.length];
+        String[] exacts = new String[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            prefixes[i] = SEPARATOR + terms[i];
+            exacts[i] = prefixes[i] + SEPARATOR;
+        }
+
+        lock.readLock().lock();
+        try {
+            Matches matches = new Matches(EXACT * terms.length, limit);
+            Postings candidates = null;
+            for (String term : terms) {
+                Postings narrowest = narrowestPostings(term);
+                if (narrowest == null) {
+                    candidates = null;
+                    break;
+                }
+                if (candidates == null || narrowest.size < candidates.size) candidates = narrowest;
+            }
+            if (candidates != null) {
+                for (int i = 0; i < candidates.size && !matches.isSaturated(); i++) {
+                    int row = candidates.rows[i];
+                    if (!matches.contains(row)) matches.add(row, score(row, terms, prefixes, exacts, false));
+                }
+            }
+
+            String longest = Arrays.stream(terms).max((x, y) -> Integer.compare(x.length(), y.length())).orElseThrow();
+            if (matches.size() < limit && maxEdits(longest) > 0) {
+                LongIntHashMap seen = new LongIntHashMap(1024);
+                for (Postings list : fuzzyCandidates(longest)) {
+                    for (int i = 0; i < list.size; i++) {
+                        int row = list.rows[i];
+                        if (seen.get(row) != LongIntHashMap.MISSING || matches.contains(row)) continue;
+                        seen.put(row, 0);
+                        matches.add(row, score(row, terms, prefixes, exacts, true));
+                    }
+                }
+            }
+
+            return matches.top().stream().map(row -> passengerIds[row]).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static String normalize(String value) {
+        if (value == null) return "";
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        StringBuilder sb = new StringBuilder(decomposed.length());
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) continue;
+            sb.append(c == 'ı' ? 'i' : Character.toLowerCase(c));
+        }
+        return sb.toString().trim();
+    }
+
+    static String[] terms(String query) {
+        List<String> terms = new ArrayList<>();
+        for (String term : WHITESPACE.split(normalize(query))) {
+            if (term.isEmpty()) continue;
+            if (term.indexOf('@') >= 0) {
+                terms.add(term);
+            } else {
+                for (String part : NAME_SEPARATORS.split(term)) if (!part.isEmpty()) terms.add(part);
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private void write(Long id, String name, String surname, String email) {
+        List<String> rowTokens = new ArrayList<>();
+        for (String token : NAME_SEPARATORS.split(normalize(name))) if (!token.isEmpty()) rowTokens.add(token);
+        for (String token : NAME_SEPARATORS.split(normalize(surname))) if (!token.isEmpty()) rowTokens.add(token);
+        String normalizedEmail = normalize(email);
+        if (!normalizedEmail.isEmpty()) rowTokens.add(normalizedEmail);
+
+        int row = rowsByPassengerId.get(id);
+        if (row == LongIntHashMap.MISSING) {
+            row = size;
+            if (row == passengerIds.length) {
+                passengerIds = Arrays.copyOf(passengerIds, row * 2);
+                documents = Arrays.copyOf(documents, row * 2);
+            }
+            passengerIds[row] = id;
+            rowsByPassengerId.put(id, row);
+            size = row + 1;
+        } else if (documents[row] != null) {
+            unpost(row);
+        } else {
+            removed--;
+        }
+        StringBuilder document = new StringBuilder().append(SEPARATOR);
+        for (String token : rowTokens) document.append(token).append(SEPARATOR);
+        documents[row] = document.toString();
+
+        for (String token : rowTokens) {
+            for (long gram : grams(token)) {
+                int slot = postingsByGram.get(gram);
+                if (slot == LongIntHashMap.MISSING) {
+                    slot = postings.size();
+                    postings.add(new Postings());
+                    postingsByGram.put(gram, slot);
+                }
+                postings.get(slot).add(row);
+            }
+        }
+    }
+
+    private void unpost(int row) {
+        String document = documents[row];
+        int start = 1;
+        while (start < document.length()) {
+            int end = document.indexOf(SEPARATOR, start);
+            for (long gram : grams(document.substring(start, end))) {
+                int slot = postingsByGram.get(gram);
+                if (slot != LongIntHashMap.MISSING) postings.get(slot).remove(row);
+            }
+            start = end + 1;
+        }
+    }
+
+    private Postings narrowestPostings(String term) {
+        Postings narrowest = null;
+        for (long gram : grams(term)) {
+            int slot = postingsByGram.get(gram);
+            if (slot == LongIntHashMap.MISSING) return null;
+            Postings list = postings.get(slot);
+            if (narrowest == null || list.size < narrowest.size) narrowest = list;
+        }
+        return narrowest;
+    }
+
+    private List<Postings> fuzzyCandidates(String term) {
+        long[] grams = grams(term);
+        List<Postings> lists = new ArrayList<>(grams.length - 1);
+        for (int i = 1; i < grams.length; i++) {
+            int slot = postingsByGram.get(grams[i]);
+            lists.add(slot == LongIntHashMap.MISSING ? Postings.EMPTY : postings.get(slot));
+        }
+        lists.sort((x, y) -> Integer.compare(x.size, y.size));
+        int required = Math.max(1, lists.size() - 3 * maxEdits(term));
+        return lists.subList(0, lists.size() - required + 1);
+    }
+
+    private int score(int row, String[] terms, String[] prefixes, String[] exacts, boolean fuzzy) {
+        String document = documents[row];
+        int total = 0;
+        boolean needsFuzzy = false;
+        for (int i = 0; i < terms.length; i++) {
+            if (document.contains(exacts[i])) {
+                total += EXACT;
+            } else if (document.contains(prefixes[i])) {
+                total += PREFIX;
+            } else if (fuzzy && maxEdits(terms[i]) > 0) {
+                needsFuzzy = true;
+            } else {
+                return 0;
+            }
+        }
+        if (!needsFuzzy) return total;
+
+        for (int i = 0; i < terms.length; i++) {
+            if (document.contains(prefixes[i])) continue;
+            if (!fuzzyMatches(terms[i], document)) return 0;
+            total += FUZZY;
+        }
+        return total;
+    }
+
+    private static boolean fuzzyMatches(String term, String document) {
+        int maxEdits = maxEdits(term);
+        int start = 1;
+        while (start < document.length()) {
+            int end = document.indexOf(SEPARATOR, start);
+            if (prefixDistance(term, document, start, end) <= maxEdits) return true;
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static long[] grams(String token) {
+        int count = Math.min(token.length(), INDEXED_PREFIX);
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            char c0 = i >= 2 ? token.charAt(i - 2) : ' ';
+            char c1 = i >= 1 ? token.charAt(i - 1) : ' ';
+            grams[i] = ((long) c0 << 32) | ((long) c1 << 16) | token.charAt(i);
+        }
+        return grams;
+    }
+
+    private static int maxEdits(String term) {
+        if (term.length() >= 8) return 2;
+        return term.length() >= 4 ? 1 : 0;
+    }
+
+    static int prefixDistance(String term, String token) {
+        return prefixDistance(term, token, 0, token.length());
+    }
+
+    private static int prefixDistance(String term, String text, int from, int to) {
+        int maxEdits = maxEdits(term);
+        int width = Math.min(term.length() + maxEdits, to - from);
+        int[] previous2 = new int[width + 1];
+        int[] previous = new int[width + 1];
+        int[] current = new int[width + 1];
+        for (int j = 0; j <= width; j++) previous[j] = j;
+        for (int i = 1; i <= term.length(); i++) {
+            current[0] = i;
+            char a = term.charAt(i - 1);
+            for (int j = 1; j <= width; j++) {
+                char b = text.charAt(from + j - 1);
+                int d = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + (a == b ? 0 : 1));
+                if (i > 1 && j > 1 && a == text.charAt(from + j - 2) && term.charAt(i - 2) == b) {
+                    d = Math.min(d, previous2[j - 2] + 1);
+                }
+                current[j] = d;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        int best = Integer.MAX_VALUE;
+        for (int j = Math.max(term.length() - maxEdits, 1); j <= width; j++) best = Math.min(best, previous[j]);
+        return best;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Postings {
+        private static final Postings EMPTY = new Postings();
+
+        private int[] rows = new int[4];
+        private int size;
+
+        private void add(int row) {
+            if (size > 0 && rows[size - 1] == row) return;
+            if (size == rows.length) rows = Arrays.copyOf(rows, size * 2);
+            rows[size++] = row;
+        }
+
+        private void remove(int row) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (rows[i] != row) continue;
+                System.arraycopy(rows, i + 1, rows, i, size - i - 1);
+                size--;
+                return;
+            }
+        }
+    }
+
+    private static final class Matches {
+        private final int[][] rowsByScore;
+        private final int[] counts;
+        private final int limit;
+        private final LongIntHashMap accepted = new LongIntHashMap(64);
+        private int size;
+
+        private Matches(int maxScore, int limit) {
+            this.rowsByScore = new int[maxScore + 1][];
+            this.counts = new int[maxScore + 1];
+            this.limit = limit;
+        }
+
+        private boolean contains(int row) {
+            return accepted.get(row) != LongIntHashMap.MISSING;
+        }
+
+        private void add(int row, int score) {
+            if (score == 0 || counts[score] == limit) return;
+            if (rowsByScore[score] == null) rowsByScore[score] = new int[limit];
+            rowsByScore[score][counts[score]++] = row;
+            accepted.put(row, score);
+            size++;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private boolean isSaturated() {
+            return counts[counts.length - 1] == limit;
+        }
+
+        private List<Integer> top() {
+            List<Integer> top = new ArrayList<>(limit);
+            for (int score = counts.length - 1; score > 0 && top.size() < limit; score--) {
+                int[] rows = rowsByScore[score];
+                if (rows == null) continue;
+                int[] sorted = Arrays.copyOf(rows, counts[score]);
+                Arrays.sort(sorted);
+                for (int i = 0; i < sorted.length && top.size() < limit; i++) top.add(sorted[i]);
+            }
+            return top;
+        }
+    }
+}
@@ -1,34 +1,52 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
 import com.cobanoglu.airlinemanagement.dto.PassengerDTO;
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Passenger;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
 import com.cobanoglu.airlinemanagement.exception.NotFoundException;
 import com.cobanoglu.airlinemanagement.mapper.PassengerMapper;
 import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
 import com.cobanoglu.airlinemanagement.service.PassengerService;
+import com.cobanoglu.airlinemanagement.service.impl.EmailExistenceFilter.Owner;
+import com.cobanoglu.airlinemanagement.util.EntityTag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class PassengerServiceImpl implements PassengerService {
 
+    private static final int MIN_SEARCH_LENGTH = 2;
+    private static final int MAX_SEARCH_LIMIT = 100;
+
     private final PassengerRepository passengerRepository;
     private final PassengerMapper passengerMapper;
+    private final PassengerSearchIndex passengerSearchIndex;
+    private final EmailExistenceFilter emailExistenceFilter;
 
     @Override
     public PassengerDTO createPassenger(PassengerDTO passengerDTO) {
         validateEmailUnique(passengerDTO.getEmail());
 
         Passenger passenger = passengerMapper.toEntity(passengerDTO);
+        passenger.setEmail(EmailExistenceFilter.normalize(passenger.getEmail()));
         passenger.setLoyaltyPoints(normalizePoints(passenger.getLoyaltyPoints()));
 
         Passenger saved = passengerRepository.save(passenger);
+        passengerSearchIndex.put(saved);
+        emailExistenceFilter.add(Owner.PASSENGER, saved.getEmail());
         return passengerMapper.toDto(saved);
     }
 
@@ -49,6 +67,8 @@ public class PassengerServiceImpl implements PassengerService {
 
         applyUpdates(existing, cleaned);
         Passenger updated = passengerRepository.save(existing);
+        passengerSearchIndex.put(updated);
+        emailExistenceFilter.add(Owner.PASSENGER, updated.getEmail());
         return passengerMapper.toDto(updated);
     }
 
@@ -62,20 +82,65 @@ public class PassengerServiceImpl implements PassengerService {
     @Override
     @Transactional(readOnly = true)
     public Page<PassengerDTO> listPassengers(Pageable pageable) {
-        return passengerRepository.findAll(pageable).map(passengerMapper::toDto);
+        return passengerRepository.findAll(EntityTag.stableOrder(pageable)).map(passengerMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getPassengerETag(Long id) {
+        return passengerRepository.findVersionById(id)
+                .map(version -> EntityTag.of("passenger").add(id).add(version).weak())
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String listPassengersETag(Pageable pageable) {
+        Page<ResourceVersionDTO> versions = passengerRepository.findVersions(EntityTag.stableOrder(pageable));
+        EntityTag tag = EntityTag.of("passengers").add(versions.getTotalElements());
+        for (ResourceVersionDTO version : versions) tag.add(version.getId()).add(version.getVersion());
+        return tag.weak();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PassengerDTO> searchPassengers(String query, int limit) {
+        String trimmed = query == null ? "" : query.trim();
+        if (trimmed.replaceAll("\\s", "").length() < MIN_SEARCH_LENGTH) {
+            throw new BadRequestException("Search query must contain at least " + MIN_SEARCH_LENGTH + " characters.");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+            throw new BadRequestException("Search limit must be between 1 and " + MAX_SEARCH_LIMIT + ".");
+        }
+
+        if (!passengerSearchIndex.isReady()) {
+            return passengerRepository.findByPrefix(likePrefix(trimmed.split("\\s+")[0]), Limit.of(limit)).stream()
+                    .map(passengerMapper::toDto)
+                    .toList();
+        }
+
+        List<Long> ids = passengerSearchIndex.search(trimmed, limit);
+        if (ids.isEmpty()) return List.of();
+        Map<Long, Passenger> byId = passengerRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Passenger::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .map(passengerMapper::toDto)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
     public boolean findByEmailUnique(String email) {
-        return !passengerRepository.existsByEmail(email);
+        return !emailExists(email);
     }
 
     @Override
     public void updateLoyaltyPoints(Long passengerId, int delta) {
-        Passenger passenger = getPassengerOrThrow(passengerId);
-        passenger.setLoyaltyPoints(normalizePoints(passenger.getLoyaltyPoints() + delta));
-        passengerRepository.save(passenger);
+        if (passengerRepository.addLoyaltyPoints(passengerId, delta) == 0) {
+            throw new NotFoundException("Passenger not found with id: " + passengerId);
+        }
     }
 
     // ---------- PRIVATE HELPERS ----------
@@ -86,11 +151,24 @@ public class PassengerServiceImpl implements PassengerService {
     }
 
     private void validateEmailUnique(String email) {
-        if (passengerRepository.existsByEmail(email)) {
+        if (emailExists(email)) {
             throw new BadRequestException("Email already exists: " + email);
         }
     }
 
+    private boolean emailExists(String email) {
+        String key = EmailExistenceFilter.normalize(email);
+        return emailExistenceFilter.exists(Owner.PASSENGER, key, () -> passengerRepository.existsByEmail(key));
+    }
+
+    private String likePrefix(String query) {
+        String escaped = query.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
     private boolean isEmailChanged(Passenger existing, String newEmail) {
         return !existing.getEmail().equalsIgnoreCase(newEmail);
     }
@@ -99,7 +177,7 @@ public class PassengerServiceImpl implements PassengerService {
         Passenger p = new Passenger();
         p.setName(trimOrEmpty(dto.getName()));
         p.setSurname(trimOrEmpty(dto.getSurname()));
-        p.setEmail(trimOrEmpty(dto.getEmail()));
+        p.setEmail(trimOrEmpty(EmailExistenceFilter.normalize(dto.getEmail())));
         p.setLoyaltyPoints(normalizePoints(dto.getLoyaltyPoints()));
         return p;
     }
@@ -3,63 +3,64 @@ package com.cobanoglu.airlinemanagement.service.impl;
 import com.cobanoglu.airlinemanagement.dto.BankDTO;
 import com.cobanoglu.airlinemanagement.dto.CardInfoDTO;
 import com.cobanoglu.airlinemanagement.entity.Payment;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.exception.NotFoundException;
+import com.cobanoglu.airlinemanagement.metrics.PaymentMetrics;
 import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
-import com.cobanoglu.airlinemanagement.service.BankService;
 import com.cobanoglu.airlinemanagement.service.PaymentService;
+import com.cobanoglu.airlinemanagement.service.PaymentSessionService;
+import com.cobanoglu.airlinemanagement.util.CardMasker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
-
 @Service
 @RequiredArgsConstructor
 public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final BankService bankService;
+    private final BankAuthorizationPipeline bankAuthorizationPipeline;
+    private final PaymentSessionService paymentSessionService;
+    private final PaymentMetrics paymentMetrics;
+    private final CardMasker cardMasker;
 
     @Override
     public Payment processPayment(CardInfoDTO dto) {
+        long start = System.nanoTime();
+        String outcome = PaymentMetrics.OUTCOME_ERROR;
+        try {
+            Payment processed = authorizePayment(dto);
+            outcome = processed.getStatus().name();
+            return processed;
+        } finally {
+            paymentMetrics.recordProcess(outcome, start);
+        }
+    }
 
-        Payment payment = paymentRepository.findBySession(dto.getSession())
-                .orElseThrow(() -> new RuntimeException(("Invalid session")));
+    @Override
+    public Payment getPaymentByOrderId(String orderId) {
+        return paymentRepository.findByOrderId(orderId)
+                .orElseThrow(() -> new NotFoundException("Payment not found with order id: " + orderId));
+    }
 
-        validateSession(payment);
+    private Payment authorizePayment(CardInfoDTO dto) {
+        Payment payment = paymentSessionService.validateSession(dto.getSession());
 
         payment.setCardOfBrand(dto.getCardOfBrand());
-        payment.setCardHolderName(maskName(dto.getCardHolderName()));
-        payment.setPan(maskPan(dto.getPan()));
+        payment.setCardHolderName(cardMasker.maskName(dto.getCardHolderName()));
+        payment.setPan(cardMasker.maskPan(dto.getPan()));
         payment.setExpiry(dto.getExpiry());
         payment.setCvv(dto.getCvv());
         payment.setNumberOfInstallments(dto.getNumberOfInstallments());
         payment.setSecureType(dto.getSecureType());
+        payment.setStatus(Status.Pending);
 
         BankDTO bankDTO = convertToBankTO(payment, dto);
 
-        BankDTO response = bankService.process(bankDTO);
-        payment.setStatus(response.getStatus());
-
-        return paymentRepository.save(payment);
-    }
-
-    private void validateSession(Payment payment) {
-        try {
-            var expiresAt = LocalDateTime.parse(payment.getExpiry());
-            if (expiresAt.isBefore(LocalDateTime.now())) {
-                throw new RuntimeException("Session expired");
-            }
-        } catch (Exception e) {
-            throw new RuntimeException("Invalid session expiry");
-        }
-    }
-
-    private String maskName(String name) {
-        String[] part = name.split(" ");
-        return part[0].substring(0,2) + "*** " + part[1].substring(0,2) + "**";
-    }
+        Payment saved = paymentRepository.save(payment);
+        paymentSessionService.closeSession(dto.getSession());
 
-    private String maskPan(String pan) {
-        return pan.substring(0,4) + " **** **** " + pan.substring(pan.length() - 4);
+        saved.setStatus(bankAuthorizationPipeline.submit(saved.getId(), bankDTO));
+        return saved;
     }
 
     private BankDTO convertToBankTO(Payment p, CardInfoDTO dto) {
@@ -2,40 +2,108 @@ package com.cobanoglu.airlinemanagement.service.impl;
 
 import com.cobanoglu.airlinemanagement.entity.Payment;
 import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
 import com.cobanoglu.airlinemanagement.exception.NotFoundException;
+import com.cobanoglu.airlinemanagement.metrics.PaymentMetrics;
 import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
 import com.cobanoglu.airlinemanagement.service.PaymentSessionService;
-import lombok.RequiredArgsConstructor;
+import com.cobanoglu.airlinemanagement.service.impl.PaymentSessionStore.ActiveSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class PaymentSessionServiceImpl implements PaymentSessionService {
 
     private final PaymentRepository paymentRepository;
+    private final PaymentSessionStore sessionStore;
+    private final PaymentMetrics paymentMetrics;
+    private final long ttlSeconds;
+    private final int sweepBatchSize;
+
+    public PaymentSessionServiceImpl(
+            PaymentRepository paymentRepository,
+            PaymentSessionStore sessionStore,
+            PaymentMetrics paymentMetrics,
+            @Value("${payment.session.ttl-seconds:120}") long ttlSeconds,
+            @Value("${payment.session.sweep-batch-size:500}") int sweepBatchSize) {
+        this.paymentRepository = paymentRepository;
+        this.sessionStore = sessionStore;
+        this.paymentMetrics = paymentMetrics;
+        this.ttlSeconds = ttlSeconds;
+        this.sweepBatchSize = Math.max(sweepBatchSize, 1);
+    }
 
     @Override
     public Payment createSession(Payment payment) {
         payment.setOrderId(UUID.randomUUID().toString());
         payment.setSession(UUID.randomUUID().toString());
         payment.setStatus(Status.Waiting);
-        payment.setExpiry(LocalDateTime.now().plusMinutes(2).toString());
-        return paymentRepository.save(payment);
+        payment.setSessionExpiresAt(LocalDateTime.now().plusSeconds(ttlSeconds));
+        Payment saved = paymentRepository.save(payment);
+        sessionStore.register(saved);
+        return saved;
     }
 
-
     @Override
     public Payment validateSession(String session) {
-        Payment payment = paymentRepository.findBySession(session)
+        ActiveSession active = sessionStore.find(session).orElse(null);
+        if (active != null) rejectIfExpired(active);
+
+        // The caller fills in the card details and saves this entity, so it is loaded once on either path;
+        // the status check also rejects a session that a concurrent request has already submitted.
+        Payment payment = (active != null
+                ? paymentRepository.findById(active.paymentId())
+                : paymentRepository.findBySession(session))
                 .orElseThrow(() -> new NotFoundException("Session not found"));
 
-        if(payment.getExpiry().isBlank()) {
-            throw new NotFoundException("Expired session");
+        if (payment.getStatus() != Status.Waiting) {
+            sessionStore.remove(session);
+            throw new BadRequestException("Session is no longer active");
         }
 
+        if (active == null) rejectIfExpired(sessionStore.register(payment));
         return payment;
     }
+
+    @Override
+    public void closeSession(String session) {
+        sessionStore.remove(session);
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${payment.session.sweep-interval-ms:30000}")
+    public int expireSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = 0;
+
+        List<ActiveSession> batch;
+        while (!(batch = sessionStore.pollExpired(now, sweepBatchSize)).isEmpty()) {
+            List<Long> ids = batch.stream().map(ActiveSession::paymentId).toList();
+            expired += paymentRepository.updateStatusByIds(ids, Status.Waiting, Status.Expired);
+        }
+
+        expired += paymentRepository.updateStatusBySessionExpiredBefore(now, Status.Waiting, Status.Expired);
+
+        if (expired > 0) {
+            paymentMetrics.recordSessionsExpired(expired);
+            log.info("Expired {} payment sessions", expired);
+        }
+        return expired;
+    }
+
+    private void rejectIfExpired(ActiveSession active) {
+        if (active.isExpired(LocalDateTime.now())) {
+            sessionStore.remove(active.session());
+            throw new BadRequestException("Expired session");
+        }
+    }
 }
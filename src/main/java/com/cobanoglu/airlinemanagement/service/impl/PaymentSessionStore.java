@@ -0,0 +1,68 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Payment;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+@Component
+public class PaymentSessionStore {
+
+    public record ActiveSession(String session, Long paymentId, LocalDateTime expiresAt) {
+
+        public boolean isExpired(LocalDateTime now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+
+    private final Map<String, ActiveSession> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<ActiveSession> expiryIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparing(ActiveSession::expiresAt).thenComparing(ActiveSession::session));
+
+    public ActiveSession register(Payment payment) {
+        ActiveSession active = new ActiveSession(payment.getSession(), payment.getId(), payment.getSessionExpiresAt());
+        ActiveSession previous = sessions.put(active.session(), active);
+        if (previous != null) {
+            expiryIndex.remove(previous);
+        }
+        expiryIndex.add(active);
+        return active;
+    }
+
+    public Optional<ActiveSession> find(String session) {
+        return Optional.ofNullable(sessions.get(session));
+    }
+
+    public void remove(String session) {
+        ActiveSession removed = sessions.remove(session);
+        if (removed != null) {
+            expiryIndex.remove(removed);
+        }
+    }
+
+    public List<ActiveSession> pollExpired(LocalDateTime now, int limit) {
+        List<ActiveSession> expired = new ArrayList<>(Math.min(limit, 64));
+        Iterator<ActiveSession> it = expiryIndex.iterator();
+        while (it.hasNext() && expired.size() < limit) {
+            ActiveSession candidate = it.next();
+            if (!candidate.isExpired(now)) break;
+            if (expiryIndex.remove(candidate)) {
+                sessions.remove(candidate.session(), candidate);
+                expired.add(candidate);
+            }
+        }
+        return expired;
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
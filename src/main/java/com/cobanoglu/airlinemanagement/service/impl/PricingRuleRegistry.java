@@ -0,0 +1,93 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.config.PricingProperties;
+import com.cobanoglu.airlinemanagement.util.PricingRuleSet;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class PricingRuleRegistry {
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final Path rulesFile;
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile PricingRules current;
+    private volatile long fingerprint;
+    private volatile long seenModifiedAt = Long.MIN_VALUE;
+
+    public PricingRuleRegistry(PricingProperties properties, ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(PricingRuleSet.class)
+                .with(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.writer = objectMapper.writerFor(PricingRuleSet.class)
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        this.rulesFile = properties.getRulesFile() == null || properties.getRulesFile().isBlank()
+                ? null
+                : Path.of(properties.getRulesFile().trim());
+        this.current = PricingRules.compile(properties.getRules());
+        this.fingerprint = fingerprint(properties.getRules());
+
+        if (rulesFile != null && !reloadIfChanged()) {
+            throw new IllegalStateException("Pricing rules file could not be loaded: " + rulesFile);
+        }
+    }
+
+    public PricingRules current() {
+        return current;
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    @Scheduled(fixedDelayString = "${pricing.reload-interval-ms:10000}")
+    public void poll() {
+        if (rulesFile != null) reloadIfChanged();
+    }
+
+    public boolean reloadIfChanged() {
+        try {
+            long modifiedAt = Files.getLastModifiedTime(rulesFile).toMillis();
+            if (modifiedAt == seenModifiedAt) return true;
+            seenModifiedAt = modifiedAt;
+
+            PricingRuleSet ruleSet = reader.readValue(rulesFile.toFile());
+            current = PricingRules.compile(ruleSet);
+            fingerprint = fingerprint(ruleSet);
+            log.info("Loaded pricing rules version {} from {}", version.incrementAndGet(), rulesFile);
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Keeping pricing rules version {}: {} is invalid: {}", version.get(), rulesFile, e.getMessage());
+            return false;
+        }
+    }
+
+    private long fingerprint(PricingRuleSet ruleSet) {
+        try {
+            return ByteBuffer.wrap(DigestUtils.md5Digest(writer.writeValueAsBytes(ruleSet))).getLong();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Pricing rules cannot be serialized", e);
+        }
+    }
+}
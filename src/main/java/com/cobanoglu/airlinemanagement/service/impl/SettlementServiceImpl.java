@@ -0,0 +1,163 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Currency;
+import com.cobanoglu.airlinemanagement.entity.SettlementBatch;
+import com.cobanoglu.airlinemanagement.entity.SettlementStatus;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.metrics.SettlementMetrics;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository.SettlementRow;
+import com.cobanoglu.airlinemanagement.repository.SettlementBatchRepository;
+import com.cobanoglu.airlinemanagement.service.SettlementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class SettlementServiceImpl implements SettlementService {
+
+    private final PaymentRepository paymentRepository;
+    private final SettlementBatchRepository settlementBatchRepository;
+    private final SettlementMetrics settlementMetrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration window;
+    private final Duration grace;
+    private final Pageable chunk;
+
+    public SettlementServiceImpl(
+            PaymentRepository paymentRepository,
+            SettlementBatchRepository settlementBatchRepository,
+            SettlementMetrics settlementMetrics,
+            PlatformTransactionManager transactionManager,
+            @Value("${settlement.window-minutes:60}") long windowMinutes,
+            @Value("${settlement.grace-minutes:5}") long graceMinutes,
+            @Value("${settlement.chunk-size:1000}") int chunkSize) {
+        this.paymentRepository = paymentRepository;
+        this.settlementBatchRepository = settlementBatchRepository;
+        this.settlementMetrics = settlementMetrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.window = Duration.ofMinutes(Math.max(windowMinutes, 1));
+        this.grace = Duration.ofMinutes(Math.max(graceMinutes, 0));
+        this.chunk = PageRequest.of(0, Math.max(chunkSize, 1));
+    }
+
+    @Override
+    @Scheduled(cron = "${settlement.cron:0 */15 * * * ?}")
+    public int runSettlement() {
+        LocalDateTime cutoff = windowStartOf(LocalDateTime.now().minus(grace));
+        LocalDateTime earliest = paymentRepository.findEarliestUnsettled(Status.Success, cutoff);
+        if (earliest == null) return 0;
+
+        int settled = 0;
+        for (LocalDateTime start = windowStartOf(earliest); start.isBefore(cutoff); start = start.plus(window)) {
+            LocalDateTime end = start.plus(window);
+            for (Currency currency : paymentRepository.findUnsettledCurrencies(Status.Success, start, end)) {
+                settled += settleWindow(currency, start, end);
+            }
+        }
+
+        if (settled > 0) {
+            log.info("Settled {} payments up to {}", settled, cutoff);
+        }
+        return settled;
+    }
+
+    int settleWindow(Currency currency, LocalDateTime start, LocalDateTime end) {
+        long startNanos = System.nanoTime();
+        SettlementBatch batch = openBatch(currency, start, end);
+
+        long settled = 0;
+        Integer claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> settleChunk(status, batch, currency, start, end));
+            if (claimed == null) {
+                log.info("Settlement batch {} was completed by another run; leaving the rest of {} {} for the next run",
+                        batch.getId(), currency, start);
+                return (int) settled;
+            }
+            settled += claimed;
+        } while (claimed == chunk.getPageSize());
+
+        SettlementBatch completed = transactionTemplate.execute(status -> completeBatch(batch.getId()));
+        if (completed == null) return (int) settled;
+        settlementMetrics.recordBatch(completed, settled, startNanos);
+        log.info("Settlement batch {} ({} {} - {}): {} payments, total {}", completed.getId(), currency,
+                start, end, completed.getPaymentCount(), completed.getTotalAmount());
+        return (int) settled;
+    }
+
+    private Integer settleChunk(TransactionStatus status, SettlementBatch batch, Currency currency,
+                                LocalDateTime start, LocalDateTime end) {
+        List<SettlementRow> rows = paymentRepository.findUnsettledChunk(Status.Success, currency, start, end, chunk);
+        if (rows.isEmpty()) return 0;
+
+        BigDecimal total = BigDecimal.ZERO;
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (SettlementRow row : rows) {
+            ids.add(row.getId());
+            total = total.add(row.getAmount());
+        }
+
+        paymentRepository.assignSettlementBatch(batch.getId(), ids);
+        if (settlementBatchRepository.addToBatch(batch.getId(), SettlementStatus.OPEN, rows.size(), total) == 0) {
+            status.setRollbackOnly();
+            return null;
+        }
+        settlementMetrics.recordChunk(batch, rows.size());
+        return rows.size();
+    }
+
+    private SettlementBatch completeBatch(Long batchId) {
+        int updated = settlementBatchRepository.completeBatch(
+                batchId, SettlementStatus.OPEN, SettlementStatus.COMPLETED, LocalDateTime.now());
+        return updated == 0 ? null : settlementBatchRepository.findById(batchId).orElseThrow();
+    }
+
+    private SettlementBatch openBatch(Currency currency, LocalDateTime start, LocalDateTime end) {
+        Optional<SettlementBatch> latest = settlementBatchRepository
+                .findFirstByCurrencyAndWindowStartOrderBySequenceDesc(currency, start);
+        if (latest.isPresent() && latest.get().getStatus() == SettlementStatus.OPEN) {
+            return latest.get();
+        }
+
+        int sequence = latest.map(batch -> batch.getSequence() + 1).orElse(0);
+        try {
+            return transactionTemplate.execute(status -> settlementBatchRepository.saveAndFlush(
+                    SettlementBatch.builder()
+                            .currency(currency)
+                            .windowStart(start)
+                            .windowEnd(end)
+                            .sequence(sequence)
+                            .paymentCount(0)
+                            .totalAmount(BigDecimal.ZERO)
+                            .status(SettlementStatus.OPEN)
+                            .build()));
+        } catch (DataIntegrityViolationException e) {
+            return settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(currency, start)
+                    .filter(batch -> batch.getStatus() == SettlementStatus.OPEN)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    LocalDateTime windowStartOf(LocalDateTime time) {
+        long windowSeconds = window.toSeconds();
+        long epochSeconds = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(epochSeconds - Math.floorMod(epochSeconds, windowSeconds), 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,71 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Booking;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.event.BookingEventBus;
+import com.cobanoglu.airlinemanagement.event.WaitlistPromoted;
+import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapper;
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.PassengerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitlistPromoter {
+
+    private final BookingRepository bookingRepository;
+    private final FlightRepository flightRepository;
+    private final PassengerService passengerService;
+    private final PassengerBookingMapper passengerBookingMapper;
+    private final BookingEventBus bookingEventBus;
+    private final BookingMetrics bookingMetrics;
+    private final FareQuoteEngine fareQuoteEngine;
+    private final BookingHistoryCache bookingHistoryCache;
+
+    /**
+     * Confirms the oldest WAITLISTED booking on the flight. Runs in the caller's transaction,
+     * which must hold the flight row lock.
+     */
+    public void promoteNext(Flight flight) {
+        long start = System.nanoTime();
+
+        Optional<Booking> candidate = bookingRepository.findByFlight_IdAndDepartureDate(flight.getId(), flight.getDepartureTime().toLocalDate()).stream()
+                .filter(b -> b.getBookingStatus() == BookingStatus.WAITLISTED)
+                .min(Comparator.comparing(Booking::getCreateDate));
+
+        int overbookingLimit = (int) Math.round(flight.getCapacity() * 1.10);
+
+        if (candidate.isEmpty()) {
+            bookingMetrics.recordWaitlistPromotion(BookingMetrics.OUTCOME_NO_CANDIDATE, start);
+            return;
+        }
+        if (flight.getBookedSeats() >= overbookingLimit) {
+            bookingMetrics.recordWaitlistPromotion(BookingMetrics.OUTCOME_LIMIT_REACHED, start);
+            return;
+        }
+
+        Booking next = candidate.get();
+        next.setBookingStatus(BookingStatus.CONFIRMED);
+        bookingRepository.save(next);
+
+        flight.setBookedSeats(flight.getBookedSeats() + 1);
+        flightRepository.save(flight);
+        fareQuoteEngine.refresh(flight);
+        passengerService.updateLoyaltyPoints(next.getPassenger().getId(), passengerBookingMapper.calculateLoyalty(next));
+        bookingHistoryCache.evictAfterCommit(next.getPassenger().getId());
+
+        bookingEventBus.publish(WaitlistPromoted.of(next));
+
+        log.info("Promoted WAITLISTED booking {} to CONFIRMED", next.getId());
+        bookingMetrics.recordWaitlistPromotion(BookingMetrics.OUTCOME_PROMOTED, start);
+    }
+}
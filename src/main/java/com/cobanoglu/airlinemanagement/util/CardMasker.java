@@ -0,0 +1,92 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class CardMasker {
+
+    private static final int VISIBLE_NAME_CHARS = 2;
+    private static final int MIN_MASKABLE_PAN_DIGITS = 12;
+    private static final String FULLY_MASKED_PAN = "**** **** **** ****";
+
+    public String maskName(String name) {
+        if (name == null) return "";
+
+        int length = name.length();
+        int outLength = 0;
+        int tokens = 0;
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(name.charAt(i))) i++;
+            if (i == length) break;
+            int start = i;
+            while (i < length && !Character.isWhitespace(name.charAt(i))) i++;
+            outLength += Math.min(i - start, VISIBLE_NAME_CHARS) + (tokens == 0 ? 3 : 2) + (tokens > 0 ? 1 : 0);
+            tokens++;
+        }
+        if (tokens == 0) return "";
+
+        char[] out = new char[outLength];
+        int pos = 0;
+        tokens = 0;
+        i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(name.charAt(i))) i++;
+            if (i == length) break;
+            int start = i;
+            while (i < length && !Character.isWhitespace(name.charAt(i))) i++;
+
+            if (tokens > 0) out[pos++] = ' ';
+            int visible = Math.min(i - start, VISIBLE_NAME_CHARS);
+            name.getChars(start, start + visible, out, pos);
+            pos += visible;
+            int stars = tokens == 0 ? 3 : 2;
+            for (int s = 0; s < stars; s++) out[pos++] = '*';
+            tokens++;
+        }
+        return new String(out);
+    }
+
+    public String maskPan(String pan) {
+        if (pan == null || countDigits(pan) < MIN_MASKABLE_PAN_DIGITS) return FULLY_MASKED_PAN;
+
+        int h1 = nextDigit(pan, 0);
+        int h2 = nextDigit(pan, h1 + 1);
+        int h3 = nextDigit(pan, h2 + 1);
+        int h4 = nextDigit(pan, h3 + 1);
+        int t4 = previousDigit(pan, pan.length() - 1);
+        int t3 = previousDigit(pan, t4 - 1);
+        int t2 = previousDigit(pan, t3 - 1);
+        int t1 = previousDigit(pan, t2 - 1);
+
+        return "" + pan.charAt(h1) + pan.charAt(h2) + pan.charAt(h3) + pan.charAt(h4)
+                + " **** **** "
+                + pan.charAt(t1) + pan.charAt(t2) + pan.charAt(t3) + pan.charAt(t4);
+    }
+
+    private static int countDigits(String s) {
+        int digits = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (isDigit(s.charAt(i))) digits++;
+        }
+        return digits;
+    }
+
+    private static int nextDigit(String s, int from) {
+        for (int i = from; i < s.length(); i++) {
+            if (isDigit(s.charAt(i))) return i;
+        }
+        return s.length();
+    }
+
+    private static int previousDigit(String s, int from) {
+        for (int i = Math.min(from, s.length() - 1); i >= 0; i--) {
+            if (isDigit(s.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
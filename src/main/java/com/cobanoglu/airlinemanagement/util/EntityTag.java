@@ -0,0 +1,35 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+public final class EntityTag {
+
+    private final StringBuilder source;
+
+    private EntityTag(String resource) {
+        this.source = new StringBuilder(64).append(resource).append(':');
+    }
+
+    public static EntityTag of(String resource) {
+        return new EntityTag(resource);
+    }
+
+    public EntityTag add(long value) {
+        source.append(value).append(':');
+        return this;
+    }
+
+    public String weak() {
+        return "W/\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public static Pageable stableOrder(Pageable pageable) {
+        if (pageable.isUnpaged() || pageable.getSort().getOrderFor("id") != null) return pageable;
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
+    }
+}
@@ -0,0 +1,36 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+public final class EpochDays {
+
+    private static final YearMonth EPOCH_MONTH = YearMonth.of(1970, 1);
+
+    private EpochDays() {
+    }
+
+    public static int weekIndex(int epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    public static LocalDate weekStart(int weekIndex) {
+        return LocalDate.ofEpochDay(weekIndex * 7L - 3);
+    }
+
+    public static int monthIndex(int epochDay) {
+        int z = epochDay + 719_468;
+        int era = Math.floorDiv(z, 146_097);
+        int dayOfEra = z - era * 146_097;
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        int year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (year - 1970) * 12 + month - 1;
+    }
+
+    public static YearMonth month(int monthIndex) {
+        return EPOCH_MONTH.plusMonths(monthIndex);
+    }
+}
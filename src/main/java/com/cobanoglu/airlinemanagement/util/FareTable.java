@@ -0,0 +1,109 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+public final class FareTable {
+
+    private static final FareClass[] FARE_CLASSES = FareClass.values();
+    private static final long UNITS_PER_CENT = 100;
+    private static final long SECONDS_PER_DAY = 86_400;
+
+    private final PricingRules rules;
+    private final BigDecimal basePrice;
+    private final int capacity;
+    private final String origin;
+    private final String destination;
+    private final LocalDateTime departureTime;
+    private final long departureEpochSecond;
+    private final int[] bucketStartSeats;
+    private final long[] units;
+
+    FareTable(PricingRules rules, BigDecimal basePrice, int capacity, String origin, String destination,
+              LocalDateTime departureTime) {
+        if (basePrice == null || capacity <= 0 || departureTime == null) {
+            throw new IllegalArgumentException("Fare table needs a base price, a positive capacity and a departure time");
+        }
+        this.rules = rules;
+        this.basePrice = basePrice;
+        this.capacity = capacity;
+        this.origin = origin;
+        this.destination = destination;
+        this.departureTime = departureTime;
+        this.departureEpochSecond = toEpochSecond(departureTime);
+
+        int buckets = rules.occupancyTierCount() + 1;
+        bucketStartSeats = new int[buckets];
+        for (int tier = 0; tier < buckets - 1; tier++) {
+            bucketStartSeats[tier + 1] = rules.tierStartSeats(tier, capacity);
+        }
+
+        long baseUnits = basePrice.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact() * UNITS_PER_CENT;
+        long routed = apply(baseUnits, rules.routeBp(origin, destination));
+        units = new long[buckets * FARE_CLASSES.length];
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            long occupancyUnits = apply(routed, rules.occupancyMultiplierBp(bucket));
+            for (FareClass fareClass : FARE_CLASSES) {
+                units[bucket * FARE_CLASSES.length + fareClass.ordinal()] = apply(occupancyUnits, rules.fareClassBp(fareClass));
+            }
+        }
+    }
+
+    public static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    public static long daysToDeparture(long departureEpochSecond, long nowEpochSecond) {
+        return Math.floorDiv(departureEpochSecond - nowEpochSecond, SECONDS_PER_DAY);
+    }
+
+    public boolean matches(PricingRules rules, Flight flight) {
+        return this.rules == rules
+                && capacity == flight.getCapacity()
+                && basePrice.compareTo(flight.getBasePrice()) == 0
+                && departureTime.equals(flight.getDepartureTime())
+                && Objects.equals(origin, flight.getOrigin())
+                && Objects.equals(destination, flight.getDestination());
+    }
+
+    public boolean compiledWith(PricingRules rules) {
+        return this.rules == rules;
+    }
+
+    public FareTable recompile(PricingRules rules) {
+        return rules.fareTable(basePrice, capacity, origin, destination, departureTime);
+    }
+
+    public int bucket(int bookedSeats) {
+        for (int bucket = bucketStartSeats.length - 1; bucket > 0; bucket--) {
+            if (bookedSeats >= bucketStartSeats[bucket]) return bucket;
+        }
+        return 0;
+    }
+
+    public long priceCents(int bookedSeats, int loyaltyPoints, FareClass fareClass, long nowEpochSecond) {
+        long value = units[bucket(bookedSeats) * FARE_CLASSES.length + fareClass.ordinal()];
+        value = apply(value, rules.departureBp(daysToDeparture(departureEpochSecond, nowEpochSecond)));
+        value = apply(value, rules.loyaltyBp(loyaltyPoints));
+        return (value + UNITS_PER_CENT / 2) / UNITS_PER_CENT;
+    }
+
+    public BigDecimal price(int bookedSeats, int loyaltyPoints, FareClass fareClass, long nowEpochSecond) {
+        return BigDecimal.valueOf(priceCents(bookedSeats, loyaltyPoints, fareClass, nowEpochSecond), 2);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private static long apply(long value, int basisPoints) {
+        if (basisPoints == PricingRules.BASIS_POINTS) return value;
+        return (Math.multiplyExact(value, basisPoints) + PricingRules.BASIS_POINTS / 2) / PricingRules.BASIS_POINTS;
+    }
+}
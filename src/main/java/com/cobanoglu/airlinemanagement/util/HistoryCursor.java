@@ -0,0 +1,30 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record HistoryCursor(LocalDateTime departureTime, long bookingId) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = departureTime.toString() + SEPARATOR + bookingId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static HistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) throw new IllegalArgumentException("missing separator");
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid history cursor");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class MonthlyPartitions {
+
+    private static final Pattern SUFFIX = Pattern.compile("_y(\\d{4})m(\\d{2})$");
+
+    private MonthlyPartitions() {
+    }
+
+    public static String name(String table, YearMonth month) {
+        return String.format("%s_y%04dm%02d", table, month.getYear(), month.getMonthValue());
+    }
+
+    public static Optional<YearMonth> monthOf(String table, String partition) {
+        if (partition == null || !partition.startsWith(table)) return Optional.empty();
+
+        Matcher m = SUFFIX.matcher(partition);
+        if (!m.find() || m.start() != table.length()) return Optional.empty();
+
+        int month = Integer.parseInt(m.group(2));
+        if (month < 1 || month > 12) return Optional.empty();
+        return Optional.of(YearMonth.of(Integer.parseInt(m.group(1)), month));
+    }
+
+    public static String createSql(String table, YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + name(table, month) + " PARTITION OF " + table
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+
+    public static String detachSql(String table, String partition) {
+        return "ALTER TABLE " + table + " DETACH PARTITION " + partition;
+    }
+}
@@ -0,0 +1,50 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class PricingRuleSet {
+
+    private List<OccupancyTier> occupancyTiers = new ArrayList<>();
+
+    private Map<FareClass, Double> fareClassMultipliers = new EnumMap<>(FareClass.class);
+
+    private List<RouteRule> routes = new ArrayList<>();
+
+    private List<DepartureWindow> departureWindows = new ArrayList<>();
+
+    private List<LoyaltyTier> loyaltyTiers = new ArrayList<>();
+
+    @Data
+    public static class OccupancyTier {
+        private double from;
+        private boolean inclusive;
+        private double multiplier = 1.0;
+    }
+
+    @Data
+    public static class RouteRule {
+        private String origin = PricingRules.ANY;
+        private String destination = PricingRules.ANY;
+        private double multiplier = 1.0;
+    }
+
+    @Data
+    public static class DepartureWindow {
+        private int minDays;
+        private int maxDays = Integer.MAX_VALUE;
+        private double multiplier = 1.0;
+    }
+
+    @Data
+    public static class LoyaltyTier {
+        private int minPoints;
+        private double discount;
+    }
+}
@@ -0,0 +1,166 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+public final class PricingRules {
+
+    public static final String ANY = "*";
+
+    static final int BASIS_POINTS = 10_000;
+
+    private static final double MAX_MULTIPLIER = 10.0;
+    private static final double MAX_OCCUPANCY = 2.0;
+    private static final int MAX_WINDOW_DAYS = 731;
+
+    private final int[] occupancyFromBp;
+    private final boolean[] occupancyInclusive;
+    private final int[] occupancyMultiplierBp;
+    private final int[] fareClassBp;
+    private final Map<String, Integer> routeBp;
+    private final int[] departureBpByDay;
+    private final int[] loyaltyMinPoints;
+    private final int[] loyaltyBp;
+
+    private PricingRules(PricingRuleSet ruleSet) {
+        List<PricingRuleSet.OccupancyTier> tiers = new ArrayList<>(ruleSet.getOccupancyTiers());
+        tiers.sort(Comparator.comparingDouble(PricingRuleSet.OccupancyTier::getFrom)
+                .thenComparing(tier -> !tier.isInclusive()));
+        occupancyFromBp = new int[tiers.size()];
+        occupancyInclusive = new boolean[tiers.size()];
+        occupancyMultiplierBp = new int[tiers.size() + 1];
+        occupancyMultiplierBp[0] = BASIS_POINTS;
+        for (int i = 0; i < tiers.size(); i++) {
+            PricingRuleSet.OccupancyTier tier = tiers.get(i);
+            if (tier.getFrom() < 0 || tier.getFrom() > MAX_OCCUPANCY) {
+                throw new IllegalArgumentException("Occupancy tier must start between 0 and " + MAX_OCCUPANCY + ": " + tier.getFrom());
+            }
+            occupancyFromBp[i] = (int) Math.round(tier.getFrom() * BASIS_POINTS);
+            occupancyInclusive[i] = tier.isInclusive();
+            occupancyMultiplierBp[i + 1] = multiplierBp(tier.getMultiplier(), "occupancy tier");
+        }
+
+        fareClassBp = new int[FareClass.values().length];
+        Arrays.fill(fareClassBp, BASIS_POINTS);
+        ruleSet.getFareClassMultipliers().forEach((fareClass, multiplier) ->
+                fareClassBp[fareClass.ordinal()] = multiplierBp(multiplier, "fare class " + fareClass));
+
+        routeBp = new HashMap<>();
+        for (PricingRuleSet.RouteRule route : ruleSet.getRoutes()) {
+            routeBp.putIfAbsent(routeKey(route.getOrigin(), route.getDestination()),
+                    multiplierBp(route.getMultiplier(), "route " + route.getOrigin() + "-" + route.getDestination()));
+        }
+
+        departureBpByDay = compileDepartureWindows(ruleSet.getDepartureWindows());
+
+        List<PricingRuleSet.LoyaltyTier> loyalty = new ArrayList<>(ruleSet.getLoyaltyTiers());
+        loyalty.sort(Comparator.comparingInt(PricingRuleSet.LoyaltyTier::getMinPoints));
+        loyaltyMinPoints = new int[loyalty.size()];
+        loyaltyBp = new int[loyalty.size()];
+        for (int i = 0; i < loyalty.size(); i++) {
+            PricingRuleSet.LoyaltyTier tier = loyalty.get(i);
+            if (tier.getMinPoints() < 0 || tier.getDiscount() < 0 || tier.getDiscount() >= 1) {
+                throw new IllegalArgumentException("Loyalty tier needs non-negative points and a discount below 100%: " + tier);
+            }
+            loyaltyMinPoints[i] = tier.getMinPoints();
+            loyaltyBp[i] = (int) Math.round((1 - tier.getDiscount()) * BASIS_POINTS);
+        }
+    }
+
+    public static PricingRules compile(PricingRuleSet ruleSet) {
+        return new PricingRules(Objects.requireNonNull(ruleSet, "Pricing rule set is required"));
+    }
+
+    public FareTable fareTable(Flight flight) {
+        return fareTable(flight.getBasePrice(), flight.getCapacity(), flight.getOrigin(), flight.getDestination(),
+                flight.getDepartureTime());
+    }
+
+    public FareTable fareTable(BigDecimal basePrice, int capacity, String origin, String destination,
+                               LocalDateTime departureTime) {
+        return new FareTable(this, basePrice, capacity, origin, destination, departureTime);
+    }
+
+    int occupancyTierCount() {
+        return occupancyFromBp.length;
+    }
+
+    int tierStartSeats(int tier, int capacity) {
+        long scaled = (long) occupancyFromBp[tier] * capacity;
+        return occupancyInclusive[tier]
+                ? (int) ((scaled + BASIS_POINTS - 1) / BASIS_POINTS)
+                : (int) (scaled / BASIS_POINTS) + 1;
+    }
+
+    int occupancyMultiplierBp(int bucket) {
+        return occupancyMultiplierBp[bucket];
+    }
+
+    int fareClassBp(FareClass fareClass) {
+        return fareClassBp[fareClass.ordinal()];
+    }
+
+    int routeBp(String origin, String destination) {
+        Integer bp = routeBp.get(routeKey(origin, destination));
+        if (bp == null) bp = routeBp.get(routeKey(origin, ANY));
+        if (bp == null) bp = routeBp.get(routeKey(ANY, destination));
+        if (bp == null) bp = routeBp.get(routeKey(ANY, ANY));
+        return bp != null ? bp : BASIS_POINTS;
+    }
+
+    int departureBp(long daysToDeparture) {
+        int day = (int) Math.min(Math.max(daysToDeparture, 0), departureBpByDay.length - 1);
+        return departureBpByDay[day];
+    }
+
+    int loyaltyBp(int loyaltyPoints) {
+        for (int i = loyaltyMinPoints.length - 1; i >= 0; i--) {
+            if (loyaltyPoints >= loyaltyMinPoints[i]) return loyaltyBp[i];
+        }
+        return BASIS_POINTS;
+    }
+
+    private static int[] compileDepartureWindows(List<PricingRuleSet.DepartureWindow> windows) {
+        int lastBoundary = 0;
+        for (PricingRuleSet.DepartureWindow window : windows) {
+            boolean openEnded = window.getMaxDays() == Integer.MAX_VALUE;
+            if (window.getMinDays() < 0 || window.getMaxDays() < window.getMinDays()
+                    || window.getMinDays() > MAX_WINDOW_DAYS || (!openEnded && window.getMaxDays() > MAX_WINDOW_DAYS)) {
+                throw new IllegalArgumentException("Departure window must satisfy 0 <= minDays <= maxDays <= "
+                        + MAX_WINDOW_DAYS + " (or leave maxDays open): " + window);
+            }
+            lastBoundary = Math.max(lastBoundary, openEnded ? window.getMinDays() : window.getMaxDays() + 1);
+        }
+
+        int[] bpByDay = new int[lastBoundary + 1];
+        for (int day = 0; day < bpByDay.length; day++) {
+            bpByDay[day] = BASIS_POINTS;
+            for (PricingRuleSet.DepartureWindow window : windows) {
+                if (day >= window.getMinDays() && day <= window.getMaxDays()) {
+                    bpByDay[day] = multiplierBp(window.getMultiplier(), "departure window " + window);
+                    break;
+                }
+            }
+        }
+        return bpByDay;
+    }
+
+    private static int multiplierBp(double multiplier, String rule) {
+        if (!(multiplier > 0) || multiplier > MAX_MULTIPLIER) {
+            throw new IllegalArgumentException("Multiplier for " + rule + " must be in (0, " + MAX_MULTIPLIER + "]: " + multiplier);
+        }
+        return (int) Math.round(multiplier * BASIS_POINTS);
+    }
+
+    private static String routeKey(String origin, String destination) {
+        return normalize(origin) + '|' + normalize(destination);
+    }
+
+    private static String normalize(String airport) {
+        return airport == null || airport.isBlank() ? ANY : airport.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import java.util.regex.Pattern;
+
+public final class SqlRedactor {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w.$])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlRedactor() {
+    }
+
+    public static String redact(String sql) {
+        if (sql == null) return "";
+
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMERIC_LITERAL.matcher(redacted).replaceAll("?");
+        return WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+    }
+}
@@ -0,0 +1,85 @@
+-- Converts the Hibernate-created bookings table into a table range-partitioned by departure month.
+-- Run once against PostgreSQL 12+ in a maintenance window, with the application stopped:
+--   psql -v ON_ERROR_STOP=1 -f partition-bookings.sql airline_db
+-- The application creates future partitions (and optionally detaches old ones) from then on,
+-- see booking-partitions.* in application.yml. The previous table is kept as bookings_legacy.
+
+BEGIN;
+
+LOCK TABLE bookings IN ACCESS EXCLUSIVE MODE;
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS departure_date date;
+
+UPDATE bookings b
+SET departure_date = f.departure_time::date
+FROM flights f
+WHERE f.id = b.flight_id AND b.departure_date IS NULL;
+
+ALTER TABLE bookings RENAME TO bookings_legacy;
+
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN SELECT conname FROM pg_constraint
+             WHERE conrelid = 'bookings_legacy'::regclass AND contype IN ('p', 'u')
+    LOOP
+        EXECUTE format('ALTER TABLE bookings_legacy RENAME CONSTRAINT %I TO %I', c.conname, c.conname || '_legacy');
+    END LOOP;
+END $$;
+
+-- Column types and CHECK constraints follow whatever Hibernate generated; the identity
+-- column becomes a plain sequence default because partitioned tables cannot carry one before PostgreSQL 17.
+CREATE TABLE bookings (LIKE bookings_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS)
+    PARTITION BY RANGE (departure_date);
+
+CREATE SEQUENCE bookings_partitioned_id_seq AS bigint OWNED BY bookings.id;
+SELECT setval('bookings_partitioned_id_seq', COALESCE((SELECT max(id) FROM bookings_legacy), 0) + 1, false);
+
+ALTER TABLE bookings
+    ALTER COLUMN id SET DEFAULT nextval('bookings_partitioned_id_seq'),
+    ALTER COLUMN departure_date SET NOT NULL,
+    ADD PRIMARY KEY (id, departure_date),
+    ADD CONSTRAINT uk_booking_flight_seat UNIQUE (flight_id, seat_number, departure_date),
+    ADD CONSTRAINT uk_booking_flight_passenger UNIQUE (flight_id, passenger_id, departure_date);
+
+-- Foreign keys keep their Hibernate-generated names so schema update does not add duplicates. Hibernate
+-- cannot read foreign keys of partitioned tables and logs an "already exists" warning for them at startup.
+DO $$
+DECLARE
+    c record;
+BEGIN
+    FOR c IN SELECT conname, pg_get_constraintdef(oid) AS definition FROM pg_constraint
+             WHERE conrelid = 'bookings_legacy'::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE bookings_legacy DROP CONSTRAINT %I', c.conname);
+        EXECUTE format('ALTER TABLE bookings ADD CONSTRAINT %I %s', c.conname, c.definition);
+    END LOOP;
+END $$;
+
+CREATE INDEX idx_bookings_passenger_departure ON bookings (passenger_id, departure_date);
+CREATE INDEX idx_bookings_status_departure ON bookings (booking_status, departure_date);
+
+DO $$
+DECLARE
+    month date;
+    last_month date;
+BEGIN
+    SELECT date_trunc('month', COALESCE(min(departure_date), current_date))::date,
+           GREATEST(date_trunc('month', COALESCE(max(departure_date), current_date)),
+                    date_trunc('month', current_date) + interval '3 months')::date
+    INTO month, last_month
+    FROM bookings_legacy;
+
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF bookings FOR VALUES FROM (%L) TO (%L)',
+                       'bookings_' || to_char(month, '"y"YYYY"m"MM'), month, (month + interval '1 month')::date);
+        month := (month + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO bookings SELECT * FROM bookings_legacy;
+
+ANALYZE bookings;
+
+COMMIT;
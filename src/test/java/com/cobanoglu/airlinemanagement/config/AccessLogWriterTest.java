@@ -0,0 +1,56 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogWriterTest {
+
+    private static AccessLogWriter writer(int queueCapacity, int batchSize) {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setQueueCapacity(queueCapacity);
+        properties.setBatchSize(batchSize);
+        return new AccessLogWriter(properties);
+    }
+
+    @Test
+    void offer_shouldDropWhenQueueIsFull() {
+        AccessLogWriter writer = writer(2, 10);
+
+        assertTrue(writer.offer("a"));
+        assertTrue(writer.offer("b"));
+        assertFalse(writer.offer("c"));
+
+        assertEquals(2, writer.getQueueDepth());
+        assertEquals(1, writer.getDroppedCount());
+        assertEquals(0, writer.getWrittenCount());
+    }
+
+    @Test
+    void worker_shouldDrainQueuedEntriesInBatches() throws InterruptedException {
+        AccessLogWriter writer = writer(16, 3);
+        for (int i = 0; i < 10; i++) writer.offer("line-" + i);
+
+        writer.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (writer.getWrittenCount() < 10 && System.nanoTime() < deadline) Thread.sleep(10);
+        writer.stop();
+
+        assertEquals(10, writer.getWrittenCount());
+        assertEquals(0, writer.getQueueDepth());
+        assertEquals(0, writer.getDroppedCount());
+    }
+
+    @Test
+    void stop_shouldFlushWhatTheWorkerHasNotWritten() throws InterruptedException {
+        AccessLogWriter writer = writer(16, 2);
+        writer.start();
+        writer.stop();
+        for (int i = 0; i < 5; i++) writer.offer("line-" + i);
+
+        writer.stop();
+
+        assertEquals(5, writer.getWrittenCount());
+        assertEquals(0, writer.getQueueDepth());
+    }
+}
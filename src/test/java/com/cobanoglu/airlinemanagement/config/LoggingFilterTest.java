@@ -0,0 +1,87 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LoggingFilterTest {
+
+    private AccessLogWriter writer;
+    private AccessLogProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        writer = mock(AccessLogWriter.class);
+        properties = new AccessLogProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private static AccessLogProperties.RouteSampling sampling(String route, double rate) {
+        AccessLogProperties.RouteSampling sampling = new AccessLogProperties.RouteSampling();
+        sampling.setRoute(route);
+        sampling.setRate(rate);
+        return sampling;
+    }
+
+    private void request(String method, String pattern, int status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/flights/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new LoggingFilter(writer, properties).doFilter(request, response, (req, res) -> response.setStatus(status));
+    }
+
+    @Test
+    void sampling_shouldUsePerRouteRateAndAlwaysKeepErrors() throws Exception {
+        properties.setDefaultSampleRate(0.0);
+        properties.setSampling(List.of(sampling("GET /api/flights/{id}", 1.0)));
+
+        request("GET", "/api/flights/{id}", 200);
+        request("GET", "/api/airlines/{id}", 200);
+        request("GET", "/api/airlines/{id}", 404);
+        request("DELETE", "/api/flights/{id}", 500);
+
+        verify(writer).offer(contains("\"route\":\"/api/flights/{id}\",\"status\":200"));
+        verify(writer).offer(contains("\"route\":\"/api/airlines/{id}\",\"status\":404"));
+        verify(writer).offer(contains("\"method\":\"DELETE\""));
+        verify(writer, times(3)).offer(anyString());
+    }
+
+    @Test
+    void disabled_shouldNotLog() throws Exception {
+        properties.setEnabled(false);
+
+        request("GET", "/api/flights/{id}", 500);
+
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    void user_shouldBeNameForAuthenticatedAndNullForAnonymous() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        request("GET", "/api/flights/{id}", 200);
+        verify(writer).offer(endsWith("\"user\":null}"));
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ada\"@example.com", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        request("GET", "/api/flights/{id}", 200);
+        verify(writer).offer(endsWith("\"user\":\"ada\\\"@example.com\"}"));
+    }
+}
@@ -0,0 +1,200 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.metrics.DataSourceRoutingMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private DataSourceRoutingProperties properties;
+    private DataSourceRoutingMetrics metrics;
+    private DataSource primary;
+    private DataSource replica;
+    private ReadYourWritesTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DataSourceRoutingProperties();
+        properties.setLagQuery("SELECT 0");
+        properties.setMaxLagMs(1_000);
+        metrics = new DataSourceRoutingMetrics(new SimpleMeterRegistry());
+        primary = h2("routing_primary");
+        replica = h2("routing_replica");
+        tracker = new ReadYourWritesTracker(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_shouldUseReplica() {
+        Routed routed = routed();
+
+        assertEquals("ROUTING_REPLICA", routed.currentDatabase(true));
+    }
+
+    @Test
+    void writeTransaction_shouldUsePrimary() {
+        Routed routed = routed();
+
+        assertEquals("ROUTING_PRIMARY", routed.currentDatabase(false));
+    }
+
+    @Test
+    void noTransaction_shouldUsePrimary() {
+        Routed routed = routed();
+
+        assertEquals("ROUTING_PRIMARY", new JdbcTemplate(routed.dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    @Test
+    void laggingReplica_shouldFallBackToPrimary() {
+        properties.setLagQuery("SELECT 5000");
+        Routed routed = routed();
+
+        assertEquals("ROUTING_PRIMARY", routed.currentDatabase(true));
+        assertEquals(5000, routed.monitor.getLagMs());
+    }
+
+    @Test
+    void failingLagProbe_shouldFallBackToPrimary() {
+        properties.setLagQuery("SELECT missing_column FROM missing_table");
+        Routed routed = routed();
+
+        assertFalse(routed.monitor.isUsable());
+        assertEquals("ROUTING_PRIMARY", routed.currentDatabase(true));
+    }
+
+    @Test
+    void replicaRecovery_shouldResumeReplicaReads() {
+        properties.setLagQuery("SELECT 5000");
+        Routed routed = routed();
+        assertEquals("ROUTING_PRIMARY", routed.currentDatabase(true));
+
+        properties.setLagQuery("SELECT 10");
+        Routed recovered = routed();
+
+        assertEquals("ROUTING_REPLICA", recovered.currentDatabase(true));
+    }
+
+    @Test
+    void readAfterOwnWrite_shouldStayOnPrimaryForThatUser() {
+        Routed routed = routed();
+        authenticate("alice@example.com");
+
+        routed.writeTemplate.executeWithoutResult(status -> tracker.recordWrite("alice@example.com"));
+
+        assertEquals("ROUTING_PRIMARY", routed.currentDatabase(true));
+
+        authenticate("bob@example.com");
+        assertEquals("ROUTING_REPLICA", routed.currentDatabase(true));
+    }
+
+    @Test
+    void anonymousRequest_shouldNotShareAPinnedAnonymousName() {
+        Routed routed = routed();
+        tracker.recordWrite("anonymousUser");
+
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        assertEquals("ROUTING_REPLICA", routed.currentDatabase(true));
+    }
+
+    @Test
+    void rolledBackWrite_shouldNotPinUser() {
+        Routed routed = routed();
+        authenticate("alice@example.com");
+
+        routed.writeTemplate.executeWithoutResult(status -> {
+            tracker.recordWrite("alice@example.com");
+            status.setRollbackOnly();
+        });
+
+        assertFalse(tracker.isPinned("alice@example.com"));
+        assertEquals("ROUTING_REPLICA", routed.currentDatabase(true));
+    }
+
+    @Test
+    void expiredPin_shouldBePurged() {
+        properties.setReadYourWritesWindowMs(1);
+        ReadYourWritesTracker shortLived = new ReadYourWritesTracker(properties);
+
+        shortLived.recordWrite("alice@example.com");
+        await(() -> !shortLived.isPinned("alice@example.com"));
+        shortLived.purgeExpired();
+
+        assertEquals(0, shortLived.pinnedCount());
+    }
+
+    private Routed routed() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, properties, metrics);
+        monitor.probe();
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(monitor, tracker, metrics);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Route.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Route.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        return new Routed(new LazyConnectionDataSourceProxy(routing), monitor);
+    }
+
+    private static DataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static void await(java.util.function.BooleanSupplier condition) {
+        long deadline = System.nanoTime() + 1_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met in time");
+            Thread.onSpinWait();
+        }
+    }
+
+    private static final class Routed {
+        final DataSource dataSource;
+        final ReplicaLagMonitor monitor;
+        final TransactionTemplate writeTemplate;
+        final TransactionTemplate readOnlyTemplate;
+
+        Routed(DataSource dataSource, ReplicaLagMonitor monitor) {
+            this.dataSource = dataSource;
+            this.monitor = monitor;
+            DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+            this.writeTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate.setReadOnly(true);
+        }
+
+        String currentDatabase(boolean readOnly) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            return (readOnly ? readOnlyTemplate : writeTemplate)
+                    .execute(status -> jdbcTemplate.queryForObject("SELECT DATABASE()", String.class));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import com.cobanoglu.airlinemanagement.dto.RepeatedStatementDTO;
+import com.cobanoglu.airlinemanagement.dto.SqlRouteStatsDTO;
+import com.cobanoglu.airlinemanagement.metrics.SqlRouteStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlInstrumentationTest {
+
+    private SqlInstrumentationProperties properties;
+    private SimpleMeterRegistry registry;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new SqlInstrumentationProperties();
+        properties.setRepeatedStatementThreshold(3);
+        registry = new SimpleMeterRegistry();
+
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(SqlInstrumentationPostProcessor.wrap(h2, new SqlExecutionListener(properties, registry), true));
+        jdbcTemplate.execute("create table if not exists passengers (id bigint primary key, email varchar(100))");
+        jdbcTemplate.execute("delete from passengers");
+        jdbcTemplate.update("insert into passengers values (1, 'a@example.com'), (2, 'b@example.com'), (3, 'c@example.com')");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestContext.end();
+    }
+
+    @Test
+    void context_shouldCountStatementsRowsAndRepeats() {
+        SqlRequestContext context = SqlRequestContext.begin();
+
+        jdbcTemplate.queryForList("select email from passengers order by id", String.class);
+        for (long id = 1; id <= 3; id++) {
+            jdbcTemplate.queryForObject("select email from passengers where id = ?", String.class, id);
+        }
+
+        assertEquals(4, context.getStatements());
+        assertEquals(6, context.getRows());
+        assertTrue(context.getDbNanos() > 0);
+        assertEquals(Map.of("select email from passengers where id = ?", 3), context.repeatedStatements(3));
+    }
+
+    @Test
+    void statementsOutsideRequest_shouldNotBeAttributed() {
+        jdbcTemplate.queryForList("select email from passengers", String.class);
+
+        assertNull(SqlRequestContext.current());
+    }
+
+    @Test
+    void slowQueries_shouldBeCountedAndRedacted() {
+        properties.setSlowQueryThresholdMs(0);
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:sqlstats;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate slow = new JdbcTemplate(SqlInstrumentationPostProcessor.wrap(h2, new SqlExecutionListener(properties, registry), false));
+        SqlRequestContext context = SqlRequestContext.begin();
+
+        slow.queryForList("select email from passengers where email = 'a@example.com'", String.class);
+
+        assertEquals(1, context.getSlowStatements());
+        assertEquals(0, context.getRows());
+        assertEquals(1.0, registry.get("sql.slow.queries").counter().count());
+        assertEquals(Map.of("select email from passengers where email = ?", 1), context.repeatedStatements(1));
+    }
+
+    @Test
+    void filter_shouldAttributeStatementsToRouteAndFlagRepeats() throws Exception {
+        SqlRouteStatistics statistics = new SqlRouteStatistics(registry, properties);
+        SqlInstrumentationFilter filter = new SqlInstrumentationFilter(statistics, properties);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings");
+        FilterChain chain = (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/bookings");
+            for (long id = 1; id <= 3; id++) {
+                jdbcTemplate.queryForObject("select email from passengers where id = ?", String.class, id);
+            }
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/bookings"), new MockHttpServletResponse(), chain);
+
+        List<SqlRouteStatsDTO> snapshot = statistics.snapshot();
+        assertEquals(1, snapshot.size());
+        SqlRouteStatsDTO route = snapshot.get(0);
+        assertEquals("GET /api/bookings", route.getRoute());
+        assertEquals(2, route.getRequests());
+        assertEquals(6, route.getStatements());
+        assertEquals(3.0, route.getStatementsPerRequest());
+        assertEquals(3, route.getMaxStatementsPerRequest());
+        assertEquals(6, route.getRowsFetched());
+        assertEquals(2, route.getRequestsWithRepeats());
+        assertEquals(List.of(new RepeatedStatementDTO("select email from passengers where id = ?", 2, 3)),
+                route.getRepeatedStatements());
+        assertNull(SqlRequestContext.current());
+
+        statistics.reset();
+        assertTrue(statistics.snapshot().isEmpty());
+    }
+
+    @Test
+    void postProcessor_shouldOnlyWrapPrimaryDataSourceBean() {
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("properties", properties);
+        beans.registerSingleton("listener", new SqlExecutionListener(properties, registry));
+        SqlInstrumentationPostProcessor postProcessor = new SqlInstrumentationPostProcessor(
+                beans.getBeanProvider(SqlInstrumentationProperties.class), beans.getBeanProvider(SqlExecutionListener.class));
+        DataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:sqlstats", "sa", "");
+
+        assertInstanceOf(ProxyDataSource.class, postProcessor.postProcessAfterInitialization(h2, "dataSource"));
+        assertSame(h2, postProcessor.postProcessAfterInitialization(h2, "replicaDataSource"));
+
+        properties.setEnabled(false);
+        assertSame(h2, postProcessor.postProcessAfterInitialization(h2, "dataSource"));
+    }
+}
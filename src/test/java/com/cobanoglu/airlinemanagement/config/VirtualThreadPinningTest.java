@@ -0,0 +1,75 @@
+package com.cobanoglu.airlinemanagement.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.asm.*;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadPinningTest {
+
+    private static final String[] HOT_PATH_PACKAGES = {
+            "config", "controller", "security", "service", "metrics", "mapper", "util", "event"
+    };
+
+    @Test
+    void hotPathClassesDoNotUseMonitors() throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        List<String> offenders = new ArrayList<>();
+        int scanned = 0;
+
+        for (String pkg : HOT_PATH_PACKAGES) {
+            Resource[] classes = resolver.getResources(
+                    "classpath*:com/cobanoglu/airlinemanagement/" + pkg + "/**/*.class");
+            for (Resource resource : classes) {
+                if (resource.getURL().getPath().contains("test-classes")) continue;
+                scanned++;
+                try (InputStream in = resource.getInputStream()) {
+                    new ClassReader(in).accept(new MonitorFinder(offenders), ClassReader.SKIP_DEBUG);
+                }
+            }
+        }
+
+        assertTrue(scanned > 0, "No classes found to scan");
+        assertTrue(offenders.isEmpty(),
+                "synchronized pins virtual threads on JDK 21, use a ReentrantLock instead: " + offenders);
+    }
+
+    private static class MonitorFinder extends ClassVisitor {
+
+        private final List<String> offenders;
+        private String className;
+
+        MonitorFinder(List<String> offenders) {
+            super(Opcodes.ASM9);
+            this.offenders = offenders;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.className = name.replace('/', '.');
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            String method = className + "#" + name;
+            if ((access & Opcodes.ACC_SYNCHRONIZED) != 0) {
+                offenders.add(method);
+            }
+            return new MethodVisitor(Opcodes.ASM9) {
+                @Override
+                public void visitInsn(int opcode) {
+                    if (opcode == Opcodes.MONITORENTER) {
+                        offenders.add(method);
+                    }
+                }
+            };
+        }
+    }
+}
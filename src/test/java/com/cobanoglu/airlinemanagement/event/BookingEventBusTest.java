@@ -0,0 +1,156 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.ProcessedEvent;
+import com.cobanoglu.airlinemanagement.metrics.BookingEventMetrics;
+import com.cobanoglu.airlinemanagement.repository.ProcessedEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BookingEventBusTest {
+
+    @Mock private ObjectProvider<BookingEventHandler> handlerProvider;
+    @Mock private PlatformTransactionManager transactionManager;
+    @Mock private ProcessedEventRepository processedEventRepository;
+    @Mock private BookingEventMetrics metrics;
+    @Mock private BookingEventHandler handler;
+
+    private BookingEventBus bus;
+    private BookingCancelled event;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(handlerProvider.orderedStream()).thenReturn(Stream.of(handler));
+        when(handler.name()).thenReturn("test");
+        when(handler.supports(any())).thenReturn(true);
+        when(handler.requiresReceipt()).thenReturn(true);
+
+        bus = new BookingEventBus(handlerProvider, new TaskExecutorAdapter(Runnable::run),
+                transactionManager, processedEventRepository, metrics, 3, 7, 10);
+
+        event = new BookingCancelled(UUID.randomUUID(), 10L, 1L, 1L,
+                BookingStatus.CONFIRMED, BigDecimal.valueOf(900), LocalDateTime.now());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void publish_shouldDeliverAndStoreReceipt() {
+        bus.publish(event);
+
+        verify(handler).handle(event);
+        ArgumentCaptor<ProcessedEvent> captor = ArgumentCaptor.forClass(ProcessedEvent.class);
+        verify(processedEventRepository).save(captor.capture());
+        assertEquals("test:" + event.eventId(), captor.getValue().getId());
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_APPLIED), anyLong());
+    }
+
+    @Test
+    void publish_shouldSkipAlreadyProcessedEvent() {
+        when(processedEventRepository.existsById("test:" + event.eventId())).thenReturn(true);
+
+        bus.publish(event);
+
+        verify(handler, never()).handle(any());
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_DUPLICATE), anyLong());
+    }
+
+    @Test
+    void publish_shouldSkipReceiptForHandlersThatDoNotNeedOne() {
+        when(handler.requiresReceipt()).thenReturn(false);
+
+        bus.publish(event);
+
+        verify(handler).handle(event);
+        verifyNoInteractions(processedEventRepository, transactionManager);
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_APPLIED), anyLong());
+    }
+
+    @Test
+    void publish_shouldWaitForCommitInsideTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        bus.publish(event);
+        verify(handler, never()).handle(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(handler).handle(event);
+    }
+
+    @Test
+    void publish_shouldRetryAndGiveUpAfterMaxAttempts() {
+        doThrow(new IllegalStateException("boom")).when(handler).handle(event);
+
+        bus.publish(event);
+
+        verify(handler, times(3)).handle(event);
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_FAILED), anyLong());
+    }
+
+    @Test
+    void deliver_shouldNotJoinTheTransactionThatPublishedTheEvent() {
+        bus.publish(event);
+
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    void dispatch_shouldDeferRejectedEventsAndRedeliverLater() {
+        AtomicBoolean saturated = new AtomicBoolean(true);
+        bus = new BookingEventBus(handlerProvider, new TaskExecutorAdapter(task -> {
+            if (saturated.get()) throw new TaskRejectedException("full");
+            task.run();
+        }), transactionManager, processedEventRepository, metrics, 3, 7, 10);
+
+        bus.publish(event);
+        bus.redeliverDeferred();
+
+        verify(handler, never()).handle(any());
+        assertEquals(1, bus.deferredCount());
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_DEFERRED), anyLong());
+
+        saturated.set(false);
+        bus.redeliverDeferred();
+
+        verify(handler).handle(event);
+        assertEquals(0, bus.deferredCount());
+    }
+
+    @Test
+    void dispatch_shouldDropOnlyWhenDeferredQueueIsFull() {
+        bus = new BookingEventBus(handlerProvider, new TaskExecutorAdapter(task -> {
+            throw new TaskRejectedException("full");
+        }), transactionManager, processedEventRepository, metrics, 3, 7, 1);
+
+        bus.publish(event);
+        bus.publish(event);
+
+        assertEquals(1, bus.deferredCount());
+        verify(metrics).recordHandled(eq("test"), eq(event), eq(BookingEventMetrics.OUTCOME_REJECTED), anyLong());
+    }
+}
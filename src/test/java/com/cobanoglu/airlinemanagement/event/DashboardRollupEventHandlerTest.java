@@ -0,0 +1,54 @@
+package com.cobanoglu.airlinemanagement.event;
+
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.event.handler.DashboardRollupEventHandler;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardRollupEventHandlerTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("900.00");
+
+    @Mock private DashboardService dashboardService;
+
+    @InjectMocks
+    private DashboardRollupEventHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void confirmedAndPromoted_shouldAddSeatAndRevenue() {
+        handler.handle(new BookingConfirmed(UUID.randomUUID(), 1L, 7L, 2L, PRICE, LocalDateTime.now()));
+        handler.handle(new WaitlistPromoted(UUID.randomUUID(), 3L, 7L, 4L, PRICE, LocalDateTime.now()));
+
+        verify(dashboardService, times(2)).recordSales(7L, 1, PRICE);
+    }
+
+    @Test
+    void cancelledConfirmed_shouldSubtractSeatAndRevenue() {
+        handler.handle(new BookingCancelled(UUID.randomUUID(), 1L, 7L, 2L, BookingStatus.CONFIRMED, PRICE, LocalDateTime.now()));
+
+        verify(dashboardService).recordSales(7L, -1, PRICE.negate());
+    }
+
+    @Test
+    void supports_shouldIgnoreWaitlistedCreationAndCancellation() {
+        assertFalse(handler.supports(new BookingCreated(UUID.randomUUID(), 1L, 7L, 2L, BookingStatus.WAITLISTED, PRICE, LocalDateTime.now())));
+        assertFalse(handler.supports(new BookingCancelled(UUID.randomUUID(), 1L, 7L, 2L, BookingStatus.WAITLISTED, PRICE, LocalDateTime.now())));
+        assertTrue(handler.requiresReceipt());
+    }
+}
@@ -0,0 +1,234 @@
+package com.cobanoglu.airlinemanagement.loadtest;
+
+import com.cobanoglu.airlinemanagement.dto.BookingCreateRequest;
+import com.cobanoglu.airlinemanagement.dto.BookingResponse;
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.exception.OverbookingException;
+import com.cobanoglu.airlinemanagement.loadtest.LoadReport.Operation;
+import com.cobanoglu.airlinemanagement.repository.*;
+import com.cobanoglu.airlinemanagement.service.BookingService;
+import com.cobanoglu.airlinemanagement.service.FlightService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Tag("load")
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class BookingLoadTest {
+
+    private static final String[] SEAT_LETTERS = {"A", "B", "C", "D", "E", "F"};
+
+    @Autowired private BookingService bookingService;
+    @Autowired private FlightService flightService;
+    @Autowired private AirlineRepository airlineRepository;
+    @Autowired private FlightRepository flightRepository;
+    @Autowired private PassengerRepository passengerRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${loadtest.threads}") private int threads;
+    @Value("${loadtest.operations}") private int operations;
+    @Value("${loadtest.flights}") private int flightCount;
+    @Value("${loadtest.flight-capacity}") private int flightCapacity;
+    @Value("${loadtest.passengers}") private int passengerCount;
+    @Value("${loadtest.mix.create}") private int createWeight;
+    @Value("${loadtest.mix.cancel}") private int cancelWeight;
+    @Value("${loadtest.mix.search}") private int searchWeight;
+    @Value("${loadtest.fail-on-violation}") private boolean failOnViolation;
+
+    private final List<Long> flightIds = new ArrayList<>();
+    private final List<String> emails = new ArrayList<>();
+    private final BlockingQueue<long[]> cancellable = new LinkedBlockingQueue<>();
+
+    @Test
+    void concurrentBookingWorkload() throws Exception {
+        seed();
+
+        LoadReport report = new LoadReport();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < operations; i++) {
+            futures.add(pool.submit(() -> {
+                startGate.await();
+                runOne(report);
+                return null;
+            }));
+        }
+
+        long start = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        Map<String, Long> violations = checkInvariants();
+        log.info("Booking load test finished:{}", report.render(elapsed, threads, violations));
+
+        if (failOnViolation) {
+            violations.forEach((name, count) ->
+                    assertTrue(count == 0, "Invariant violated: " + name + " = " + count));
+        }
+    }
+
+    private void seed() {
+        Role userRole = roleRepository.findByName("USER")
+                .orElseGet(() -> roleRepository.save(Role.builder().name("USER").build()));
+
+        Airline airline = airlineRepository.save(Airline.builder()
+                .codeIATA("LT").codeICAO("LTA").name("Load Test Air").country("Turkey").fleetSize("10")
+                .build());
+
+        for (int i = 0; i < flightCount; i++) {
+            LocalDateTime departure = LocalDateTime.now().plusDays(7).plusHours(i);
+            Flight flight = flightRepository.save(Flight.builder()
+                    .airline(airline)
+                    .flightNumber("LT" + (100 + i))
+                    .origin("Istanbul")
+                    .destination("City" + i)
+                    .departureTime(departure)
+                    .arrivalTime(departure.plusHours(2))
+                    .basePrice(new BigDecimal("1000.00"))
+                    .capacity(flightCapacity)
+                    .bookedSeats(0)
+                    .build());
+            flightIds.add(flight.getId());
+        }
+
+        for (int i = 0; i < passengerCount; i++) {
+            String email = "load" + i + "@example.com";
+            userRepository.save(User.builder()
+                    .firstName("Load").lastName("User" + i).email(email)
+                    .password("{noop}secret").role(userRole).active(true)
+                    .build());
+            passengerRepository.save(Passenger.builder()
+                    .name("Load").surname("User" + i).email(email).loyaltyPoints(0)
+                    .build());
+            emails.add(email);
+        }
+    }
+
+    private void runOne(LoadReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(createWeight + cancelWeight + searchWeight);
+        Operation op = pick < createWeight ? Operation.CREATE
+                : pick < createWeight + cancelWeight ? Operation.CANCEL
+                : Operation.SEARCH;
+
+        String email = emails.get(random.nextInt(emails.size()));
+        long[] target = null;
+        if (op == Operation.CANCEL) {
+            target = cancellable.poll();
+            if (target == null) {
+                op = Operation.SEARCH;
+            } else {
+                email = emails.get((int) target[1]);
+            }
+        }
+
+        authenticate(email);
+        StatementCounter.reset();
+        long start = System.nanoTime();
+        String outcome;
+        try {
+            outcome = switch (op) {
+                case CREATE -> create(email);
+                case CANCEL -> cancel(target[0]);
+                case SEARCH -> search(random);
+            };
+        } catch (OverbookingException e) {
+            outcome = "OVERBOOKED";
+        } catch (BadRequestException e) {
+            outcome = "REJECTED";
+        } catch (DataIntegrityViolationException e) {
+            outcome = "CONSTRAINT_CONFLICT";
+        } catch (RuntimeException e) {
+            outcome = "ERROR:" + e.getClass().getSimpleName();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        report.record(op, System.nanoTime() - start, StatementCounter.current());
+        report.outcome(op, outcome);
+    }
+
+    private String create(String email) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        BookingCreateRequest request = new BookingCreateRequest();
+        request.setFlightId(flightIds.get(random.nextInt(flightIds.size())));
+        request.setSeatNumber((1 + random.nextInt(30)) + SEAT_LETTERS[random.nextInt(SEAT_LETTERS.length)]);
+
+        BookingResponse response = bookingService.createBooking(request);
+        cancellable.add(new long[]{response.getBookingId(), emails.indexOf(email)});
+        return response.getStatus().name();
+    }
+
+    private String cancel(long bookingId) {
+        bookingService.cancelBooking(bookingId);
+        return "CANCELLED";
+    }
+
+    private String search(ThreadLocalRandom random) {
+        flightService.listFlights(PageRequest.of(0, 20));
+        bookingService.getCurrentUserBookings();
+        return "OK";
+    }
+
+    private void authenticate(String email) {
+        UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.setContext(new SecurityContextImpl(auth));
+    }
+
+    private Map<String, Long> checkInvariants() {
+        Map<String, Long> violations = new LinkedHashMap<>();
+
+        violations.put("flights over overbooking limit", jdbcTemplate.queryForObject("""
+                select count(*) from flights f
+                where (select count(*) from bookings b
+                       where b.flight_id = f.id and b.booking_status = 'CONFIRMED') > round(f.capacity * 1.10)
+                """, Long.class));
+
+        violations.put("booked_seats counter drift", jdbcTemplate.queryForObject("""
+                select count(*) from flights f
+                where f.booked_seats <> (select count(*) from bookings b
+                                         where b.flight_id = f.id and b.booking_status = 'CONFIRMED')
+                """, Long.class));
+
+        violations.put("duplicate seats", jdbcTemplate.queryForObject("""
+                select count(*) from (select flight_id, upper(seat_number) from bookings
+                                      group by flight_id, upper(seat_number) having count(*) > 1) d
+                """, Long.class));
+
+        violations.put("duplicate passenger bookings", jdbcTemplate.queryForObject("""
+                select count(*) from (select flight_id, passenger_id from bookings
+                                      group by flight_id, passenger_id having count(*) > 1) d
+                """, Long.class));
+
+        return violations;
+    }
+}
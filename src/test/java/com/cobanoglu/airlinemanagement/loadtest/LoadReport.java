@@ -0,0 +1,66 @@
+package com.cobanoglu.airlinemanagement.loadtest;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+class LoadReport {
+
+    enum Operation { CREATE, CANCEL, SEARCH }
+
+    private final Map<Operation, List<long[]>> samples = new EnumMap<>(Operation.class);
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    LoadReport() {
+        for (Operation op : Operation.values()) {
+            samples.put(op, new ArrayList<>());
+        }
+    }
+
+    synchronized void record(Operation op, long latencyNanos, int statements) {
+        samples.get(op).add(new long[]{latencyNanos, statements});
+    }
+
+    void outcome(Operation op, String outcome) {
+        outcomes.computeIfAbsent(op + ":" + outcome, k -> new LongAdder()).increment();
+    }
+
+    String render(long elapsedNanos, int threads, Map<String, Long> violations) {
+        StringBuilder sb = new StringBuilder("\n==== Booking load test ====\n");
+        long total = samples.values().stream().mapToLong(List::size).sum();
+        double seconds = elapsedNanos / 1e9;
+        sb.append(String.format("threads=%d operations=%d elapsed=%.2fs throughput=%.1f ops/s%n",
+                threads, total, seconds, total / seconds));
+        sb.append(String.format("%-8s %8s %10s %10s %10s %10s %12s%n",
+                "op", "count", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "stmts/op"));
+
+        for (Operation op : Operation.values()) {
+            List<long[]> list = samples.get(op);
+            if (list.isEmpty()) continue;
+            long[] latencies = list.stream().mapToLong(s -> s[0]).sorted().toArray();
+            double statements = list.stream().mapToLong(s -> s[1]).average().orElse(0);
+            sb.append(String.format("%-8s %8d %10.2f %10.2f %10.2f %10.2f %12.1f%n",
+                    op, latencies.length,
+                    percentile(latencies, 0.50), percentile(latencies, 0.95),
+                    percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6,
+                    statements));
+        }
+
+        sb.append("outcomes:\n");
+        outcomes.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> sb.append("  ").append(e.getKey()).append(" = ").append(e.getValue().sum()).append('\n'));
+
+        sb.append("invariant violations:\n");
+        violations.forEach((k, v) -> sb.append("  ").append(k).append(" = ").append(v).append('\n'));
+        return sb.toString();
+    }
+
+    private double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
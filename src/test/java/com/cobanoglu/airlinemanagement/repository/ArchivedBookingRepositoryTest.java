@@ -0,0 +1,159 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerBookingDTO;
+import com.cobanoglu.airlinemanagement.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:archive;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ArchivedBookingRepositoryTest {
+
+    @Autowired private AirlineRepository airlineRepository;
+    @Autowired private FlightRepository flightRepository;
+    @Autowired private PassengerRepository passengerRepository;
+    @Autowired private BookingRepository bookingRepository;
+    @Autowired private ArchivedBookingRepository archivedBookingRepository;
+
+    private Passenger passenger;
+    private Booking departed;
+    private Booking upcoming;
+
+    @BeforeEach
+    void setUp() {
+        Airline airline = airlineRepository.save(Airline.builder()
+                .codeIATA("TK").codeICAO("THY").name("Turkish Airlines").country("Turkey").fleetSize("400")
+                .build());
+        passenger = passengerRepository.save(Passenger.builder()
+                .name("Ada").surname("Lovelace").email("ada@example.com")
+                .build());
+        departed = bookingRepository.save(booking(flight(airline, "TK100", LocalDateTime.now().minusMonths(14)), "1A"));
+        upcoming = bookingRepository.save(booking(flight(airline, "TK200", LocalDateTime.now().plusDays(3)), "2B"));
+    }
+
+    private Flight flight(Airline airline, String number, LocalDateTime departure) {
+        return flightRepository.save(Flight.builder()
+                .airline(airline).flightNumber(number).origin("Istanbul").destination("Berlin")
+                .departureTime(departure).arrivalTime(departure.plusHours(3))
+                .basePrice(BigDecimal.valueOf(1000)).capacity(150).bookedSeats(1)
+                .build());
+    }
+
+    private Booking booking(Flight flight, String seat) {
+        return Booking.builder()
+                .flight(flight).passenger(passenger).seatNumber(seat)
+                .bookingStatus(BookingStatus.CONFIRMED).price(new BigDecimal("900.00")).fareClass(FareClass.ECONOMY)
+                .build();
+    }
+
+    @Test
+    void findIdsDepartedBefore_shouldOnlyReturnBookingsBeforeCutoff() {
+        List<Long> ids = bookingRepository.findIdsDepartedBefore(LocalDate.now().minusMonths(12), PageRequest.ofSize(10));
+
+        assertEquals(List.of(departed.getId()), ids);
+    }
+
+    @Test
+    void copyFromBookings_shouldDenormalizeFlightAndKeepBookingId() {
+        LocalDateTime archivedAt = LocalDateTime.now();
+
+        int copied = archivedBookingRepository.copyFromBookings(List.of(departed.getId()), archivedAt);
+        bookingRepository.deleteAllByIdInBatch(List.of(departed.getId()));
+
+        assertEquals(1, copied);
+        assertFalse(bookingRepository.existsById(departed.getId()));
+        assertTrue(bookingRepository.existsById(upcoming.getId()));
+
+        List<ArchivedBooking> archived = archivedBookingRepository.findAll();
+        assertEquals(1, archived.size());
+        ArchivedBooking row = archived.get(0);
+        assertEquals(departed.getId(), row.getId());
+        assertEquals("TK100", row.getFlightNumber());
+        assertEquals("1A", row.getSeatNumber());
+        assertEquals(0, new BigDecimal("900.00").compareTo(row.getPrice()));
+        assertEquals(FareClass.ECONOMY, row.getFareClass());
+        assertEquals(departed.getDepartureDate(), row.getDepartureDate());
+        assertNotNull(row.getCreateDate());
+    }
+
+    @Test
+    void findHistory_shouldPageHotBookingsByDepartureWithKeyset() {
+        Flight sameTime = flight(upcoming.getFlight().getAirline(), "TK300", upcoming.getFlight().getDepartureTime());
+        Booking later = bookingRepository.save(booking(sameTime, "3C"));
+        LocalDateTime start = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        List<PassengerBookingDTO> first = bookingRepository.findHistoryAfter(
+                passenger.getId(), start.toLocalDate(), start, 0L, Limit.of(2));
+        PassengerBookingDTO last = first.get(1);
+        List<PassengerBookingDTO> next = bookingRepository.findHistoryAfter(
+                passenger.getId(), last.getDepartureTime().toLocalDate(), last.getDepartureTime(), last.getBookingId(), Limit.of(2));
+        List<PassengerBookingDTO> past = bookingRepository.findHistoryBefore(
+                passenger.getId(), LocalDate.now(), LocalDateTime.now(), Long.MAX_VALUE, Limit.of(10));
+
+        assertEquals(List.of(departed.getId(), upcoming.getId()), first.stream().map(PassengerBookingDTO::getBookingId).toList());
+        assertEquals("TK100", first.get(0).getFlightNumber());
+        assertEquals("Berlin", first.get(0).getDestination());
+        assertEquals(List.of(later.getId()), next.stream().map(PassengerBookingDTO::getBookingId).toList());
+        assertEquals(List.of(departed.getId()), past.stream().map(PassengerBookingDTO::getBookingId).toList());
+    }
+
+    @Test
+    void findHistory_shouldReadArchivedRowsWithoutFlightJoin() {
+        archivedBookingRepository.copyFromBookings(List.of(departed.getId()), LocalDateTime.now());
+
+        List<PassengerBookingDTO> after = archivedBookingRepository.findHistoryAfter(
+                passenger.getId(), LocalDateTime.of(1970, 1, 1, 0, 0), 0L, Limit.unlimited());
+        List<PassengerBookingDTO> before = archivedBookingRepository.findHistoryBefore(
+                passenger.getId(), LocalDateTime.now(), Long.MAX_VALUE, Limit.of(1));
+
+        assertEquals(1, after.size());
+        assertEquals(departed.getId(), after.get(0).getBookingId());
+        assertEquals("TK100", after.get(0).getFlightNumber());
+        assertEquals(BookingStatus.CONFIRMED, after.get(0).getBookingStatus());
+        assertEquals(after, before);
+    }
+
+    @Test
+    void findFacts_shouldPageHotAndArchivedBookingsById() {
+        archivedBookingRepository.copyFromBookings(List.of(departed.getId()), LocalDateTime.now());
+        bookingRepository.deleteAllByIdInBatch(List.of(departed.getId()));
+
+        List<BookingFactDTO> hot = bookingRepository.findFactsAfter(0L, Limit.of(10));
+        List<BookingFactDTO> archived = archivedBookingRepository.findFactsAfter(0L, Limit.of(10));
+
+        assertEquals(List.of(upcoming.getId()), hot.stream().map(BookingFactDTO::getBookingId).toList());
+        assertEquals("Turkish Airlines", hot.get(0).getAirline());
+        assertEquals(upcoming.getDepartureDate(), hot.get(0).getDepartureDate());
+        assertEquals(hot.get(0), bookingRepository.findFactById(upcoming.getId()).orElseThrow());
+        assertTrue(bookingRepository.findFactsAfter(upcoming.getId(), Limit.of(10)).isEmpty());
+
+        assertEquals(1, archived.size());
+        BookingFactDTO fact = archived.get(0);
+        assertEquals(departed.getId(), fact.getBookingId());
+        assertEquals(departed.getFlight().getId(), fact.getFlightId());
+        assertEquals("Istanbul", fact.getOrigin());
+        assertEquals("Berlin", fact.getDestination());
+        assertEquals("Turkish Airlines", fact.getAirline());
+        assertEquals(FareClass.ECONOMY, fact.getFareClass());
+        assertEquals(departed.getDepartureDate(), fact.getDepartureDate());
+    }
+}
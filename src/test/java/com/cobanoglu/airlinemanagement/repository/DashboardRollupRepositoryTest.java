@@ -0,0 +1,167 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.AirlineRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.DailyRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.dto.RouteRevenueDTO;
+import com.cobanoglu.airlinemanagement.entity.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dashboard;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DashboardRollupRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 5);
+
+    @Autowired private AirlineRepository airlineRepository;
+    @Autowired private FlightRepository flightRepository;
+    @Autowired private PassengerRepository passengerRepository;
+    @Autowired private BookingRepository bookingRepository;
+    @Autowired private RouteDailyRollupRepository routeDailyRollupRepository;
+    @Autowired private FlightOccupancyRollupRepository flightOccupancyRollupRepository;
+
+    private Airline airline;
+
+    @BeforeEach
+    void setUp() {
+        airline = airlineRepository.save(Airline.builder()
+                .codeIATA("TK").codeICAO("THY").name("Turkish Airlines").country("Turkey").fleetSize("400")
+                .build());
+    }
+
+    private RouteDailyRollup route(LocalDate day, String destination, int seats, String revenue) {
+        return routeDailyRollupRepository.save(RouteDailyRollup.builder()
+                .departureDate(day).airlineId(airline.getId()).origin("Istanbul").destination(destination)
+                .seatsSold(seats).revenue(new BigDecimal(revenue))
+                .build());
+    }
+
+    private FlightOccupancyRollup occupancy(long flightId, int capacity, int seats) {
+        return flightOccupancyRollupRepository.save(FlightOccupancyRollup.builder()
+                .flightId(flightId).airlineId(airline.getId()).flightNumber("TK" + flightId)
+                .origin("Istanbul").destination("Berlin").departureTime(DAY.atTime(9, 0))
+                .capacity(capacity).seatsSold(seats).revenue(BigDecimal.valueOf(seats * 100L))
+                .build());
+    }
+
+    @Test
+    void increment_shouldOnlyTouchMatchingBucket() {
+        route(DAY, "Berlin", 2, "1800.00");
+        route(DAY, "Paris", 1, "700.00");
+
+        int updated = routeDailyRollupRepository.increment(DAY, airline.getId(), "Istanbul", "Berlin", -1, new BigDecimal("-900.00"));
+        int missing = routeDailyRollupRepository.increment(DAY.plusDays(1), airline.getId(), "Istanbul", "Berlin", 1, BigDecimal.TEN);
+
+        assertEquals(1, updated);
+        assertEquals(0, missing);
+        List<DailyRevenueDTO> byDay = routeDailyRollupRepository.sumByDay(DAY, DAY);
+        assertEquals(1, byDay.size());
+        assertEquals(2, byDay.get(0).getSeatsSold());
+        assertEquals(0, new BigDecimal("1600.00").compareTo(byDay.get(0).getRevenue()));
+    }
+
+    @Test
+    void insertIfAbsent_shouldCreateZeroRowOnceAndKeepExistingTotals() {
+        route(DAY, "Berlin", 2, "1800.00");
+
+        int existing = routeDailyRollupRepository.insertIfAbsent(DAY, airline.getId(), "Istanbul", "Berlin");
+        int created = routeDailyRollupRepository.insertIfAbsent(DAY, airline.getId(), "Istanbul", "Paris");
+        int repeated = routeDailyRollupRepository.insertIfAbsent(DAY, airline.getId(), "Istanbul", "Paris");
+        routeDailyRollupRepository.increment(DAY, airline.getId(), "Istanbul", "Paris", 1, new BigDecimal("700.00"));
+
+        assertEquals(0, existing);
+        assertEquals(1, created);
+        assertEquals(0, repeated);
+        assertEquals(2, routeDailyRollupRepository.count());
+        List<DailyRevenueDTO> byDay = routeDailyRollupRepository.sumByDay(DAY, DAY);
+        assertEquals(3, byDay.get(0).getSeatsSold());
+        assertEquals(0, new BigDecimal("2500.00").compareTo(byDay.get(0).getRevenue()));
+
+        occupancy(1L, 200, 100);
+        assertEquals(0, flightOccupancyRollupRepository.insertIfAbsent(
+                1L, airline.getId(), "TK1", "Istanbul", "Berlin", DAY.atTime(9, 0), 200));
+        assertEquals(1, flightOccupancyRollupRepository.insertIfAbsent(
+                2L, airline.getId(), "TK2", "Istanbul", "Berlin", DAY.atTime(9, 0), 100));
+        assertEquals(100, flightOccupancyRollupRepository.findById(1L).orElseThrow().getSeatsSold());
+        assertEquals(0, flightOccupancyRollupRepository.findById(2L).orElseThrow().getSeatsSold());
+    }
+
+    @Test
+    void sumByRouteAndAirline_shouldGroupWithinRange() {
+        route(DAY, "Berlin", 2, "1800.00");
+        route(DAY.plusDays(1), "Berlin", 1, "900.00");
+        route(DAY, "Paris", 1, "700.00");
+        route(DAY.plusDays(40), "Paris", 9, "9000.00");
+
+        List<RouteRevenueDTO> routes = routeDailyRollupRepository.sumByRoute(DAY, DAY.plusDays(7), Limit.of(1));
+        List<AirlineRevenueDTO> airlines = routeDailyRollupRepository.sumByAirline(DAY, DAY.plusDays(7), Limit.of(5));
+
+        assertEquals(1, routes.size());
+        assertEquals("Berlin", routes.get(0).getDestination());
+        assertEquals(3, routes.get(0).getSeatsSold());
+        assertEquals(1, airlines.size());
+        assertEquals("Turkish Airlines", airlines.get(0).getAirlineName());
+        assertEquals(4, airlines.get(0).getSeatsSold());
+        assertEquals(0, new BigDecimal("3400.00").compareTo(airlines.get(0).getRevenue()));
+    }
+
+    @Test
+    void findFullest_shouldOrderByLoadFactor() {
+        occupancy(1L, 200, 100);
+        occupancy(2L, 100, 90);
+        occupancy(3L, 150, 30);
+        flightOccupancyRollupRepository.increment(3L, 110, BigDecimal.ZERO, 150);
+
+        List<FlightOccupancyDTO> fullest = flightOccupancyRollupRepository.findFullest(
+                DAY.atStartOfDay(), DAY.atTime(23, 59), Limit.of(2));
+
+        assertEquals(List.of(3L, 2L), fullest.stream().map(FlightOccupancyDTO::getFlightId).toList());
+        assertEquals(0.9, fullest.get(1).getLoadFactor(), 1e-9);
+    }
+
+    @Test
+    void sumByFlight_shouldCountConfirmedBookingsOnly() {
+        LocalDateTime departure = DAY.atTime(9, 0);
+        Flight flight = flightRepository.save(Flight.builder()
+                .airline(airline).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(departure).arrivalTime(departure.plusHours(3))
+                .basePrice(BigDecimal.valueOf(1000)).capacity(150).bookedSeats(1)
+                .build());
+        for (int i = 0; i < 3; i++) {
+            Passenger passenger = passengerRepository.save(Passenger.builder()
+                    .name("P" + i).surname("S").email("p" + i + "@example.com")
+                    .build());
+            bookingRepository.save(Booking.builder()
+                    .flight(flight).passenger(passenger).seatNumber(i + "A")
+                    .bookingStatus(i == 2 ? BookingStatus.WAITLISTED : BookingStatus.CONFIRMED)
+                    .price(new BigDecimal("900.00")).fareClass(FareClass.ECONOMY)
+                    .build());
+        }
+
+        List<FlightOccupancyDTO> sales = bookingRepository.sumByFlight(BookingStatus.CONFIRMED);
+
+        assertEquals(1, sales.size());
+        assertEquals(flight.getId(), sales.get(0).getFlightId());
+        assertEquals(airline.getId(), sales.get(0).getAirlineId());
+        assertEquals(2, sales.get(0).getSeatsSold());
+        assertEquals(0, new BigDecimal("1800.00").compareTo(sales.get(0).getRevenue()));
+    }
+}
@@ -0,0 +1,102 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.FlightSeatsDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightVersionDTO;
+import com.cobanoglu.airlinemanagement.entity.Airline;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:flights;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class FlightRepositoryTest {
+
+    @Autowired private AirlineRepository airlineRepository;
+    @Autowired private FlightRepository flightRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Airline airline;
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        airline = airlineRepository.save(Airline.builder()
+                .codeIATA("TK").codeICAO("THY").name("Turkish Airlines").country("Turkey").fleetSize("400")
+                .build());
+        LocalDateTime departure = LocalDateTime.now().plusDays(3);
+        flight = flightRepository.save(Flight.builder()
+                .airline(airline).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(departure).arrivalTime(departure.plusHours(3))
+                .basePrice(BigDecimal.valueOf(1000)).capacity(150).bookedSeats(0)
+                .build());
+        entityManager.flush();
+    }
+
+    private FlightVersionDTO flightVersion() {
+        return flightRepository.findVersionById(flight.getId()).orElseThrow();
+    }
+
+    @Test
+    void findVersionById_shouldCarryFlightAndAirlineVersionsSeparately() {
+        assertEquals(0L, flightVersion().getVersion());
+        assertEquals(0L, flightVersion().getAirlineVersion());
+
+        flight.setBookedSeats(1);
+        entityManager.flush();
+        assertEquals(1L, flightVersion().getVersion());
+        assertEquals(0L, flightVersion().getAirlineVersion());
+
+        airlineRepository.incrementVersion(airline.getId());
+        assertEquals(1L, flightVersion().getVersion());
+        assertEquals(1L, flightVersion().getAirlineVersion());
+        assertEquals(airline.getId(), flightVersion().getAirlineId());
+        assertEquals(Optional.of(1L), airlineRepository.findVersionById(airline.getId()));
+        assertEquals(Optional.empty(), flightRepository.findVersionById(-1L));
+    }
+
+    @Test
+    void findSeatsById_shouldReturnCommittedVersionAndSeats() {
+        flight.setBookedSeats(4);
+        entityManager.flush();
+
+        FlightSeatsDTO seats = flightRepository.findSeatsById(flight.getId()).orElseThrow();
+        assertEquals(1L, seats.getVersion());
+        assertEquals(4, seats.getBookedSeats());
+        assertEquals(Optional.empty(), flightRepository.findSeatsById(-1L));
+    }
+
+    @Test
+    void findIdsByAirlineId_shouldReturnOnlyThatAirlinesFlights() {
+        assertEquals(List.of(flight.getId()), flightRepository.findIdsByAirlineId(airline.getId()));
+        assertEquals(List.of(), flightRepository.findIdsByAirlineId(-1L));
+    }
+
+    @Test
+    void findVersions_shouldCarryDepartureAndTotal() {
+        Page<FlightVersionDTO> page = flightRepository.findVersions(PageRequest.of(0, 10, Sort.by("id")));
+
+        assertEquals(1, page.getTotalElements());
+        assertEquals(flight.getId(), page.getContent().get(0).getId());
+        assertEquals(flight.getDepartureTime().withNano(0), page.getContent().get(0).getDepartureTime().withNano(0));
+    }
+}
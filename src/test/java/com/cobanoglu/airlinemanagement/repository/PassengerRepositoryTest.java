@@ -0,0 +1,120 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.dto.EmailEntryDTO;
+import com.cobanoglu.airlinemanagement.dto.PassengerSearchEntryDTO;
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
+import com.cobanoglu.airlinemanagement.entity.Passenger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:passengers;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PassengerRepositoryTest {
+
+    @Autowired private PassengerRepository passengerRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private Passenger ada;
+    private Passenger alan;
+    private Passenger underscore;
+
+    @BeforeEach
+    void setUp() {
+        ada = passengerRepository.save(passenger("Ada", "Lovelace", "ada@example.com"));
+        alan = passengerRepository.save(passenger("Alan", "Turing", "alan@example.com"));
+        underscore = passengerRepository.save(passenger("Grace", "Hopper", "a_b@example.com"));
+    }
+
+    private static Passenger passenger(String name, String surname, String email) {
+        return Passenger.builder().name(name).surname(surname).email(email).build();
+    }
+
+    @Test
+    void findSearchEntriesAfter_shouldPageById() {
+        List<PassengerSearchEntryDTO> first = passengerRepository.findSearchEntriesAfter(0L, Limit.of(2));
+        List<PassengerSearchEntryDTO> rest = passengerRepository.findSearchEntriesAfter(first.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of(ada.getId(), alan.getId()), first.stream().map(PassengerSearchEntryDTO::getId).toList());
+        assertEquals("Lovelace", first.get(0).getSurname());
+        assertEquals(List.of(underscore.getId()), rest.stream().map(PassengerSearchEntryDTO::getId).toList());
+    }
+
+    @Test
+    void findEmailsAfter_shouldPageById() {
+        List<EmailEntryDTO> first = passengerRepository.findEmailsAfter(0L, Limit.of(2));
+        List<EmailEntryDTO> rest = passengerRepository.findEmailsAfter(first.get(1).getId(), Limit.of(2));
+
+        assertEquals(List.of("ada@example.com", "alan@example.com"), first.stream().map(EmailEntryDTO::getEmail).toList());
+        assertEquals(List.of(underscore.getId()), rest.stream().map(EmailEntryDTO::getId).toList());
+    }
+
+    @Test
+    void findByPrefix_shouldMatchAnyFieldCaseInsensitivelyAndEscapeWildcards() {
+        assertEquals(List.of(underscore.getId(), ada.getId(), alan.getId()),
+                passengerRepository.findByPrefix("a%", Limit.of(10)).stream().map(Passenger::getId).toList());
+        assertEquals(List.of(ada.getId()),
+                passengerRepository.findByPrefix("love%", Limit.of(10)).stream().map(Passenger::getId).toList());
+        assertEquals(List.of(underscore.getId()),
+                passengerRepository.findByPrefix("a\\_%", Limit.of(10)).stream().map(Passenger::getId).toList());
+    }
+
+    @Test
+    void version_shouldIncrementOnEveryUpdate() {
+        entityManager.flush();
+        assertEquals(Optional.of(0L), passengerRepository.findVersionById(ada.getId()));
+
+        ada.setLoyaltyPoints(10);
+        entityManager.flush();
+        ada.setSurname("King");
+        entityManager.flush();
+
+        assertEquals(Optional.of(2L), passengerRepository.findVersionById(ada.getId()));
+        assertEquals(Optional.empty(), passengerRepository.findVersionById(-1L));
+    }
+
+    @Test
+    void addLoyaltyPoints_shouldApplyDeltaClampAtZeroAndBumpVersion() {
+        entityManager.flush();
+
+        assertEquals(1, passengerRepository.addLoyaltyPoints(ada.getId(), 120));
+        assertEquals(1, passengerRepository.addLoyaltyPoints(ada.getId(), -20));
+        assertEquals(1, passengerRepository.addLoyaltyPoints(alan.getId(), -50));
+        assertEquals(0, passengerRepository.addLoyaltyPoints(-1L, 10));
+        entityManager.clear();
+
+        assertEquals(100, passengerRepository.findById(ada.getId()).orElseThrow().getLoyaltyPoints());
+        assertEquals(0, passengerRepository.findById(alan.getId()).orElseThrow().getLoyaltyPoints());
+        assertEquals(Optional.of(2L), passengerRepository.findVersionById(ada.getId()));
+    }
+
+    @Test
+    void findVersions_shouldPageInRequestedOrder() {
+        ada.setLoyaltyPoints(10);
+        entityManager.flush();
+
+        List<ResourceVersionDTO> versions = passengerRepository
+                .findVersions(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "id"))).getContent();
+
+        assertEquals(List.of(underscore.getId(), alan.getId()), versions.stream().map(ResourceVersionDTO::getId).toList());
+        assertEquals(3, passengerRepository.findVersions(PageRequest.of(0, 2)).getTotalElements());
+        assertEquals(1L, passengerRepository.findVersions(PageRequest.of(0, 1, Sort.by("id"))).getContent().get(0).getVersion());
+    }
+}
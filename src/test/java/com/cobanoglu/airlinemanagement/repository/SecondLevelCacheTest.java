@@ -0,0 +1,122 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.entity.Airline;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.entity.Role;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:l2cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired private AirlineRepository airlineRepository;
+    @Autowired private FlightRepository flightRepository;
+    @Autowired private RoleRepository roleRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private Airline airline;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+
+        roleRepository.save(Role.builder().name("USER").build());
+        airline = airlineRepository.save(Airline.builder()
+                .codeIATA("TK").codeICAO("THY").name("Turkish Airlines").country("Turkey").fleetSize("400")
+                .build());
+        flightRepository.save(Flight.builder()
+                .airline(airline).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(LocalDateTime.now().plusDays(3)).arrivalTime(LocalDateTime.now().plusDays(3).plusHours(3))
+                .basePrice(BigDecimal.valueOf(1000)).capacity(150).bookedSeats(0)
+                .build());
+
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRepository.deleteAll();
+        airlineRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    private long statementsFor(Supplier<?> work) {
+        statistics.clear();
+        tx.execute(status -> work.get());
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void airline_repeatReadShouldNotHitDatabase() {
+        assertEquals(1, statementsFor(() -> airlineRepository.findById(airline.getId()).orElseThrow()));
+        assertEquals(0, statementsFor(() -> airlineRepository.findById(airline.getId()).orElseThrow()));
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void role_repeatLookupByNameShouldNotHitDatabase() {
+        assertEquals(1, statementsFor(() -> roleRepository.findByName("USER").orElseThrow()));
+        assertEquals(0, statementsFor(() -> roleRepository.findByName("USER").orElseThrow()));
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void flight_shouldAlwaysBeReadFromDatabaseWhileItsAirlineIsCached() {
+        Long flightId = flightRepository.findAll().get(0).getId();
+        Supplier<String> loadFlightAndAirline =
+                () -> flightRepository.findById(flightId).orElseThrow().getAirline().getName();
+
+        assertEquals(2, statementsFor(loadFlightAndAirline));
+        assertEquals(1, statementsFor(loadFlightAndAirline));
+    }
+
+    @Test
+    void airline_updateShouldRefreshCacheAfterCommit() {
+        statementsFor(() -> airlineRepository.findById(airline.getId()).orElseThrow());
+
+        tx.executeWithoutResult(status -> airlineRepository.findById(airline.getId()).orElseThrow().setName("THY"));
+
+        assertEquals(0, statementsFor(() -> airlineRepository.findById(airline.getId()).orElseThrow()));
+        assertEquals("THY", tx.execute(status -> airlineRepository.findById(airline.getId()).orElseThrow().getName()));
+    }
+
+    @Test
+    void role_insertShouldInvalidateCachedQueries() {
+        statementsFor(() -> roleRepository.findByName("USER").orElseThrow());
+
+        roleRepository.save(Role.builder().name("ADMIN").build());
+
+        assertEquals(1, statementsFor(() -> roleRepository.findByName("USER").orElseThrow()));
+    }
+}
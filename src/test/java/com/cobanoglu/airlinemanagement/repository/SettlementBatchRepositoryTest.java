@@ -0,0 +1,65 @@
+package com.cobanoglu.airlinemanagement.repository;
+
+import com.cobanoglu.airlinemanagement.entity.Currency;
+import com.cobanoglu.airlinemanagement.entity.SettlementBatch;
+import com.cobanoglu.airlinemanagement.entity.SettlementStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:settlement;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;NON_KEYWORDS=VALUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SettlementBatchRepositoryTest {
+
+    private static final LocalDateTime WINDOW = LocalDateTime.of(2025, 3, 1, 10, 0);
+
+    @Autowired private SettlementBatchRepository settlementBatchRepository;
+    @Autowired private TestEntityManager entityManager;
+
+    private SettlementBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        batch = settlementBatchRepository.saveAndFlush(SettlementBatch.builder()
+                .currency(Currency.USD).windowStart(WINDOW).windowEnd(WINDOW.plusHours(1))
+                .paymentCount(2).totalAmount(new BigDecimal("30.00")).status(SettlementStatus.OPEN)
+                .build());
+    }
+
+    private SettlementBatch reload() {
+        entityManager.clear();
+        return settlementBatchRepository.findById(batch.getId()).orElseThrow();
+    }
+
+    @Test
+    void addToBatch_shouldAccumulateOnlyWhileOpen() {
+        assertEquals(1, settlementBatchRepository.addToBatch(batch.getId(), SettlementStatus.OPEN, 3, new BigDecimal("12.50")));
+        assertEquals(1, settlementBatchRepository.addToBatch(batch.getId(), SettlementStatus.OPEN, 1, new BigDecimal("1.25")));
+        assertEquals(1, settlementBatchRepository.completeBatch(
+                batch.getId(), SettlementStatus.OPEN, SettlementStatus.COMPLETED, WINDOW.plusHours(2)));
+
+        assertEquals(0, settlementBatchRepository.addToBatch(batch.getId(), SettlementStatus.OPEN, 5, BigDecimal.TEN));
+        assertEquals(0, settlementBatchRepository.completeBatch(
+                batch.getId(), SettlementStatus.OPEN, SettlementStatus.COMPLETED, WINDOW.plusHours(3)));
+
+        SettlementBatch stored = reload();
+        assertEquals(6, stored.getPaymentCount());
+        assertEquals(0, new BigDecimal("43.75").compareTo(stored.getTotalAmount()));
+        assertEquals(SettlementStatus.COMPLETED, stored.getStatus());
+        assertEquals(WINDOW.plusHours(2), stored.getCompletedAt());
+    }
+}
@@ -2,6 +2,7 @@ package com.cobanoglu.airlinemanagement.service.impl;
 
 import com.cobanoglu.airlinemanagement.dto.AirlineDTO;
 import com.cobanoglu.airlinemanagement.entity.Airline;
+import com.cobanoglu.airlinemanagement.entity.Flight;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
 import com.cobanoglu.airlinemanagement.exception.NotFoundException;
 import com.cobanoglu.airlinemanagement.mapper.AirlineMapper;
@@ -15,8 +16,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,6 +39,9 @@ class AirlineServiceImplTest {
     @Mock
     private AirlineMapper airlineMapper;
 
+    @Mock
+    private BookingFactStore bookingFactStore;
+
     @InjectMocks
     private AirlineServiceImpl airlineService;
 
@@ -104,6 +111,19 @@ class AirlineServiceImplTest {
         assertNotNull(result);
         assertEquals("Türkiye", result.getCountry());
         verify(airlineRepository).save(any(Airline.class));
+        verify(bookingFactStore, never()).refreshAirline(any(), any());
+    }
+
+    @Test
+    void updateAirline_rename_refreshesBookingFacts() {
+        when(airlineRepository.findById(1L)).thenReturn(Optional.of(airline));
+        when(airlineRepository.save(any(Airline.class))).thenReturn(airline);
+        when(flightRepository.findIdsByAirlineId(1L)).thenReturn(List.of(10L, 11L));
+
+        dto.setName("Turkish Airlines Cargo");
+        airlineService.updateAirline(1L, dto);
+
+        verify(bookingFactStore).refreshAirline("Turkish Airlines Cargo", List.of(10L, 11L));
     }
 
     @Test
@@ -131,20 +151,26 @@ class AirlineServiceImplTest {
     @Test
     void deleteAirline_success() {
         when(airlineRepository.findById(1L)).thenReturn(Optional.of(airline));
-        when(bookingRepository.existsByFlight_Airline_Id(1L)).thenReturn(false);
         when(flightRepository.findByAirlineId(1L)).thenReturn(List.of());
 
         airlineService.deleteAirline(1L);
 
         verify(airlineRepository).delete(airline);
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
     void deleteAirline_hasBookings_throwsBadRequest() {
+        Flight flight = new Flight();
+        flight.setId(10L);
+        flight.setDepartureTime(LocalDateTime.of(2026, 5, 1, 10, 0));
         when(airlineRepository.findById(1L)).thenReturn(Optional.of(airline));
-        when(bookingRepository.existsByFlight_Airline_Id(1L)).thenReturn(true);
+        when(flightRepository.findByAirlineId(1L)).thenReturn(List.of(flight));
+        when(bookingRepository.existsByFlight_IdInAndDepartureDateIn(Set.of(10L), Set.of(LocalDate.of(2026, 5, 1))))
+                .thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> airlineService.deleteAirline(1L));
+        verify(flightRepository, never()).deleteAll(any());
     }
 
     @Test
@@ -19,8 +19,10 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class AuthServiceImplTest {
@@ -43,6 +45,12 @@ class AuthServiceImplTest {
     @Mock
     private AuthenticationManager authenticationManager;
 
+    @Mock
+    private PassengerSearchIndex passengerSearchIndex;
+
+    @Mock
+    private EmailExistenceFilter emailExistenceFilter;
+
     @InjectMocks
     private AuthServiceImpl authService;
 
@@ -53,6 +61,8 @@ class AuthServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(emailExistenceFilter.exists(any(), any(), any()))
+                .thenAnswer(inv -> inv.<BooleanSupplier>getArgument(2).getAsBoolean());
 
         request = new UserRegisterRequest();
         request.setFirstName("Gokhan");
@@ -76,7 +86,7 @@ class AuthServiceImplTest {
 
     @Test
     void register_success_createsUserAndPassenger() {
-        when(userRepository.findByEmail("gokhan@example.com")).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("gokhan@example.com")).thenReturn(false);
         when(roleRepository.findByName("USER")).thenReturn(Optional.of(role));
         when(passwordEncoder.encode("password")).thenReturn("encodedPass");
         when(userRepository.save(any(User.class))).thenReturn(user);
@@ -86,18 +96,33 @@ class AuthServiceImplTest {
         assertEquals("User registered successfully (Passenger created)", result);
         verify(userRepository).save(any(User.class));
         verify(passengerRepository).save(any(Passenger.class));
+        verify(passengerSearchIndex).put(any(Passenger.class));
+        verify(emailExistenceFilter).add(EmailExistenceFilter.Owner.USER, "gokhan@example.com");
+        verify(emailExistenceFilter).add(EmailExistenceFilter.Owner.PASSENGER, "gokhan@example.com");
+    }
+
+    @Test
+    void register_filterNegative_skipsEmailQuery() {
+        doReturn(false).when(emailExistenceFilter).exists(eq(EmailExistenceFilter.Owner.USER), eq("gokhan@example.com"), any());
+        when(roleRepository.findByName("USER")).thenReturn(Optional.of(role));
+        when(passwordEncoder.encode("password")).thenReturn("encodedPass");
+
+        authService.register(request);
+
+        verify(userRepository, never()).existsByEmail(any());
+        verify(userRepository, never()).findByEmail(any());
     }
 
     @Test
     void register_emailAlreadyExists_throwsBadRequest() {
-        when(userRepository.findByEmail("gokhan@example.com")).thenReturn(Optional.of(user));
+        when(userRepository.existsByEmail("gokhan@example.com")).thenReturn(true);
         assertThrows(BadRequestException.class, () -> authService.register(request));
         verify(userRepository, never()).save(any());
     }
 
     @Test
     void register_roleNotFound_throwsNotFound() {
-        when(userRepository.findByEmail("gokhan@example.com")).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("gokhan@example.com")).thenReturn(false);
         when(roleRepository.findByName("USER")).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> authService.register(request));
     }
@@ -135,7 +160,7 @@ class AuthServiceImplTest {
         request.setFirstName(" GOKHAN ");
         request.setLastName(" COBANOGLU ");
         request.setEmail("  GOKHAN@EXAMPLE.COM  ");
-        when(userRepository.findByEmail("gokhan@example.com")).thenReturn(Optional.empty());
+        when(userRepository.existsByEmail("gokhan@example.com")).thenReturn(false);
         when(roleRepository.findByName("USER")).thenReturn(Optional.of(role));
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPass");
         when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
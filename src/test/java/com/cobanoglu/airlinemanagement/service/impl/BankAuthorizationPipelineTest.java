@@ -0,0 +1,130 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.BankDTO;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.metrics.PaymentMetrics;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
+import com.cobanoglu.airlinemanagement.service.BankService;
+import com.cobanoglu.airlinemanagement.util.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BankAuthorizationPipelineTest {
+
+    @Mock private BankService bankService;
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentMetrics paymentMetrics;
+
+    private ExecutorService workers;
+    private ExecutorService completions;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        workers = Executors.newFixedThreadPool(2);
+        completions = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+        completions.shutdownNow();
+    }
+
+    private BankAuthorizationPipeline pipeline(long timeoutMs, int maxInFlight) {
+        return new BankAuthorizationPipeline(bankService, paymentRepository, paymentMetrics,
+                new TaskExecutorAdapter(workers), new TaskExecutorAdapter(completions), maxInFlight, timeoutMs, 2, 60_000);
+    }
+
+    private BankDTO approved() {
+        BankDTO dto = new BankDTO();
+        dto.setStatus(Status.Success);
+        return dto;
+    }
+
+    @Test
+    void submit_shouldReturnPendingAndPersistResult() {
+        when(bankService.process(any())).thenReturn(approved());
+
+        Status status = pipeline(1_000, 4).submit(1L, new BankDTO());
+
+        assertEquals(Status.Pending, status);
+        verify(paymentRepository, timeout(2_000)).completeAuthorization(eq(1L), eq(Status.Pending), eq(Status.Success), any());
+        verify(paymentMetrics, timeout(2_000)).recordAuthorization(eq("Success"), anyLong());
+    }
+
+    @Test
+    void submit_shouldKeepPaymentPendingOnTimeoutAndStoreLateResult() {
+        when(bankService.process(any())).thenAnswer(inv -> {
+            TimeUnit.MILLISECONDS.sleep(500);
+            return approved();
+        });
+
+        pipeline(50, 4).submit(1L, new BankDTO());
+
+        verify(paymentMetrics, timeout(2_000)).recordAuthorization(eq(PaymentMetrics.OUTCOME_TIMEOUT), anyLong());
+        verify(paymentRepository, never()).completeAuthorization(any(), any(), any(), any());
+
+        verify(paymentRepository, timeout(2_000)).completeAuthorization(eq(1L), eq(Status.Pending), eq(Status.Success), any());
+        verify(paymentMetrics, timeout(2_000)).recordAuthorization(eq(PaymentMetrics.OUTCOME_LATE), anyLong());
+        verify(paymentRepository, never()).completeAuthorization(any(), any(), eq(Status.Unsuccessful), any());
+    }
+
+    @Test
+    void submit_shouldNotBlockWorkersWhenCompletionsAreSlow() throws Exception {
+        when(bankService.process(any())).thenReturn(approved());
+        CountDownLatch release = new CountDownLatch(1);
+        when(paymentRepository.completeAuthorization(any(), any(), any(), any())).thenAnswer(inv -> {
+            release.await(2, TimeUnit.SECONDS);
+            return 1;
+        });
+        BankAuthorizationPipeline pipeline = pipeline(1_000, 8);
+
+        for (long id = 1; id <= 6; id++) assertEquals(Status.Pending, pipeline.submit(id, new BankDTO()));
+
+        verify(bankService, timeout(1_000).times(6)).process(any());
+        release.countDown();
+        verify(paymentRepository, timeout(2_000).times(6)).completeAuthorization(any(), eq(Status.Pending), eq(Status.Success), any());
+    }
+
+    @Test
+    void submit_shouldRejectWhenInFlightLimitReached() throws Exception {
+        when(bankService.process(any())).thenAnswer(inv -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return approved();
+        });
+        BankAuthorizationPipeline pipeline = pipeline(1_000, 1);
+
+        assertEquals(Status.Pending, pipeline.submit(1L, new BankDTO()));
+        assertEquals(Status.Unsuccessful, pipeline.submit(2L, new BankDTO()));
+
+        verify(paymentRepository).completeAuthorization(eq(2L), eq(Status.Pending), eq(Status.Unsuccessful), any());
+        verify(paymentMetrics).recordAuthorization(eq(PaymentMetrics.OUTCOME_REJECTED), anyLong());
+    }
+
+    @Test
+    void submit_shouldOpenCircuitAfterConsecutiveFailures() {
+        BankAuthorizationPipeline pipeline = new BankAuthorizationPipeline(bankService, paymentRepository,
+                paymentMetrics, new TaskExecutorAdapter(Runnable::run), new TaskExecutorAdapter(Runnable::run), 4, 1_000, 2, 60_000);
+        when(bankService.process(any())).thenThrow(new IllegalStateException("acquirer down"));
+
+        pipeline.submit(1L, new BankDTO());
+        pipeline.submit(2L, new BankDTO());
+
+        assertEquals(CircuitBreaker.State.OPEN, pipeline.getCircuitState());
+        assertEquals(Status.Unsuccessful, pipeline.submit(3L, new BankDTO()));
+        verify(bankService, times(2)).process(any());
+        verify(paymentMetrics).recordAuthorization(eq(PaymentMetrics.OUTCOME_CIRCUIT_OPEN), anyLong());
+    }
+}
@@ -0,0 +1,116 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.*;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BookingAnalyticsServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 5);
+
+    private BookingFactStore store;
+    private BookingAnalyticsServiceImpl analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        store = new BookingFactStore(mock(BookingRepository.class), mock(ArchivedBookingRepository.class),
+                mock(PlatformTransactionManager.class), true, 1024, 100, 1);
+        analyticsService = new BookingAnalyticsServiceImpl(store);
+
+        add(1, "100.00", BookingStatus.CONFIRMED, "Istanbul", "Berlin");
+        add(2, "100.00", BookingStatus.CONFIRMED, "Istanbul", "Berlin");
+        add(3, "50.00", BookingStatus.CONFIRMED, "Istanbul", "Berlin");
+        add(4, "300.00", BookingStatus.CONFIRMED, "Ankara", "Paris");
+        add(5, "999.99", BookingStatus.CANCELLED, "Berlin", "Istanbul");
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    private void add(long id, String price, BookingStatus status, String origin, String destination) {
+        store.upsert(new BookingFactDTO(id, 7L, new BigDecimal(price), status, FareClass.ECONOMY,
+                origin, destination, "Turkish Airlines", DAY));
+    }
+
+    private static BookingAnalyticsQuery query(AnalyticsSort sort, AnalyticsDimension... groupBy) {
+        BookingAnalyticsQuery query = new BookingAnalyticsQuery();
+        query.setGroupBy(List.of(groupBy));
+        query.setSort(sort);
+        return query;
+    }
+
+    @Test
+    void query_shouldSortByRevenueAndComputeTotals() {
+        BookingAnalyticsQuery query = query(null, AnalyticsDimension.ORIGIN);
+        query.setStatuses(List.of(BookingStatus.CONFIRMED));
+
+        BookingAnalyticsResultDTO result = analyticsService.query(query);
+
+        assertEquals(List.of(List.of("Ankara"), List.of("Istanbul")),
+                result.getRows().stream().map(BookingAnalyticsRowDTO::getKeys).toList());
+        BookingAnalyticsRowDTO istanbul = result.getRows().get(1);
+        assertEquals(3, istanbul.getBookings());
+        assertEquals(new BigDecimal("250.00"), istanbul.getRevenue());
+        assertEquals(new BigDecimal("83.33"), istanbul.getAveragePrice());
+        assertEquals(2, result.getTotalGroups());
+        assertEquals(4, result.getTotalBookings());
+        assertEquals(new BigDecimal("550.00"), result.getTotalRevenue());
+        assertEquals(5, result.getScannedRows());
+    }
+
+    @Test
+    void query_shouldSortByBookingsOrKeyAndApplyLimit() {
+        BookingAnalyticsQuery byBookings = query(AnalyticsSort.BOOKINGS, AnalyticsDimension.ORIGIN, AnalyticsDimension.ORIGIN);
+        byBookings.setLimit(1);
+        BookingAnalyticsQuery byKey = query(AnalyticsSort.KEY, AnalyticsDimension.DESTINATION);
+
+        BookingAnalyticsResultDTO top = analyticsService.query(byBookings);
+        BookingAnalyticsResultDTO sorted = analyticsService.query(byKey);
+
+        assertEquals(List.of(AnalyticsDimension.ORIGIN), top.getGroupBy());
+        assertEquals(1, top.getRows().size());
+        assertEquals(3, top.getTotalGroups());
+        assertEquals(List.of("Istanbul"), top.getRows().get(0).getKeys());
+        assertEquals(List.of(List.of("Berlin"), List.of("Istanbul"), List.of("Paris")),
+                sorted.getRows().stream().map(BookingAnalyticsRowDTO::getKeys).toList());
+    }
+
+    @Test
+    void query_shouldReturnSingleTotalRowWithoutGroupBy() {
+        BookingAnalyticsResultDTO result = analyticsService.query(new BookingAnalyticsQuery());
+
+        assertEquals(1, result.getRows().size());
+        assertEquals(List.of(), result.getRows().get(0).getKeys());
+        assertEquals(5, result.getTotalBookings());
+    }
+
+    @Test
+    void query_shouldRejectInvertedRangeAndDisabledStore() {
+        BookingAnalyticsQuery inverted = new BookingAnalyticsQuery();
+        inverted.setFrom(DAY);
+        inverted.setTo(DAY.minusDays(1));
+        BookingFactStore disabled = new BookingFactStore(mock(BookingRepository.class), mock(ArchivedBookingRepository.class),
+                mock(PlatformTransactionManager.class), false, 1024, 100, 1);
+
+        assertThrows(BadRequestException.class, () -> analyticsService.query(inverted));
+        assertThrows(BadRequestException.class,
+                () -> new BookingAnalyticsServiceImpl(disabled).query(new BookingAnalyticsQuery()));
+        disabled.shutdown();
+    }
+}
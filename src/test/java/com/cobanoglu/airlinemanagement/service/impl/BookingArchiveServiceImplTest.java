@@ -0,0 +1,82 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BookingArchiveServiceImplTest {
+
+    private static final LocalDate CUTOFF = LocalDate.of(2025, 10, 1);
+
+    @Mock private BookingRepository bookingRepository;
+    @Mock private ArchivedBookingRepository archivedBookingRepository;
+    @Mock private BookingMetrics bookingMetrics;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private BookingArchiveServiceImpl service(boolean enabled, int maxChunks) {
+        return new BookingArchiveServiceImpl(bookingRepository, archivedBookingRepository, bookingMetrics,
+                transactionManager, enabled, 12, 2, maxChunks);
+    }
+
+    @Test
+    void archive_shouldMoveChunksUntilNoneLeft() {
+        when(bookingRepository.findIdsDepartedBefore(eq(CUTOFF), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        when(archivedBookingRepository.copyFromBookings(anyCollection(), any()))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        assertEquals(3, service(true, 10).archiveDepartedBefore(CUTOFF));
+
+        verify(archivedBookingRepository).copyFromBookings(eq(List.of(1L, 2L)), any());
+        verify(bookingRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(bookingRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(bookingRepository, times(2)).findIdsDepartedBefore(eq(CUTOFF), any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+        verify(bookingMetrics).recordArchived(eq(3), anyLong());
+    }
+
+    @Test
+    void archive_shouldStopAfterMaxChunksPerRun() {
+        when(bookingRepository.findIdsDepartedBefore(eq(CUTOFF), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(archivedBookingRepository.copyFromBookings(anyCollection(), any())).thenReturn(2);
+
+        assertEquals(6, service(true, 3).archiveDepartedBefore(CUTOFF));
+        verify(bookingRepository, times(3)).deleteAllByIdInBatch(anyCollection());
+    }
+
+    @Test
+    void archive_incompleteCopy_shouldRollBackChunkWithoutDeleting() {
+        when(bookingRepository.findIdsDepartedBefore(eq(CUTOFF), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(archivedBookingRepository.copyFromBookings(anyCollection(), any())).thenReturn(1);
+
+        BookingArchiveServiceImpl service = service(true, 3);
+        assertThrows(IllegalStateException.class, () -> service.archiveDepartedBefore(CUTOFF));
+
+        verify(bookingRepository, never()).deleteAllByIdInBatch(anyCollection());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void archiveDepartedBookings_disabled_shouldDoNothing() {
+        assertEquals(0, service(false, 3).archiveDepartedBookings());
+        verifyNoInteractions(bookingRepository, archivedBookingRepository);
+    }
+}
@@ -0,0 +1,219 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.AnalyticsDimension;
+import com.cobanoglu.airlinemanagement.dto.BookingFactDTO;
+import com.cobanoglu.airlinemanagement.entity.BookingStatus;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.repository.ArchivedBookingRepository;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BookingFactStoreTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 11, 5);
+    private static final BookingFactStore.Filter ALL = new BookingFactStore.Filter(null, null, null, null, null, null, null);
+
+    @Mock private BookingRepository bookingRepository;
+    @Mock private ArchivedBookingRepository archivedBookingRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private BookingFactStore store;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        store = store(1024, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.shutdown();
+    }
+
+    private BookingFactStore store(int chunkSize, int parallelism) {
+        return new BookingFactStore(bookingRepository, archivedBookingRepository, transactionManager,
+                true, chunkSize, 2, parallelism);
+    }
+
+    private static BookingFactDTO fact(long id, long flightId, String price, BookingStatus status, FareClass fareClass,
+                                       String origin, String destination, LocalDate day) {
+        return new BookingFactDTO(id, flightId, new BigDecimal(price), status, fareClass, origin, destination,
+                "Turkish Airlines", day);
+    }
+
+    private Map<String, long[]> byLabels(BookingFactStore.Aggregation aggregation, List<AnalyticsDimension> groupBy) {
+        return byLabels(store, aggregation, groupBy);
+    }
+
+    private static Map<String, long[]> byLabels(BookingFactStore source, BookingFactStore.Aggregation aggregation,
+                                                List<AnalyticsDimension> groupBy) {
+        Map<String, long[]> result = new HashMap<>();
+        for (BookingFactStore.Group group : aggregation.groups()) {
+            List<String> labels = new ArrayList<>();
+            for (int d = 0; d < groupBy.size(); d++) labels.add(source.label(groupBy.get(d), group.codes()[d]));
+            result.put(String.join("|", labels), new long[]{group.bookings(), group.revenueCents()});
+        }
+        return result;
+    }
+
+    @Test
+    void load_shouldReadHotThenArchivedInBatchesAndSkipRowsSeenTwice() {
+        BookingFactDTO a = fact(1, 7, "100.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY);
+        BookingFactDTO b = fact(2, 7, "200.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY);
+        BookingFactDTO c = fact(3, 8, "300.00", BookingStatus.CANCELLED, null, "Berlin", "Istanbul", DAY);
+        when(bookingRepository.findFactsAfter(0L, Limit.of(2))).thenReturn(List.of(a, b));
+        when(bookingRepository.findFactsAfter(2L, Limit.of(2))).thenReturn(List.of(c));
+        when(archivedBookingRepository.findFactsAfter(0L, Limit.of(2))).thenReturn(List.of(b));
+
+        assertEquals(3, store.load());
+
+        BookingFactStore.Aggregation all = store.aggregate(ALL, List.of());
+        assertEquals(3, all.scannedRows());
+        assertTrue(all.complete());
+        assertEquals(1, all.groups().size());
+        assertEquals(3, all.groups().get(0).bookings());
+        assertEquals(60_000, all.groups().get(0).revenueCents());
+        verify(archivedBookingRepository, never()).findFactsAfter(eq(2L), any());
+    }
+
+    @Test
+    void aggregate_shouldGroupAndFilter() {
+        store.upsert(fact(1, 7, "100.10", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+        store.upsert(fact(2, 7, "200.20", BookingStatus.CONFIRMED, FareClass.BUSINESS, "Istanbul", "Berlin", DAY));
+        store.upsert(fact(3, 8, "300.00", BookingStatus.CANCELLED, null, "Berlin", "Istanbul", DAY.plusDays(40)));
+        store.upsert(fact(4, 9, "50.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Paris", DAY.minusDays(1)));
+
+        List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.ORIGIN, AnalyticsDimension.STATUS);
+        Map<String, long[]> grouped = byLabels(store.aggregate(ALL, groupBy), groupBy);
+        assertEquals(2, grouped.size());
+        assertArrayEquals(new long[]{3, 35_030}, grouped.get("Istanbul|CONFIRMED"));
+        assertArrayEquals(new long[]{1, 30_000}, grouped.get("Berlin|CANCELLED"));
+
+        BookingFactStore.Filter filter = new BookingFactStore.Filter(DAY, DAY.plusDays(40),
+                List.of(BookingStatus.CONFIRMED), null, List.of("Istanbul"), null, List.of("Turkish Airlines"));
+        List<AnalyticsDimension> byFare = List.of(AnalyticsDimension.FARE_CLASS);
+        Map<String, long[]> filtered = byLabels(store.aggregate(filter, byFare), byFare);
+        assertEquals(2, filtered.size());
+        assertArrayEquals(new long[]{1, 10_010}, filtered.get("ECONOMY"));
+        assertArrayEquals(new long[]{1, 20_020}, filtered.get("BUSINESS"));
+
+        BookingFactStore.Filter unspecified = new BookingFactStore.Filter(null, null, null, null, null, List.of("Istanbul"), null);
+        assertArrayEquals(new long[]{1, 30_000}, byLabels(store.aggregate(unspecified, byFare), byFare).get("UNSPECIFIED"));
+
+        BookingFactStore.Filter unknown = new BookingFactStore.Filter(null, null, null, null, List.of("Ankara"), null, null);
+        assertTrue(store.aggregate(unknown, groupBy).groups().isEmpty());
+    }
+
+    @Test
+    void aggregate_shouldLabelCalendarDimensions() {
+        store.upsert(fact(1, 7, "10.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+
+        List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.DAY, AnalyticsDimension.WEEK, AnalyticsDimension.MONTH);
+        Map<String, long[]> grouped = byLabels(store.aggregate(ALL, groupBy), groupBy);
+
+        assertEquals(List.of("2026-11-05|2026-11-02|2026-11"), List.copyOf(grouped.keySet()));
+    }
+
+    @Test
+    void upsert_shouldOverwriteExistingBooking() {
+        store.upsert(fact(1, 7, "100.00", BookingStatus.WAITLISTED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+        store.upsert(fact(1, 7, "120.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+
+        List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.STATUS);
+        Map<String, long[]> grouped = byLabels(store.aggregate(ALL, groupBy), groupBy);
+
+        assertEquals(1, store.size());
+        assertEquals(1, grouped.size());
+        assertArrayEquals(new long[]{1, 12_000}, grouped.get("CONFIRMED"));
+    }
+
+    @Test
+    void reload_shouldUpsertCommittedFact() {
+        when(bookingRepository.findFactById(1L)).thenReturn(Optional.of(
+                fact(1, 7, "100.00", BookingStatus.CANCELLED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY)));
+
+        store.reload(1L);
+
+        assertEquals(1, store.size());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void refreshFlight_shouldMoveRowsOfThatFlightOnly() {
+        store.upsert(fact(1, 7, "100.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+        store.upsert(fact(2, 8, "100.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+        Flight flight = Flight.builder()
+                .id(7L).origin("Ankara").destination("Berlin")
+                .departureTime(LocalDateTime.of(2026, 12, 1, 8, 0))
+                .build();
+
+        store.refreshFlight(flight);
+
+        List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.ORIGIN, AnalyticsDimension.DAY);
+        Map<String, long[]> grouped = byLabels(store.aggregate(ALL, groupBy), groupBy);
+        assertEquals(2, grouped.size());
+        assertArrayEquals(new long[]{1, 10_000}, grouped.get("Ankara|2026-12-01"));
+        assertArrayEquals(new long[]{1, 10_000}, grouped.get("Istanbul|2026-11-05"));
+    }
+
+    @Test
+    void refreshAirline_shouldRelabelRowsOfItsFlightsOnly() {
+        store.upsert(fact(1, 7, "100.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+        store.upsert(fact(2, 8, "100.00", BookingStatus.CONFIRMED, FareClass.ECONOMY, "Istanbul", "Berlin", DAY));
+
+        store.refreshAirline("Turkish Airlines Cargo", List.of(7L, 99L));
+
+        List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.AIRLINE);
+        Map<String, long[]> grouped = byLabels(store.aggregate(ALL, groupBy), groupBy);
+        assertEquals(2, grouped.size());
+        assertArrayEquals(new long[]{1, 10_000}, grouped.get("Turkish Airlines Cargo"));
+        assertArrayEquals(new long[]{1, 10_000}, grouped.get("Turkish Airlines"));
+    }
+
+    @Test
+    void aggregate_shouldMatchSingleThreadedScanWhenSplitAcrossChunks() {
+        BookingFactStore parallel = store(1024, 4);
+        String[] cities = {"Istanbul", "Berlin", "Paris", "Rome", "Madrid"};
+        BookingStatus[] statuses = BookingStatus.values();
+        try {
+            for (int i = 1; i <= 10_000; i++) {
+                BookingFactDTO fact = fact(i, i % 50, (i % 300) + ".25", statuses[i % 3], FareClass.ECONOMY,
+                        cities[i % 5], cities[(i + 1) % 5], DAY.plusDays(i % 90));
+                store.upsert(fact);
+                parallel.upsert(fact);
+            }
+
+            List<AnalyticsDimension> groupBy = List.of(AnalyticsDimension.ORIGIN, AnalyticsDimension.STATUS, AnalyticsDimension.WEEK);
+            BookingFactStore.Filter filter = new BookingFactStore.Filter(DAY.plusDays(10), DAY.plusDays(80),
+                    List.of(BookingStatus.CONFIRMED, BookingStatus.WAITLISTED), null, null, null, null);
+            Map<String, long[]> expected = byLabels(store.aggregate(filter, groupBy), groupBy);
+            Map<String, long[]> actual = byLabels(parallel, parallel.aggregate(filter, groupBy), groupBy);
+
+            assertEquals(expected.keySet(), actual.keySet());
+            expected.forEach((key, value) -> assertArrayEquals(value, actual.get(key), key));
+            assertEquals(10_000, parallel.aggregate(ALL, List.of()).scannedRows());
+        } finally {
+            parallel.shutdown();
+        }
+    }
+}
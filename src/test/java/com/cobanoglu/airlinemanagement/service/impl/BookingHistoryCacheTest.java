@@ -0,0 +1,51 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryPageDTO;
+import com.cobanoglu.airlinemanagement.dto.BookingHistoryScope;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingHistoryCacheTest {
+
+    private final BookingHistoryPageDTO page = new BookingHistoryPageDTO(List.of(), null, false);
+
+    @Test
+    void put_shouldStoreFirstPageWhenGenerationIsUnchanged() {
+        BookingHistoryCache cache = new BookingHistoryCache(60, 10);
+
+        cache.put(1L, cache.generation(1L), BookingHistoryScope.ALL, 20, page);
+
+        assertSame(page, cache.get(1L, BookingHistoryScope.ALL, 20));
+        assertNull(cache.get(1L, BookingHistoryScope.PAST, 20));
+    }
+
+    @Test
+    void put_shouldDropPageReadBeforeEviction() {
+        BookingHistoryCache cache = new BookingHistoryCache(60, 10);
+        long generation = cache.generation(1L);
+
+        cache.evict(1L);
+        cache.put(1L, generation, BookingHistoryScope.ALL, 20, page);
+
+        assertNull(cache.get(1L, BookingHistoryScope.ALL, 20));
+        cache.put(1L, cache.generation(1L), BookingHistoryScope.ALL, 20, page);
+        assertSame(page, cache.get(1L, BookingHistoryScope.ALL, 20));
+    }
+
+    @Test
+    void evict_shouldNotReuseGenerationsAfterTrackingIsReset() {
+        BookingHistoryCache cache = new BookingHistoryCache(60, 2);
+        long generation = cache.generation(1L);
+
+        cache.evict(2L);
+        cache.evict(3L);
+        cache.evict(4L);
+
+        assertNotEquals(generation, cache.generation(1L));
+        cache.put(1L, generation, BookingHistoryScope.ALL, 20, page);
+        assertEquals(0, cache.size());
+    }
+}
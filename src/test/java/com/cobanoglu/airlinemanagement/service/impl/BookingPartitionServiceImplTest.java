@@ -0,0 +1,133 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class BookingPartitionServiceImplTest {
+
+    private static final YearMonth NOW = YearMonth.of(2026, 10);
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private BookingRepository bookingRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private BookingPartitionServiceImpl service(int retentionMonths) {
+        return new BookingPartitionServiceImpl(jdbcTemplate, bookingRepository, transactionManager, true, 3, retentionMonths);
+    }
+
+    private void partitioned(List<String> partitions, LocalDateTime latestDeparture) {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), eq("bookings"))).thenReturn(true);
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("bookings"))).thenReturn(partitions);
+        when(jdbcTemplate.queryForObject(contains("max(departure_time)"), eq(LocalDateTime.class))).thenReturn(latestDeparture);
+    }
+
+    @Test
+    void maintain_unpartitionedTable_shouldDoNothing() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), eq("bookings"))).thenReturn(false);
+        BookingPartitionServiceImpl service = service(0);
+
+        assertEquals(0, service.maintain(NOW));
+        service.ensurePartition(LocalDate.of(2027, 6, 1));
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void maintain_nonPostgresDatabase_shouldDoNothing() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), eq("bookings")))
+                .thenThrow(new DataAccessResourceFailureException("Table \"PG_PARTITIONED_TABLE\" not found"));
+
+        assertEquals(0, service(0).maintain(NOW));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void maintain_shouldCreateMissingMonthsAheadAndUpToLatestDeparture() {
+        partitioned(List.of("bookings_y2026m10", "bookings_y2026m11", "bookings_legacy"), LocalDateTime.of(2027, 3, 14, 9, 0));
+
+        assertEquals(4, service(0).maintain(NOW));
+
+        verify(jdbcTemplate).execute(contains("bookings_y2026m12 PARTITION OF bookings FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')"));
+        verify(jdbcTemplate).execute(contains("bookings_y2027m01 PARTITION OF"));
+        verify(jdbcTemplate).execute(contains("bookings_y2027m02 PARTITION OF"));
+        verify(jdbcTemplate).execute(contains("bookings_y2027m03 PARTITION OF"));
+        verify(jdbcTemplate, never()).execute(contains("bookings_y2026m11 PARTITION OF"));
+    }
+
+    @Test
+    void maintain_shouldDetachPartitionsOlderThanRetention() {
+        partitioned(List.of("bookings_y2024m08", "bookings_y2024m09", "bookings_y2024m10", "bookings_y2026m10",
+                "bookings_y2026m11", "bookings_y2026m12", "bookings_y2027m01"), null);
+
+        assertEquals(2, service(24).maintain(NOW));
+
+        verify(jdbcTemplate).execute("ALTER TABLE bookings DETACH PARTITION bookings_y2024m08");
+        verify(jdbcTemplate).execute("ALTER TABLE bookings DETACH PARTITION bookings_y2024m09");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE bookings DETACH PARTITION bookings_y2024m10");
+        verify(jdbcTemplate, never()).execute(contains("CREATE TABLE"));
+    }
+
+    @Test
+    void maintain_zeroRetention_shouldNeverDetach() {
+        partitioned(List.of("bookings_y2019m01", "bookings_y2026m10", "bookings_y2026m11", "bookings_y2026m12",
+                "bookings_y2027m01"), null);
+
+        assertEquals(0, service(0).maintain(NOW));
+        verify(jdbcTemplate, never()).execute(contains("DETACH"));
+    }
+
+    @Test
+    void maintain_failedDetach_shouldContinueWithOthers() {
+        partitioned(List.of("bookings_y2020m01", "bookings_y2020m02", "bookings_y2026m10", "bookings_y2026m11",
+                "bookings_y2026m12", "bookings_y2027m01"), null);
+        doThrow(new DataAccessResourceFailureException("lock timeout"))
+                .when(jdbcTemplate).execute("ALTER TABLE bookings DETACH PARTITION bookings_y2020m01");
+
+        assertEquals(1, service(12).maintain(NOW));
+        verify(jdbcTemplate).execute("ALTER TABLE bookings DETACH PARTITION bookings_y2020m02");
+    }
+
+    @Test
+    void ensurePartition_shouldCreateUnknownMonthOnce() {
+        partitioned(List.of("bookings_y2026m10", "bookings_y2026m11", "bookings_y2026m12", "bookings_y2027m01"), null);
+        BookingPartitionServiceImpl service = service(0);
+        service.maintain(NOW);
+
+        service.ensurePartition(LocalDate.of(2026, 11, 20));
+        service.ensurePartition(LocalDate.of(2027, 8, 3));
+        service.ensurePartition(LocalDate.of(2027, 8, 28));
+
+        verify(jdbcTemplate, never()).execute(contains("bookings_y2026m11"));
+        verify(jdbcTemplate, times(1)).execute(contains("bookings_y2027m08 PARTITION OF"));
+    }
+
+    @Test
+    void onStartup_shouldBackfillDepartureDates() {
+        when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), eq("bookings"))).thenReturn(false);
+        when(bookingRepository.backfillDepartureDates()).thenReturn(12);
+
+        service(0).onStartup();
+
+        verify(bookingRepository).backfillDepartureDates();
+    }
+}
@@ -1,13 +1,18 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
+import com.cobanoglu.airlinemanagement.config.ReadYourWritesTracker;
 import com.cobanoglu.airlinemanagement.dto.*;
 import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.event.*;
 import com.cobanoglu.airlinemanagement.exception.*;
 import com.cobanoglu.airlinemanagement.mapper.BookingMapper;
+import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapper;
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
 import com.cobanoglu.airlinemanagement.repository.*;
+import com.cobanoglu.airlinemanagement.service.NotificationOutboxService;
 import com.cobanoglu.airlinemanagement.service.PassengerService;
 import com.cobanoglu.airlinemanagement.util.DateUtils;
-import com.cobanoglu.airlinemanagement.util.PriceCalculator;
+import com.cobanoglu.airlinemanagement.util.HistoryCursor;
 import org.junit.jupiter.api.*;
 import org.mockito.*;
 import org.springframework.data.domain.*;
@@ -18,6 +23,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -27,13 +33,21 @@ import static org.mockito.Mockito.*;
 class BookingServiceImplTest {
 
     @Mock private BookingRepository bookingRepository;
+    @Mock private ArchivedBookingRepository archivedBookingRepository;
     @Mock private FlightRepository flightRepository;
     @Mock private PassengerRepository passengerRepository;
     @Mock private UserRepository userRepository;
-    @Mock private PassengerService passengerService;
     @Mock private BookingMapper bookingMapper;
-    @Mock private PriceCalculator priceCalculator;
+    @Mock private PassengerBookingMapper passengerBookingMapper;
+    @Mock private FareQuoteEngine fareQuoteEngine;
     @Mock private DateUtils dateUtils;
+    @Mock private BookingMetrics bookingMetrics;
+    @Mock private NotificationOutboxService notificationOutboxService;
+    @Mock private BookingEventBus bookingEventBus;
+    @Mock private ReadYourWritesTracker readYourWritesTracker;
+    @Spy private BookingHistoryCache bookingHistoryCache = new BookingHistoryCache(60, 100);
+    @Mock private PassengerService passengerService;
+    @Mock private WaitlistPromoter waitlistPromoter;
     @Mock private Authentication authentication;
     @Mock private SecurityContext securityContext;
 
@@ -99,21 +113,29 @@ class BookingServiceImplTest {
         req.setFlightId(1L);
         req.setSeatNumber("12A");
 
-        when(flightRepository.findById(1L)).thenReturn(Optional.of(flight));
+        when(flightRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(flight));
         when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
         when(passengerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(passenger));
         when(dateUtils.isFlightExpired(any())).thenReturn(false);
-        when(bookingRepository.existsByFlight_IdAndPassenger_Id(anyLong(), anyLong())).thenReturn(false);
-        when(bookingRepository.existsByFlight_IdAndSeatNumberIgnoreCase(anyLong(), anyString())).thenReturn(false);
-        when(priceCalculator.calculatePrice(any(), anyDouble())).thenReturn(BigDecimal.valueOf(1000));
+        when(bookingRepository.existsByFlight_IdAndDepartureDateAndPassenger_Id(anyLong(), any(), anyLong())).thenReturn(false);
+        when(bookingRepository.existsByFlight_IdAndDepartureDateAndSeatNumberIgnoreCase(anyLong(), any(), anyString())).thenReturn(false);
+        when(fareQuoteEngine.quote(any(), anyInt(), any())).thenReturn(BigDecimal.valueOf(1000));
+        when(passengerBookingMapper.calculateLoyalty(BigDecimal.valueOf(1000))).thenReturn(100);
 
         BookingResponse res = bookingService.createBooking(req);
 
         assertNotNull(res);
         assertEquals(BookingStatus.CONFIRMED, res.getStatus());
+        verify(bookingMetrics).recordCreate(eq("CONFIRMED"), anyLong());
         verify(bookingRepository).save(any(Booking.class));
-        verify(passengerService).updateLoyaltyPoints(eq(1L), anyInt());
+        verify(bookingHistoryCache).evictAfterCommit(1L);
+        verify(notificationOutboxService).enqueueBookingCreated(any(Booking.class));
         verify(flightRepository).save(flight);
+        assertEquals(51, flight.getBookedSeats());
+        verify(passengerService).updateLoyaltyPoints(passenger.getId(), 100);
+        verify(bookingEventBus).publish(any(BookingCreated.class));
+        verify(bookingEventBus).publish(any(BookingConfirmed.class));
+        verify(readYourWritesTracker).recordWrite("test@example.com");
     }
 
     @Test
@@ -123,27 +145,33 @@ class BookingServiceImplTest {
         req.setFlightId(1L);
         req.setSeatNumber("12A");
 
-        when(flightRepository.findById(1L)).thenReturn(Optional.of(flight));
+        when(flightRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(flight));
         when(userRepository.findByEmail(any())).thenReturn(Optional.of(user));
         when(passengerRepository.findByEmail(any())).thenReturn(Optional.of(passenger));
         when(dateUtils.isFlightExpired(any())).thenReturn(false);
-        when(priceCalculator.calculatePrice(any(), anyDouble())).thenReturn(BigDecimal.valueOf(1000));
-        when(bookingRepository.existsByFlight_IdAndPassenger_Id(any(), any())).thenReturn(false);
-        when(bookingRepository.existsByFlight_IdAndSeatNumberIgnoreCase(any(), any())).thenReturn(false);
+        when(fareQuoteEngine.quote(any(), anyInt(), any())).thenReturn(BigDecimal.valueOf(1000));
+        when(bookingRepository.existsByFlight_IdAndDepartureDateAndPassenger_Id(any(), any(), any())).thenReturn(false);
+        when(bookingRepository.existsByFlight_IdAndDepartureDateAndSeatNumberIgnoreCase(any(), any(), any())).thenReturn(false);
 
         assertThrows(OverbookingException.class, () -> bookingService.createBooking(req));
+        verify(bookingMetrics).recordCreate(eq(BookingMetrics.OUTCOME_OVERBOOKED), anyLong());
+        verify(notificationOutboxService, never()).enqueueBookingCreated(any());
     }
 
     @Test
     void cancelBooking_shouldCancelAndRefund() {
         when(bookingRepository.findById(10L)).thenReturn(Optional.of(booking));
+        when(flightRepository.findByIdForUpdate(booking.getFlight().getId())).thenReturn(Optional.of(booking.getFlight()));
         mockAuthority("ROLE_ADMIN");
 
         bookingService.cancelBooking(10L);
 
         assertEquals(BookingStatus.CANCELLED, booking.getBookingStatus());
         verify(bookingRepository, atLeastOnce()).save(booking);
-        verify(passengerService, atLeastOnce()).updateLoyaltyPoints(anyLong(), anyInt());
+        verify(bookingEventBus).publish(argThat(e -> e instanceof BookingCancelled c && c.releasedSeat()));
+        verify(readYourWritesTracker).recordWrite("test@example.com");
+        verify(passengerService).updateLoyaltyPoints(eq(booking.getPassenger().getId()), anyInt());
+        verify(waitlistPromoter).promoteNext(booking.getFlight());
     }
 
     @Test
@@ -161,14 +189,35 @@ class BookingServiceImplTest {
         oldWait.setId(5L);
         oldWait.setBookingStatus(BookingStatus.WAITLISTED);
         oldWait.setFlight(flight);
+        oldWait.setPassenger(passenger);
 
-        when(bookingRepository.findAllByBookingStatusAndFlight_DepartureTimeBefore(any(), any()))
+        when(bookingRepository.findAllByBookingStatusAndDepartureDateBetweenAndFlight_DepartureTimeBefore(any(), any(), any(), any()))
                 .thenReturn(List.of(oldWait));
 
         bookingService.scheduledCancelOldWaitlisted();
 
         verify(bookingRepository).save(oldWait);
         assertEquals(BookingStatus.CANCELLED, oldWait.getBookingStatus());
+        verify(bookingHistoryCache).evictAfterCommit(passenger.getId());
+        ArgumentCaptor<BookingCancelled> event = ArgumentCaptor.forClass(BookingCancelled.class);
+        verify(bookingEventBus).publish(event.capture());
+        assertEquals(5L, event.getValue().bookingId());
+        assertFalse(event.getValue().releasedSeat());
+    }
+
+    @Test
+    void scheduledCancelOldWaitlisted_shouldCatchUpOnceThenSweepFromArchiveCutoff() {
+        when(bookingRepository.findAllByBookingStatusAndDepartureDateBetweenAndFlight_DepartureTimeBefore(any(), any(), any(), any()))
+                .thenReturn(List.of());
+
+        bookingService.scheduledCancelOldWaitlisted();
+        bookingService.scheduledCancelOldWaitlisted();
+
+        ArgumentCaptor<LocalDate> from = ArgumentCaptor.forClass(LocalDate.class);
+        verify(bookingRepository, times(2)).findAllByBookingStatusAndDepartureDateBetweenAndFlight_DepartureTimeBefore(
+                eq(BookingStatus.WAITLISTED), from.capture(), eq(LocalDate.now()), any());
+        assertEquals(LocalDate.of(1970, 1, 1), from.getAllValues().get(0));
+        assertTrue(from.getAllValues().get(1).isAfter(LocalDate.of(1970, 1, 1)));
     }
 
     @Test
@@ -195,4 +244,156 @@ class BookingServiceImplTest {
         assertNotNull(dto);
         verify(bookingMapper).toDto(booking);
     }
+
+    @Test
+    void getBookingById_archivedBooking_shouldBeReadFromArchive() {
+        ArchivedBooking archived = ArchivedBooking.builder().id(7L).passengerId(1L).build();
+        mockAuthority("ROLE_USER");
+        when(bookingRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedBookingRepository.findById(7L)).thenReturn(Optional.of(archived));
+        when(passengerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(passenger));
+        when(bookingMapper.toArchivedDto(archived)).thenReturn(new BookingDTO());
+
+        assertNotNull(bookingService.getBookingById(7L));
+        verify(bookingMapper).toArchivedDto(archived);
+    }
+
+    @Test
+    void getBookingById_archivedBookingOfOtherPassenger_userAccessDenied() {
+        mockAuthority("ROLE_USER");
+        when(bookingRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedBookingRepository.findById(7L))
+                .thenReturn(Optional.of(ArchivedBooking.builder().id(7L).passengerId(99L).build()));
+        when(passengerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(passenger));
+
+        assertThrows(AccessDeniedException.class, () -> bookingService.getBookingById(7L));
+    }
+
+    @Test
+    void getBookingById_missingEverywhere_notFound() {
+        mockAuthority("ROLE_ADMIN");
+        when(bookingRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedBookingRepository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> bookingService.getBookingById(7L));
+    }
+
+    @Test
+    void getBookingHistoryByPassenger_shouldMergeHotAndArchivedByDeparture() {
+        mockAuthority("ROLE_ADMIN");
+        LocalDateTime now = LocalDateTime.now();
+        PassengerBookingDTO upcoming = history(10L, now.plusDays(1));
+        PassengerBookingDTO lastYear = history(3L, now.minusMonths(13));
+        PassengerBookingDTO twoYearsAgo = history(1L, now.minusMonths(25));
+
+        when(bookingRepository.findHistoryAfter(eq(1L), any(), any(), eq(0L), eq(Limit.unlimited())))
+                .thenReturn(List.of(lastYear, upcoming));
+        when(archivedBookingRepository.findHistoryAfter(eq(1L), any(), eq(0L), eq(Limit.unlimited())))
+                .thenReturn(List.of(twoYearsAgo));
+
+        List<PassengerBookingDTO> result = bookingService.getBookingHistoryByPassenger(1L);
+
+        assertEquals(List.of(twoYearsAgo, lastYear, upcoming), result);
+        verify(bookingRepository, never()).findAll();
+    }
+
+    @Test
+    void getBookingHistoryPage_firstPage_shouldMergeSourcesReturnCursorAndCache() {
+        mockAuthority("ROLE_ADMIN");
+        LocalDateTime t = LocalDateTime.of(2026, 1, 10, 9, 0);
+        PassengerBookingDTO a = history(1L, t);
+        PassengerBookingDTO b = history(5L, t.plusDays(1));
+        PassengerBookingDTO c = history(2L, t.plusDays(2));
+        when(bookingRepository.findHistoryAfter(eq(1L), any(), any(), eq(0L), eq(Limit.of(3)))).thenReturn(List.of(b, c));
+        when(archivedBookingRepository.findHistoryAfter(eq(1L), any(), eq(0L), eq(Limit.of(3)))).thenReturn(List.of(a));
+
+        BookingHistoryPageDTO page = bookingService.getBookingHistoryPage(1L, BookingHistoryScope.ALL, null, 2);
+
+        assertEquals(List.of(a, b), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(new HistoryCursor(b.getDepartureTime(), 5L), HistoryCursor.decode(page.getNextCursor()));
+
+        assertSame(page, bookingService.getBookingHistoryPage(1L, BookingHistoryScope.ALL, null, 2));
+        verify(bookingRepository, times(1)).findHistoryAfter(anyLong(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void getBookingHistoryPage_firstPage_shouldNotCachePageReadBeforeConcurrentEviction() {
+        mockAuthority("ROLE_ADMIN");
+        PassengerBookingDTO a = history(1L, LocalDateTime.of(2026, 1, 10, 9, 0));
+        when(bookingRepository.findHistoryAfter(eq(1L), any(), any(), eq(0L), eq(Limit.of(3)))).thenAnswer(invocation -> {
+            bookingHistoryCache.evict(1L);
+            return List.of(a);
+        });
+        when(archivedBookingRepository.findHistoryAfter(eq(1L), any(), eq(0L), eq(Limit.of(3)))).thenReturn(List.of());
+
+        bookingService.getBookingHistoryPage(1L, BookingHistoryScope.ALL, null, 2);
+
+        assertEquals(0, bookingHistoryCache.size());
+    }
+
+    @Test
+    void getBookingHistoryPage_withCursor_shouldContinueAfterCursorWithoutCaching() {
+        mockAuthority("ROLE_ADMIN");
+        LocalDateTime t = LocalDateTime.of(2026, 1, 11, 9, 0);
+        String cursor = new HistoryCursor(t, 5L).encode();
+        PassengerBookingDTO c = history(2L, t.plusDays(1));
+        when(bookingRepository.findHistoryAfter(1L, t.toLocalDate(), t, 5L, Limit.of(3))).thenReturn(List.of(c));
+        when(archivedBookingRepository.findHistoryAfter(1L, t, 5L, Limit.of(3))).thenReturn(List.of());
+
+        BookingHistoryPageDTO page = bookingService.getBookingHistoryPage(1L, BookingHistoryScope.ALL, cursor, 2);
+
+        assertEquals(List.of(c), page.getItems());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        assertEquals(0, bookingHistoryCache.size());
+    }
+
+    @Test
+    void getBookingHistoryPage_upcoming_shouldNotReadArchive() {
+        mockAuthority("ROLE_ADMIN");
+        when(bookingRepository.findHistoryAfter(eq(1L), any(), any(), eq(0L), any())).thenReturn(List.of());
+
+        bookingService.getBookingHistoryPage(1L, BookingHistoryScope.UPCOMING, null, 20);
+
+        verifyNoInteractions(archivedBookingRepository);
+    }
+
+    @Test
+    void getBookingHistoryPage_past_shouldReadBothSourcesNewestFirst() {
+        mockAuthority("ROLE_ADMIN");
+        LocalDateTime now = LocalDateTime.now();
+        PassengerBookingDTO lastWeek = history(9L, now.minusDays(7));
+        PassengerBookingDTO lastYear = history(3L, now.minusMonths(13));
+        when(bookingRepository.findHistoryBefore(eq(1L), any(), any(), eq(Long.MAX_VALUE), any())).thenReturn(List.of(lastWeek));
+        when(archivedBookingRepository.findHistoryBefore(eq(1L), any(), eq(Long.MAX_VALUE), any())).thenReturn(List.of(lastYear));
+
+        BookingHistoryPageDTO page = bookingService.getBookingHistoryPage(1L, BookingHistoryScope.PAST, null, 20);
+
+        assertEquals(List.of(lastWeek, lastYear), page.getItems());
+    }
+
+    @Test
+    void getBookingHistoryPage_userViewingOtherPassenger_accessDenied() {
+        mockAuthority("ROLE_USER");
+        when(passengerRepository.findByEmail("test@example.com")).thenReturn(Optional.of(passenger));
+
+        assertThrows(AccessDeniedException.class,
+                () -> bookingService.getBookingHistoryPage(2L, BookingHistoryScope.ALL, null, 20));
+    }
+
+    @Test
+    void getBookingHistoryPage_invalidCursor_badRequest() {
+        mockAuthority("ROLE_ADMIN");
+
+        assertThrows(BadRequestException.class,
+                () -> bookingService.getBookingHistoryPage(1L, BookingHistoryScope.ALL, "not-a-cursor", 20));
+    }
+
+    private PassengerBookingDTO history(Long bookingId, LocalDateTime departureTime) {
+        PassengerBookingDTO dto = new PassengerBookingDTO();
+        dto.setBookingId(bookingId);
+        dto.setDepartureTime(departureTime);
+        return dto;
+    }
 }
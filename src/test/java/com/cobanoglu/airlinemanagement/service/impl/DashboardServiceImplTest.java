@@ -0,0 +1,172 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.DailyRevenueDTO;
+import com.cobanoglu.airlinemanagement.dto.DashboardDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightOccupancyDTO;
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.data.domain.Limit;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DashboardServiceImplTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2026, 11, 5, 9, 30);
+
+    @Mock private RouteDailyRollupRepository routeDailyRollupRepository;
+    @Mock private FlightOccupancyRollupRepository flightOccupancyRollupRepository;
+    @Mock private FlightRepository flightRepository;
+    @Mock private BookingRepository bookingRepository;
+    @Mock private ArchivedBookingRepository archivedBookingRepository;
+
+    @InjectMocks
+    private DashboardServiceImpl dashboardService;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        Airline airline = new Airline();
+        airline.setId(3L);
+        flight = Flight.builder()
+                .id(7L).airline(airline).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(DEPARTURE).arrivalTime(DEPARTURE.plusHours(3)).capacity(150)
+                .build();
+    }
+
+    @Test
+    void recordSales_shouldEnsureRowsThenIncrement() {
+        when(flightRepository.findById(7L)).thenReturn(Optional.of(flight));
+
+        dashboardService.recordSales(7L, -1, new BigDecimal("-900.00"));
+
+        InOrder route = inOrder(routeDailyRollupRepository);
+        route.verify(routeDailyRollupRepository).insertIfAbsent(DEPARTURE.toLocalDate(), 3L, "Istanbul", "Berlin");
+        route.verify(routeDailyRollupRepository).increment(DEPARTURE.toLocalDate(), 3L, "Istanbul", "Berlin", -1, new BigDecimal("-900.00"));
+
+        InOrder occupancy = inOrder(flightOccupancyRollupRepository);
+        occupancy.verify(flightOccupancyRollupRepository).insertIfAbsent(7L, 3L, "TK100", "Istanbul", "Berlin", DEPARTURE, 150);
+        occupancy.verify(flightOccupancyRollupRepository).increment(7L, -1, new BigDecimal("-900.00"), 150);
+
+        verify(routeDailyRollupRepository, never()).save(any());
+        verify(flightOccupancyRollupRepository, never()).save(any());
+    }
+
+    @Test
+    void recordSales_missingFlight_shouldSkip() {
+        when(flightRepository.findById(7L)).thenReturn(Optional.empty());
+
+        dashboardService.recordSales(7L, 1, BigDecimal.TEN);
+
+        verifyNoInteractions(routeDailyRollupRepository, flightOccupancyRollupRepository);
+    }
+
+    @Test
+    void refreshFlight_rescheduled_shouldMoveTotalsToNewDay() {
+        FlightOccupancyRollup row = FlightOccupancyRollup.builder()
+                .flightId(7L).airlineId(3L).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(DEPARTURE).capacity(150).seatsSold(12).revenue(new BigDecimal("10800.00"))
+                .build();
+        when(flightOccupancyRollupRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(row));
+        when(routeDailyRollupRepository.increment(any(), any(), any(), any(), anyInt(), any())).thenReturn(1);
+        flight.setDepartureTime(DEPARTURE.plusDays(2));
+        flight.setCapacity(180);
+
+        dashboardService.refreshFlight(flight);
+
+        verify(routeDailyRollupRepository).increment(DEPARTURE.toLocalDate(), 3L, "Istanbul", "Berlin", -12, new BigDecimal("-10800.00"));
+        verify(routeDailyRollupRepository).increment(DEPARTURE.toLocalDate().plusDays(2), 3L, "Istanbul", "Berlin", 12, new BigDecimal("10800.00"));
+        assertEquals(DEPARTURE.plusDays(2), row.getDepartureTime());
+        assertEquals(180, row.getCapacity());
+    }
+
+    @Test
+    void refreshFlight_sameDayAndRoute_shouldOnlyUpdateFlightRow() {
+        FlightOccupancyRollup row = FlightOccupancyRollup.builder()
+                .flightId(7L).airlineId(3L).flightNumber("TK100").origin("Istanbul").destination("Berlin")
+                .departureTime(DEPARTURE).capacity(150).seatsSold(12).revenue(new BigDecimal("10800.00"))
+                .build();
+        when(flightOccupancyRollupRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(row));
+        flight.setDepartureTime(DEPARTURE.plusHours(2));
+
+        dashboardService.refreshFlight(flight);
+
+        verifyNoInteractions(routeDailyRollupRepository);
+        assertEquals(DEPARTURE.plusHours(2), row.getDepartureTime());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rebuildRollups_shouldMergeLiveAndArchivedSalesPerFlight() {
+        when(bookingRepository.sumByFlight(BookingStatus.CONFIRMED)).thenReturn(List.of(
+                sales(7L, "Istanbul", DEPARTURE, 2, "1800.00"),
+                sales(8L, "Istanbul", DEPARTURE.plusHours(4), 1, "500.00")));
+        when(archivedBookingRepository.sumByFlight(BookingStatus.CONFIRMED)).thenReturn(List.of(
+                sales(7L, "Istanbul", DEPARTURE, 3, "2700.00")));
+
+        assertEquals(2, dashboardService.rebuildRollups());
+
+        InOrder order = inOrder(routeDailyRollupRepository, flightOccupancyRollupRepository);
+        order.verify(routeDailyRollupRepository).deleteAllRollups();
+        order.verify(flightOccupancyRollupRepository).deleteAllRollups();
+
+        ArgumentCaptor<Iterable<FlightOccupancyRollup>> flights = ArgumentCaptor.forClass(Iterable.class);
+        verify(flightOccupancyRollupRepository).saveAll(flights.capture());
+        FlightOccupancyRollup merged = ((List<FlightOccupancyRollup>) flights.getValue()).stream()
+                .filter(r -> r.getFlightId() == 7L).findFirst().orElseThrow();
+        assertEquals(5, merged.getSeatsSold());
+        assertEquals(new BigDecimal("4500.00"), merged.getRevenue());
+
+        ArgumentCaptor<Iterable<RouteDailyRollup>> routes = ArgumentCaptor.forClass(Iterable.class);
+        verify(routeDailyRollupRepository).saveAll(routes.capture());
+        List<RouteDailyRollup> routeRows = List.copyOf((Collection<RouteDailyRollup>) routes.getValue());
+        assertEquals(1, routeRows.size());
+        assertEquals(6, routeRows.get(0).getSeatsSold());
+        assertEquals(new BigDecimal("5000.00"), routeRows.get(0).getRevenue());
+    }
+
+    @Test
+    void getDashboard_shouldTotalDailyRollups() {
+        LocalDate from = LocalDate.of(2026, 11, 1);
+        LocalDate to = LocalDate.of(2026, 11, 30);
+        when(routeDailyRollupRepository.sumByDay(from, to)).thenReturn(List.of(
+                new DailyRevenueDTO(from, 4, new BigDecimal("3600.00")),
+                new DailyRevenueDTO(from.plusDays(1), 2, new BigDecimal("1000.00"))));
+
+        DashboardDTO dashboard = dashboardService.getDashboard(from, to, 5);
+
+        assertEquals(6, dashboard.getSeatsSold());
+        assertEquals(new BigDecimal("4600.00"), dashboard.getRevenue());
+        verify(routeDailyRollupRepository).sumByRoute(from, to, Limit.of(5));
+        verify(routeDailyRollupRepository).sumByAirline(from, to, Limit.of(5));
+        verifyNoInteractions(bookingRepository, flightRepository);
+    }
+
+    @Test
+    void getDashboard_invalidRange_badRequest() {
+        LocalDate today = LocalDate.now();
+
+        assertThrows(BadRequestException.class, () -> dashboardService.getDashboard(today, today.minusDays(1), 5));
+        assertThrows(BadRequestException.class, () -> dashboardService.getDashboard(today, today.plusYears(2), 5));
+        assertThrows(BadRequestException.class, () -> dashboardService.getDashboard(today, today, 0));
+    }
+
+    private FlightOccupancyDTO sales(long flightId, String origin, LocalDateTime departure, long seats, String revenue) {
+        return new FlightOccupancyDTO(flightId, 3L, "TK" + flightId, origin, "Berlin", departure, 150, seats, new BigDecimal(revenue));
+    }
+}
@@ -0,0 +1,102 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.EmailEntryDTO;
+import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
+import com.cobanoglu.airlinemanagement.repository.UserRepository;
+import com.cobanoglu.airlinemanagement.service.impl.EmailExistenceFilter.Owner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EmailExistenceFilterTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private PassengerRepository passengerRepository;
+
+    private SimpleMeterRegistry registry;
+    private EmailExistenceFilter filter;
+    private final AtomicInteger queries = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        registry = new SimpleMeterRegistry();
+        filter = new EmailExistenceFilter(userRepository, passengerRepository, registry, true, 1_000, 0.01, 2);
+    }
+
+    private boolean query(boolean result) {
+        queries.incrementAndGet();
+        return result;
+    }
+
+    private double checks(String owner, String result) {
+        return registry.get("email.filter.checks").tag("filter", owner).tag("result", result).counter().count();
+    }
+
+    @Test
+    void exists_shouldQueryDatabaseUntilFilterIsBuilt() {
+        assertTrue(filter.exists(Owner.USER, "a@example.com", () -> query(true)));
+
+        assertEquals(1, queries.get());
+        assertEquals(1, checks("user", "bypassed"));
+    }
+
+    @Test
+    void rebuild_shouldLoadEmailsInBatchesAndSkipQueriesForAbsentOnes() {
+        when(userRepository.findEmailsAfter(0L, Limit.of(2))).thenReturn(List.of(
+                new EmailEntryDTO(1L, "ada@example.com"), new EmailEntryDTO(4L, "alan@example.com")));
+        when(userRepository.findEmailsAfter(4L, Limit.of(2))).thenReturn(List.of(new EmailEntryDTO(9L, "grace@example.com")));
+        when(passengerRepository.findEmailsAfter(0L, Limit.of(2))).thenReturn(List.of(new EmailEntryDTO(1L, "Ada@Example.com ")));
+
+        filter.rebuild();
+
+        assertTrue(filter.isReady());
+        assertTrue(filter.exists(Owner.USER, "grace@example.com", () -> query(true)));
+        assertTrue(filter.exists(Owner.PASSENGER, "ada@example.com", () -> query(true)));
+        assertFalse(filter.exists(Owner.PASSENGER, "grace@example.com", () -> query(true)));
+        assertEquals(2, queries.get());
+        assertEquals(1, checks("passenger", "negative"));
+        assertEquals(1, checks("user", "confirmed"));
+        assertEquals(3, registry.get("email.filter.entries").tag("filter", "user").gauge().value());
+    }
+
+    @Test
+    void exists_shouldCountFilterHitsTheDatabaseRejects() {
+        when(userRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        when(passengerRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        filter.rebuild();
+        filter.add(Owner.USER, "rolled-back@example.com");
+
+        assertFalse(filter.exists(Owner.USER, "rolled-back@example.com", () -> query(false)));
+        assertFalse(filter.exists(Owner.USER, "new@example.com", () -> query(false)));
+
+        assertEquals(1, checks("user", "false_positive"));
+        assertEquals(0.5, filter.observedFalsePositiveRate(Owner.USER));
+        assertEquals(0.5, registry.get("email.filter.false.positive.rate").tag("filter", "user").gauge().value());
+    }
+
+    @Test
+    void rebuild_shouldReplayRecentAddsMissingFromTheSnapshot() {
+        when(userRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        when(passengerRepository.findEmailsAfter(anyLong(), any())).thenReturn(List.of());
+        filter.add(Owner.PASSENGER, "early@example.com");
+        filter.rebuild();
+        filter.add(Owner.PASSENGER, "late@example.com");
+
+        filter.rebuild();
+
+        assertTrue(filter.exists(Owner.PASSENGER, "early@example.com", () -> query(true)));
+        assertTrue(filter.exists(Owner.PASSENGER, "late@example.com", () -> query(true)));
+        assertEquals(2, queries.get());
+    }
+}
@@ -0,0 +1,158 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightSeatsDTO;
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.util.PricingRuleSet;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FareQuoteEngineTest {
+
+    @Mock private FlightRepository flightRepository;
+    @Mock private PricingRuleRegistry pricingRuleRegistry;
+
+    @InjectMocks
+    private FareQuoteEngine engine;
+
+    private PricingRules rules;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rules = PricingRules.compile(legacyRules());
+        when(pricingRuleRegistry.current()).thenAnswer(inv -> rules);
+    }
+
+    private PricingRuleSet legacyRules() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        PricingRuleSet.OccupancyTier high = new PricingRuleSet.OccupancyTier();
+        high.setFrom(0.5);
+        high.setMultiplier(1.2);
+        PricingRuleSet.OccupancyTier peak = new PricingRuleSet.OccupancyTier();
+        peak.setFrom(0.8);
+        peak.setInclusive(true);
+        peak.setMultiplier(1.5);
+        PricingRuleSet.LoyaltyTier loyalty = new PricingRuleSet.LoyaltyTier();
+        loyalty.setMinPoints(1001);
+        loyalty.setDiscount(0.10);
+        ruleSet.getOccupancyTiers().add(high);
+        ruleSet.getOccupancyTiers().add(peak);
+        ruleSet.getLoyaltyTiers().add(loyalty);
+        return ruleSet;
+    }
+
+    private Flight flight(long id, int bookedSeats) {
+        Flight flight = new Flight();
+        flight.setId(id);
+        flight.setCapacity(100);
+        flight.setBookedSeats(bookedSeats);
+        flight.setBasePrice(new BigDecimal("200.00"));
+        flight.setOrigin("IST");
+        flight.setDestination("BER");
+        flight.setDepartureTime(LocalDateTime.now().plusDays(30).withNano(0));
+        return flight;
+    }
+
+    @Test
+    void quoteAll_shouldLoadOnlyMissingFlightsAndKeepRequestOrder() {
+        engine.quote(flight(1L, 10), 0);
+        when(flightRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(flight(2L, 90)));
+
+        List<FareQuoteDTO> quotes = engine.quoteAll(List.of(2L, 1L, 3L));
+
+        assertEquals(List.of(2L, 1L), quotes.stream().map(FareQuoteDTO::getFlightId).toList());
+        assertEquals(new BigDecimal("300.00"), quotes.get(0).getCurrentPrice());
+        assertEquals(new BigDecimal("200.00"), quotes.get(1).getCurrentPrice());
+        assertEquals(90, quotes.get(1).getRemainingSeats());
+    }
+
+    @Test
+    void refresh_shouldUpdateCachedSeatsFromCommittedRow() {
+        Flight flight = flight(1L, 50);
+        engine.quote(flight, 0);
+        when(flightRepository.findSeatsById(1L)).thenReturn(Optional.of(new FlightSeatsDTO(1L, 1L, 51)));
+
+        engine.refresh(flight);
+        FareQuoteDTO quote = engine.quoteAll(List.of(1L)).get(0);
+
+        assertEquals(new BigDecimal("240.00"), quote.getCurrentPrice());
+        assertEquals(49, quote.getRemainingSeats());
+        verify(flightRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void refresh_shouldKeepNewerSeatsWhenCallbacksRunOutOfOrder() {
+        Flight flight = flight(1L, 50);
+        engine.quote(flight, 0);
+        when(flightRepository.findSeatsById(1L))
+                .thenReturn(Optional.of(new FlightSeatsDTO(1L, 2L, 52)))
+                .thenReturn(Optional.of(new FlightSeatsDTO(1L, 1L, 51)));
+
+        engine.refresh(flight);
+        engine.refresh(flight);
+
+        assertEquals(48, engine.quoteAll(List.of(1L)).get(0).getRemainingSeats());
+    }
+
+    @Test
+    void refresh_shouldRebuildTableWhenBasePriceChanges() {
+        Flight flight = flight(1L, 0);
+        engine.quote(flight, 0);
+        when(flightRepository.findSeatsById(1L)).thenReturn(Optional.of(new FlightSeatsDTO(1L, 1L, 0)));
+
+        flight.setBasePrice(new BigDecimal("150.00"));
+        engine.refresh(flight);
+
+        assertEquals(new BigDecimal("150.00"), engine.quoteAll(List.of(1L)).get(0).getCurrentPrice());
+    }
+
+    @Test
+    void quote_shouldApplyLoyaltyDiscountOnFlightSeats() {
+        assertEquals(new BigDecimal("270.00"), engine.quote(flight(1L, 85), 1500));
+    }
+
+    @Test
+    void quote_shouldApplyFareClassMultiplier() {
+        PricingRuleSet ruleSet = legacyRules();
+        ruleSet.getFareClassMultipliers().put(FareClass.BUSINESS, 2.5);
+        rules = PricingRules.compile(ruleSet);
+
+        assertEquals(new BigDecimal("500.00"), engine.quote(flight(1L, 0), 0, FareClass.BUSINESS));
+    }
+
+    @Test
+    void quoteAll_shouldRecompileCachedTablesAfterRulesReload() {
+        engine.quote(flight(1L, 0), 0);
+        PricingRuleSet ruleSet = legacyRules();
+        PricingRuleSet.RouteRule route = new PricingRuleSet.RouteRule();
+        route.setOrigin("IST");
+        route.setMultiplier(1.1);
+        ruleSet.getRoutes().add(route);
+        rules = PricingRules.compile(ruleSet);
+
+        assertEquals(new BigDecimal("220.00"), engine.quoteAll(List.of(1L)).get(0).getCurrentPrice());
+        verify(flightRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void evict_shouldDropCachedFare() {
+        engine.quote(flight(1L, 0), 0);
+
+        engine.evict(1L);
+
+        assertEquals(0, engine.cachedFlights());
+    }
+}
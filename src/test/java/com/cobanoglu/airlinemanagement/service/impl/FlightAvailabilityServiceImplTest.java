@@ -0,0 +1,101 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.FlightAvailabilityDTO;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.exception.ServiceUnavailableException;
+import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
+import com.cobanoglu.airlinemanagement.metrics.FlightAvailabilityMetrics;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class FlightAvailabilityServiceImplTest {
+
+    @Mock private FlightRepository flightRepository;
+    @Mock private FlightMapper flightMapper;
+    @Mock private TaskScheduler taskScheduler;
+    @Mock private FlightAvailabilityMetrics metrics;
+
+    private FlightAvailabilityServiceImpl availabilityService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        availabilityService = new FlightAvailabilityServiceImpl(
+                flightRepository, flightMapper, taskScheduler, metrics, 250, 60_000, 2, 3, 15);
+        when(flightRepository.findAllById(any())).thenReturn(List.of());
+    }
+
+    private FlightAvailabilityDTO availability(long flightId, int booked) {
+        return new FlightAvailabilityDTO(flightId, 100, booked, 100 - booked);
+    }
+
+    private Runnable scheduledFlush() {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+        return task.getValue();
+    }
+
+    @Test
+    void subscribe_shouldRejectEmptyAndOversizedRequests() {
+        assertThrows(BadRequestException.class, () -> availabilityService.subscribe(List.of()));
+        assertThrows(BadRequestException.class, () -> availabilityService.subscribe(List.of(1L, 2L, 3L, 4L)));
+        assertEquals(0, availabilityService.subscriberCount());
+    }
+
+    @Test
+    void subscribe_shouldEnforceSubscriberLimit() {
+        availabilityService.subscribe(List.of(1L));
+        availabilityService.subscribe(List.of(1L));
+
+        ServiceUnavailableException full = assertThrows(ServiceUnavailableException.class,
+                () -> availabilityService.subscribe(List.of(1L)));
+        assertEquals(15, full.getRetryAfterSeconds());
+        assertEquals(2, availabilityService.subscriberCount());
+    }
+
+    @Test
+    void publish_shouldIgnoreFlightsWithoutSubscribers() {
+        availabilityService.subscribe(List.of(1L));
+
+        availabilityService.publish(availability(2L, 10));
+
+        verifyNoInteractions(taskScheduler);
+    }
+
+    @Test
+    void publish_shouldCoalesceRapidUpdatesIntoOneFlush() {
+        availabilityService.subscribe(List.of(1L, 2L));
+
+        availabilityService.publish(availability(1L, 10));
+        availabilityService.publish(availability(1L, 11));
+        availabilityService.publish(availability(1L, 12));
+        availabilityService.publish(availability(2L, 5));
+
+        Runnable flush = scheduledFlush();
+        verify(metrics, times(2)).recordCoalesced();
+
+        flush.run();
+        verify(metrics).recordDelivered(2);
+    }
+
+    @Test
+    void publish_shouldScheduleNewFlushAfterPreviousOneRan() {
+        availabilityService.subscribe(List.of(1L));
+
+        availabilityService.publish(availability(1L, 10));
+        scheduledFlush().run();
+        availabilityService.publish(availability(1L, 9));
+
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Instant.class));
+        verify(metrics, never()).recordCoalesced();
+    }
+}
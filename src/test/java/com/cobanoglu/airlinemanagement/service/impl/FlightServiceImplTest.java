@@ -1,6 +1,8 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
+import com.cobanoglu.airlinemanagement.dto.FareQuoteDTO;
 import com.cobanoglu.airlinemanagement.dto.FlightDTO;
+import com.cobanoglu.airlinemanagement.dto.FlightVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Airline;
 import com.cobanoglu.airlinemanagement.entity.Flight;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
@@ -10,17 +12,22 @@ import com.cobanoglu.airlinemanagement.mapper.FlightMapper;
 import com.cobanoglu.airlinemanagement.repository.AirlineRepository;
 import com.cobanoglu.airlinemanagement.repository.BookingRepository;
 import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.BookingPartitionService;
+import com.cobanoglu.airlinemanagement.service.DashboardService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -31,6 +38,10 @@ class FlightServiceImplTest {
     @Mock private AirlineRepository airlineRepository;
     @Mock private BookingRepository bookingRepository;
     @Mock private FlightMapper flightMapper;
+    @Mock private FareQuoteEngine fareQuoteEngine;
+    @Mock private BookingPartitionService bookingPartitionService;
+    @Mock private DashboardService dashboardService;
+    @Mock private BookingFactStore bookingFactStore;
 
     @InjectMocks
     private FlightServiceImpl flightService;
@@ -85,6 +96,8 @@ class FlightServiceImplTest {
         assertNotNull(result);
         verify(flightRepository).save(any());
         verify(airlineRepository).findById(1L);
+        verify(bookingPartitionService).ensurePartition(flight.getDepartureTime().toLocalDate());
+        verify(airlineRepository).incrementVersion(1L);
     }
 
     @Test
@@ -141,6 +154,30 @@ class FlightServiceImplTest {
 
         assertNotNull(result);
         verify(flightRepository).save(any());
+        verify(bookingRepository, never()).updateDepartureDate(any(), any());
+    }
+
+    @Test
+    void updateFlight_departureDateChanged_movesBookings() {
+        when(flightRepository.findById(10L)).thenReturn(Optional.of(flight));
+        when(flightRepository.existsByFlightNumberAndAirlineIdAndOriginAndDepartureTimeBetweenAndIdNot(any(), any(), any(), any(), any(), any()))
+                .thenReturn(false);
+        when(flightRepository.existsByFlightNumberAndAirlineIdAndDepartureTimeLessThanAndArrivalTimeGreaterThanAndIdNot(any(), any(), any(), any(), any()))
+                .thenReturn(false);
+        when(flightRepository.save(any())).thenReturn(flight);
+        when(flightMapper.toDto(any())).thenReturn(dto);
+
+        dto.setDepartureTime(dto.getDepartureTime().plusDays(40));
+        dto.setArrivalTime(dto.getArrivalTime().plusDays(40));
+
+        flightService.updateFlight(10L, dto);
+
+        LocalDate moved = dto.getDepartureTime().toLocalDate();
+        InOrder order = inOrder(bookingPartitionService, bookingRepository);
+        order.verify(bookingPartitionService).ensurePartition(moved);
+        order.verify(bookingRepository).updateDepartureDate(10L, moved);
+        verify(dashboardService).refreshFlight(flight);
+        verify(bookingFactStore).refreshFlight(flight);
     }
 
     @Test
@@ -176,7 +213,7 @@ class FlightServiceImplTest {
     @Test
     void deleteFlight_success() {
         when(flightRepository.findById(10L)).thenReturn(Optional.of(flight));
-        when(bookingRepository.existsByFlight_Id(10L)).thenReturn(false);
+        when(bookingRepository.existsByFlight_IdAndDepartureDate(10L, flight.getDepartureTime().toLocalDate())).thenReturn(false);
 
         flightService.deleteFlight(10L);
 
@@ -186,7 +223,7 @@ class FlightServiceImplTest {
     @Test
     void deleteFlight_withBookings_throwsBadRequest() {
         when(flightRepository.findById(10L)).thenReturn(Optional.of(flight));
-        when(bookingRepository.existsByFlight_Id(10L)).thenReturn(true);
+        when(bookingRepository.existsByFlight_IdAndDepartureDate(10L, flight.getDepartureTime().toLocalDate())).thenReturn(true);
 
         assertThrows(BadRequestException.class, () -> flightService.deleteFlight(10L));
     }
@@ -202,10 +239,12 @@ class FlightServiceImplTest {
         when(flightRepository.findAll(any(PageRequest.class)))
                 .thenReturn(new PageImpl<>(List.of(flight)));
         when(flightMapper.toDto(any())).thenReturn(dto);
+        when(fareQuoteEngine.quote(flight, 0)).thenReturn(BigDecimal.valueOf(2400));
 
         Page<FlightDTO> result = flightService.listFlights(PageRequest.of(0, 10));
 
         assertEquals(1, result.getTotalElements());
+        assertEquals(BigDecimal.valueOf(2400), result.getContent().get(0).getCurrentPrice());
         verify(flightRepository).findAll(any(PageRequest.class));
     }
 
@@ -225,4 +264,69 @@ class FlightServiceImplTest {
         when(flightRepository.findById(10L)).thenReturn(Optional.empty());
         assertThrows(NotFoundException.class, () -> flightService.getFlightById(10L));
     }
+
+    @Test
+    void quoteFares_tooManyIds_throwsBadRequest() {
+        List<Long> ids = LongStream.rangeClosed(1, 5001).boxed().toList();
+
+        assertThrows(BadRequestException.class, () -> flightService.quoteFares(ids));
+        verifyNoInteractions(fareQuoteEngine);
+    }
+
+    @Test
+    void quoteFares_delegatesToEngine() {
+        List<FareQuoteDTO> quotes = List.of(new FareQuoteDTO(10L, BigDecimal.valueOf(2000), 150));
+        when(fareQuoteEngine.quoteAll(List.of(10L))).thenReturn(quotes);
+
+        assertSame(quotes, flightService.quoteFares(List.of(10L)));
+    }
+
+    @Test
+    void getFlightETag_shouldChangeWithVersionPricingAndDaysToDeparture() {
+        LocalDateTime departure = LocalDateTime.now().plusDays(5).plusHours(1);
+        when(fareQuoteEngine.pricingFingerprint()).thenReturn(7L);
+        when(flightRepository.findVersionById(10L)).thenReturn(Optional.of(new FlightVersionDTO(10L, 3L, 1L, 0L, departure)));
+        String first = flightService.getFlightETag(10L);
+
+        assertTrue(first.startsWith("W/\""));
+        assertEquals(first, flightService.getFlightETag(10L));
+
+        when(flightRepository.findVersionById(10L)).thenReturn(Optional.of(new FlightVersionDTO(10L, 4L, 1L, 0L, departure)));
+        String updated = flightService.getFlightETag(10L);
+        assertNotEquals(first, updated);
+
+        when(flightRepository.findVersionById(10L)).thenReturn(Optional.of(new FlightVersionDTO(10L, 3L, 2L, 1L, departure)));
+        assertNotEquals(updated, flightService.getFlightETag(10L));
+
+        when(flightRepository.findVersionById(10L)).thenReturn(Optional.of(new FlightVersionDTO(10L, 4L, 1L, 0L, departure)));
+        when(fareQuoteEngine.pricingFingerprint()).thenReturn(8L);
+        assertNotEquals(updated, flightService.getFlightETag(10L));
+
+        when(flightRepository.findVersionById(10L)).thenReturn(Optional.of(new FlightVersionDTO(10L, 4L, 1L, 0L, departure.minusDays(1))));
+        assertNotEquals(updated, flightService.getFlightETag(10L));
+
+        when(flightRepository.findVersionById(11L)).thenReturn(Optional.empty());
+        assertNull(flightService.getFlightETag(11L));
+        verify(flightRepository, never()).findById(any());
+    }
+
+    @Test
+    void listFlightsETag_shouldTagTheSamePageTheListReturns() {
+        LocalDateTime departure = LocalDateTime.now().plusDays(5);
+        PageRequest requested = PageRequest.of(1, 2, Sort.by("origin"));
+        PageRequest stable = PageRequest.of(1, 2, Sort.by("origin").and(Sort.by("id")));
+        when(flightRepository.findVersions(stable)).thenReturn(new PageImpl<>(List.of(
+                new FlightVersionDTO(3L, 1L, 1L, 0L, departure), new FlightVersionDTO(4L, 1L, 1L, 0L, departure)), stable, 6));
+        when(flightRepository.findAll(stable)).thenReturn(new PageImpl<>(List.of(flight), stable, 6));
+        when(flightMapper.toDto(flight)).thenReturn(dto);
+
+        String eTag = flightService.listFlightsETag(requested);
+        flightService.listFlights(requested);
+
+        when(flightRepository.findVersions(stable)).thenReturn(new PageImpl<>(List.of(
+                new FlightVersionDTO(3L, 1L, 1L, 0L, departure), new FlightVersionDTO(4L, 2L, 1L, 0L, departure)), stable, 6));
+        assertNotEquals(eTag, flightService.listFlightsETag(requested));
+        verify(flightRepository).findAll(stable);
+        verify(flightMapper, times(1)).toDto(any());
+    }
 }
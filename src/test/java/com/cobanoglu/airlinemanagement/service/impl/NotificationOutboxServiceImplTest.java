@@ -0,0 +1,127 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.metrics.NotificationMetrics;
+import com.cobanoglu.airlinemanagement.repository.NotificationOutboxRepository;
+import com.cobanoglu.airlinemanagement.service.NotificationSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationOutboxServiceImplTest {
+
+    @Mock private NotificationOutboxRepository outboxRepository;
+    @Mock private NotificationSender notificationSender;
+    @Mock private NotificationMetrics notificationMetrics;
+
+    private NotificationOutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        outboxService = new NotificationOutboxServiceImpl(
+                outboxRepository, notificationSender, notificationMetrics, 50, 3, 1000, 5000);
+    }
+
+    private NotificationOutbox pending(long id, int attempts) {
+        return NotificationOutbox.builder()
+                .id(id)
+                .type(NotificationOutboxServiceImpl.TYPE_BOOKING_CREATED)
+                .aggregateId(10L)
+                .recipient("test@example.com")
+                .subject("Booking 10")
+                .body("body")
+                .status(OutboxStatus.PENDING)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void stubBatch(List<NotificationOutbox> batch) {
+        when(outboxRepository.findByStatusAndNextAttemptAtLessThanEqualOrderByIdAsc(
+                eq(OutboxStatus.PENDING), any(), any())).thenReturn(batch);
+    }
+
+    @Test
+    void enqueueBookingCreated_shouldPersistPendingMessage() {
+        Flight flight = new Flight();
+        flight.setFlightNumber("TK100");
+        Passenger passenger = new Passenger();
+        passenger.setEmail("test@example.com");
+        Booking booking = Booking.builder()
+                .id(10L)
+                .flight(flight)
+                .passenger(passenger)
+                .seatNumber("12A")
+                .bookingStatus(BookingStatus.CONFIRMED)
+                .price(BigDecimal.valueOf(1000))
+                .build();
+
+        outboxService.enqueueBookingCreated(booking);
+
+        ArgumentCaptor<NotificationOutbox> captor = ArgumentCaptor.forClass(NotificationOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        NotificationOutbox saved = captor.getValue();
+        assertEquals(OutboxStatus.PENDING, saved.getStatus());
+        assertEquals(10L, saved.getAggregateId());
+        assertEquals("test@example.com", saved.getRecipient());
+        assertTrue(saved.getBody().contains("CONFIRMED"));
+    }
+
+    @Test
+    void dispatchBatch_shouldMarkSent() throws Exception {
+        NotificationOutbox message = pending(1L, 0);
+        stubBatch(List.of(message));
+
+        assertEquals(1, outboxService.dispatchBatch());
+
+        verify(notificationSender).send(message);
+        assertEquals(OutboxStatus.SENT, message.getStatus());
+        assertNotNull(message.getSentAt());
+        verify(outboxRepository).saveAll(List.of(message));
+    }
+
+    @Test
+    void dispatchBatch_shouldBackOffOnFailure() throws Exception {
+        NotificationOutbox message = pending(1L, 0);
+        stubBatch(List.of(message));
+        doThrow(new IllegalStateException("smtp down")).when(notificationSender).send(message);
+
+        outboxService.dispatchBatch();
+
+        assertEquals(OutboxStatus.PENDING, message.getStatus());
+        assertEquals(1, message.getAttempts());
+        assertTrue(message.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertTrue(message.getLastError().contains("smtp down"));
+        verify(notificationMetrics).recordRetry();
+    }
+
+    @Test
+    void dispatchBatch_shouldFailAfterMaxAttempts() throws Exception {
+        NotificationOutbox message = pending(1L, 2);
+        stubBatch(List.of(message));
+        doThrow(new IllegalStateException("smtp down")).when(notificationSender).send(message);
+
+        outboxService.dispatchBatch();
+
+        assertEquals(OutboxStatus.FAILED, message.getStatus());
+        assertEquals(3, message.getAttempts());
+        verify(notificationMetrics).recordFailed();
+    }
+
+    @Test
+    void backoffMillis_shouldGrowExponentiallyAndCap() {
+        assertEquals(1000, outboxService.backoffMillis(1));
+        assertEquals(2000, outboxService.backoffMillis(2));
+        assertEquals(4000, outboxService.backoffMillis(3));
+        assertEquals(5000, outboxService.backoffMillis(4));
+        assertEquals(5000, outboxService.backoffMillis(60));
+    }
+}
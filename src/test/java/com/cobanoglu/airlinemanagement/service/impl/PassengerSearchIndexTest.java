@@ -0,0 +1,133 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.dto.PassengerSearchEntryDTO;
+import com.cobanoglu.airlinemanagement.entity.Passenger;
+import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PassengerSearchIndexTest {
+
+    @Mock private PassengerRepository passengerRepository;
+
+    private PassengerSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        index = new PassengerSearchIndex(passengerRepository, true, 2);
+        index.index(1L, "John", "Smith", "john.smith@example.com");
+        index.index(2L, "Johanna", "Smithers", "jo@example.com");
+        index.index(3L, "Ayşe Nur", "Çelik", "ayse.celik@example.com");
+        index.index(4L, "İsmail", "O'Neil", "ismail@example.com");
+        index.index(5L, "Jon", "Smyth", "jsmyth@example.org");
+    }
+
+    @Test
+    void search_shouldMatchPrefixesOfNameSurnameAndEmail() {
+        assertEquals(List.of(1L, 2L), index.search("joh", 10));
+        assertEquals(List.of(1L, 2L), index.search("smit", 2));
+        assertEquals(List.of(5L), index.search("jsmy", 10));
+        assertEquals(List.of(2L), index.search("jo@ex", 10));
+    }
+
+    @Test
+    void search_shouldRankExactTokenBeforePrefixAndRequireEveryTerm() {
+        assertEquals(List.of(1L, 2L), index.search("smith", 2));
+        assertEquals(List.of(2L), index.search("joh smithe", 1));
+        assertEquals(List.of(1L), index.search("John Smith", 1));
+    }
+
+    @Test
+    void search_shouldIgnoreCaseDiacriticsAndPunctuation() {
+        assertEquals(List.of(3L), index.search("AYSE celik", 10));
+        assertEquals(List.of(3L), index.search("nur", 10));
+        assertEquals(List.of(4L), index.search("ismail o'neil", 10));
+        assertEquals(List.of(4L), index.search("ISMAIL", 10));
+    }
+
+    @Test
+    void search_shouldAppendTypoMatchesAfterPrefixMatchesWhenBelowLimit() {
+        assertEquals(List.of(1L, 5L), index.search("jhon smith", 10));
+        assertEquals(List.of(1L, 2L), index.search("smiht", 10));
+        assertEquals(List.of(1L, 2L, 5L), index.search("smit", 10));
+        assertEquals(List.of(2L, 1L), index.search("joh smithe", 10));
+        assertEquals(List.of(1L, 2L), index.search("joh", 10));
+        assertTrue(index.search("xyzzy", 10).isEmpty());
+    }
+
+    @Test
+    void index_shouldReplaceTokensOfUpdatedPassenger() {
+        index.index(1L, "Jack", "Smith", "jack@example.com");
+
+        assertEquals(List.of(2L), index.search("joh", 10));
+        assertEquals(List.of(1L), index.search("jack", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void index_shouldDropOldTokensWhenUpdatedRepeatedly() {
+        index.index(1L, "Jack", "Smith", "jack@example.com");
+        index.index(1L, "John", "Doe", "john.doe@example.com");
+
+        assertEquals(List.of(1L, 2L), index.search("joh", 10));
+        assertTrue(index.search("jack", 10).isEmpty());
+        assertEquals(List.of(2L, 5L), index.search("smith", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void remove_shouldDropPassengerAndAllowReindexing() {
+        index.remove(1L);
+
+        assertEquals(List.of(2L), index.search("joh", 10));
+        assertFalse(index.search("john smith", 10).contains(1L));
+        assertEquals(4, index.size());
+
+        index.index(1L, "John", "Smith", "john.smith@example.com");
+        assertEquals(List.of(1L, 2L), index.search("joh", 10));
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void load_shouldPageThroughPassengersAndKeepNewerWrites() {
+        PassengerSearchIndex fresh = new PassengerSearchIndex(passengerRepository, true, 2);
+        fresh.index(11L, "Grace", "Hopper", "grace@navy.mil");
+        when(passengerRepository.findSearchEntriesAfter(0L, Limit.of(2))).thenReturn(List.of(
+                new PassengerSearchEntryDTO(10L, "Ada", "Lovelace", "ada@example.com"),
+                new PassengerSearchEntryDTO(11L, "Old", "Name", "old@example.com")));
+        when(passengerRepository.findSearchEntriesAfter(11L, Limit.of(2))).thenReturn(List.of(
+                new PassengerSearchEntryDTO(12L, "Alan", "Turing", "alan@example.com")));
+
+        assertFalse(fresh.isReady());
+        assertEquals(2, fresh.load());
+
+        assertTrue(fresh.isReady());
+        assertEquals(List.of(10L, 12L), fresh.search("a", 10));
+        assertEquals(List.of(11L), fresh.search("grace", 10));
+        assertTrue(fresh.search("old", 10).isEmpty());
+    }
+
+    @Test
+    void put_shouldSkipUnsavedPassengers() {
+        index.put(Passenger.builder().name("Nobody").surname("Here").email("n@example.com").build());
+
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    void prefixDistance_shouldAllowTranspositionsAndLongerTokens() {
+        assertEquals(1, PassengerSearchIndex.prefixDistance("jhon", "john"));
+        assertEquals(0, PassengerSearchIndex.prefixDistance("smit", "smithers"));
+        assertEquals(1, PassengerSearchIndex.prefixDistance("smiht", "smithers"));
+        assertTrue(PassengerSearchIndex.prefixDistance("xyzw", "john") > 1);
+    }
+}
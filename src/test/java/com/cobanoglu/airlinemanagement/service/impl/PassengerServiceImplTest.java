@@ -1,6 +1,7 @@
 package com.cobanoglu.airlinemanagement.service.impl;
 
 import com.cobanoglu.airlinemanagement.dto.PassengerDTO;
+import com.cobanoglu.airlinemanagement.dto.ResourceVersionDTO;
 import com.cobanoglu.airlinemanagement.entity.Passenger;
 import com.cobanoglu.airlinemanagement.exception.BadRequestException;
 import com.cobanoglu.airlinemanagement.exception.NotFoundException;
@@ -9,20 +10,26 @@ import com.cobanoglu.airlinemanagement.repository.PassengerRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 class PassengerServiceImplTest {
 
     @Mock private PassengerRepository passengerRepository;
     @Mock private PassengerMapper passengerMapper;
+    @Mock private PassengerSearchIndex passengerSearchIndex;
+    @Mock private EmailExistenceFilter emailExistenceFilter;
 
     @InjectMocks
     private PassengerServiceImpl passengerService;
@@ -33,6 +40,8 @@ class PassengerServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(emailExistenceFilter.exists(any(), any(), any()))
+                .thenAnswer(inv -> inv.<BooleanSupplier>getArgument(2).getAsBoolean());
 
         passenger = new Passenger();
         passenger.setId(1L);
@@ -60,6 +69,8 @@ class PassengerServiceImplTest {
 
         assertNotNull(result);
         verify(passengerRepository).save(any());
+        verify(passengerSearchIndex).put(passenger);
+        verify(emailExistenceFilter).add(EmailExistenceFilter.Owner.PASSENGER, "john@example.com");
     }
 
     @Test
@@ -91,6 +102,7 @@ class PassengerServiceImplTest {
         assertNotNull(result);
         assertEquals("Johnny", result.getName());
         verify(passengerRepository).save(any());
+        verify(passengerSearchIndex).put(updatedEntity);
     }
 
     @Test
@@ -160,30 +172,98 @@ class PassengerServiceImplTest {
         assertFalse(passengerService.findByEmailUnique("a@b.com"));
     }
 
-
     @Test
-    void updateLoyaltyPoints_success_increasePoints() {
-        when(passengerRepository.findById(1L)).thenReturn(Optional.of(passenger));
+    void findByEmailUnique_usesNormalizedEmailForFilterAndQuery() {
+        when(passengerRepository.existsByEmail("a@b.com")).thenReturn(true);
 
-        passengerService.updateLoyaltyPoints(1L, 50);
+        assertFalse(passengerService.findByEmailUnique("  A@B.com "));
+        verify(emailExistenceFilter).exists(eq(EmailExistenceFilter.Owner.PASSENGER), eq("a@b.com"), any());
+        verify(passengerRepository).existsByEmail("a@b.com");
+    }
 
-        assertEquals(150, passenger.getLoyaltyPoints());
-        verify(passengerRepository).save(any());
+    @Test
+    void findByEmailUnique_filterNegative_skipsQuery() {
+        doReturn(false).when(emailExistenceFilter).exists(eq(EmailExistenceFilter.Owner.PASSENGER), eq("a@b.com"), any());
+        assertTrue(passengerService.findByEmailUnique("a@b.com"));
+        verify(passengerRepository, never()).existsByEmail(any());
     }
 
+
     @Test
-    void updateLoyaltyPoints_success_negativeDoesNotGoBelowZero() {
-        passenger.setLoyaltyPoints(20);
-        when(passengerRepository.findById(1L)).thenReturn(Optional.of(passenger));
+    void updateLoyaltyPoints_shouldApplyDeltaInOneUpdate() {
+        when(passengerRepository.addLoyaltyPoints(1L, -50)).thenReturn(1);
 
         passengerService.updateLoyaltyPoints(1L, -50);
 
-        assertEquals(0, passenger.getLoyaltyPoints());
+        verify(passengerRepository).addLoyaltyPoints(1L, -50);
+        verify(passengerRepository, never()).findById(any());
+        verify(passengerRepository, never()).save(any());
     }
 
     @Test
     void updateLoyaltyPoints_notFound_throwsNotFound() {
-        when(passengerRepository.findById(1L)).thenReturn(Optional.empty());
+        when(passengerRepository.addLoyaltyPoints(1L, 10)).thenReturn(0);
         assertThrows(NotFoundException.class, () -> passengerService.updateLoyaltyPoints(1L, 10));
     }
+
+    @Test
+    void searchPassengers_shouldLoadIndexHitsByIdInRankOrder() {
+        Passenger other = new Passenger();
+        other.setId(2L);
+        PassengerDTO otherDto = new PassengerDTO();
+        when(passengerSearchIndex.isReady()).thenReturn(true);
+        when(passengerSearchIndex.search("jo", 20)).thenReturn(List.of(2L, 1L));
+        when(passengerRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(passenger, other));
+        when(passengerMapper.toDto(passenger)).thenReturn(dto);
+        when(passengerMapper.toDto(other)).thenReturn(otherDto);
+
+        List<PassengerDTO> result = passengerService.searchPassengers(" jo ", 20);
+
+        assertEquals(List.of(otherDto, dto), result);
+        verify(passengerRepository, never()).findByPrefix(any(), any());
+    }
+
+    @Test
+    void searchPassengers_shouldFallBackToPrefixQueryUntilIndexIsLoaded() {
+        when(passengerSearchIndex.isReady()).thenReturn(false);
+        when(passengerRepository.findByPrefix("jo\\_%", Limit.of(5))).thenReturn(List.of(passenger));
+        when(passengerMapper.toDto(passenger)).thenReturn(dto);
+
+        List<PassengerDTO> result = passengerService.searchPassengers("Jo_ Doe", 5);
+
+        assertEquals(List.of(dto), result);
+        verify(passengerSearchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    void searchPassengers_shouldRejectShortQueryAndBadLimit() {
+        assertThrows(BadRequestException.class, () -> passengerService.searchPassengers(" j ", 20));
+        assertThrows(BadRequestException.class, () -> passengerService.searchPassengers("john", 0));
+        assertThrows(BadRequestException.class, () -> passengerService.searchPassengers("john", 101));
+    }
+
+    @Test
+    void getPassengerETag_shouldFollowVersionWithoutLoadingPassenger() {
+        when(passengerRepository.findVersionById(1L)).thenReturn(Optional.of(0L));
+        String first = passengerService.getPassengerETag(1L);
+        when(passengerRepository.findVersionById(1L)).thenReturn(Optional.of(1L));
+
+        assertNotEquals(first, passengerService.getPassengerETag(1L));
+        when(passengerRepository.findVersionById(2L)).thenReturn(Optional.empty());
+        assertNull(passengerService.getPassengerETag(2L));
+        verify(passengerRepository, never()).findById(any());
+    }
+
+    @Test
+    void listPassengersETag_shouldOrderUnsortedPagesById() {
+        PageRequest stable = PageRequest.of(0, 2, Sort.by("id"));
+        when(passengerRepository.findVersions(stable)).thenReturn(
+                new PageImpl<>(List.of(new ResourceVersionDTO(1L, 0L), new ResourceVersionDTO(2L, 0L)), stable, 3));
+        String eTag = passengerService.listPassengersETag(PageRequest.of(0, 2));
+
+        when(passengerRepository.findVersions(stable)).thenReturn(
+                new PageImpl<>(List.of(new ResourceVersionDTO(1L, 0L), new ResourceVersionDTO(2L, 0L)), stable, 4));
+
+        assertNotEquals(eTag, passengerService.listPassengersETag(PageRequest.of(0, 2)));
+    }
 }
@@ -0,0 +1,124 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Payment;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.exception.BadRequestException;
+import com.cobanoglu.airlinemanagement.metrics.PaymentMetrics;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PaymentSessionServiceImplTest {
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private PaymentMetrics paymentMetrics;
+
+    private PaymentSessionStore sessionStore;
+    private PaymentSessionServiceImpl sessionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        sessionStore = new PaymentSessionStore();
+        sessionService = new PaymentSessionServiceImpl(paymentRepository, sessionStore, paymentMetrics, 120, 2);
+        when(paymentRepository.save(any(Payment.class))).thenAnswer(inv -> {
+            Payment p = inv.getArgument(0);
+            p.setId(1L);
+            return p;
+        });
+    }
+
+    private Payment payment(long id, String session, LocalDateTime expiresAt) {
+        Payment payment = new Payment();
+        payment.setId(id);
+        payment.setSession(session);
+        payment.setStatus(Status.Waiting);
+        payment.setSessionExpiresAt(expiresAt);
+        return payment;
+    }
+
+    @Test
+    void createSession_shouldSetTypedExpiryAndRegister() {
+        Payment created = sessionService.createSession(new Payment());
+
+        assertEquals(Status.Waiting, created.getStatus());
+        assertTrue(created.getSessionExpiresAt().isAfter(LocalDateTime.now().plusSeconds(100)));
+        assertTrue(sessionStore.find(created.getSession()).isPresent());
+    }
+
+    @Test
+    void validateSession_shouldUseStoreWithoutSessionQuery() {
+        Payment created = sessionService.createSession(new Payment());
+        when(paymentRepository.findById(1L)).thenReturn(Optional.of(created));
+
+        assertSame(created, sessionService.validateSession(created.getSession()));
+        verify(paymentRepository, never()).findBySession(any());
+    }
+
+    @Test
+    void validateSession_shouldLoadFromDatabaseOnMiss() {
+        Payment stored = payment(7L, "s-7", LocalDateTime.now().plusMinutes(1));
+        when(paymentRepository.findBySession("s-7")).thenReturn(Optional.of(stored));
+
+        assertSame(stored, sessionService.validateSession("s-7"));
+        assertTrue(sessionStore.find("s-7").isPresent());
+        verify(paymentRepository, never()).findById(any());
+    }
+
+    @Test
+    void validateSession_shouldRejectStoredSessionAlreadySubmitted() {
+        Payment stored = payment(7L, "s-7", LocalDateTime.now().plusMinutes(1));
+        sessionStore.register(stored);
+        stored.setStatus(Status.Pending);
+        when(paymentRepository.findById(7L)).thenReturn(Optional.of(stored));
+
+        assertThrows(BadRequestException.class, () -> sessionService.validateSession("s-7"));
+        assertTrue(sessionStore.find("s-7").isEmpty());
+    }
+
+    @Test
+    void validateSession_shouldRejectExpiredSession() {
+        sessionStore.register(payment(7L, "s-7", LocalDateTime.now().minusSeconds(1)));
+
+        assertThrows(BadRequestException.class, () -> sessionService.validateSession("s-7"));
+        assertTrue(sessionStore.find("s-7").isEmpty());
+        verifyNoInteractions(paymentRepository);
+    }
+
+    @Test
+    void validateSession_shouldRejectCompletedSession() {
+        Payment stored = payment(7L, "s-7", LocalDateTime.now().plusMinutes(1));
+        stored.setStatus(Status.Success);
+        when(paymentRepository.findBySession("s-7")).thenReturn(Optional.of(stored));
+
+        assertThrows(BadRequestException.class, () -> sessionService.validateSession("s-7"));
+    }
+
+    @Test
+    void expireSessions_shouldMarkExpiredInBatches() {
+        LocalDateTime past = LocalDateTime.now().minusMinutes(1);
+        sessionStore.register(payment(1L, "s-1", past));
+        sessionStore.register(payment(2L, "s-2", past.plusSeconds(1)));
+        sessionStore.register(payment(3L, "s-3", past.plusSeconds(2)));
+        sessionStore.register(payment(4L, "s-4", LocalDateTime.now().plusMinutes(1)));
+        when(paymentRepository.updateStatusByIds(anyList(), eq(Status.Waiting), eq(Status.Expired)))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        int expired = sessionService.expireSessions();
+
+        assertEquals(3, expired);
+        verify(paymentRepository).updateStatusByIds(List.of(1L, 2L), Status.Waiting, Status.Expired);
+        verify(paymentRepository).updateStatusByIds(List.of(3L), Status.Waiting, Status.Expired);
+        verify(paymentMetrics).recordSessionsExpired(3);
+        assertEquals(1, sessionStore.size());
+        assertTrue(sessionStore.find("s-4").isPresent());
+    }
+}
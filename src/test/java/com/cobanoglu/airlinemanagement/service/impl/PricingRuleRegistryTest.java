@@ -0,0 +1,94 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.config.PricingProperties;
+import com.cobanoglu.airlinemanagement.util.PricingRules;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingRuleRegistryTest {
+
+    @TempDir
+    Path dir;
+
+    private void write(Path file, String json, long modifiedAtMillis) throws IOException {
+        Files.writeString(file, json);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochMilli(modifiedAtMillis)));
+    }
+
+    private PricingRuleRegistry registry(Path file) {
+        PricingProperties properties = new PricingProperties();
+        properties.setRulesFile(file == null ? null : file.toString());
+        return new PricingRuleRegistry(properties, new ObjectMapper());
+    }
+
+    @Test
+    void constructor_shouldCompileConfiguredRulesWithoutFile() {
+        PricingRuleRegistry registry = registry(null);
+
+        assertNotNull(registry.current());
+        assertEquals(0, registry.version());
+    }
+
+    @Test
+    void constructor_shouldFailFastOnInvalidFile() throws IOException {
+        Path file = dir.resolve("rules.json");
+        write(file, "{\"routes\":[{\"origin\":\"IST\",\"multiplier\":-1}]}", 1_000);
+
+        assertThrows(IllegalStateException.class, () -> registry(file));
+    }
+
+    @Test
+    void reloadIfChanged_shouldSwapRulesOnlyWhenFileChanges() throws IOException {
+        Path file = dir.resolve("rules.json");
+        write(file, "{\"fareClassMultipliers\":{\"BUSINESS\":2.0}}", 1_000);
+        PricingRuleRegistry registry = registry(file);
+        PricingRules first = registry.current();
+
+        registry.poll();
+        assertSame(first, registry.current());
+
+        write(file, "{\"fareClassMultipliers\":{\"BUSINESS\":3.0}}", 2_000);
+        registry.poll();
+
+        assertNotSame(first, registry.current());
+        assertEquals(2, registry.version());
+    }
+
+    @Test
+    void fingerprint_shouldDependOnlyOnRuleContent() throws IOException {
+        Path file = dir.resolve("rules.json");
+        write(file, "{\"fareClassMultipliers\":{\"BUSINESS\":2.0}}", 1_000);
+        PricingRuleRegistry registry = registry(file);
+        long first = registry.fingerprint();
+
+        assertEquals(first, registry(file).fingerprint());
+        assertNotEquals(first, registry(null).fingerprint());
+
+        write(file, "{\"fareClassMultipliers\":{\"BUSINESS\":3.0}}", 2_000);
+        registry.poll();
+
+        assertNotEquals(first, registry.fingerprint());
+    }
+
+    @Test
+    void reloadIfChanged_shouldKeepPreviousRulesWhenNewFileIsInvalid() throws IOException {
+        Path file = dir.resolve("rules.json");
+        write(file, "{\"loyaltyTiers\":[{\"minPoints\":1001,\"discount\":0.1}]}", 1_000);
+        PricingRuleRegistry registry = registry(file);
+        PricingRules loaded = registry.current();
+
+        write(file, "{\"loyaltyTeirs\":[]}", 2_000);
+
+        assertFalse(registry.reloadIfChanged());
+        assertSame(loaded, registry.current());
+    }
+}
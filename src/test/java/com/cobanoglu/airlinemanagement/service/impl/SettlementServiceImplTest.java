@@ -0,0 +1,162 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.Currency;
+import com.cobanoglu.airlinemanagement.entity.SettlementBatch;
+import com.cobanoglu.airlinemanagement.entity.SettlementStatus;
+import com.cobanoglu.airlinemanagement.entity.Status;
+import com.cobanoglu.airlinemanagement.metrics.SettlementMetrics;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository;
+import com.cobanoglu.airlinemanagement.repository.PaymentRepository.SettlementRow;
+import com.cobanoglu.airlinemanagement.repository.SettlementBatchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SettlementServiceImplTest {
+
+    @Mock private PaymentRepository paymentRepository;
+    @Mock private SettlementBatchRepository settlementBatchRepository;
+    @Mock private SettlementMetrics settlementMetrics;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    private SettlementServiceImpl settlementService;
+    private SettlementBatch batch;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        settlementService = new SettlementServiceImpl(paymentRepository, settlementBatchRepository,
+                settlementMetrics, transactionManager, 60, 5, 2);
+
+        batch = SettlementBatch.builder()
+                .id(100L)
+                .currency(Currency.USD)
+                .paymentCount(0)
+                .totalAmount(BigDecimal.ZERO)
+                .status(SettlementStatus.OPEN)
+                .build();
+        when(settlementBatchRepository.findById(100L)).thenReturn(Optional.of(batch));
+        when(settlementBatchRepository.addToBatch(anyLong(), eq(SettlementStatus.OPEN), anyLong(), any())).thenReturn(1);
+        when(settlementBatchRepository.completeBatch(anyLong(), eq(SettlementStatus.OPEN), eq(SettlementStatus.COMPLETED), any()))
+                .thenReturn(1);
+    }
+
+    private SettlementRow row(long id, String amount) {
+        return new SettlementRow() {
+            @Override public Long getId() { return id; }
+            @Override public BigDecimal getAmount() { return new BigDecimal(amount); }
+        };
+    }
+
+    @Test
+    void windowStartOf_shouldAlignToWindow() {
+        assertEquals(LocalDateTime.of(2025, 3, 1, 10, 0),
+                settlementService.windowStartOf(LocalDateTime.of(2025, 3, 1, 10, 59, 59)));
+    }
+
+    @Test
+    void runSettlement_shouldReturnZeroWhenNothingToSettle() {
+        when(paymentRepository.findEarliestUnsettled(eq(Status.Success), any())).thenReturn(null);
+
+        assertEquals(0, settlementService.runSettlement());
+        verifyNoInteractions(settlementBatchRepository);
+    }
+
+    @Test
+    void settleWindow_shouldProcessInChunksAndAddEachChunkAtomically() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        LocalDateTime end = start.plusHours(1);
+        when(settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency.USD, start)).thenReturn(Optional.of(batch));
+        when(paymentRepository.findUnsettledChunk(eq(Status.Success), eq(Currency.USD), eq(start), eq(end), any()))
+                .thenReturn(List.of(row(1, "10.00"), row(2, "20.50")))
+                .thenReturn(List.of(row(3, "5.25")));
+
+        int settled = settlementService.settleWindow(Currency.USD, start, end);
+
+        assertEquals(3, settled);
+        verify(paymentRepository).assignSettlementBatch(100L, List.of(1L, 2L));
+        verify(paymentRepository).assignSettlementBatch(100L, List.of(3L));
+        verify(settlementBatchRepository).addToBatch(100L, SettlementStatus.OPEN, 2, new BigDecimal("30.50"));
+        verify(settlementBatchRepository).addToBatch(100L, SettlementStatus.OPEN, 1, new BigDecimal("5.25"));
+        verify(settlementBatchRepository).completeBatch(eq(100L), eq(SettlementStatus.OPEN), eq(SettlementStatus.COMPLETED), any());
+        verify(settlementMetrics).recordBatch(eq(batch), eq(3L), anyLong());
+        verify(settlementBatchRepository, never()).save(any());
+    }
+
+    @Test
+    void settleWindow_shouldResumeExistingOpenBatch() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency.USD, start)).thenReturn(Optional.of(batch));
+        when(paymentRepository.findUnsettledChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(row(3, "5.00")));
+
+        settlementService.settleWindow(Currency.USD, start, start.plusHours(1));
+
+        verify(settlementBatchRepository).addToBatch(100L, SettlementStatus.OPEN, 1, new BigDecimal("5.00"));
+        verify(settlementBatchRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void settleWindow_batchCompletedByAnotherRun_shouldRollBackChunkAndStop() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        SimpleTransactionStatus txStatus = new SimpleTransactionStatus();
+        when(transactionManager.getTransaction(any())).thenReturn(txStatus);
+        when(settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency.USD, start)).thenReturn(Optional.of(batch));
+        when(settlementBatchRepository.addToBatch(anyLong(), any(), anyLong(), any())).thenReturn(0);
+        when(paymentRepository.findUnsettledChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(row(3, "5.00"), row(4, "6.00")));
+
+        int settled = settlementService.settleWindow(Currency.USD, start, start.plusHours(1));
+
+        assertEquals(0, settled);
+        assertTrue(txStatus.isRollbackOnly());
+        verify(paymentRepository, times(1)).findUnsettledChunk(any(), any(), any(), any(), any());
+        verify(settlementBatchRepository, never()).completeBatch(any(), any(), any(), any());
+        verify(settlementMetrics, never()).recordChunk(any(), anyInt());
+        verify(settlementMetrics, never()).recordBatch(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void settleWindow_batchAlreadyCompleted_shouldNotRecordItTwice() {
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        when(settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency.USD, start)).thenReturn(Optional.of(batch));
+        when(settlementBatchRepository.completeBatch(anyLong(), any(), any(), any())).thenReturn(0);
+        when(paymentRepository.findUnsettledChunk(any(), any(), any(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, settlementService.settleWindow(Currency.USD, start, start.plusHours(1)));
+        verify(settlementMetrics, never()).recordBatch(any(), anyLong(), anyLong());
+    }
+
+    @Test
+    void settleWindow_shouldOpenNextSequenceWhenWindowBatchIsCompleted() {
+        batch.setStatus(SettlementStatus.COMPLETED);
+        LocalDateTime start = LocalDateTime.of(2025, 3, 1, 10, 0);
+        SettlementBatch next = SettlementBatch.builder()
+                .id(101L).currency(Currency.USD).sequence(1)
+                .paymentCount(0).totalAmount(BigDecimal.ZERO).status(SettlementStatus.OPEN)
+                .build();
+        when(settlementBatchRepository.findFirstByCurrencyAndWindowStartOrderBySequenceDesc(Currency.USD, start))
+                .thenReturn(Optional.of(batch));
+        when(settlementBatchRepository.saveAndFlush(argThat(b -> b.getSequence() == 1))).thenReturn(next);
+        when(settlementBatchRepository.findById(101L)).thenReturn(Optional.of(next));
+        when(paymentRepository.findUnsettledChunk(any(), any(), any(), any(), any()))
+                .thenReturn(List.of(row(7, "5.00")));
+
+        settlementService.settleWindow(Currency.USD, start, start.plusHours(1));
+
+        verify(paymentRepository).assignSettlementBatch(101L, List.of(7L));
+        verify(settlementBatchRepository).addToBatch(101L, SettlementStatus.OPEN, 1, new BigDecimal("5.00"));
+        verify(settlementBatchRepository, never()).addToBatch(eq(100L), any(), anyLong(), any());
+        verify(settlementMetrics).recordBatch(eq(next), eq(1L), anyLong());
+    }
+}
@@ -0,0 +1,94 @@
+package com.cobanoglu.airlinemanagement.service.impl;
+
+import com.cobanoglu.airlinemanagement.entity.*;
+import com.cobanoglu.airlinemanagement.event.BookingEventBus;
+import com.cobanoglu.airlinemanagement.event.WaitlistPromoted;
+import com.cobanoglu.airlinemanagement.mapper.PassengerBookingMapper;
+import com.cobanoglu.airlinemanagement.metrics.BookingMetrics;
+import com.cobanoglu.airlinemanagement.repository.BookingRepository;
+import com.cobanoglu.airlinemanagement.repository.FlightRepository;
+import com.cobanoglu.airlinemanagement.service.PassengerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class WaitlistPromoterTest {
+
+    @Mock private BookingRepository bookingRepository;
+    @Mock private FlightRepository flightRepository;
+    @Mock private BookingEventBus bookingEventBus;
+    @Mock private BookingMetrics bookingMetrics;
+    @Mock private FareQuoteEngine fareQuoteEngine;
+    @Mock private BookingHistoryCache bookingHistoryCache;
+    @Mock private PassengerService passengerService;
+    @Mock private PassengerBookingMapper passengerBookingMapper;
+
+    @InjectMocks
+    private WaitlistPromoter waitlistPromoter;
+
+    private Flight flight;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        flight = new Flight();
+        flight.setId(1L);
+        flight.setCapacity(100);
+        flight.setBookedSeats(99);
+        flight.setDepartureTime(LocalDateTime.now().plusDays(2));
+
+        when(passengerBookingMapper.calculateLoyalty(any(Booking.class))).thenReturn(100);
+    }
+
+    private Booking waitlisted(long id, LocalDateTime createdAt) {
+        Passenger passenger = new Passenger();
+        passenger.setId(id);
+        return Booking.builder()
+                .id(id)
+                .flight(flight)
+                .passenger(passenger)
+                .bookingStatus(BookingStatus.WAITLISTED)
+                .price(BigDecimal.valueOf(1000))
+                .createDate(createdAt)
+                .build();
+    }
+
+    @Test
+    void promoteNext_shouldPromoteOldestWaitlisted() {
+        Booking older = waitlisted(20L, LocalDateTime.now().minusHours(2));
+        Booking newer = waitlisted(21L, LocalDateTime.now().minusHours(1));
+        when(bookingRepository.findByFlight_IdAndDepartureDate(1L, flight.getDepartureTime().toLocalDate())).thenReturn(List.of(newer, older));
+
+        waitlistPromoter.promoteNext(flight);
+
+        assertEquals(BookingStatus.CONFIRMED, older.getBookingStatus());
+        assertEquals(BookingStatus.WAITLISTED, newer.getBookingStatus());
+        assertEquals(100, flight.getBookedSeats());
+        verify(bookingEventBus).publish(argThat(e -> e instanceof WaitlistPromoted p && p.bookingId() == 20L));
+        verify(bookingHistoryCache).evictAfterCommit(20L);
+        verify(passengerService).updateLoyaltyPoints(20L, 100);
+        verify(bookingMetrics).recordWaitlistPromotion(eq(BookingMetrics.OUTCOME_PROMOTED), anyLong());
+    }
+
+    @Test
+    void promoteNext_shouldNotPromoteBeyondOverbookingLimit() {
+        flight.setBookedSeats(110);
+        Booking candidate = waitlisted(20L, LocalDateTime.now());
+        when(bookingRepository.findByFlight_IdAndDepartureDate(1L, flight.getDepartureTime().toLocalDate())).thenReturn(List.of(candidate));
+
+        waitlistPromoter.promoteNext(flight);
+
+        assertEquals(BookingStatus.WAITLISTED, candidate.getBookingStatus());
+        verify(bookingEventBus, never()).publish(any());
+        verify(passengerService, never()).updateLoyaltyPoints(any(), anyInt());
+        verify(bookingMetrics).recordWaitlistPromotion(eq(BookingMetrics.OUTCOME_LIMIT_REACHED), anyLong());
+    }
+}
@@ -0,0 +1,40 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardMaskerTest {
+
+    private final CardMasker cardMasker = new CardMasker();
+
+    @Test
+    void maskName_shouldKeepLegacyFormatForTwoTokens() {
+        assertEquals("Ad*** Lo**", cardMasker.maskName("Ada Lovelace"));
+    }
+
+    @Test
+    void maskName_shouldHandleArbitraryTokens() {
+        assertEquals("Ma*** Jo** Ga** Lo**", cardMasker.maskName("  Maria  Jose\tGarcia Lopez "));
+        assertEquals("Ch***", cardMasker.maskName("Cher"));
+        assertEquals("J*** K**", cardMasker.maskName("J K"));
+        assertEquals("", cardMasker.maskName("   "));
+        assertEquals("", cardMasker.maskName(null));
+    }
+
+    @Test
+    void maskPan_shouldKeepFirstAndLastFourDigits() {
+        assertEquals("4111 **** **** 1111", cardMasker.maskPan("4111111111111111"));
+        assertEquals("4111 **** **** 1234", cardMasker.maskPan("4111-1111 1111-1234"));
+        assertEquals("3782 **** **** 0005", cardMasker.maskPan("378282246310005"));
+        assertEquals("1234 **** **** 9012", cardMasker.maskPan("123456789012"));
+    }
+
+    @Test
+    void maskPan_shouldFullyMaskShortOrMissingPan() {
+        assertEquals("**** **** **** ****", cardMasker.maskPan("1234567"));
+        assertEquals("**** **** **** ****", cardMasker.maskPan("12345678"));
+        assertEquals("**** **** **** ****", cardMasker.maskPan("1234 5678 901"));
+        assertEquals("**** **** **** ****", cardMasker.maskPan(null));
+    }
+}
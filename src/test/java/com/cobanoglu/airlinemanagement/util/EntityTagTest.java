@@ -0,0 +1,32 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagTest {
+
+    @Test
+    void weak_shouldBeStableForSameInputsAndDifferOtherwise() {
+        String tag = EntityTag.of("flight").add(1).add(2).weak();
+
+        assertTrue(tag.matches("W/\"[0-9a-f]{32}\""));
+        assertEquals(tag, EntityTag.of("flight").add(1).add(2).weak());
+        assertNotEquals(tag, EntityTag.of("flight").add(12).weak());
+        assertNotEquals(tag, EntityTag.of("airline").add(1).add(2).weak());
+    }
+
+    @Test
+    void stableOrder_shouldAppendIdUnlessAlreadySorted() {
+        assertEquals(Sort.by("id"), EntityTag.stableOrder(PageRequest.of(2, 10)).getSort());
+        assertEquals(Sort.by(Sort.Order.desc("origin"), Sort.Order.asc("id")),
+                EntityTag.stableOrder(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "origin"))).getSort());
+
+        PageRequest byIdDesc = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "id"));
+        assertSame(byIdDesc, EntityTag.stableOrder(byIdDesc));
+        assertSame(Pageable.unpaged(), EntityTag.stableOrder(Pageable.unpaged()));
+    }
+}
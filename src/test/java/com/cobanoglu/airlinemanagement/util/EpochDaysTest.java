@@ -0,0 +1,30 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EpochDaysTest {
+
+    @Test
+    void monthIndex_shouldMatchCalendarAcrossLeapYearsAndBeforeEpoch() {
+        for (LocalDate day = LocalDate.of(1899, 12, 1); day.isBefore(LocalDate.of(2101, 2, 1)); day = day.plusDays(1)) {
+            int index = EpochDays.monthIndex((int) day.toEpochDay());
+            assertEquals(YearMonth.from(day), EpochDays.month(index), day.toString());
+        }
+    }
+
+    @Test
+    void weekIndex_shouldStartWeeksOnMonday() {
+        for (LocalDate day = LocalDate.of(1969, 12, 1); day.isBefore(LocalDate.of(2031, 1, 1)); day = day.plusDays(1)) {
+            LocalDate start = EpochDays.weekStart(EpochDays.weekIndex((int) day.toEpochDay()));
+            assertEquals(DayOfWeek.MONDAY, start.getDayOfWeek(), day.toString());
+            assertFalse(start.isAfter(day));
+            assertTrue(start.plusDays(7).isAfter(day));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import com.cobanoglu.airlinemanagement.entity.Flight;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FareTableTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 10, 0);
+    private static final long NOW = FareTable.toEpochSecond(DEPARTURE.minusDays(20));
+
+    private final PricingRules rules = PricingRules.compile(legacyRules());
+
+    static PricingRuleSet legacyRules() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        ruleSet.getOccupancyTiers().add(occupancyTier(0.5, false, 1.2));
+        ruleSet.getOccupancyTiers().add(occupancyTier(0.8, true, 1.5));
+        PricingRuleSet.LoyaltyTier loyalty = new PricingRuleSet.LoyaltyTier();
+        loyalty.setMinPoints(1001);
+        loyalty.setDiscount(0.10);
+        ruleSet.getLoyaltyTiers().add(loyalty);
+        return ruleSet;
+    }
+
+    static PricingRuleSet.OccupancyTier occupancyTier(double from, boolean inclusive, double multiplier) {
+        PricingRuleSet.OccupancyTier tier = new PricingRuleSet.OccupancyTier();
+        tier.setFrom(from);
+        tier.setInclusive(inclusive);
+        tier.setMultiplier(multiplier);
+        return tier;
+    }
+
+    private FareTable table(BigDecimal basePrice, int capacity) {
+        return rules.fareTable(basePrice, capacity, "IST", "BER", DEPARTURE);
+    }
+
+    @Test
+    void price_shouldApplyLegacyOccupancyTiersAndLoyaltyDiscount() {
+        FareTable table = table(new BigDecimal("1249.90"), 100);
+
+        assertEquals(new BigDecimal("1249.90"), table.price(0, 0, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1249.90"), table.price(50, 0, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1499.88"), table.price(51, 0, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1499.88"), table.price(79, 0, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1874.85"), table.price(80, 1000, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1687.37"), table.price(80, 1001, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("1874.85"), table.price(110, 0, FareClass.ECONOMY, NOW));
+
+        FareTable cheap = table(new BigDecimal("333.33"), 3);
+        assertEquals(new BigDecimal("400.00"), cheap.price(2, 0, FareClass.ECONOMY, NOW));
+        assertEquals(new BigDecimal("450.00"), cheap.price(3, 5000, FareClass.ECONOMY, NOW));
+    }
+
+    @Test
+    void bucket_shouldSwitchAtOccupancyThresholds() {
+        FareTable table = table(BigDecimal.valueOf(100), 100);
+
+        assertEquals(0, table.bucket(50));
+        assertEquals(1, table.bucket(51));
+        assertEquals(1, table.bucket(79));
+        assertEquals(2, table.bucket(80));
+        assertEquals(2, table.bucket(110));
+    }
+
+    @Test
+    void matches_shouldRequireSameRulesAndFlightAttributes() {
+        FareTable table = table(new BigDecimal("100.00"), 120);
+        Flight flight = new Flight();
+        flight.setBasePrice(BigDecimal.valueOf(100));
+        flight.setCapacity(120);
+        flight.setOrigin("IST");
+        flight.setDestination("BER");
+        flight.setDepartureTime(DEPARTURE);
+
+        assertTrue(table.matches(rules, flight));
+        assertFalse(table.matches(PricingRules.compile(legacyRules()), flight));
+        flight.setBasePrice(BigDecimal.valueOf(101));
+        assertFalse(table.matches(rules, flight));
+    }
+}
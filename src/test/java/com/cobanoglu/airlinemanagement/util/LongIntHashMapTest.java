@@ -0,0 +1,36 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntHashMapTest {
+
+    @Test
+    void put_shouldGrowAndKeepAllEntries() {
+        LongIntHashMap map = new LongIntHashMap(2);
+        for (int i = 0; i < 10_000; i++) map.put(i * 31L - 5_000, i);
+
+        assertEquals(10_000, map.size());
+        for (int i = 0; i < 10_000; i++) assertEquals(i, map.get(i * 31L - 5_000));
+        assertEquals(LongIntHashMap.MISSING, map.get(1));
+    }
+
+    @Test
+    void put_shouldOverwriteExistingKey() {
+        LongIntHashMap map = new LongIntHashMap(4);
+        map.put(7L, 1);
+        map.put(7L, 2);
+
+        assertEquals(1, map.size());
+        assertEquals(2, map.get(7L));
+    }
+
+    @Test
+    void put_shouldRejectReservedKeyAndValue() {
+        LongIntHashMap map = new LongIntHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(Long.MIN_VALUE, 1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1L, LongIntHashMap.MISSING));
+    }
+}
@@ -0,0 +1,38 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyPartitionsTest {
+
+    @Test
+    void name_shouldPadYearAndMonth() {
+        assertEquals("bookings_y2026m03", MonthlyPartitions.name("bookings", YearMonth.of(2026, 3)));
+    }
+
+    @Test
+    void monthOf_shouldParseOwnPartitionsOnly() {
+        assertEquals(Optional.of(YearMonth.of(2026, 11)), MonthlyPartitions.monthOf("bookings", "bookings_y2026m11"));
+        assertTrue(MonthlyPartitions.monthOf("bookings", "bookings_legacy").isEmpty());
+        assertTrue(MonthlyPartitions.monthOf("bookings", "bookings_archive_y2026m11").isEmpty());
+        assertTrue(MonthlyPartitions.monthOf("bookings", "bookings_y2026m13").isEmpty());
+        assertTrue(MonthlyPartitions.monthOf("bookings", "flights_y2026m11").isEmpty());
+    }
+
+    @Test
+    void createSql_shouldCoverWholeMonthWithExclusiveUpperBound() {
+        assertEquals("CREATE TABLE IF NOT EXISTS bookings_y2026m12 PARTITION OF bookings"
+                        + " FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')",
+                MonthlyPartitions.createSql("bookings", YearMonth.of(2026, 12)));
+    }
+
+    @Test
+    void detachSql_shouldNamePartition() {
+        assertEquals("ALTER TABLE bookings DETACH PARTITION bookings_y2023m01",
+                MonthlyPartitions.detachSql("bookings", "bookings_y2023m01"));
+    }
+}
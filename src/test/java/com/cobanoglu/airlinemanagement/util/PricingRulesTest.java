@@ -0,0 +1,99 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import com.cobanoglu.airlinemanagement.entity.FareClass;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PricingRulesTest {
+
+    private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private long daysBefore(int days) {
+        return FareTable.toEpochSecond(DEPARTURE.minusDays(days));
+    }
+
+    private PricingRuleSet.RouteRule route(String origin, String destination, double multiplier) {
+        PricingRuleSet.RouteRule route = new PricingRuleSet.RouteRule();
+        route.setOrigin(origin);
+        route.setDestination(destination);
+        route.setMultiplier(multiplier);
+        return route;
+    }
+
+    private PricingRuleSet.DepartureWindow window(int minDays, int maxDays, double multiplier) {
+        PricingRuleSet.DepartureWindow window = new PricingRuleSet.DepartureWindow();
+        window.setMinDays(minDays);
+        window.setMaxDays(maxDays);
+        window.setMultiplier(multiplier);
+        return window;
+    }
+
+    @Test
+    void fareClassAndRoute_shouldUseMostSpecificRoute() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        ruleSet.getFareClassMultipliers().put(FareClass.BUSINESS, 2.5);
+        ruleSet.getRoutes().add(route("*", "*", 1.1));
+        ruleSet.getRoutes().add(route("ist", "*", 1.3));
+        ruleSet.getRoutes().add(route("IST", "BER", 0.8));
+        PricingRules rules = PricingRules.compile(ruleSet);
+
+        FareTable exact = rules.fareTable(BigDecimal.valueOf(100), 100, "IST", "BER", DEPARTURE);
+        FareTable originOnly = rules.fareTable(BigDecimal.valueOf(100), 100, "Ist", "LHR", DEPARTURE);
+        FareTable fallback = rules.fareTable(BigDecimal.valueOf(100), 100, "AMS", "LHR", DEPARTURE);
+
+        assertEquals(new BigDecimal("80.00"), exact.price(0, 0, FareClass.ECONOMY, daysBefore(30)));
+        assertEquals(new BigDecimal("200.00"), exact.price(0, 0, FareClass.BUSINESS, daysBefore(30)));
+        assertEquals(new BigDecimal("130.00"), originOnly.price(0, 0, FareClass.ECONOMY, daysBefore(30)));
+        assertEquals(new BigDecimal("110.00"), fallback.price(0, 0, FareClass.ECONOMY, daysBefore(30)));
+    }
+
+    @Test
+    void departureWindows_shouldApplyFirstMatchingWindowAndOpenEnd() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        ruleSet.getDepartureWindows().add(window(0, 2, 1.5));
+        ruleSet.getDepartureWindows().add(window(0, 13, 1.2));
+        ruleSet.getDepartureWindows().add(window(60, Integer.MAX_VALUE, 0.9));
+        FareTable table = PricingRules.compile(ruleSet)
+                .fareTable(BigDecimal.valueOf(100), 100, "IST", "BER", DEPARTURE);
+
+        assertEquals(new BigDecimal("150.00"), table.price(0, 0, FareClass.ECONOMY, daysBefore(1)));
+        assertEquals(new BigDecimal("120.00"), table.price(0, 0, FareClass.ECONOMY, daysBefore(13)));
+        assertEquals(new BigDecimal("100.00"), table.price(0, 0, FareClass.ECONOMY, daysBefore(14)));
+        assertEquals(new BigDecimal("90.00"), table.price(0, 0, FareClass.ECONOMY, daysBefore(400)));
+        assertEquals(new BigDecimal("150.00"), table.price(0, 0, FareClass.ECONOMY, daysBefore(-3)));
+    }
+
+    @Test
+    void loyaltyTiers_shouldApplyHighestReachedTier() {
+        PricingRuleSet ruleSet = new PricingRuleSet();
+        PricingRuleSet.LoyaltyTier silver = new PricingRuleSet.LoyaltyTier();
+        silver.setMinPoints(1000);
+        silver.setDiscount(0.05);
+        PricingRuleSet.LoyaltyTier gold = new PricingRuleSet.LoyaltyTier();
+        gold.setMinPoints(5000);
+        gold.setDiscount(0.15);
+        ruleSet.getLoyaltyTiers().add(gold);
+        ruleSet.getLoyaltyTiers().add(silver);
+        FareTable table = PricingRules.compile(ruleSet)
+                .fareTable(BigDecimal.valueOf(200), 100, "IST", "BER", DEPARTURE);
+
+        assertEquals(new BigDecimal("200.00"), table.price(0, 999, FareClass.ECONOMY, daysBefore(30)));
+        assertEquals(new BigDecimal("190.00"), table.price(0, 1000, FareClass.ECONOMY, daysBefore(30)));
+        assertEquals(new BigDecimal("170.00"), table.price(0, 7500, FareClass.ECONOMY, daysBefore(30)));
+    }
+
+    @Test
+    void compile_shouldRejectInvalidRules() {
+        PricingRuleSet badMultiplier = new PricingRuleSet();
+        badMultiplier.getRoutes().add(route("IST", "BER", 0));
+        PricingRuleSet badWindow = new PricingRuleSet();
+        badWindow.getDepartureWindows().add(window(10, 5, 1.1));
+
+        assertThrows(IllegalArgumentException.class, () -> PricingRules.compile(badMultiplier));
+        assertThrows(IllegalArgumentException.class, () -> PricingRules.compile(badWindow));
+    }
+}
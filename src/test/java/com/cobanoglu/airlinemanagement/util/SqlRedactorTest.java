@@ -0,0 +1,27 @@
+package com.cobanoglu.airlinemanagement.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlRedactorTest {
+
+    @Test
+    void redact_shouldReplaceStringAndNumericLiterals() {
+        assertEquals("select * from passengers where email = ? and loyalty_points > ?",
+                SqlRedactor.redact("select * from passengers where email = 'ada@example.com' and loyalty_points > 1200"));
+        assertEquals("select * from bookings where price = ? and seat_number = ?",
+                SqlRedactor.redact("select * from bookings where price = 99.50 and seat_number = 'O''Neil'"));
+    }
+
+    @Test
+    void redact_shouldKeepIdentifiersWithDigitsAndPlaceholders() {
+        assertEquals("select b1_0.id from bookings_y2026m10 b1_0 where b1_0.flight_id = ?",
+                SqlRedactor.redact("select b1_0.id\n    from bookings_y2026m10 b1_0\n    where b1_0.flight_id = ?"));
+    }
+
+    @Test
+    void redact_null_shouldReturnEmpty() {
+        assertEquals("", SqlRedactor.redact(null));
+    }
+}